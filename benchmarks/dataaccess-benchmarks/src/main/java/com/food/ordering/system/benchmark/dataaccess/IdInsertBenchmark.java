@@ -0,0 +1,114 @@
+package com.food.ordering.system.benchmark.dataaccess;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.RandomUuidGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final String SCHEMA = "id_benchmark";
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private static final String PAYLOAD = "{\"price\": 100, \"customerId\": \"" + CUSTOMER_ID +
+            "\", \"paymentOrderStatus\": \"PENDING\"}";
+
+    @Param({"RANDOM", "UUID_V7"})
+    private String idGeneratorType;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insertOrder;
+    private PreparedStatement insertPaymentOutbox;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = "UUID_V7".equals(idGeneratorType) ? new UuidV7Generator() : new RandomUuidGenerator();
+        connection = DriverManager.getConnection(
+                System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5432/postgres?" +
+                        "binaryTransfer=true&reWriteBatchedInserts=true&stringtype=unspecified"),
+                System.getProperty("jdbc.username", "postgres"),
+                System.getProperty("jdbc.password", "admin"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("CREATE TABLE " + SCHEMA + ".orders (LIKE \"order\".orders INCLUDING ALL)");
+            statement.execute("CREATE TABLE " + SCHEMA +
+                    ".payment_outbox (LIKE \"order\".payment_outbox INCLUDING ALL)");
+        }
+        connection.setAutoCommit(false);
+        insertOrder = connection.prepareStatement("INSERT INTO " + SCHEMA +
+                ".orders (id, customer_id, restaurant_id, tracking_id, price, order_status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)");
+        insertPaymentOutbox = connection.prepareStatement("INSERT INTO " + SCHEMA +
+                ".payment_outbox (id, saga_id, created_at, type, payload, outbox_status, saga_status, " +
+                "order_status, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insertOrder.close();
+        insertPaymentOutbox.close();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertOrders() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insertOrder.setObject(1, idGenerator.generateId());
+            insertOrder.setObject(2, CUSTOMER_ID);
+            insertOrder.setObject(3, RESTAURANT_ID);
+            insertOrder.setObject(4, idGenerator.generateId());
+            insertOrder.setBigDecimal(5, BigDecimal.valueOf(10000, 2));
+            insertOrder.setString(6, "PENDING");
+            insertOrder.addBatch();
+        }
+        int inserted = insertOrder.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public int insertPaymentOutboxMessages() throws SQLException {
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (int i = 0; i < batchSize; i++) {
+            insertPaymentOutbox.setObject(1, idGenerator.generateId());
+            insertPaymentOutbox.setObject(2, idGenerator.generateId());
+            insertPaymentOutbox.setTimestamp(3, createdAt);
+            insertPaymentOutbox.setString(4, "OrderProcessingSaga");
+            insertPaymentOutbox.setString(5, PAYLOAD);
+            insertPaymentOutbox.setString(6, "STARTED");
+            insertPaymentOutbox.setString(7, "STARTED");
+            insertPaymentOutbox.setString(8, "PENDING");
+            insertPaymentOutbox.setInt(9, 0);
+            insertPaymentOutbox.addBatch();
+        }
+        int inserted = insertPaymentOutbox.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.benchmark.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public class BigDecimalMoney {
+    private final BigDecimal amount;
+
+    public static final BigDecimalMoney ZERO = new BigDecimalMoney(BigDecimal.ZERO);
+
+    public BigDecimalMoney(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public boolean isGreaterThanZero() {
+        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    public boolean isGreaterThan(BigDecimalMoney money) {
+        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+    }
+
+    public BigDecimalMoney add(BigDecimalMoney money) {
+        return new BigDecimalMoney(setScale(this.amount.add(money.getAmount())));
+    }
+
+    public BigDecimalMoney subtract(BigDecimalMoney money) {
+        return new BigDecimalMoney(setScale(this.amount.subtract(money.getAmount())));
+    }
+
+    public BigDecimalMoney multiply(int multiplier) {
+        return new BigDecimalMoney(setScale(this.amount.multiply(new BigDecimal(multiplier))));
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BigDecimalMoney money = (BigDecimalMoney) o;
+        return amount.equals(money.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount);
+    }
+
+    private BigDecimal setScale(BigDecimal input) {
+        return input.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,178 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
+import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.restaurant.service.domain.mapper.RestaurantDataMapper;
+import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataMapperBenchmark {
+
+    @Param({"1", "10"})
+    private int items;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper(new UuidV7Generator());
+    private final PaymentDataMapper paymentDataMapper = new PaymentDataMapper();
+    private final RestaurantDataMapper restaurantDataMapper = new RestaurantDataMapper();
+
+    private CreateOrderCommand createOrderCommand;
+    private OrderCreatedEvent orderCreatedEvent;
+    private PaymentRequest paymentRequest;
+    private PaymentEvent paymentEvent;
+    private RestaurantApprovalRequest restaurantApprovalRequest;
+    private OrderApprovalEvent orderApprovalEvent;
+
+    @Setup
+    public void setUp() {
+        UUID customerId = UUID.randomUUID();
+        UUID restaurantId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        List<Product> products = new ArrayList<>(items);
+        BigDecimal price = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            BigDecimal productPrice = BigDecimal.valueOf(1_000 + i * 125L, 2);
+            BigDecimal subTotal = productPrice.multiply(BigDecimal.valueOf(2));
+            UUID productId = UUID.randomUUID();
+            orderItems.add(OrderItem.builder()
+                    .productId(productId)
+                    .quantity(2)
+                    .price(productPrice)
+                    .subTotal(subTotal)
+                    .build());
+            products.add(Product.builder()
+                    .productId(new ProductId(productId))
+                    .quantity(2)
+                    .build());
+            price = price.add(subTotal);
+        }
+        createOrderCommand = CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(restaurantId)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .price(price)
+                .items(orderItems)
+                .build();
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        order.initializeOrder(new UuidV7Generator());
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of(UTC));
+        orderCreatedEvent = new OrderCreatedEvent(order, createdAt);
+
+        paymentRequest = PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(orderId.toString())
+                .customerId(customerId.toString())
+                .price(price)
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+        Payment payment = Payment.builder()
+                .paymentId(new PaymentId(UUID.randomUUID()))
+                .orderId(new OrderId(orderId))
+                .customerId(new CustomerId(customerId))
+                .price(new Money(price))
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .createdAt(createdAt)
+                .build();
+        paymentEvent = new PaymentCompletedEvent(payment, createdAt);
+
+        restaurantApprovalRequest = RestaurantApprovalRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .restaurantId(restaurantId.toString())
+                .orderId(orderId.toString())
+                .restaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .products(products)
+                .price(price)
+                .createdAt(Instant.now())
+                .build();
+        orderApprovalEvent = new OrderApprovedEvent(OrderApproval.builder()
+                .orderApprovalId(new OrderApprovalId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(restaurantId))
+                .orderId(new OrderId(orderId))
+                .approvalStatus(OrderApprovalStatus.APPROVED)
+                .build(), new RestaurantId(restaurantId), Collections.emptyList(), createdAt);
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    @Benchmark
+    public OrderPaymentEventPayload orderCreatedEventToOrderPaymentEventPayload() {
+        return orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent);
+    }
+
+    @Benchmark
+    public Payment paymentRequestModelToPayment() {
+        return paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
+    }
+
+    @Benchmark
+    public com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload
+    paymentEventToOrderEventPayload() {
+        return paymentDataMapper.paymentEventToOrderEventPayload(paymentEvent);
+    }
+
+    @Benchmark
+    public Restaurant restaurantApprovalRequestToRestaurant() {
+        return restaurantDataMapper.restaurantApprovalRequestToRestaurant(restaurantApprovalRequest);
+    }
+
+    @Benchmark
+    public com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload
+    orderApprovalEventToOrderEventPayload() {
+        return restaurantDataMapper.orderApprovalEventToOrderEventPayload(orderApprovalEvent);
+    }
+}
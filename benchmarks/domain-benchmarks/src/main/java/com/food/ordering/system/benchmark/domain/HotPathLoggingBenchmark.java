@@ -0,0 +1,114 @@
+package com.food.ordering.system.benchmark.domain;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.logging.SampledLogger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathLoggingBenchmark {
+
+    private static final String TOPIC = "payment-request";
+    private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%X{traceId:-},%X{spanId:-}] " +
+            "--- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"100"})
+    private int outboxBatchSize;
+
+    private Logger logger;
+    private SampledLogger sendLogger;
+    private SampledLogger publishedLogger;
+    private PaymentRequestAvroModel paymentRequestAvroModel;
+    private List<UUID> outboxIds;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(LOG_PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        ch.qos.logback.classic.Logger benchmarkLogger = loggerContext.getLogger(HotPathLoggingBenchmark.class);
+        benchmarkLogger.detachAndStopAllAppenders();
+        benchmarkLogger.setAdditive(false);
+        benchmarkLogger.setLevel(Level.INFO);
+        benchmarkLogger.addAppender(appender);
+        logger = benchmarkLogger;
+        sendLogger = SampledLogger.of(logger, "kafka.producer.send");
+        publishedLogger = SampledLogger.of(logger, "order.payment_outbox.published");
+
+        paymentRequestAvroModel = PaymentRequestAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId(UUID.randomUUID().toString())
+                .setCustomerId(UUID.randomUUID().toString())
+                .setOrderId(UUID.randomUUID().toString())
+                .setPrice(new BigDecimal("125.50"))
+                .setCreatedAt(Instant.now())
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+        outboxIds = new ArrayList<>(outboxBatchSize);
+        for (int i = 0; i < outboxBatchSize; i++) {
+            outboxIds.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ((ch.qos.logback.classic.Logger) logger).detachAndStopAllAppenders();
+    }
+
+    @Benchmark
+    public void producerSendPerMessageLog() {
+        logger.info("Sending message={} to topic={}", paymentRequestAvroModel, TOPIC);
+    }
+
+    @Benchmark
+    public void producerSendSampledLog() {
+        logger.debug("Sending message={} to topic={}", paymentRequestAvroModel, TOPIC);
+        sendLogger.info("Sending message with key={} to topic={}", paymentRequestAvroModel.getSagaId(), TOPIC);
+    }
+
+    @Benchmark
+    public void outboxBatchEagerIdsLog() {
+        logger.info("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
+                outboxIds.size(),
+                outboxIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        logger.info("{} OrderPaymentOutboxMessage sent to message bus!", outboxIds.size());
+    }
+
+    @Benchmark
+    public void outboxBatchLazyIdsSampledLog() {
+        logger.debug("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
+                outboxIds.size(),
+                lazy(() -> outboxIds.stream().map(UUID::toString).collect(Collectors.joining(","))));
+        publishedLogger.info("{} OrderPaymentOutboxMessage sent to message bus!", outboxIds.size());
+    }
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.RandomUuidGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator randomUuidGenerator = new RandomUuidGenerator();
+    private final IdGenerator uuidV7Generator = new UuidV7Generator();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return randomUuidGenerator.generateId();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7Generator.generateId();
+    }
+}
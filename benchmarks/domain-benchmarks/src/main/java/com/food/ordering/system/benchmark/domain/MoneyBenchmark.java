@@ -0,0 +1,77 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Money[] prices;
+    private int[] quantities;
+    private BigDecimalMoney[] bigDecimalPrices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new Money[size];
+        quantities = new int[size];
+        bigDecimalPrices = new BigDecimalMoney[size];
+        for (int i = 0; i < size; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(100_000), 2);
+            prices[i] = new Money(amount);
+            bigDecimalPrices[i] = new BigDecimalMoney(amount);
+            quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public Money sumMoney() {
+        return Arrays.stream(prices).reduce(Money.ZERO, Money::add);
+    }
+
+    @Benchmark
+    public BigDecimalMoney sumBigDecimalMoney() {
+        return Arrays.stream(bigDecimalPrices).reduce(BigDecimalMoney.ZERO, BigDecimalMoney::add);
+    }
+
+    @Benchmark
+    public boolean validateItemsPriceMoney() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < size; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total.isGreaterThan(prices[0]) && total.subtract(prices[0]).isGreaterThanZero();
+    }
+
+    @Benchmark
+    public boolean validateItemsPriceBigDecimalMoney() {
+        BigDecimalMoney total = BigDecimalMoney.ZERO;
+        for (int i = 0; i < size; i++) {
+            total = total.add(bigDecimalPrices[i].multiply(quantities[i]));
+        }
+        return total.isGreaterThan(bigDecimalPrices[0]) && total.subtract(bigDecimalPrices[0]).isGreaterThanZero();
+    }
+
+    @Benchmark
+    public BigDecimal toAmountMoney() {
+        return prices[size - 1].getAmount();
+    }
+
+    @Benchmark
+    public BigDecimal toAmountBigDecimalMoney() {
+        return bigDecimalPrices[size - 1].getAmount();
+    }
+}
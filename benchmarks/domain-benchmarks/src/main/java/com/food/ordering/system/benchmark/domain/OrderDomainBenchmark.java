@@ -0,0 +1,101 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10"})
+    private int items;
+
+    private final IdGenerator idGenerator = new UuidV7Generator();
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl(idGenerator);
+
+    private CustomerId customerId;
+    private RestaurantId restaurantId;
+    private StreetAddress deliveryAddress;
+    private List<Product> products;
+    private Money price;
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        customerId = new CustomerId(UUID.randomUUID());
+        restaurantId = new RestaurantId(UUID.randomUUID());
+        deliveryAddress = new StreetAddress(UUID.randomUUID(), "street_1", "1000AB", "Paris");
+        products = new ArrayList<>(items);
+        price = Money.ZERO;
+        for (int i = 0; i < items; i++) {
+            Money productPrice = new Money(BigDecimal.valueOf(1_000 + i * 125L, 2));
+            products.add(new Product(new ProductId(UUID.randomUUID()), "product-" + i, productPrice));
+            price = price.add(productPrice.multiply(2));
+        }
+        restaurant = Restaurant.builder()
+                .restaurantId(restaurantId)
+                .products(products)
+                .active(true)
+                .build();
+    }
+
+    @Benchmark
+    public Order validateAndInitializeOrder() {
+        Order order = createOrder(products);
+        order.validateOrder();
+        order.initializeOrder(idGenerator);
+        return order;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        List<Product> orderProducts = new ArrayList<>(items);
+        for (Product product : products) {
+            orderProducts.add(new Product(product.getId()));
+        }
+        return orderDomainService.validateAndInitiateOrder(createOrder(orderProducts), restaurant);
+    }
+
+    private Order createOrder(List<Product> orderProducts) {
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Money productPrice = products.get(i).getPrice();
+            orderItems.add(OrderItem.builder()
+                    .product(orderProducts.get(i))
+                    .quantity(2)
+                    .price(productPrice)
+                    .subTotal(productPrice.multiply(2))
+                    .build());
+        }
+        return Order.builder()
+                .customerId(customerId)
+                .restaurantId(restaurantId)
+                .deliveryAddress(deliveryAddress)
+                .price(price)
+                .items(orderItems)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.UuidV7Generator;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentDomainBenchmark {
+
+    private static final Money CREDIT_AMOUNT = new Money(new BigDecimal("100.00"));
+    private static final Money PAYMENT_PRICE = new Money(new BigDecimal("50.00"));
+
+    @Param({"10", "1000", "100000"})
+    private int creditHistories;
+
+    private final PaymentDomainService paymentDomainService = new PaymentDomainServiceImpl(new UuidV7Generator());
+
+    private CustomerId customerId;
+    private OrderId orderId;
+    private Money totalCreditAmount;
+    private CreditHistorySnapshot creditHistorySnapshot;
+    private List<CreditHistory> creditHistoryList;
+
+    @Setup
+    public void setUp() {
+        customerId = new CustomerId(UUID.randomUUID());
+        orderId = new OrderId(UUID.randomUUID());
+        totalCreditAmount = CREDIT_AMOUNT.multiply(creditHistories);
+        creditHistorySnapshot = CreditHistorySnapshot.builder()
+                .customerId(customerId)
+                .asOfSequenceNumber(0)
+                .totalCreditAmount(Money.ZERO)
+                .totalDebitAmount(Money.ZERO)
+                .build();
+        creditHistoryList = new ArrayList<>(creditHistories + 1);
+        for (long i = 1; i <= creditHistories; i++) {
+            creditHistoryList.add(CreditHistory.builder()
+                    .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                    .customerId(customerId)
+                    .amount(CREDIT_AMOUNT)
+                    .transactionType(TransactionType.CREDIT)
+                    .sequenceNumber(i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitiatePayment() {
+        Payment payment = Payment.builder()
+                .orderId(orderId)
+                .customerId(customerId)
+                .price(PAYMENT_PRICE)
+                .build();
+        CreditEntry creditEntry = CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(customerId.getValue()))
+                .customerId(customerId)
+                .totalCreditAmount(totalCreditAmount)
+                .build();
+        List<FailureReason> failureReasons = new ArrayList<>();
+        PaymentEvent paymentEvent = paymentDomainService.validateAndInitiatePayment(payment, creditEntry,
+                creditHistorySnapshot, creditHistoryList, failureReasons);
+        creditHistoryList.remove(creditHistoryList.size() - 1);
+        return paymentEvent;
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.benchmark.domain;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantDomainBenchmark {
+
+    @Param({"1", "10"})
+    private int products;
+
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        List<Product> orderProducts = new ArrayList<>(products);
+        Money totalAmount = Money.ZERO;
+        for (int i = 0; i < products; i++) {
+            Money price = new Money(BigDecimal.valueOf(1_000 + i * 125L, 2));
+            orderProducts.add(Product.builder()
+                    .productId(new ProductId(UUID.randomUUID()))
+                    .name("product-" + i)
+                    .price(price)
+                    .quantity(2)
+                    .available(true)
+                    .build());
+            totalAmount = totalAmount.add(price.multiply(2));
+        }
+        restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .orderDetail(OrderDetail.builder()
+                        .orderId(new OrderId(UUID.randomUUID()))
+                        .orderStatus(OrderStatus.PAID)
+                        .totalAmount(totalAmount)
+                        .products(orderProducts)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<FailureReason> validateOrder() {
+        List<FailureReason> failureReasons = new ArrayList<>();
+        restaurant.validateOrder(failureReasons);
+        return failureReasons;
+    }
+}
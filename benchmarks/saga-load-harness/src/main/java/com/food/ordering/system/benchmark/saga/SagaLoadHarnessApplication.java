@@ -0,0 +1,78 @@
+package com.food.ordering.system.benchmark.saga;
+
+import com.food.ordering.system.benchmark.saga.load.OrderLoadGenerator;
+import com.food.ordering.system.benchmark.saga.load.SagaLoadReport;
+import com.food.ordering.system.benchmark.saga.order.OrderCustomerSeeder;
+import com.food.ordering.system.benchmark.saga.order.OrderServiceHarnessConfiguration;
+import com.food.ordering.system.benchmark.saga.payment.CustomerCreditSeeder;
+import com.food.ordering.system.benchmark.saga.payment.PaymentServiceHarnessConfiguration;
+import com.food.ordering.system.benchmark.saga.restaurant.RestaurantServiceHarnessConfiguration;
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.config.LocalMessagingConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties
+@ComponentScan(basePackages = { "com.food.ordering.system.benchmark.saga.config",
+        "com.food.ordering.system.benchmark.saga.load", "com.food.ordering.system.flightrecorder",
+        "com.food.ordering.system.tracing" })
+@Import({ LocalMessagingConfigData.class, LocalMessageBus.class })
+public class SagaLoadHarnessApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext harnessContext = new SpringApplicationBuilder(SagaLoadHarnessApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+        Deque<ConfigurableApplicationContext> serviceContexts = new ArrayDeque<>();
+        try {
+            serviceContexts.push(startService(harnessContext, RestaurantServiceHarnessConfiguration.class,
+                    "restaurant-harness", args));
+            ConfigurableApplicationContext paymentContext = startService(harnessContext,
+                    PaymentServiceHarnessConfiguration.class, "payment-harness", args);
+            serviceContexts.push(paymentContext);
+            ConfigurableApplicationContext orderContext = startService(harnessContext,
+                    OrderServiceHarnessConfiguration.class, "order-harness", args);
+            serviceContexts.push(orderContext);
+
+            OrderLoadGenerator orderLoadGenerator = harnessContext.getBean(OrderLoadGenerator.class);
+            List<UUID> customerIds = orderLoadGenerator.getCustomerIds();
+            paymentContext.getBean(CustomerCreditSeeder.class).seedCustomerCredits(customerIds,
+                    orderLoadGenerator.getCustomerCreditAmount());
+            orderContext.getBean(OrderCustomerSeeder.class).seedCustomers(customerIds);
+
+            SagaLoadReport sagaLoadReport =
+                    orderLoadGenerator.run(orderContext.getBean(OrderApplicationService.class));
+            log.warn("Saga load harness finished: {}", sagaLoadReport);
+        } finally {
+            while (!serviceContexts.isEmpty()) {
+                serviceContexts.pop().close();
+            }
+            harnessContext.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startService(ConfigurableApplicationContext harnessContext,
+                                                               Class<?> serviceConfiguration,
+                                                               String configName,
+                                                               String[] args) {
+        return new SpringApplicationBuilder(serviceConfiguration)
+                .parent(harnessContext)
+                .web(WebApplicationType.NONE)
+                .properties("spring.config.name=" + configName)
+                .run(args);
+    }
+}
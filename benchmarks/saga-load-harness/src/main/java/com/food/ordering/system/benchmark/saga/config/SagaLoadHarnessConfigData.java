@@ -0,0 +1,21 @@
+package com.food.ordering.system.benchmark.saga.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "saga-load-harness")
+public class SagaLoadHarnessConfigData {
+    private String orderFile;
+    private Integer ordersPerSecond;
+    private Integer warmupSeconds;
+    private Integer durationSeconds;
+    private Integer producerThreads;
+    private Integer completionTimeoutSeconds;
+    private Integer customers;
+    private BigDecimal customerCreditAmount;
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.benchmark.saga.exception;
+
+public class SagaLoadHarnessException extends RuntimeException {
+
+    public SagaLoadHarnessException(String message) {
+        super(message);
+    }
+
+    public SagaLoadHarnessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
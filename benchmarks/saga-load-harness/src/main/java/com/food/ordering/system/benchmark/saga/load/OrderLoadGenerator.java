@@ -0,0 +1,128 @@
+package com.food.ordering.system.benchmark.saga.load;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.benchmark.saga.config.SagaLoadHarnessConfigData;
+import com.food.ordering.system.benchmark.saga.exception.SagaLoadHarnessException;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class OrderLoadGenerator {
+
+    private final SagaLoadHarnessConfigData sagaLoadHarnessConfigData;
+    private final SagaLatencyRecorder sagaLatencyRecorder;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public OrderLoadGenerator(SagaLoadHarnessConfigData sagaLoadHarnessConfigData,
+                              SagaLatencyRecorder sagaLatencyRecorder) {
+        this.sagaLoadHarnessConfigData = sagaLoadHarnessConfigData;
+        this.sagaLatencyRecorder = sagaLatencyRecorder;
+    }
+
+    public List<UUID> getCustomerIds() {
+        return IntStream.range(0, sagaLoadHarnessConfigData.getCustomers())
+                .mapToObj(index -> UUID.nameUUIDFromBytes(("saga-load-harness-customer-" + index)
+                        .getBytes(StandardCharsets.UTF_8)))
+                .collect(Collectors.toList());
+    }
+
+    public BigDecimal getCustomerCreditAmount() {
+        return sagaLoadHarnessConfigData.getCustomerCreditAmount();
+    }
+
+    public SagaLoadReport run(OrderApplicationService orderApplicationService) {
+        CreateOrderCommand orderTemplate = readOrderTemplate();
+        List<UUID> customerIds = getCustomerIds();
+        int ordersPerSecond = sagaLoadHarnessConfigData.getOrdersPerSecond();
+        int warmupOrders = ordersPerSecond * sagaLoadHarnessConfigData.getWarmupSeconds();
+        int totalOrders = warmupOrders + ordersPerSecond * sagaLoadHarnessConfigData.getDurationSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ordersPerSecond;
+        ExecutorService producers = Executors.newFixedThreadPool(sagaLoadHarnessConfigData.getProducerThreads());
+
+        log.warn("Starting saga load with {} orders per second, {} warmup and {} measured orders",
+                ordersPerSecond, warmupOrders, totalOrders - warmupOrders);
+        long startNanos = System.nanoTime();
+        try {
+            for (int index = 0; index < totalOrders; index++) {
+                long intendedStartNanos = startNanos + index * intervalNanos;
+                long waitNanos;
+                while ((waitNanos = intendedStartNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                boolean measured = index >= warmupOrders;
+                CreateOrderCommand createOrderCommand =
+                        createOrderCommand(orderTemplate, customerIds.get(index % customerIds.size()));
+                producers.execute(() -> createOrder(orderApplicationService, createOrderCommand,
+                        intendedStartNanos, measured));
+            }
+            producers.shutdown();
+            long deadlineNanos = System.nanoTime() +
+                    TimeUnit.SECONDS.toNanos(sagaLoadHarnessConfigData.getCompletionTimeoutSeconds());
+            if (!producers.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS) ||
+                    !sagaLatencyRecorder.awaitCompletion(deadlineNanos)) {
+                log.warn("Not all sagas are completed in {} seconds",
+                        sagaLoadHarnessConfigData.getCompletionTimeoutSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SagaLoadHarnessException("Saga load is interrupted!", e);
+        } finally {
+            producers.shutdownNow();
+        }
+        return sagaLatencyRecorder.createReport(startNanos + warmupOrders * intervalNanos);
+    }
+
+    private void createOrder(OrderApplicationService orderApplicationService,
+                             CreateOrderCommand createOrderCommand,
+                             long intendedStartNanos,
+                             boolean measured) {
+        try {
+            CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
+            sagaLatencyRecorder.sagaStarted(createOrderResponse.getOrderTrackingId(), intendedStartNanos, measured);
+        } catch (RuntimeException e) {
+            log.error("Could not create order for customer: {}", createOrderCommand.getCustomerId(), e);
+            sagaLatencyRecorder.orderFailed(measured);
+        }
+    }
+
+    private CreateOrderCommand createOrderCommand(CreateOrderCommand orderTemplate, UUID customerId) {
+        return CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(orderTemplate.getRestaurantId())
+                .price(orderTemplate.getPrice())
+                .items(orderTemplate.getItems())
+                .address(orderTemplate.getAddress())
+                .build();
+    }
+
+    private CreateOrderCommand readOrderTemplate() {
+        try {
+            return objectMapper.readValue(Paths.get(sagaLoadHarnessConfigData.getOrderFile()).toFile(),
+                    CreateOrderCommand.class);
+        } catch (IOException e) {
+            log.error("Could not read order template from {}", sagaLoadHarnessConfigData.getOrderFile(), e);
+            throw new SagaLoadHarnessException("Could not read order template from " +
+                    sagaLoadHarnessConfigData.getOrderFile(), e);
+        }
+    }
+}
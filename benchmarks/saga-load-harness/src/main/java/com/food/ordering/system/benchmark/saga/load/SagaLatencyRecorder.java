@@ -0,0 +1,127 @@
+package com.food.ordering.system.benchmark.saga.load;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+@Component
+public class SagaLatencyRecorder {
+
+    private final Map<UUID, SagaTiming> sagas = new ConcurrentHashMap<>();
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong submittedOrders = new AtomicLong();
+    private final AtomicLong failedOrders = new AtomicLong();
+    private final AtomicLong approvedOrders = new AtomicLong();
+    private final AtomicLong cancelledOrders = new AtomicLong();
+    private final AtomicLong startedSagas = new AtomicLong();
+    private final AtomicLong completedSagas = new AtomicLong();
+    private final LongAccumulator lastCompletionNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public void sagaStarted(UUID trackingId, long startNanos, boolean measured) {
+        if (measured) {
+            submittedOrders.incrementAndGet();
+        }
+        startedSagas.incrementAndGet();
+        sagas.compute(trackingId, (key, sagaTiming) -> {
+            if (sagaTiming == null) {
+                return new SagaTiming(startNanos, measured, null, 0L);
+            }
+            record(startNanos, measured, sagaTiming.orderStatus, sagaTiming.completionNanos);
+            return null;
+        });
+    }
+
+    public void orderFailed(boolean measured) {
+        if (measured) {
+            submittedOrders.incrementAndGet();
+            failedOrders.incrementAndGet();
+        }
+    }
+
+    public void sagaCompleted(UUID trackingId, OrderStatus orderStatus, long completionNanos) {
+        sagas.compute(trackingId, (key, sagaTiming) -> {
+            if (sagaTiming == null) {
+                return new SagaTiming(null, false, orderStatus, completionNanos);
+            }
+            if (sagaTiming.startNanos == null) {
+                return sagaTiming;
+            }
+            record(sagaTiming.startNanos, sagaTiming.measured, orderStatus, completionNanos);
+            return null;
+        });
+    }
+
+    public boolean awaitCompletion(long deadlineNanos) throws InterruptedException {
+        while (completedSagas.get() < startedSagas.get()) {
+            if (System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        return true;
+    }
+
+    public SagaLoadReport createReport(long measurementStartNanos) {
+        long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sortedLatencies);
+        long measuredNanos = lastCompletionNanos.get() - measurementStartNanos;
+        return SagaLoadReport.builder()
+                .submittedOrders(submittedOrders.get())
+                .failedOrders(failedOrders.get())
+                .approvedOrders(approvedOrders.get())
+                .cancelledOrders(cancelledOrders.get())
+                .incompleteSagas(startedSagas.get() - completedSagas.get())
+                .ordersPerSecond(measuredNanos <= 0 ? 0 :
+                        sortedLatencies.length * (double) TimeUnit.SECONDS.toNanos(1) / measuredNanos)
+                .p50LatencyMillis(percentileMillis(sortedLatencies, 0.5))
+                .p99LatencyMillis(percentileMillis(sortedLatencies, 0.99))
+                .p999LatencyMillis(percentileMillis(sortedLatencies, 0.999))
+                .maxLatencyMillis(percentileMillis(sortedLatencies, 1.0))
+                .build();
+    }
+
+    private void record(long startNanos, boolean measured, OrderStatus orderStatus, long completionNanos) {
+        completedSagas.incrementAndGet();
+        if (!measured) {
+            return;
+        }
+        latencies.add(completionNanos - startNanos);
+        lastCompletionNanos.accumulate(completionNanos);
+        if (OrderStatus.APPROVED == orderStatus) {
+            approvedOrders.incrementAndGet();
+        } else {
+            cancelledOrders.incrementAndGet();
+        }
+    }
+
+    private double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sortedLatencies.length);
+        return sortedLatencies[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class SagaTiming {
+        private final Long startNanos;
+        private final boolean measured;
+        private final OrderStatus orderStatus;
+        private final long completionNanos;
+
+        private SagaTiming(Long startNanos, boolean measured, OrderStatus orderStatus, long completionNanos) {
+            this.startNanos = startNanos;
+            this.measured = measured;
+            this.orderStatus = orderStatus;
+            this.completionNanos = completionNanos;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.food.ordering.system.benchmark.saga.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class SagaLoadReport {
+    private final long submittedOrders;
+    private final long failedOrders;
+    private final long approvedOrders;
+    private final long cancelledOrders;
+    private final long incompleteSagas;
+    private final double ordersPerSecond;
+    private final double p50LatencyMillis;
+    private final double p99LatencyMillis;
+    private final double p999LatencyMillis;
+    private final double maxLatencyMillis;
+}
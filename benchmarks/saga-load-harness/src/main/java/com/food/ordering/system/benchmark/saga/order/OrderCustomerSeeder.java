@@ -0,0 +1,30 @@
+package com.food.ordering.system.benchmark.saga.order;
+
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OrderCustomerSeeder {
+
+    private final CustomerMessageListener customerMessageListener;
+
+    public OrderCustomerSeeder(CustomerMessageListener customerMessageListener) {
+        this.customerMessageListener = customerMessageListener;
+    }
+
+    public void seedCustomers(List<UUID> customerIds) {
+        customerIds.forEach(customerId -> customerMessageListener.customerCreated(CustomerModel.builder()
+                .id(customerId.toString())
+                .username("saga-load-" + customerId)
+                .firstName("Saga")
+                .lastName("Load")
+                .build()));
+        log.warn("{} customers are created in order service", customerIds.size());
+    }
+}
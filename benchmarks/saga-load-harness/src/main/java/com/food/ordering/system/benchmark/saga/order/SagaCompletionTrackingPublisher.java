@@ -0,0 +1,26 @@
+package com.food.ordering.system.benchmark.saga.order;
+
+import com.food.ordering.system.benchmark.saga.load.SagaLatencyRecorder;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingMessagePublisher;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingView;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SagaCompletionTrackingPublisher implements OrderTrackingMessagePublisher {
+
+    private final SagaLatencyRecorder sagaLatencyRecorder;
+
+    public SagaCompletionTrackingPublisher(SagaLatencyRecorder sagaLatencyRecorder) {
+        this.sagaLatencyRecorder = sagaLatencyRecorder;
+    }
+
+    @Override
+    public void publish(OrderTrackingView orderTrackingView) {
+        if (OrderStatus.APPROVED == orderTrackingView.getOrderStatus() ||
+                OrderStatus.CANCELLED == orderTrackingView.getOrderStatus()) {
+            sagaLatencyRecorder.sagaCompleted(orderTrackingView.getTrackingId(), orderTrackingView.getOrderStatus(),
+                    System.nanoTime());
+        }
+    }
+}
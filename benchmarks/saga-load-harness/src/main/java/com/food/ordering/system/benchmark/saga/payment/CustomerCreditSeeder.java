@@ -0,0 +1,54 @@
+package com.food.ordering.system.benchmark.saga.payment;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CustomerCreditSeeder {
+
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+
+    public CustomerCreditSeeder(CreditEntryRepository creditEntryRepository,
+                                CreditHistoryRepository creditHistoryRepository) {
+        this.creditEntryRepository = creditEntryRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+    }
+
+    @Transactional
+    public void seedCustomerCredits(List<UUID> customerIds, BigDecimal creditAmount) {
+        Money credit = new Money(creditAmount);
+        creditEntryRepository.saveAll(customerIds.stream()
+                .map(customerId -> CreditEntry.builder()
+                        .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                        .customerId(new CustomerId(customerId))
+                        .totalCreditAmount(credit)
+                        .build())
+                .collect(Collectors.toList()));
+        creditHistoryRepository.saveAll(customerIds.stream()
+                .map(customerId -> CreditHistory.builder()
+                        .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                        .customerId(new CustomerId(customerId))
+                        .amount(credit)
+                        .transactionType(TransactionType.CREDIT)
+                        .build())
+                .collect(Collectors.toList()));
+        log.warn("{} customers are credited with {} in payment service", customerIds.size(), creditAmount);
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.benchmark.saga.payment;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@EnableJpaRepositories(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@EntityScan(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@SpringBootApplication(scanBasePackages = { "com.food.ordering.system.payment.service.domain",
+        "com.food.ordering.system.payment.service.dataaccess", "com.food.ordering.system.outbox",
+        "com.food.ordering.system.payment.service.messaging", "com.food.ordering.system.benchmark.saga.payment" })
+@Import(LocalMessageHelper.class)
+public class PaymentServiceHarnessConfiguration {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
+    }
+
+    @Bean
+    public PaymentDomainService paymentDomainService(IdGenerator idGenerator) {
+        return new PaymentDomainServiceImpl(idGenerator);
+    }
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.benchmark.saga.restaurant;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainService;
+import com.food.ordering.system.restaurant.service.domain.RestaurantDomainServiceImpl;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@EnableJpaRepositories(basePackages = { "com.food.ordering.system.restaurant.service.dataaccess", "com.food.ordering.system.dataaccess" })
+@EntityScan(basePackages = { "com.food.ordering.system.restaurant.service.dataaccess", "com.food.ordering.system.dataaccess" })
+@SpringBootApplication(scanBasePackages = { "com.food.ordering.system.restaurant.service.domain",
+        "com.food.ordering.system.restaurant.service.dataaccess", "com.food.ordering.system.dataaccess",
+        "com.food.ordering.system.outbox", "com.food.ordering.system.restaurant.service.messaging",
+        "com.food.ordering.system.benchmark.saga.restaurant" })
+@Import(LocalMessageHelper.class)
+public class RestaurantServiceHarnessConfiguration {
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
+    }
+
+    @Bean
+    public RestaurantDomainService restaurantDomainService(IdGenerator idGenerator) {
+        return new RestaurantDomainServiceImpl(idGenerator);
+    }
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractAvroSerializationBenchmark {
+
+    private static final String TOPIC = "serialization-benchmark";
+
+    private KafkaAvroSerializer kafkaAvroSerializer;
+    private KafkaAvroDeserializer kafkaAvroDeserializer;
+    private AvroCodec<SpecificRecordBase> avroCodec;
+    private SpecificRecordBase record;
+    private byte[] kafkaAvroBytes;
+    private byte[] avroBytes;
+
+    protected abstract SpecificRecordBase createRecord();
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        record = createRecord();
+        SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+        Map<String, Object> config = Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://" + TOPIC,
+                KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+        kafkaAvroSerializer = new KafkaAvroSerializer(schemaRegistryClient, config);
+        kafkaAvroDeserializer = new KafkaAvroDeserializer(schemaRegistryClient, config);
+        avroCodec = new AvroCodec<>((Class<SpecificRecordBase>) record.getClass());
+        kafkaAvroBytes = kafkaAvroSerializer.serialize(TOPIC, record);
+        avroBytes = avroCodec.encodeWithFreshEncoder(record);
+    }
+
+    @TearDown
+    public void tearDown() {
+        kafkaAvroSerializer.close();
+        kafkaAvroDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] kafkaAvroSerialize() {
+        return kafkaAvroSerializer.serialize(TOPIC, record);
+    }
+
+    @Benchmark
+    public Object kafkaAvroDeserialize() {
+        return kafkaAvroDeserializer.deserialize(TOPIC, kafkaAvroBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeWithFreshEncoder() {
+        return avroCodec.encodeWithFreshEncoder(record);
+    }
+
+    @Benchmark
+    public byte[] encodeWithReusedEncoder() {
+        return avroCodec.encodeWithReusedEncoder(record);
+    }
+
+    @Benchmark
+    public SpecificRecordBase decodeWithFreshReader() {
+        return avroCodec.decodeWithFreshReader(avroBytes);
+    }
+
+    @Benchmark
+    public SpecificRecordBase decodeWithReusedReader() {
+        return avroCodec.decodeWithReusedReader(avroBytes);
+    }
+}
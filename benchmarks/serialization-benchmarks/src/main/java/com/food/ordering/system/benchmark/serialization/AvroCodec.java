@@ -0,0 +1,72 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class AvroCodec<T extends SpecificRecordBase> {
+
+    private final Class<T> recordType;
+    private final SpecificDatumWriter<T> datumWriter;
+    private final SpecificDatumReader<T> datumReader;
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1024);
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+    private T record;
+
+    public AvroCodec(Class<T> recordType) {
+        this.recordType = recordType;
+        this.datumWriter = new SpecificDatumWriter<>(recordType);
+        this.datumReader = new SpecificDatumReader<>(recordType);
+    }
+
+    public byte[] encodeWithFreshEncoder(T value) {
+        try {
+            ByteArrayOutputStream freshOutputStream = new ByteArrayOutputStream();
+            BinaryEncoder freshEncoder = EncoderFactory.get().binaryEncoder(freshOutputStream, null);
+            new SpecificDatumWriter<>(recordType).write(value, freshEncoder);
+            freshEncoder.flush();
+            return freshOutputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode " + recordType.getSimpleName(), e);
+        }
+    }
+
+    public byte[] encodeWithReusedEncoder(T value) {
+        try {
+            outputStream.reset();
+            encoder = EncoderFactory.get().binaryEncoder(outputStream, encoder);
+            datumWriter.write(value, encoder);
+            encoder.flush();
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode " + recordType.getSimpleName(), e);
+        }
+    }
+
+    public T decodeWithFreshReader(byte[] bytes) {
+        try {
+            return new SpecificDatumReader<>(recordType).read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + recordType.getSimpleName(), e);
+        }
+    }
+
+    public T decodeWithReusedReader(byte[] bytes) {
+        try {
+            decoder = DecoderFactory.get().binaryDecoder(bytes, decoder);
+            record = datumReader.read(record, decoder);
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + recordType.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.FailureCode;
+import com.food.ordering.system.kafka.order.avro.model.FailureReason;
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import org.apache.avro.specific.SpecificRecordBase;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public enum AvroModels {
+    PAYMENT_REQUEST,
+    PAYMENT_RESPONSE,
+    RESTAURANT_APPROVAL_REQUEST,
+    RESTAURANT_APPROVAL_RESPONSE,
+    CUSTOMER;
+
+    private static final BigDecimal PRICE = new BigDecimal("125.50");
+
+    public SpecificRecordBase create(int products) {
+        switch (this) {
+            case PAYMENT_REQUEST:
+                return PaymentRequestAvroModel.newBuilder()
+                        .setId(UUID.randomUUID().toString())
+                        .setSagaId(UUID.randomUUID().toString())
+                        .setCustomerId(UUID.randomUUID().toString())
+                        .setOrderId(UUID.randomUUID().toString())
+                        .setPrice(PRICE)
+                        .setCreatedAt(Instant.now())
+                        .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                        .build();
+            case PAYMENT_RESPONSE:
+                return PaymentResponseAvroModel.newBuilder()
+                        .setId(UUID.randomUUID().toString())
+                        .setSagaId(UUID.randomUUID().toString())
+                        .setPaymentId(UUID.randomUUID().toString())
+                        .setCustomerId(UUID.randomUUID().toString())
+                        .setOrderId(UUID.randomUUID().toString())
+                        .setPrice(PRICE)
+                        .setCreatedAt(Instant.now())
+                        .setPaymentStatus(PaymentStatus.FAILED)
+                        .setFailureReasons(List.of(FailureReason.newBuilder()
+                                .setCode(FailureCode.INSUFFICIENT_CREDIT)
+                                .setParameters(List.of(UUID.randomUUID().toString()))
+                                .build()))
+                        .build();
+            case RESTAURANT_APPROVAL_REQUEST:
+                List<Product> orderProducts = new ArrayList<>(products);
+                for (int i = 0; i < products; i++) {
+                    orderProducts.add(Product.newBuilder()
+                            .setId(UUID.randomUUID().toString())
+                            .setQuantity(1 + i % 5)
+                            .build());
+                }
+                return RestaurantApprovalRequestAvroModel.newBuilder()
+                        .setId(UUID.randomUUID().toString())
+                        .setSagaId(UUID.randomUUID().toString())
+                        .setRestaurantId(UUID.randomUUID().toString())
+                        .setOrderId(UUID.randomUUID().toString())
+                        .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                        .setProducts(orderProducts)
+                        .setPrice(PRICE)
+                        .setCreatedAt(Instant.now())
+                        .build();
+            case RESTAURANT_APPROVAL_RESPONSE:
+                return RestaurantApprovalResponseAvroModel.newBuilder()
+                        .setId(UUID.randomUUID().toString())
+                        .setSagaId(UUID.randomUUID().toString())
+                        .setRestaurantId(UUID.randomUUID().toString())
+                        .setOrderId(UUID.randomUUID().toString())
+                        .setCreatedAt(Instant.now())
+                        .setOrderApprovalStatus(OrderApprovalStatus.APPROVED)
+                        .setFailureReasons(Collections.emptyList())
+                        .build();
+            case CUSTOMER:
+                return CustomerAvroModel.newBuilder()
+                        .setId(UUID.randomUUID().toString())
+                        .setUsername("user_1")
+                        .setFirstName("First")
+                        .setLastName("User")
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unknown avro model " + this);
+        }
+    }
+}
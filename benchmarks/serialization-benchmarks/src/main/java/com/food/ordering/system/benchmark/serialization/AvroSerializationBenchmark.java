@@ -0,0 +1,18 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class AvroSerializationBenchmark extends AbstractAvroSerializationBenchmark {
+
+    @Param({"PAYMENT_REQUEST", "PAYMENT_RESPONSE", "RESTAURANT_APPROVAL_RESPONSE", "CUSTOMER"})
+    private AvroModels model;
+
+    @Override
+    protected SpecificRecordBase createRecord() {
+        return model.create(0);
+    }
+}
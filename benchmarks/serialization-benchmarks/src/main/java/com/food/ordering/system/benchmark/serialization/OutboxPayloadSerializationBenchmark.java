@@ -0,0 +1,61 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxPayloadSerializationBenchmark {
+
+    @Param({"ORDER_PAYMENT_EVENT", "ORDER_APPROVAL_EVENT", "PAYMENT_ORDER_EVENT", "RESTAURANT_ORDER_EVENT"})
+    private OutboxPayloads payload;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter objectWriter;
+    private ObjectReader objectReader;
+    private Object payloadValue;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectWriter = objectMapper.writerFor(payload.getPayloadType());
+        objectReader = objectMapper.readerFor(payload.getPayloadType());
+        payloadValue = payload.create();
+        json = objectMapper.writeValueAsString(payloadValue);
+    }
+
+    @Benchmark
+    public String writeWithObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(payloadValue);
+    }
+
+    @Benchmark
+    public String writeWithObjectWriter() throws JsonProcessingException {
+        return objectWriter.writeValueAsString(payloadValue);
+    }
+
+    @Benchmark
+    public Object readWithObjectMapper() throws JsonProcessingException {
+        return objectMapper.readValue(json, payload.getPayloadType());
+    }
+
+    @Benchmark
+    public Object readWithObjectReader() throws JsonProcessingException {
+        return objectReader.readValue(json);
+    }
+}
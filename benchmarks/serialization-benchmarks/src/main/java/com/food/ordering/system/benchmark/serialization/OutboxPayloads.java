@@ -0,0 +1,90 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.payment.service.domain.outbox.model.FailureReasonPayload;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+public enum OutboxPayloads {
+    ORDER_PAYMENT_EVENT(OrderPaymentEventPayload.class),
+    ORDER_APPROVAL_EVENT(OrderApprovalEventPayload.class),
+    PAYMENT_ORDER_EVENT(com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload.class),
+    RESTAURANT_ORDER_EVENT(com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload.class);
+
+    private static final BigDecimal PRICE = new BigDecimal("125.50");
+    private static final int PRODUCTS = 10;
+
+    private final Class<?> payloadType;
+
+    OutboxPayloads(Class<?> payloadType) {
+        this.payloadType = payloadType;
+    }
+
+    public Class<?> getPayloadType() {
+        return payloadType;
+    }
+
+    public Object create() {
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of(UTC));
+        switch (this) {
+            case ORDER_PAYMENT_EVENT:
+                return OrderPaymentEventPayload.builder()
+                        .orderId(UUID.randomUUID().toString())
+                        .customerId(UUID.randomUUID().toString())
+                        .price(PRICE)
+                        .createdAt(createdAt)
+                        .paymentOrderStatus("PENDING")
+                        .build();
+            case ORDER_APPROVAL_EVENT:
+                List<OrderApprovalEventProduct> products = new ArrayList<>(PRODUCTS);
+                for (int i = 0; i < PRODUCTS; i++) {
+                    products.add(OrderApprovalEventProduct.builder()
+                            .id(UUID.randomUUID().toString())
+                            .quantity(1 + i % 5)
+                            .build());
+                }
+                return OrderApprovalEventPayload.builder()
+                        .orderId(UUID.randomUUID().toString())
+                        .restaurantId(UUID.randomUUID().toString())
+                        .price(PRICE)
+                        .createdAt(createdAt)
+                        .restaurantOrderStatus("PAID")
+                        .products(products)
+                        .build();
+            case PAYMENT_ORDER_EVENT:
+                return com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload.builder()
+                        .paymentId(UUID.randomUUID().toString())
+                        .customerId(UUID.randomUUID().toString())
+                        .orderId(UUID.randomUUID().toString())
+                        .price(PRICE)
+                        .createdAt(createdAt)
+                        .paymentStatus("FAILED")
+                        .failureReasons(List.of(FailureReasonPayload.builder()
+                                .code(FailureCode.INSUFFICIENT_CREDIT)
+                                .parameters(List.of(UUID.randomUUID().toString()))
+                                .build()))
+                        .build();
+            case RESTAURANT_ORDER_EVENT:
+                return com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload.builder()
+                        .orderId(UUID.randomUUID().toString())
+                        .restaurantId(UUID.randomUUID().toString())
+                        .createdAt(createdAt)
+                        .orderApprovalStatus("APPROVED")
+                        .failureReasons(Collections.emptyList())
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unknown outbox payload " + this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.benchmark.serialization;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class RestaurantApprovalRequestSerializationBenchmark extends AbstractAvroSerializationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int products;
+
+    @Override
+    protected SpecificRecordBase createRecord() {
+        return AvroModels.RESTAURANT_APPROVAL_REQUEST.create(products);
+    }
+}
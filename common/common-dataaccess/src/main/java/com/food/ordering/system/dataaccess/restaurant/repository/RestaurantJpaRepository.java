@@ -13,4 +13,7 @@ import java.util.UUID;
 public interface RestaurantJpaRepository extends JpaRepository<RestaurantEntity, RestaurantEntityId> {
 
     Optional<List<RestaurantEntity>> findByRestaurantIdAndProductIdIn(UUID restaurantId, List<UUID> productIds);
+
+    Optional<List<RestaurantEntity>> findByRestaurantIdInAndProductIdIn(List<UUID> restaurantIds,
+                                                                        List<UUID> productIds);
 }
@@ -0,0 +1,47 @@
+package com.food.ordering.system.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+public class UuidV7Generator implements IdGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final int SEQUENCE_SEED_BOUND = 0x800;
+
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+    private final LongSupplier clock;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generateId() {
+        State state = this.state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        if (now > state.timestamp) {
+            state.timestamp = now;
+            state.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        } else if (++state.sequence > MAX_SEQUENCE) {
+            state.timestamp++;
+            state.sequence = 0;
+        }
+        long mostSigBits = (state.timestamp << 16) | VERSION | state.sequence;
+        long leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class State {
+        private long timestamp;
+        private int sequence;
+    }
+}
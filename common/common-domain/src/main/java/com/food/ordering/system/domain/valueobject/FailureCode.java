@@ -0,0 +1,22 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum FailureCode {
+    PAYMENT_PRICE_NOT_POSITIVE("Total price must be greater than zero!"),
+    INSUFFICIENT_CREDIT("Customer with id=%s doesn't have enough credit for payment!"),
+    INSUFFICIENT_CREDIT_HISTORY("Customer with id=%s doesn't have enough credit according to credit history!"),
+    CREDIT_HISTORY_MISMATCH("Credit history total is not equal to current credit for customer id: %s!"),
+    CREDIT_ENTRY_NOT_FOUND("Credit history exists without a credit entry for customer id: %s!"),
+    ORDER_NOT_PAID("Payment is not completed for order: %s"),
+    PRODUCT_NOT_AVAILABLE("Product with id: %s is not available"),
+    ORDER_PRICE_NOT_CORRECT("Price total is not correct for order: %s");
+
+    private final String messageFormat;
+
+    FailureCode(String messageFormat) {
+        this.messageFormat = messageFormat;
+    }
+
+    public String getMessageFormat() {
+        return messageFormat;
+    }
+}
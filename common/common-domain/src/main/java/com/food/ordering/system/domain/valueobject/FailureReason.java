@@ -0,0 +1,52 @@
+package com.food.ordering.system.domain.valueobject;
+
+import java.util.List;
+import java.util.Objects;
+
+public class FailureReason {
+    private final FailureCode code;
+    private final List<String> parameters;
+
+    public FailureReason(FailureCode code, List<String> parameters) {
+        this.code = code;
+        this.parameters = parameters;
+    }
+
+    public static FailureReason of(FailureCode code) {
+        return new FailureReason(code, List.of());
+    }
+
+    public static FailureReason of(FailureCode code, Object parameter) {
+        return new FailureReason(code, List.of(String.valueOf(parameter)));
+    }
+
+    public FailureCode getCode() {
+        return code;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public String getMessage() {
+        return String.format(code.getMessageFormat(), parameters.toArray());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FailureReason that = (FailureReason) o;
+        return code == that.code && parameters.equals(that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -1,40 +1,47 @@
 package com.food.ordering.system.domain.valueobject;
 
+import com.food.ordering.system.domain.exception.DomainException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 public class Money {
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+
+    private final long minorUnits;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        this(toMinorUnits(amount));
+    }
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
     }
 
     public boolean isGreaterThanZero() {
-        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.minorUnits > 0;
     }
 
     public boolean isGreaterThan(Money money) {
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        return this.minorUnits > money.minorUnits;
     }
 
     public Money add(Money money) {
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        return new Money(Math.addExact(this.minorUnits, money.minorUnits));
     }
 
     public Money subtract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        return new Money(Math.subtractExact(this.minorUnits, money.minorUnits));
     }
 
     public Money multiply(int multiplier) {
-        return new Money(setScale(this.amount.multiply(new BigDecimal(multiplier))));
+        return new Money(Math.multiplyExact(this.minorUnits, (long) multiplier));
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, SCALE);
     }
 
     @Override
@@ -42,15 +49,18 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return amount.equals(money.amount);
+        return minorUnits == money.minorUnits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(minorUnits);
     }
 
-    private BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+    private static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            throw new DomainException("Money amount must not be null!");
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
     }
 }
@@ -0,0 +1,56 @@
+package com.food.ordering.system.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidV7GeneratorTest {
+
+    private final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void testVersionAndVariantBits() {
+        UUID id = new UuidV7Generator(() -> NOW).generateId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void testIdsAreMonotonicWithinOneMillisecond() {
+        UuidV7Generator uuidV7Generator = new UuidV7Generator(() -> NOW);
+
+        List<UUID> ids = generateIds(uuidV7Generator, 1000);
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+            assertEquals(NOW, ids.get(i).getMostSignificantBits() >>> 16);
+        }
+    }
+
+    @Test
+    public void testSequenceOverflowBorrowsNextMillisecond() {
+        UuidV7Generator uuidV7Generator = new UuidV7Generator(() -> NOW);
+
+        List<UUID> ids = generateIds(uuidV7Generator, 0x1001);
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+            assertEquals(7, ids.get(i).version());
+        }
+        assertEquals(NOW + 1, ids.get(ids.size() - 1).getMostSignificantBits() >>> 16);
+    }
+
+    private List<UUID> generateIds(UuidV7Generator uuidV7Generator, int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(uuidV7Generator.generateId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.domain.valueobject;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    private final Money MAX_MONEY = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+
+    @Test
+    public void testAmountIsScaledToTwoDecimals() {
+        assertEquals(new BigDecimal("50.00"), new Money(new BigDecimal("50")).getAmount());
+        assertEquals(new BigDecimal("50.10"), new Money(new BigDecimal("50.1")).getAmount());
+        assertEquals(2, new Money(new BigDecimal("7")).getAmount().scale());
+    }
+
+    @Test
+    public void testAmountIsRoundedHalfEven() {
+        assertEquals(new BigDecimal("1.00"), new Money(new BigDecimal("1.005")).getAmount());
+        assertEquals(new BigDecimal("1.02"), new Money(new BigDecimal("1.015")).getAmount());
+        assertEquals(new BigDecimal("1.01"), new Money(new BigDecimal("1.0051")).getAmount());
+        assertEquals(new BigDecimal("-1.00"), new Money(new BigDecimal("-1.005")).getAmount());
+    }
+
+    @Test
+    public void testEqualsAcrossScales() {
+        Money money = new Money(new BigDecimal("10"));
+        assertEquals(money, new Money(new BigDecimal("10.0")));
+        assertEquals(money, new Money(new BigDecimal("10.000")));
+        assertEquals(money.hashCode(), new Money(new BigDecimal("10.000")).hashCode());
+        assertEquals(Money.ZERO, new Money(new BigDecimal("0.00")));
+        assertNotEquals(money, new Money(new BigDecimal("10.01")));
+    }
+
+    @Test
+    public void testArithmetic() {
+        Money price = new Money(new BigDecimal("50.25"));
+        assertEquals(new Money(new BigDecimal("100.50")), price.add(price));
+        assertEquals(Money.ZERO, price.subtract(price));
+        assertEquals(new Money(new BigDecimal("150.75")), price.multiply(3));
+        assertTrue(price.isGreaterThanZero());
+        assertFalse(Money.ZERO.isGreaterThanZero());
+        assertFalse(Money.ZERO.subtract(price).isGreaterThanZero());
+        assertTrue(price.multiply(2).isGreaterThan(price));
+        assertFalse(price.isGreaterThan(price));
+    }
+
+    @Test
+    public void testOverflowIsRejected() {
+        Money oneCent = new Money(new BigDecimal("0.01"));
+        assertThrows(ArithmeticException.class, () -> MAX_MONEY.add(oneCent));
+        assertThrows(ArithmeticException.class, () -> Money.ZERO.subtract(MAX_MONEY).subtract(oneCent).subtract(oneCent));
+        assertThrows(ArithmeticException.class, () -> MAX_MONEY.multiply(2));
+        assertThrows(ArithmeticException.class, () -> new Money(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+
+    @Test
+    public void testNullAmountIsRejected() {
+        DomainException domainException = assertThrows(DomainException.class, () -> new Money(null));
+        assertEquals("Money amount must not be null!", domainException.getMessage());
+    }
+}
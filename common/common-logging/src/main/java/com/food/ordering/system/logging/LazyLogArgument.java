@@ -0,0 +1,21 @@
+package com.food.ordering.system.logging;
+
+import java.util.function.Supplier;
+
+public final class LazyLogArgument {
+
+    private final Supplier<?> supplier;
+
+    private LazyLogArgument(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    public static LazyLogArgument lazy(Supplier<?> supplier) {
+        return new LazyLogArgument(supplier);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(supplier.get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.food.ordering.system.logging;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SampledLogger {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+
+    private static final String EVENT_SUFFIX = " [event={}, occurrences={}, interval={}ms]";
+
+    private final Logger logger;
+    private final String eventName;
+    private final long intervalNanos;
+    private final AtomicLong nextLogNanos;
+    private final LongAdder occurrences = new LongAdder();
+
+    private SampledLogger(Logger logger, String eventName, Duration interval) {
+        this.logger = logger;
+        this.eventName = eventName;
+        this.intervalNanos = interval.toNanos();
+        this.nextLogNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public static SampledLogger of(Logger logger, String eventName) {
+        return new SampledLogger(logger, eventName, DEFAULT_INTERVAL);
+    }
+
+    public static SampledLogger of(Logger logger, String eventName, Duration interval) {
+        return new SampledLogger(logger, eventName, interval);
+    }
+
+    public void info(String format, Object... arguments) {
+        if (logger.isInfoEnabled()) {
+            occurrences.increment();
+            if (tryAcquire()) {
+                logger.info(format + EVENT_SUFFIX, withEventArguments(arguments));
+            }
+        }
+    }
+
+    public void warn(String format, Object... arguments) {
+        if (logger.isWarnEnabled()) {
+            occurrences.increment();
+            if (tryAcquire()) {
+                logger.warn(format + EVENT_SUFFIX, withEventArguments(arguments));
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long nextLog = nextLogNanos.get();
+        return now - nextLog >= 0 && nextLogNanos.compareAndSet(nextLog, now + intervalNanos);
+    }
+
+    private Object[] withEventArguments(Object[] arguments) {
+        Object[] eventArguments = Arrays.copyOf(arguments, arguments.length + 3);
+        eventArguments[arguments.length] = eventName;
+        eventArguments[arguments.length + 1] = occurrences.sumThenReset();
+        eventArguments[arguments.length + 2] = intervalNanos / 1_000_000;
+        return eventArguments;
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.customer.service.messaging.mapper;
+
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.local.messaging.model.CustomerMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerLocalMessagingDataMapper {
+
+    public CustomerMessage customerCreatedEventToCustomerMessage(CustomerCreatedEvent customerCreatedEvent) {
+        return CustomerMessage.builder()
+                .id(customerCreatedEvent.getCustomer().getId().getValue().toString())
+                .username(customerCreatedEvent.getCustomer().getUsername())
+                .firstName(customerCreatedEvent.getCustomer().getFirstName())
+                .lastName(customerCreatedEvent.getCustomer().getLastName())
+                .build();
+    }
+}
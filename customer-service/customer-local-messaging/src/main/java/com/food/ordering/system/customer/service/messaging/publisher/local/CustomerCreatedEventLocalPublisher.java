@@ -0,0 +1,48 @@
+package com.food.ordering.system.customer.service.messaging.publisher.local;
+
+import com.food.ordering.system.customer.service.domain.config.CustomerServiceConfigData;
+import com.food.ordering.system.customer.service.domain.event.CustomerCreatedEvent;
+import com.food.ordering.system.customer.service.domain.ports.output.message.publisher.CustomerMessagePublisher;
+import com.food.ordering.system.customer.service.messaging.mapper.CustomerLocalMessagingDataMapper;
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.model.CustomerMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CustomerCreatedEventLocalPublisher implements CustomerMessagePublisher {
+
+    private final CustomerLocalMessagingDataMapper customerLocalMessagingDataMapper;
+
+    private final LocalMessageBus localMessageBus;
+
+    private final CustomerServiceConfigData customerServiceConfigData;
+
+    public CustomerCreatedEventLocalPublisher(CustomerLocalMessagingDataMapper customerLocalMessagingDataMapper,
+                                              LocalMessageBus localMessageBus,
+                                              CustomerServiceConfigData customerServiceConfigData) {
+        this.customerLocalMessagingDataMapper = customerLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.customerServiceConfigData = customerServiceConfigData;
+    }
+
+    @Override
+    public void publish(CustomerCreatedEvent customerCreatedEvent) {
+        log.info("Received CustomerCreatedEvent for customer id: {}",
+                customerCreatedEvent.getCustomer().getId().getValue());
+        try {
+            CustomerMessage customerMessage = customerLocalMessagingDataMapper
+                    .customerCreatedEventToCustomerMessage(customerCreatedEvent);
+
+            localMessageBus.send(customerServiceConfigData.getCustomerTopicName(), customerMessage.getId(),
+                    customerMessage);
+
+            log.info("CustomerCreatedEvent sent to local message bus for customer id: {}",
+                    customerMessage.getId());
+        } catch (Exception e) {
+            log.error("Error while sending CustomerCreatedEvent to local message bus for customer id: {}," +
+                    " error: {}", customerCreatedEvent.getCustomer().getId().getValue(), e.getMessage());
+        }
+    }
+}
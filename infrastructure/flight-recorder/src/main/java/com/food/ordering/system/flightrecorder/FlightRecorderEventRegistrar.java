@@ -0,0 +1,42 @@
+package com.food.ordering.system.flightrecorder;
+
+import com.food.ordering.system.flightrecorder.config.FlightRecorderConfigData;
+import com.food.ordering.system.flightrecorder.event.KafkaConsumerBatchEvent;
+import com.food.ordering.system.flightrecorder.event.KafkaProducerSendEvent;
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
+import com.food.ordering.system.flightrecorder.event.SagaStepEvent;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Slf4j
+@Component
+public class FlightRecorderEventRegistrar {
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(SagaStepEvent.class,
+            OutboxSchedulerEvent.class, KafkaConsumerBatchEvent.class, KafkaProducerSendEvent.class);
+
+    private final FlightRecorderConfigData flightRecorderConfigData;
+
+    public FlightRecorderEventRegistrar(FlightRecorderConfigData flightRecorderConfigData) {
+        this.flightRecorderConfigData = flightRecorderConfigData;
+    }
+
+    @PostConstruct
+    public void registerEvents() {
+        if (!Boolean.TRUE.equals(flightRecorderConfigData.getEnabled())) {
+            log.info("Flight recorder events are disabled");
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight recorder is not available in this JVM, events will not be registered");
+            return;
+        }
+        EVENT_TYPES.forEach(FlightRecorder::register);
+        log.info("Registered {} flight recorder event types", EVENT_TYPES.size());
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.flightrecorder.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "flight-recorder-config")
+public class FlightRecorderConfigData {
+    private Boolean enabled;
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.flightrecorder.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.food.ordering.system.KafkaConsumerBatch")
+@Label("Kafka Consumer Batch")
+@Category({ "Food Ordering System", "Kafka" })
+@StackTrace(false)
+@Registered(false)
+public class KafkaConsumerBatchEvent extends Event {
+
+    @Label("Topics")
+    private String topics;
+
+    @Label("Batch Size")
+    private int batchSize;
+
+    @Label("Successful")
+    private boolean successful;
+
+    public void setTopics(String topics) {
+        this.topics = topics;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.flightrecorder.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.food.ordering.system.KafkaProducerSend")
+@Label("Kafka Producer Send")
+@Category({ "Food Ordering System", "Kafka" })
+@StackTrace(false)
+@Registered(false)
+public class KafkaProducerSendEvent extends Event {
+
+    @Label("Topic")
+    private String topic;
+
+    @Label("Key")
+    private String key;
+
+    @Label("Successful")
+    private boolean successful;
+
+    public KafkaProducerSendEvent(String topic) {
+        this.topic = topic;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.flightrecorder.event;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+import java.util.function.BiConsumer;
+
+@Name("com.food.ordering.system.OutboxScheduler")
+@Label("Outbox Scheduler Tick")
+@Category({ "Food Ordering System", "Outbox" })
+@StackTrace(false)
+@Registered(false)
+public class OutboxSchedulerEvent extends Event {
+
+    @Label("Scheduler")
+    private String scheduler;
+
+    @Label("Claimed")
+    private int claimed;
+
+    @Label("Published")
+    private int published;
+
+    @Label("Failed")
+    private int failed;
+
+    public OutboxSchedulerEvent(String scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public void setClaimed(int claimed) {
+        this.claimed = claimed;
+    }
+
+    public <T> BiConsumer<T, OutboxStatus> track(BiConsumer<T, OutboxStatus> outboxCallback) {
+        if (!isEnabled()) {
+            return outboxCallback;
+        }
+        return (outboxMessage, outboxStatus) -> {
+            outboxCallback.accept(outboxMessage, outboxStatus);
+            recordOutcome(outboxStatus);
+        };
+    }
+
+    private synchronized void recordOutcome(OutboxStatus outboxStatus) {
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            published++;
+        } else if (outboxStatus == OutboxStatus.FAILED) {
+            failed++;
+        }
+    }
+}
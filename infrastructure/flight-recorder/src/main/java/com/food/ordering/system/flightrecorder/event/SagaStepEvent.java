@@ -0,0 +1,38 @@
+package com.food.ordering.system.flightrecorder.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.food.ordering.system.SagaStep")
+@Label("Saga Step")
+@Category({ "Food Ordering System", "Saga" })
+@StackTrace(false)
+@Registered(false)
+public class SagaStepEvent extends Event {
+
+    @Label("Saga")
+    private String saga;
+
+    @Label("Step")
+    private String step;
+
+    @Label("Saga Id")
+    private String sagaId;
+
+    @Label("Successful")
+    private boolean successful;
+
+    public SagaStepEvent(String saga, String step, String sagaId) {
+        this.saga = saga;
+        this.step = step;
+        this.sagaId = sagaId;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+}
@@ -17,4 +17,5 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private PartitionKeyStrategy partitionKeyStrategy;
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.food.ordering.system.kafka.consumer;
 import org.apache.avro.specific.SpecificRecordBase;
 
 import java.util.List;
+import java.util.Map;
 
 public interface KafkaConsumer<T extends SpecificRecordBase> {
-    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets);
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets,
+                 List<Map<String, Object>> headers);
 }
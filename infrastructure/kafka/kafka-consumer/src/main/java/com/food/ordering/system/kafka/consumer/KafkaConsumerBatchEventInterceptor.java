@@ -0,0 +1,54 @@
+package com.food.ordering.system.kafka.consumer;
+
+import com.food.ordering.system.flightrecorder.event.KafkaConsumerBatchEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class KafkaConsumerBatchEventInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private final ThreadLocal<KafkaConsumerBatchEvent> currentBatchEvent = new ThreadLocal<>();
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        KafkaConsumerBatchEvent kafkaConsumerBatchEvent = new KafkaConsumerBatchEvent();
+        if (kafkaConsumerBatchEvent.isEnabled()) {
+            kafkaConsumerBatchEvent.begin();
+            currentBatchEvent.set(kafkaConsumerBatchEvent);
+        }
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        commitBatchEvent(records, true);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+        commitBatchEvent(records, false);
+    }
+
+    private void commitBatchEvent(ConsumerRecords<K, V> records, boolean successful) {
+        KafkaConsumerBatchEvent kafkaConsumerBatchEvent = currentBatchEvent.get();
+        if (kafkaConsumerBatchEvent == null) {
+            return;
+        }
+        currentBatchEvent.remove();
+        kafkaConsumerBatchEvent.end();
+        if (kafkaConsumerBatchEvent.shouldCommit()) {
+            kafkaConsumerBatchEvent.setTopics(records.partitions().stream()
+                    .map(TopicPartition::topic)
+                    .distinct()
+                    .collect(Collectors.joining(",")));
+            kafkaConsumerBatchEvent.setBatchSize(records.count());
+            kafkaConsumerBatchEvent.setSuccessful(successful);
+            kafkaConsumerBatchEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.kafka.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public final class KafkaConsumerHeaders {
+
+    private KafkaConsumerHeaders() {
+    }
+
+    public static String getHeaderAsString(List<Map<String, Object>> headers, int index, String headerName) {
+        if (headers == null || headers.size() <= index || headers.get(index) == null) {
+            return null;
+        }
+        Object value = headers.get(index).get(headerName);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+}
@@ -2,14 +2,17 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.KafkaConsumerBatchEventInterceptor;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 
 import java.io.Serializable;
@@ -21,11 +24,17 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ObjectProvider<ConsumerAwareRebalanceListener> consumerAwareRebalanceListener;
+    private final KafkaConsumerBatchEventInterceptor<K, V> kafkaConsumerBatchEventInterceptor;
 
     public KafkaConsumerConfig(KafkaConfigData kafkaConfigData,
-                               KafkaConsumerConfigData kafkaConsumerConfigData) {
+                               KafkaConsumerConfigData kafkaConsumerConfigData,
+                               ObjectProvider<ConsumerAwareRebalanceListener> consumerAwareRebalanceListener,
+                               KafkaConsumerBatchEventInterceptor<K, V> kafkaConsumerBatchEventInterceptor) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.consumerAwareRebalanceListener = consumerAwareRebalanceListener;
+        this.kafkaConsumerBatchEventInterceptor = kafkaConsumerBatchEventInterceptor;
     }
 
     @Bean
@@ -60,6 +69,9 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.setBatchInterceptor(kafkaConsumerBatchEventInterceptor);
+        consumerAwareRebalanceListener.ifAvailable(rebalanceListener ->
+                factory.getContainerProperties().setConsumerRebalanceListener(rebalanceListener));
         return factory;
     }
 }
@@ -0,0 +1,13 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model;
+@org.apache.avro.specific.AvroGenerated
+public enum FailureCode implements org.apache.avro.generic.GenericEnumSymbol<FailureCode> {
+  PAYMENT_PRICE_NOT_POSITIVE, INSUFFICIENT_CREDIT, INSUFFICIENT_CREDIT_HISTORY, CREDIT_HISTORY_MISMATCH, CREDIT_ENTRY_NOT_FOUND, ORDER_NOT_PAID, PRODUCT_NOT_AVAILABLE, ORDER_PRICE_NOT_CORRECT  ;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"FailureCode\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"symbols\":[\"PAYMENT_PRICE_NOT_POSITIVE\",\"INSUFFICIENT_CREDIT\",\"INSUFFICIENT_CREDIT_HISTORY\",\"CREDIT_HISTORY_MISMATCH\",\"CREDIT_ENTRY_NOT_FOUND\",\"ORDER_NOT_PAID\",\"PRODUCT_NOT_AVAILABLE\",\"ORDER_PRICE_NOT_CORRECT\"]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+}
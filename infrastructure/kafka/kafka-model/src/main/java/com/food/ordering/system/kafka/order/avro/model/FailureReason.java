@@ -0,0 +1,430 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class FailureReason extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 8380722580614998482L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"FailureReason\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"code\",\"type\":{\"type\":\"enum\",\"name\":\"FailureCode\",\"symbols\":[\"PAYMENT_PRICE_NOT_POSITIVE\",\"INSUFFICIENT_CREDIT\",\"INSUFFICIENT_CREDIT_HISTORY\",\"CREDIT_HISTORY_MISMATCH\",\"CREDIT_ENTRY_NOT_FOUND\",\"ORDER_NOT_PAID\",\"PRODUCT_NOT_AVAILABLE\",\"ORDER_PRICE_NOT_CORRECT\"]}},{\"name\":\"parameters\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<FailureReason> ENCODER =
+      new BinaryMessageEncoder<FailureReason>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<FailureReason> DECODER =
+      new BinaryMessageDecoder<FailureReason>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<FailureReason> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<FailureReason> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<FailureReason> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<FailureReason>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this FailureReason to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a FailureReason from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a FailureReason instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static FailureReason fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private com.food.ordering.system.kafka.order.avro.model.FailureCode code;
+  private java.util.List<java.lang.String> parameters;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public FailureReason() {}
+
+  /**
+   * All-args constructor.
+   * @param code The new value for code
+   * @param parameters The new value for parameters
+   */
+  public FailureReason(com.food.ordering.system.kafka.order.avro.model.FailureCode code, java.util.List<java.lang.String> parameters) {
+    this.code = code;
+    this.parameters = parameters;
+  }
+
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+  // Used by DatumWriter.  Applications should not call.
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return code;
+    case 1: return parameters;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: code = (com.food.ordering.system.kafka.order.avro.model.FailureCode)value$; break;
+    case 1: parameters = (java.util.List<java.lang.String>)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'code' field.
+   * @return The value of the 'code' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.FailureCode getCode() {
+    return code;
+  }
+
+
+  /**
+   * Sets the value of the 'code' field.
+   * @param value the value to set.
+   */
+  public void setCode(com.food.ordering.system.kafka.order.avro.model.FailureCode value) {
+    this.code = value;
+  }
+
+  /**
+   * Gets the value of the 'parameters' field.
+   * @return The value of the 'parameters' field.
+   */
+  public java.util.List<java.lang.String> getParameters() {
+    return parameters;
+  }
+
+
+  /**
+   * Sets the value of the 'parameters' field.
+   * @param value the value to set.
+   */
+  public void setParameters(java.util.List<java.lang.String> value) {
+    this.parameters = value;
+  }
+
+  /**
+   * Creates a new FailureReason RecordBuilder.
+   * @return A new FailureReason RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder();
+  }
+
+  /**
+   * Creates a new FailureReason RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new FailureReason RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new FailureReason RecordBuilder by copying an existing FailureReason instance.
+   * @param other The existing instance to copy.
+   * @return A new FailureReason RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.FailureReason other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for FailureReason instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<FailureReason>
+    implements org.apache.avro.data.RecordBuilder<FailureReason> {
+
+    private com.food.ordering.system.kafka.order.avro.model.FailureCode code;
+    private java.util.List<java.lang.String> parameters;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.code)) {
+        this.code = data().deepCopy(fields()[0].schema(), other.code);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.parameters)) {
+        this.parameters = data().deepCopy(fields()[1].schema(), other.parameters);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing FailureReason instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.FailureReason other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.code)) {
+        this.code = data().deepCopy(fields()[0].schema(), other.code);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.parameters)) {
+        this.parameters = data().deepCopy(fields()[1].schema(), other.parameters);
+        fieldSetFlags()[1] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'code' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.FailureCode getCode() {
+      return code;
+    }
+
+
+    /**
+      * Sets the value of the 'code' field.
+      * @param value The value of 'code'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder setCode(com.food.ordering.system.kafka.order.avro.model.FailureCode value) {
+      validate(fields()[0], value);
+      this.code = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'code' field has been set.
+      * @return True if the 'code' field has been set, false otherwise.
+      */
+    public boolean hasCode() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'code' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder clearCode() {
+      code = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'parameters' field.
+      * @return The value.
+      */
+    public java.util.List<java.lang.String> getParameters() {
+      return parameters;
+    }
+
+
+    /**
+      * Sets the value of the 'parameters' field.
+      * @param value The value of 'parameters'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder setParameters(java.util.List<java.lang.String> value) {
+      validate(fields()[1], value);
+      this.parameters = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'parameters' field has been set.
+      * @return True if the 'parameters' field has been set, false otherwise.
+      */
+    public boolean hasParameters() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'parameters' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.FailureReason.Builder clearParameters() {
+      parameters = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FailureReason build() {
+      try {
+        FailureReason record = new FailureReason();
+        record.code = fieldSetFlags()[0] ? this.code : (com.food.ordering.system.kafka.order.avro.model.FailureCode) defaultValue(fields()[0]);
+        record.parameters = fieldSetFlags()[1] ? this.parameters : (java.util.List<java.lang.String>) defaultValue(fields()[1]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<FailureReason>
+    WRITER$ = (org.apache.avro.io.DatumWriter<FailureReason>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<FailureReason>
+    READER$ = (org.apache.avro.io.DatumReader<FailureReason>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeEnum(this.code.ordinal());
+
+    long size0 = this.parameters.size();
+    out.writeArrayStart();
+    out.setItemCount(size0);
+    long actualSize0 = 0;
+    for (java.lang.String e0: this.parameters) {
+      actualSize0++;
+      out.startItem();
+      out.writeString(e0);
+    }
+    out.writeArrayEnd();
+    if (actualSize0 != size0)
+      throw new java.util.ConcurrentModificationException("Array-size written was " + size0 + ", but element count was " + actualSize0 + ".");
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.code = com.food.ordering.system.kafka.order.avro.model.FailureCode.values()[in.readEnum()];
+
+      long size0 = in.readArrayStart();
+      java.util.List<java.lang.String> a0 = this.parameters;
+      if (a0 == null) {
+        a0 = new SpecificData.Array<java.lang.String>((int)size0, SCHEMA$.getField("parameters").schema());
+        this.parameters = a0;
+      } else a0.clear();
+      SpecificData.Array<java.lang.String> ga0 = (a0 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.String>)a0 : null);
+      for ( ; 0 < size0; size0 = in.arrayNext()) {
+        for ( ; size0 != 0; size0--) {
+          java.lang.String e0 = (ga0 != null ? ga0.peek() : null);
+          e0 = in.readString();
+          a0.add(e0);
+        }
+      }
+
+    } else {
+      for (int i = 0; i < 2; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.code = com.food.ordering.system.kafka.order.avro.model.FailureCode.values()[in.readEnum()];
+          break;
+
+        case 1:
+          long size0 = in.readArrayStart();
+          java.util.List<java.lang.String> a0 = this.parameters;
+          if (a0 == null) {
+            a0 = new SpecificData.Array<java.lang.String>((int)size0, SCHEMA$.getField("parameters").schema());
+            this.parameters = a0;
+          } else a0.clear();
+          SpecificData.Array<java.lang.String> ga0 = (a0 instanceof SpecificData.Array ? (SpecificData.Array<java.lang.String>)a0 : null);
+          for ( ; 0 < size0; size0 = in.arrayNext()) {
+            for ( ; size0 != 0; size0--) {
+              java.lang.String e0 = (ga0 != null ? ga0.peek() : null);
+              e0 = in.readString();
+              a0.add(e0);
+            }
+          }
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -2126784712017759782L;
+  private static final long serialVersionUID = 6674598235734226601L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"paymentId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"paymentId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"Deprecated, rendered from failureReasons for readers of the previous schema\",\"default\":[]},{\"name\":\"failureReasons\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"FailureReason\",\"fields\":[{\"name\":\"code\",\"type\":{\"type\":\"enum\",\"name\":\"FailureCode\",\"symbols\":[\"PAYMENT_PRICE_NOT_POSITIVE\",\"INSUFFICIENT_CREDIT\",\"INSUFFICIENT_CREDIT_HISTORY\",\"CREDIT_HISTORY_MISMATCH\",\"CREDIT_ENTRY_NOT_FOUND\",\"ORDER_NOT_PAID\",\"PRODUCT_NOT_AVAILABLE\",\"ORDER_PRICE_NOT_CORRECT\"]}},{\"name\":\"parameters\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}},\"default\":[]}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -85,7 +85,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
   private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
+  /** Deprecated, rendered from failureReasons for readers of the previous schema */
   private java.util.List<java.lang.String> failureMessages;
+  private java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -104,9 +106,10 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
    * @param price The new value for price
    * @param createdAt The new value for createdAt
    * @param paymentStatus The new value for paymentStatus
-   * @param failureMessages The new value for failureMessages
+   * @param failureMessages Deprecated, rendered from failureReasons for readers of the previous schema
+   * @param failureReasons The new value for failureReasons
    */
-  public PaymentResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String paymentId, java.lang.String customerId, java.lang.String orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus, java.util.List<java.lang.String> failureMessages) {
+  public PaymentResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String paymentId, java.lang.String customerId, java.lang.String orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus, java.util.List<java.lang.String> failureMessages, java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons) {
     this.id = id;
     this.sagaId = sagaId;
     this.paymentId = paymentId;
@@ -116,6 +119,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     this.paymentStatus = paymentStatus;
     this.failureMessages = failureMessages;
+    this.failureReasons = failureReasons;
   }
 
   public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
@@ -132,6 +136,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     case 6: return createdAt;
     case 7: return paymentStatus;
     case 8: return failureMessages;
+    case 9: return failureReasons;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -147,6 +152,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null,
       null,
+      null,
       null
   };
 
@@ -168,6 +174,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     case 6: createdAt = (java.time.Instant)value$; break;
     case 7: paymentStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentStatus)value$; break;
     case 8: failureMessages = (java.util.List<java.lang.String>)value$; break;
+    case 9: failureReasons = (java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -310,7 +317,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
   /**
    * Gets the value of the 'failureMessages' field.
-   * @return The value of the 'failureMessages' field.
+   * @return Deprecated, rendered from failureReasons for readers of the previous schema
    */
   public java.util.List<java.lang.String> getFailureMessages() {
     return failureMessages;
@@ -319,12 +326,30 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
   /**
    * Sets the value of the 'failureMessages' field.
+   * Deprecated, rendered from failureReasons for readers of the previous schema
    * @param value the value to set.
    */
   public void setFailureMessages(java.util.List<java.lang.String> value) {
     this.failureMessages = value;
   }
 
+  /**
+   * Gets the value of the 'failureReasons' field.
+   * @return The value of the 'failureReasons' field.
+   */
+  public java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> getFailureReasons() {
+    return failureReasons;
+  }
+
+
+  /**
+   * Sets the value of the 'failureReasons' field.
+   * @param value the value to set.
+   */
+  public void setFailureReasons(java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> value) {
+    this.failureReasons = value;
+  }
+
   /**
    * Creates a new PaymentResponseAvroModel RecordBuilder.
    * @return A new PaymentResponseAvroModel RecordBuilder
@@ -374,7 +399,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
     private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
+    /** Deprecated, rendered from failureReasons for readers of the previous schema */
     private java.util.List<java.lang.String> failureMessages;
+    private java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons;
 
     /** Creates a new Builder */
     private Builder() {
@@ -423,6 +450,10 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
         this.failureMessages = data().deepCopy(fields()[8].schema(), other.failureMessages);
         fieldSetFlags()[8] = other.fieldSetFlags()[8];
       }
+      if (isValidValue(fields()[9], other.failureReasons)) {
+        this.failureReasons = data().deepCopy(fields()[9].schema(), other.failureReasons);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
     }
 
     /**
@@ -467,6 +498,10 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
         this.failureMessages = data().deepCopy(fields()[8].schema(), other.failureMessages);
         fieldSetFlags()[8] = true;
       }
+      if (isValidValue(fields()[9], other.failureReasons)) {
+        this.failureReasons = data().deepCopy(fields()[9].schema(), other.failureReasons);
+        fieldSetFlags()[9] = true;
+      }
     }
 
     /**
@@ -790,6 +825,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
     /**
       * Gets the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return The value.
       */
     public java.util.List<java.lang.String> getFailureMessages() {
@@ -799,6 +835,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
     /**
       * Sets the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @param value The value of 'failureMessages'.
       * @return This builder.
       */
@@ -811,6 +848,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
     /**
       * Checks whether the 'failureMessages' field has been set.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return True if the 'failureMessages' field has been set, false otherwise.
       */
     public boolean hasFailureMessages() {
@@ -820,6 +858,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
 
     /**
       * Clears the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearFailureMessages() {
@@ -828,6 +867,46 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       return this;
     }
 
+    /**
+      * Gets the value of the 'failureReasons' field.
+      * @return The value.
+      */
+    public java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> getFailureReasons() {
+      return failureReasons;
+    }
+
+
+    /**
+      * Sets the value of the 'failureReasons' field.
+      * @param value The value of 'failureReasons'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setFailureReasons(java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> value) {
+      validate(fields()[9], value);
+      this.failureReasons = value;
+      fieldSetFlags()[9] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'failureReasons' field has been set.
+      * @return True if the 'failureReasons' field has been set, false otherwise.
+      */
+    public boolean hasFailureReasons() {
+      return fieldSetFlags()[9];
+    }
+
+
+    /**
+      * Clears the value of the 'failureReasons' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearFailureReasons() {
+      failureReasons = null;
+      fieldSetFlags()[9] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public PaymentResponseAvroModel build() {
@@ -842,6 +921,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
         record.createdAt = fieldSetFlags()[6] ? this.createdAt : (java.time.Instant) defaultValue(fields()[6]);
         record.paymentStatus = fieldSetFlags()[7] ? this.paymentStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentStatus) defaultValue(fields()[7]);
         record.failureMessages = fieldSetFlags()[8] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[8]);
+        record.failureReasons = fieldSetFlags()[9] ? this.failureReasons : (java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason>) defaultValue(fields()[9]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3431989201238018220L;
+  private static final long serialVersionUID = 7893410962207874390L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},\"doc\":\"Deprecated, rendered from failureReasons for readers of the previous schema\",\"default\":[]},{\"name\":\"failureReasons\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"FailureReason\",\"fields\":[{\"name\":\"code\",\"type\":{\"type\":\"enum\",\"name\":\"FailureCode\",\"symbols\":[\"PAYMENT_PRICE_NOT_POSITIVE\",\"INSUFFICIENT_CREDIT\",\"INSUFFICIENT_CREDIT_HISTORY\",\"CREDIT_HISTORY_MISMATCH\",\"CREDIT_ENTRY_NOT_FOUND\",\"ORDER_NOT_PAID\",\"PRODUCT_NOT_AVAILABLE\",\"ORDER_PRICE_NOT_CORRECT\"]}},{\"name\":\"parameters\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}},\"default\":[]}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -82,7 +82,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   private java.lang.String orderId;
   private java.time.Instant createdAt;
   private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
+  /** Deprecated, rendered from failureReasons for readers of the previous schema */
   private java.util.List<java.lang.String> failureMessages;
+  private java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -99,9 +101,10 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
    * @param orderId The new value for orderId
    * @param createdAt The new value for createdAt
    * @param orderApprovalStatus The new value for orderApprovalStatus
-   * @param failureMessages The new value for failureMessages
+   * @param failureMessages Deprecated, rendered from failureReasons for readers of the previous schema
+   * @param failureReasons The new value for failureReasons
    */
-  public RestaurantApprovalResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String restaurantId, java.lang.String orderId, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus, java.util.List<java.lang.String> failureMessages) {
+  public RestaurantApprovalResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String restaurantId, java.lang.String orderId, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus, java.util.List<java.lang.String> failureMessages, java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons) {
     this.id = id;
     this.sagaId = sagaId;
     this.restaurantId = restaurantId;
@@ -109,6 +112,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     this.orderApprovalStatus = orderApprovalStatus;
     this.failureMessages = failureMessages;
+    this.failureReasons = failureReasons;
   }
 
   public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
@@ -123,6 +127,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     case 4: return createdAt;
     case 5: return orderApprovalStatus;
     case 6: return failureMessages;
+    case 7: return failureReasons;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -136,6 +141,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null,
       null,
+      null,
       null
   };
 
@@ -155,6 +161,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     case 4: createdAt = (java.time.Instant)value$; break;
     case 5: orderApprovalStatus = (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus)value$; break;
     case 6: failureMessages = (java.util.List<java.lang.String>)value$; break;
+    case 7: failureReasons = (java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -263,7 +270,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
   /**
    * Gets the value of the 'failureMessages' field.
-   * @return The value of the 'failureMessages' field.
+   * @return Deprecated, rendered from failureReasons for readers of the previous schema
    */
   public java.util.List<java.lang.String> getFailureMessages() {
     return failureMessages;
@@ -272,12 +279,30 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
   /**
    * Sets the value of the 'failureMessages' field.
+   * Deprecated, rendered from failureReasons for readers of the previous schema
    * @param value the value to set.
    */
   public void setFailureMessages(java.util.List<java.lang.String> value) {
     this.failureMessages = value;
   }
 
+  /**
+   * Gets the value of the 'failureReasons' field.
+   * @return The value of the 'failureReasons' field.
+   */
+  public java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> getFailureReasons() {
+    return failureReasons;
+  }
+
+
+  /**
+   * Sets the value of the 'failureReasons' field.
+   * @param value the value to set.
+   */
+  public void setFailureReasons(java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> value) {
+    this.failureReasons = value;
+  }
+
   /**
    * Creates a new RestaurantApprovalResponseAvroModel RecordBuilder.
    * @return A new RestaurantApprovalResponseAvroModel RecordBuilder
@@ -325,7 +350,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     private java.lang.String orderId;
     private java.time.Instant createdAt;
     private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
+    /** Deprecated, rendered from failureReasons for readers of the previous schema */
     private java.util.List<java.lang.String> failureMessages;
+    private java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasons;
 
     /** Creates a new Builder */
     private Builder() {
@@ -366,6 +393,10 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
         this.failureMessages = data().deepCopy(fields()[6].schema(), other.failureMessages);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
+      if (isValidValue(fields()[7], other.failureReasons)) {
+        this.failureReasons = data().deepCopy(fields()[7].schema(), other.failureReasons);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
     }
 
     /**
@@ -402,6 +433,10 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
         this.failureMessages = data().deepCopy(fields()[6].schema(), other.failureMessages);
         fieldSetFlags()[6] = true;
       }
+      if (isValidValue(fields()[7], other.failureReasons)) {
+        this.failureReasons = data().deepCopy(fields()[7].schema(), other.failureReasons);
+        fieldSetFlags()[7] = true;
+      }
     }
 
     /**
@@ -645,6 +680,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
     /**
       * Gets the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return The value.
       */
     public java.util.List<java.lang.String> getFailureMessages() {
@@ -654,6 +690,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
     /**
       * Sets the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @param value The value of 'failureMessages'.
       * @return This builder.
       */
@@ -666,6 +703,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
     /**
       * Checks whether the 'failureMessages' field has been set.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return True if the 'failureMessages' field has been set, false otherwise.
       */
     public boolean hasFailureMessages() {
@@ -675,6 +713,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
 
     /**
       * Clears the value of the 'failureMessages' field.
+      * Deprecated, rendered from failureReasons for readers of the previous schema
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearFailureMessages() {
@@ -683,6 +722,46 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       return this;
     }
 
+    /**
+      * Gets the value of the 'failureReasons' field.
+      * @return The value.
+      */
+    public java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> getFailureReasons() {
+      return failureReasons;
+    }
+
+
+    /**
+      * Sets the value of the 'failureReasons' field.
+      * @param value The value of 'failureReasons'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setFailureReasons(java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason> value) {
+      validate(fields()[7], value);
+      this.failureReasons = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'failureReasons' field has been set.
+      * @return True if the 'failureReasons' field has been set, false otherwise.
+      */
+    public boolean hasFailureReasons() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'failureReasons' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearFailureReasons() {
+      failureReasons = null;
+      fieldSetFlags()[7] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public RestaurantApprovalResponseAvroModel build() {
@@ -695,6 +774,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
         record.createdAt = fieldSetFlags()[4] ? this.createdAt : (java.time.Instant) defaultValue(fields()[4]);
         record.orderApprovalStatus = fieldSetFlags()[5] ? this.orderApprovalStatus : (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus) defaultValue(fields()[5]);
         record.failureMessages = fieldSetFlags()[6] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[6]);
+        record.failureReasons = fieldSetFlags()[7] ? this.failureReasons : (java.util.List<com.food.ordering.system.kafka.order.avro.model.FailureReason>) defaultValue(fields()[7]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
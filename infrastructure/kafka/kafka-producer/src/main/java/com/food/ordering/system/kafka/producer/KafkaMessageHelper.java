@@ -2,6 +2,9 @@ package com.food.ordering.system.kafka.producer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.config.data.PartitionKeyStrategy;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.outbox.OutboxStatus;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +19,14 @@ import java.util.function.BiConsumer;
 @Component
 public class KafkaMessageHelper {
 
+    private static final SampledLogger SEND_SUCCESS_LOG = SampledLogger.of(log, "kafka.producer.send-success");
+
     private final ObjectMapper objectMapper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
-    public KafkaMessageHelper(ObjectMapper objectMapper) {
+    public KafkaMessageHelper(ObjectMapper objectMapper, KafkaProducerConfigData kafkaProducerConfigData) {
         this.objectMapper = objectMapper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     public <T> T getOrderEventPayload(String payload, Class<T> outputType) {
@@ -31,6 +38,14 @@ public class KafkaMessageHelper {
         }
     }
 
+    public String getPartitionKey(String sagaId, String affinityKey) {
+        if (PartitionKeyStrategy.AFFINITY_KEY == kafkaProducerConfigData.getPartitionKeyStrategy() &&
+                affinityKey != null) {
+            return affinityKey;
+        }
+        return sagaId;
+    }
+
     public <T, U> ListenableFutureCallback<SendResult<String, T>>
     getKafkaCallback(String responseTopicName, T avroModel, U outboxMessage,
                      BiConsumer<U, OutboxStatus> outboxCallback,
@@ -46,7 +61,7 @@ public class KafkaMessageHelper {
             @Override
             public void onSuccess(SendResult<String, T> result) {
                 RecordMetadata metadata = result.getRecordMetadata();
-                log.info("Received successful response from Kafka for order id: {}" +
+                SEND_SUCCESS_LOG.info("Received successful response from Kafka for order id: {}" +
                                 " Topic: {} Partition: {} Offset: {} Timestamp: {}",
                         orderId,
                         metadata.topic(),
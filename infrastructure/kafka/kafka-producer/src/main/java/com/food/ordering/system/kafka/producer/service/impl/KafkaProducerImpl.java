@@ -1,9 +1,14 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.flightrecorder.event.KafkaProducerSendEvent;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -13,27 +18,48 @@ import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import javax.annotation.PreDestroy;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
+    private static final SampledLogger SEND_LOG = SampledLogger.of(log, "kafka.producer.send");
+
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final Tracer tracer;
 
-    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, Tracer tracer) {
         this.kafkaTemplate = kafkaTemplate;
+        this.tracer = tracer;
     }
 
     @Override
     public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
-        log.info("Sending message={} to topic={}", message, topicName);
-        try {
-            ListenableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
+        log.debug("Sending message={} to topic={}", message, topicName);
+        SEND_LOG.info("Sending message with key={} to topic={}", key, topicName);
+        KafkaProducerSendEvent kafkaProducerSendEvent = new KafkaProducerSendEvent(topicName);
+        kafkaProducerSendEvent.begin();
+        try (Span span = tracer.startSpan("KafkaProducer.send")) {
+            span.setAttribute("topic", topicName);
+            ProducerRecord<K, V> producerRecord = new ProducerRecord<>(topicName, key, message);
+            producerRecord.headers().add(TRACE_PARENT_HEADER, span.getTraceParent().getBytes(StandardCharsets.UTF_8));
+            ListenableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(producerRecord);
             kafkaResultFuture.addCallback(callback);
+            kafkaProducerSendEvent.setSuccessful(true);
+            span.setSuccessful(true);
         } catch (KafkaException e) {
             log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
                     e.getMessage());
             throw new KafkaProducerException("Error on kafka producer with key: " + key + " and message: " + message);
+        } finally {
+            kafkaProducerSendEvent.end();
+            if (kafkaProducerSendEvent.shouldCommit()) {
+                kafkaProducerSendEvent.setKey(String.valueOf(key));
+                kafkaProducerSendEvent.commit();
+            }
         }
     }
 
@@ -0,0 +1,69 @@
+package com.food.ordering.system.local.messaging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+class BoundedMpscQueue<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private long consumerIndex;
+
+    BoundedMpscQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int slot = 0; slot < size; slot++) {
+            sequences.set(slot, slot);
+        }
+    }
+
+    boolean offer(E element) {
+        long index = producerIndex.get();
+        while (true) {
+            int slot = (int) index & mask;
+            long available = sequences.getAcquire(slot) - index;
+            if (available == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements.setPlain(slot, element);
+                    sequences.setRelease(slot, index + 1);
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                index = producerIndex.get();
+            }
+        }
+    }
+
+    int drainTo(List<E> batch, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            int slot = (int) consumerIndex & mask;
+            if (sequences.getAcquire(slot) != consumerIndex + 1) {
+                break;
+            }
+            batch.add(elements.getPlain(slot));
+            elements.setPlain(slot, null);
+            sequences.setRelease(slot, consumerIndex + mask + 1);
+            consumerIndex++;
+            drained++;
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) consumerIndex & mask) != consumerIndex + 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.local.messaging;
+
+import com.food.ordering.system.local.messaging.config.LocalMessagingConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class LocalMessageBus implements DisposableBean {
+
+    private final Map<String, LocalTopic<?>> topics = new ConcurrentHashMap<>();
+    private final LocalMessagingConfigData localMessagingConfigData;
+
+    public LocalMessageBus(LocalMessagingConfigData localMessagingConfigData) {
+        this.localMessagingConfigData = localMessagingConfigData;
+    }
+
+    public <T> void send(String topicName, String key, T message) {
+        this.<T>getTopic(topicName).send(key, message);
+    }
+
+    public <T> void subscribe(String topicName, LocalMessageConsumer<T> consumer) {
+        this.<T>getTopic(topicName).subscribe(consumer);
+        log.info("Subscribed to local topic {} with {} partitions", topicName,
+                localMessagingConfigData.getNumOfPartitions());
+    }
+
+    public <T> List<T> getParkedMessages(String topicName) {
+        return this.<T>getTopic(topicName).getParkedMessages();
+    }
+
+    @Override
+    public void destroy() {
+        log.info("Closing {} local topics", topics.size());
+        long closeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(localMessagingConfigData.getCloseTimeoutMs());
+        topics.values().forEach(topic -> topic.close(closeTimeoutNanos));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> LocalTopic<T> getTopic(String topicName) {
+        return (LocalTopic<T>) topics.computeIfAbsent(topicName, name -> new LocalTopic<>(name,
+                localMessagingConfigData.getNumOfPartitions(),
+                localMessagingConfigData.getPartitionQueueCapacity(),
+                localMessagingConfigData.getMaxBatchSize(),
+                TimeUnit.MILLISECONDS.toNanos(localMessagingConfigData.getSendTimeoutMs()),
+                TimeUnit.MICROSECONDS.toNanos(localMessagingConfigData.getIdleWaitMicros()),
+                localMessagingConfigData.getMaxRedeliveries(),
+                TimeUnit.MILLISECONDS.toNanos(localMessagingConfigData.getRedeliveryBackoffMs())));
+    }
+}
@@ -0,0 +1,7 @@
+package com.food.ordering.system.local.messaging;
+
+import java.util.List;
+
+public interface LocalMessageConsumer<T> {
+    void receive(List<T> messages, int partition);
+}
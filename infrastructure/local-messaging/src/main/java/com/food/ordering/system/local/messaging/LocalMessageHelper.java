@@ -0,0 +1,27 @@
+package com.food.ordering.system.local.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.local.messaging.exception.LocalMessagingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LocalMessageHelper {
+
+    private final ObjectMapper objectMapper;
+
+    public LocalMessageHelper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T getOrderEventPayload(String payload, Class<T> outputType) {
+        try {
+            return objectMapper.readValue(payload, outputType);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read {} object!", outputType.getName(), e);
+            throw new LocalMessagingException("Could not read " + outputType.getName() + " object!", e);
+        }
+    }
+}
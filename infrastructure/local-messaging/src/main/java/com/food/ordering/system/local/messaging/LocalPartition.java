@@ -0,0 +1,142 @@
+package com.food.ordering.system.local.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+class LocalPartition<T> {
+
+    private final String topicName;
+    private final int partition;
+    private final BoundedMpscQueue<T> messages;
+    private final int maxBatchSize;
+    private final long idleWaitNanos;
+    private final int maxRedeliveries;
+    private final long redeliveryBackoffNanos;
+    private final ConcurrentLinkedQueue<T> parkedMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlightOffers = new AtomicInteger();
+    private volatile boolean running = true;
+    private volatile boolean consumerWaiting;
+    private volatile Thread consumerThread;
+
+    LocalPartition(String topicName, int partition, int capacity, int maxBatchSize, long idleWaitNanos,
+                   int maxRedeliveries, long redeliveryBackoffNanos) {
+        this.topicName = topicName;
+        this.partition = partition;
+        this.messages = new BoundedMpscQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.idleWaitNanos = idleWaitNanos;
+        this.maxRedeliveries = maxRedeliveries;
+        this.redeliveryBackoffNanos = redeliveryBackoffNanos;
+    }
+
+    boolean offer(T message) {
+        inFlightOffers.incrementAndGet();
+        try {
+            if (!running || !messages.offer(message)) {
+                return false;
+            }
+        } finally {
+            inFlightOffers.decrementAndGet();
+        }
+        if (consumerWaiting) {
+            LockSupport.unpark(consumerThread);
+        }
+        return true;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void start(LocalMessageConsumer<T> consumer) {
+        Thread thread = new Thread(() -> consume(consumer), "local-" + topicName + "-" + partition);
+        thread.setDaemon(true);
+        consumerThread = thread;
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        Thread thread = consumerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void awaitStopped(long deadline) {
+        Thread thread = consumerThread;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.error("Consumer of topic {} and partition {} did not drain its messages before close",
+                    topicName, partition);
+        } else if (!parkedMessages.isEmpty()) {
+            log.error("Consumer of topic {} and partition {} is closed with {} parked messages",
+                    topicName, partition, parkedMessages.size());
+        }
+    }
+
+    List<T> getParkedMessages() {
+        return new ArrayList<>(parkedMessages);
+    }
+
+    int capacity() {
+        return messages.capacity();
+    }
+
+    private void consume(LocalMessageConsumer<T> consumer) {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        while (running || inFlightOffers.get() > 0 || !messages.isEmpty()) {
+            if (messages.drainTo(batch, maxBatchSize) == 0) {
+                consumerWaiting = true;
+                if (messages.isEmpty() && running) {
+                    LockSupport.parkNanos(this, idleWaitNanos);
+                } else {
+                    Thread.onSpinWait();
+                }
+                consumerWaiting = false;
+                continue;
+            }
+            if (!deliver(consumer, batch)) {
+                for (T message : batch) {
+                    if (batch.size() == 1 || !deliver(consumer, List.of(message))) {
+                        parkedMessages.add(message);
+                        log.error("Parked message from topic {} and partition {} after {} redeliveries",
+                                topicName, partition, maxRedeliveries);
+                    }
+                }
+            }
+            batch = new ArrayList<>(maxBatchSize);
+        }
+        log.info("Consumer of topic {} and partition {} is stopped", topicName, partition);
+    }
+
+    private boolean deliver(LocalMessageConsumer<T> consumer, List<T> batch) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                consumer.receive(batch, partition);
+                return true;
+            } catch (RuntimeException e) {
+                log.error("Error while consuming {} messages from topic {} and partition {}, attempt: {}",
+                        batch.size(), topicName, partition, attempt + 1, e);
+                if (attempt >= maxRedeliveries) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, redeliveryBackoffNanos << Math.min(attempt, 10));
+            }
+        }
+    }
+}
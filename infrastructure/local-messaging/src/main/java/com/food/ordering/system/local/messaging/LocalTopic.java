@@ -0,0 +1,92 @@
+package com.food.ordering.system.local.messaging;
+
+import com.food.ordering.system.local.messaging.exception.LocalMessagingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+class LocalTopic<T> {
+
+    private static final int MAX_SPINS = 100;
+
+    private final String name;
+    private final LocalPartition<T>[] partitions;
+    private final long sendTimeoutNanos;
+    private final long idleWaitNanos;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    @SuppressWarnings("unchecked")
+    LocalTopic(String name, int numOfPartitions, int partitionQueueCapacity, int maxBatchSize,
+               long sendTimeoutNanos, long idleWaitNanos, int maxRedeliveries, long redeliveryBackoffNanos) {
+        this.name = name;
+        this.partitions = new LocalPartition[numOfPartitions];
+        for (int partition = 0; partition < numOfPartitions; partition++) {
+            partitions[partition] = new LocalPartition<>(name, partition, partitionQueueCapacity, maxBatchSize,
+                    idleWaitNanos, maxRedeliveries, redeliveryBackoffNanos);
+        }
+        this.sendTimeoutNanos = sendTimeoutNanos;
+        this.idleWaitNanos = idleWaitNanos;
+    }
+
+    void send(String key, T message) {
+        LocalPartition<T> partition = partitions[partitionFor(key)];
+        if (partition.offer(message)) {
+            return;
+        }
+        long deadline = System.nanoTime() + sendTimeoutNanos;
+        int spins = 0;
+        while (!partition.offer(message)) {
+            if (!partition.isRunning()) {
+                throw new LocalMessagingException("Topic " + name + " is closed!");
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new LocalMessagingException("Could not send message with key " + key + " to topic " + name +
+                        " in " + TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos) + " ms, partition capacity " +
+                        partition.capacity() + " is exhausted!");
+            }
+            if (++spins < MAX_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(idleWaitNanos);
+            }
+        }
+    }
+
+    void subscribe(LocalMessageConsumer<T> consumer) {
+        if (!subscribed.compareAndSet(false, true)) {
+            throw new LocalMessagingException("Topic " + name + " already has a consumer!");
+        }
+        for (LocalPartition<T> partition : partitions) {
+            partition.start(consumer);
+        }
+    }
+
+    void close(long closeTimeoutNanos) {
+        for (LocalPartition<T> partition : partitions) {
+            partition.stop();
+        }
+        long deadline = System.nanoTime() + closeTimeoutNanos;
+        for (LocalPartition<T> partition : partitions) {
+            partition.awaitStopped(deadline);
+        }
+    }
+
+    List<T> getParkedMessages() {
+        List<T> parkedMessages = new ArrayList<>();
+        for (LocalPartition<T> partition : partitions) {
+            parkedMessages.addAll(partition.getParkedMessages());
+        }
+        return parkedMessages;
+    }
+
+    int partitionFor(String key) {
+        if (key == null) {
+            return ThreadLocalRandom.current().nextInt(partitions.length);
+        }
+        return Math.floorMod(key.hashCode(), partitions.length);
+    }
+}
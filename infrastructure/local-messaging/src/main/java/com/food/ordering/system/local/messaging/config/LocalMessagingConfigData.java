@@ -0,0 +1,19 @@
+package com.food.ordering.system.local.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "local-messaging-config")
+public class LocalMessagingConfigData {
+    private Integer numOfPartitions;
+    private Integer partitionQueueCapacity;
+    private Integer maxBatchSize;
+    private Long sendTimeoutMs;
+    private Long idleWaitMicros;
+    private Integer maxRedeliveries;
+    private Long redeliveryBackoffMs;
+    private Long closeTimeoutMs;
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.local.messaging.exception;
+
+public class LocalMessagingException extends RuntimeException {
+
+    public LocalMessagingException(String message) {
+        super(message);
+    }
+
+    public LocalMessagingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.local.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerMessage {
+    private final String id;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+}
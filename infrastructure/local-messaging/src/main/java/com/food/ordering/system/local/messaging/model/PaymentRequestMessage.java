@@ -0,0 +1,22 @@
+package com.food.ordering.system.local.messaging.model;
+
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentRequestMessage {
+    private final String id;
+    private final String sagaId;
+    private final String customerId;
+    private final String orderId;
+    private final BigDecimal price;
+    private final Instant createdAt;
+    private final PaymentOrderStatus paymentOrderStatus;
+}
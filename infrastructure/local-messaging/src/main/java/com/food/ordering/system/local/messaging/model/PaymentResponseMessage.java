@@ -0,0 +1,26 @@
+package com.food.ordering.system.local.messaging.model;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentResponseMessage {
+    private final String id;
+    private final String sagaId;
+    private final String paymentId;
+    private final String customerId;
+    private final String orderId;
+    private final BigDecimal price;
+    private final Instant createdAt;
+    private final PaymentStatus paymentStatus;
+    private final List<FailureReason> failureReasons;
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.local.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductMessage {
+    private final String id;
+    private final Integer quantity;
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.local.messaging.model;
+
+import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RestaurantApprovalRequestMessage {
+    private final String id;
+    private final String sagaId;
+    private final String restaurantId;
+    private final String orderId;
+    private final RestaurantOrderStatus restaurantOrderStatus;
+    private final List<ProductMessage> products;
+    private final BigDecimal price;
+    private final Instant createdAt;
+}
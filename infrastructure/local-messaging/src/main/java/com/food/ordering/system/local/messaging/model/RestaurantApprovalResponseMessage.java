@@ -0,0 +1,23 @@
+package com.food.ordering.system.local.messaging.model;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RestaurantApprovalResponseMessage {
+    private final String id;
+    private final String sagaId;
+    private final String orderId;
+    private final String restaurantId;
+    private final Instant createdAt;
+    private final OrderApprovalStatus orderApprovalStatus;
+    private final List<FailureReason> failureReasons;
+}
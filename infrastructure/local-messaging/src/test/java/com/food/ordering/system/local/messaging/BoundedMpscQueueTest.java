@@ -0,0 +1,87 @@
+package com.food.ordering.system.local.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedMpscQueueTest {
+
+    @Test
+    public void testCapacityIsRoundedToPowerOfTwo() {
+        assertEquals(2, new BoundedMpscQueue<Integer>(1).capacity());
+        assertEquals(8, new BoundedMpscQueue<Integer>(5).capacity());
+        assertEquals(8, new BoundedMpscQueue<Integer>(8).capacity());
+    }
+
+    @Test
+    public void testOfferIsRejectedWhenFullAndAcceptedAfterDrain() {
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(2, queue.drainTo(batch, 2));
+        assertTrue(queue.offer(4));
+        assertTrue(queue.offer(5));
+        assertFalse(queue.offer(6));
+
+        assertEquals(4, queue.drainTo(batch, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), batch);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducersLoseNoMessages() throws Exception {
+        int producers = 4;
+        int messagesPerProducer = 2000;
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(64);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            int offset = producer * messagesPerProducer;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    while (!queue.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        List<Integer> consumed = new ArrayList<>();
+        while (consumed.size() < producers * messagesPerProducer) {
+            queue.drainTo(consumed, 32);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        Set<Integer> unique = new HashSet<>(consumed);
+        assertEquals(producers * messagesPerProducer, unique.size());
+        assertTrue(queue.isEmpty());
+        int[] lastByProducer = new int[producers];
+        Arrays.fill(lastByProducer, -1);
+        for (Integer message : consumed) {
+            int producer = message / messagesPerProducer;
+            assertTrue(message > lastByProducer[producer]);
+            lastByProducer[producer] = message;
+        }
+    }
+}
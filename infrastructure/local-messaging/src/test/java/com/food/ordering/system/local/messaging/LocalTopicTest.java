@@ -0,0 +1,181 @@
+package com.food.ordering.system.local.messaging;
+
+import com.food.ordering.system.local.messaging.exception.LocalMessagingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalTopicTest {
+
+    private final long SEND_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private final long IDLE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final long REDELIVERY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final long CLOSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private final int PRODUCERS = 4;
+
+    private LocalTopic<String> topic;
+
+    @AfterEach
+    public void close() {
+        if (topic != null) {
+            topic.close(CLOSE_TIMEOUT_NANOS);
+        }
+    }
+
+    @Test
+    public void testMessagesWithSameKeyGoToSamePartitionInOrder() throws InterruptedException {
+        topic = new LocalTopic<>("test", 4, 16, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 0,
+                REDELIVERY_BACKOFF_NANOS);
+        Map<String, Set<Integer>> partitionsByKey = new ConcurrentHashMap<>();
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(40);
+        topic.subscribe((messages, partition) -> messages.forEach(message -> {
+            partitionsByKey.computeIfAbsent(message.split(":")[0], key -> ConcurrentHashMap.newKeySet())
+                    .add(partition);
+            received.add(message);
+            latch.countDown();
+        }));
+
+        for (int i = 0; i < 10; i++) {
+            for (String key : List.of("a", "b", "c", "d")) {
+                topic.send(key, key + ":" + i);
+            }
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        partitionsByKey.forEach((key, partitions) -> {
+            assertEquals(Set.of(topic.partitionFor(key)), partitions);
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received.stream()
+                    .filter(message -> message.startsWith(key + ":"))
+                    .map(message -> Integer.parseInt(message.split(":")[1]))
+                    .collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    public void testSendFailsWhenPartitionStaysFull() {
+        topic = new LocalTopic<>("test", 1, 2, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 0,
+                REDELIVERY_BACKOFF_NANOS);
+        topic.send("key", "1");
+        topic.send("key", "2");
+
+        long start = System.nanoTime();
+        assertThrows(LocalMessagingException.class, () -> topic.send("key", "3"));
+        assertTrue(System.nanoTime() - start >= SEND_TIMEOUT_NANOS);
+    }
+
+    @Test
+    public void testSendFailsWhenTopicIsClosed() {
+        topic = new LocalTopic<>("test", 1, 2, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 0,
+                REDELIVERY_BACKOFF_NANOS);
+        topic.close(CLOSE_TIMEOUT_NANOS);
+
+        assertThrows(LocalMessagingException.class, () -> topic.send("key", "1"));
+    }
+
+    @Test
+    public void testFailedBatchIsRedelivered() throws InterruptedException {
+        topic = new LocalTopic<>("test", 1, 16, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 3,
+                REDELIVERY_BACKOFF_NANOS);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        topic.subscribe((messages, partition) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Consumer is not ready");
+            }
+            latch.countDown();
+        });
+
+        topic.send("key", "1");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertTrue(topic.getParkedMessages().isEmpty());
+    }
+
+    @Test
+    public void testPoisonMessageIsParkedAndRestOfBatchIsDelivered() throws InterruptedException {
+        topic = new LocalTopic<>("test", 1, 16, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 1,
+                REDELIVERY_BACKOFF_NANOS);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        topic.send("key", "1");
+        topic.send("key", "poison");
+        topic.send("key", "3");
+        topic.subscribe((messages, partition) -> {
+            if (messages.contains("poison")) {
+                throw new IllegalStateException("Could not process message");
+            }
+            delivered.addAll(messages);
+        });
+
+        topic.send("key", "4");
+        topic.close(CLOSE_TIMEOUT_NANOS);
+
+        assertEquals(List.of("1", "3", "4"), delivered);
+        assertEquals(List.of("poison"), topic.getParkedMessages());
+    }
+
+    @Test
+    public void testCloseDeliversQueuedMessages() {
+        topic = new LocalTopic<>("test", 2, 1024, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 0,
+                REDELIVERY_BACKOFF_NANOS);
+        AtomicInteger delivered = new AtomicInteger();
+        topic.subscribe((messages, partition) -> delivered.addAndGet(messages.size()));
+        for (int i = 0; i < 1000; i++) {
+            topic.send(String.valueOf(i), String.valueOf(i));
+        }
+
+        topic.close(CLOSE_TIMEOUT_NANOS);
+
+        assertEquals(1000, delivered.get());
+    }
+
+    @Test
+    public void testMessagesAcceptedWhileClosingAreDelivered() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            topic = new LocalTopic<>("test", 1, 1024, 8, SEND_TIMEOUT_NANOS, IDLE_WAIT_NANOS, 0,
+                    REDELIVERY_BACKOFF_NANOS);
+            Set<String> delivered = ConcurrentHashMap.newKeySet();
+            Set<String> accepted = ConcurrentHashMap.newKeySet();
+            topic.subscribe((messages, partition) -> delivered.addAll(messages));
+            CountDownLatch producersStarted = new CountDownLatch(PRODUCERS);
+            List<Thread> producers = new ArrayList<>();
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                String prefix = producer + ":";
+                Thread thread = new Thread(() -> {
+                    producersStarted.countDown();
+                    try {
+                        for (int i = 0; ; i++) {
+                            topic.send("key", prefix + i);
+                            accepted.add(prefix + i);
+                        }
+                    } catch (LocalMessagingException ignored) {
+                    }
+                });
+                thread.start();
+                producers.add(thread);
+            }
+
+            assertTrue(producersStarted.await(5, TimeUnit.SECONDS));
+            topic.close(CLOSE_TIMEOUT_NANOS);
+            for (Thread producer : producers) {
+                producer.join(TimeUnit.NANOSECONDS.toMillis(CLOSE_TIMEOUT_NANOS));
+            }
+
+            assertFalse(accepted.isEmpty());
+            assertTrue(delivered.containsAll(accepted));
+        }
+    }
+}
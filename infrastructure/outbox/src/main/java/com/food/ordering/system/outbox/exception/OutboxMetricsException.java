@@ -0,0 +1,8 @@
+package com.food.ordering.system.outbox.exception;
+
+public class OutboxMetricsException extends RuntimeException {
+
+    public OutboxMetricsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.outbox.metrics;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+@Getter
+public class OutboxBacklogCount {
+    private final OutboxStatus outboxStatus;
+    private final String state;
+    private final long count;
+    private final ZonedDateTime oldestCreatedAt;
+
+    public OutboxBacklogCount(OutboxStatus outboxStatus, Enum<?> state, Long count, ZonedDateTime oldestCreatedAt) {
+        this.outboxStatus = outboxStatus;
+        this.state = state.name();
+        this.count = count;
+        this.oldestCreatedAt = oldestCreatedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.outbox.metrics;
+
+import java.util.List;
+
+public interface OutboxBacklogRepository {
+
+    String getOutboxName();
+
+    List<OutboxBacklogCount> countByOutboxStatusAndState();
+}
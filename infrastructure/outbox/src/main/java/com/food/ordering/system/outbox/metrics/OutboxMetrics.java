@@ -0,0 +1,79 @@
+package com.food.ordering.system.outbox.metrics;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.exception.OutboxMetricsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OutboxMetrics implements DisposableBean {
+
+    private static final String OBJECT_NAME_PREFIX = "com.food.ordering.system.outbox:type=OutboxMetrics,name=";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final Map<String, OutboxTableMetrics> outboxTableMetrics = new ConcurrentHashMap<>();
+    private final Map<String, ObjectName> objectNames = new ConcurrentHashMap<>();
+
+    public void recordPublished(String outboxName, int count) {
+        getOutboxTableMetrics(outboxName).recordPublished(count);
+    }
+
+    public <T> BiConsumer<T, OutboxStatus> track(String outboxName, BiConsumer<T, OutboxStatus> outboxCallback) {
+        OutboxTableMetrics metrics = getOutboxTableMetrics(outboxName);
+        return (outboxMessage, outboxStatus) -> {
+            outboxCallback.accept(outboxMessage, outboxStatus);
+            metrics.recordOutcome(outboxStatus);
+        };
+    }
+
+    public void updateBacklog(String outboxName, List<OutboxBacklogCount> outboxBacklogCounts) {
+        getOutboxTableMetrics(outboxName).updateBacklog(outboxBacklogCounts);
+    }
+
+    @Override
+    public void destroy() {
+        objectNames.forEach((outboxName, objectName) -> {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (JMException e) {
+                log.warn("Could not unregister outbox metrics for {}", outboxName, e);
+            }
+        });
+    }
+
+    private OutboxTableMetrics getOutboxTableMetrics(String outboxName) {
+        return outboxTableMetrics.computeIfAbsent(outboxName, this::registerOutboxTableMetrics);
+    }
+
+    private OutboxTableMetrics registerOutboxTableMetrics(String outboxName) {
+        OutboxTableMetrics metrics = new OutboxTableMetrics();
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + outboxName);
+            for (int instance = 1; ; instance++) {
+                try {
+                    mBeanServer.registerMBean(metrics, objectName);
+                    break;
+                } catch (InstanceAlreadyExistsException e) {
+                    objectName = new ObjectName(OBJECT_NAME_PREFIX + outboxName + ",instance=" + instance);
+                }
+            }
+            objectNames.put(outboxName, objectName);
+            log.info("Registered outbox metrics for {} as {}", outboxName, objectName);
+        } catch (JMException e) {
+            throw new OutboxMetricsException("Could not register outbox metrics for " + outboxName, e);
+        }
+        return metrics;
+    }
+}
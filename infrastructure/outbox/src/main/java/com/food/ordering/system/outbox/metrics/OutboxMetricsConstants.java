@@ -0,0 +1,11 @@
+package com.food.ordering.system.outbox.metrics;
+
+public final class OutboxMetricsConstants {
+
+    private OutboxMetricsConstants() {
+    }
+    public static final String ORDER_PAYMENT_OUTBOX = "order.payment_outbox";
+    public static final String ORDER_RESTAURANT_APPROVAL_OUTBOX = "order.restaurant_approval_outbox";
+    public static final String PAYMENT_ORDER_OUTBOX = "payment.order_outbox";
+    public static final String RESTAURANT_ORDER_OUTBOX = "restaurant.order_outbox";
+}
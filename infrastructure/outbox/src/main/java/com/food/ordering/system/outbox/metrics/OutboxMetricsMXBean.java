@@ -0,0 +1,16 @@
+package com.food.ordering.system.outbox.metrics;
+
+import java.util.Map;
+
+public interface OutboxMetricsMXBean {
+
+    Map<String, Long> getRowCounts();
+
+    Map<String, Long> getOldestRowAgeSeconds();
+
+    long getPublished();
+
+    long getAcknowledged();
+
+    long getFailed();
+}
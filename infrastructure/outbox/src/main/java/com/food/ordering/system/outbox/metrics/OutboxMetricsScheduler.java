@@ -0,0 +1,34 @@
+package com.food.ordering.system.outbox.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxMetricsScheduler {
+
+    private final ObjectProvider<OutboxBacklogRepository> outboxBacklogRepositories;
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxMetricsScheduler(ObjectProvider<OutboxBacklogRepository> outboxBacklogRepositories,
+                                  OutboxMetrics outboxMetrics) {
+        this.outboxBacklogRepositories = outboxBacklogRepositories;
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox-metrics-config.backlog-refresh-fixed-rate}",
+            initialDelayString = "${outbox-metrics-config.backlog-refresh-initial-delay}")
+    public void refreshBacklog() {
+        outboxBacklogRepositories.forEach(outboxBacklogRepository -> {
+            try {
+                outboxMetrics.updateBacklog(outboxBacklogRepository.getOutboxName(),
+                        outboxBacklogRepository.countByOutboxStatusAndState());
+            } catch (RuntimeException e) {
+                log.error("Could not refresh outbox backlog metrics for {}",
+                        outboxBacklogRepository.getOutboxName(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.food.ordering.system.outbox.metrics;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class OutboxTableMetrics implements OutboxMetricsMXBean {
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile Map<String, Long> rowCounts = Collections.emptyMap();
+    private volatile Map<OutboxStatus, ZonedDateTime> oldestCreatedAt = Collections.emptyMap();
+
+    void recordPublished(int count) {
+        published.add(count);
+    }
+
+    void recordOutcome(OutboxStatus outboxStatus) {
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            acknowledged.increment();
+        } else if (outboxStatus == OutboxStatus.FAILED) {
+            failed.increment();
+        }
+    }
+
+    void updateBacklog(List<OutboxBacklogCount> outboxBacklogCounts) {
+        Map<String, Long> counts = new TreeMap<>();
+        Map<OutboxStatus, ZonedDateTime> oldest = new EnumMap<>(OutboxStatus.class);
+        for (OutboxBacklogCount outboxBacklogCount : outboxBacklogCounts) {
+            counts.merge(outboxBacklogCount.getOutboxStatus().name() + "/" + outboxBacklogCount.getState(),
+                    outboxBacklogCount.getCount(), Long::sum);
+            oldest.merge(outboxBacklogCount.getOutboxStatus(), outboxBacklogCount.getOldestCreatedAt(),
+                    (first, second) -> first.isBefore(second) ? first : second);
+        }
+        rowCounts = Collections.unmodifiableMap(counts);
+        oldestCreatedAt = Collections.unmodifiableMap(oldest);
+    }
+
+    @Override
+    public Map<String, Long> getRowCounts() {
+        return rowCounts;
+    }
+
+    @Override
+    public Map<String, Long> getOldestRowAgeSeconds() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Map<String, Long> ages = new TreeMap<>();
+        oldestCreatedAt.forEach((outboxStatus, createdAt) ->
+                ages.put(outboxStatus.name(), Math.max(0L, Duration.between(createdAt, now).toSeconds())));
+        return ages;
+    }
+
+    @Override
+    public long getPublished() {
+        return published.sum();
+    }
+
+    @Override
+    public long getAcknowledged() {
+        return acknowledged.sum();
+    }
+
+    @Override
+    public long getFailed() {
+        return failed.sum();
+    }
+}
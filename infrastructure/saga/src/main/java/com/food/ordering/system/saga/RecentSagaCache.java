@@ -0,0 +1,31 @@
+package com.food.ordering.system.saga;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class RecentSagaCache {
+
+    private final Map<String, Boolean> recentSagas;
+
+    public RecentSagaCache(int maxSize) {
+        this.recentSagas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized boolean contains(UUID sagaId, String step) {
+        return recentSagas.containsKey(getKey(sagaId, step));
+    }
+
+    public synchronized void add(UUID sagaId, String step) {
+        recentSagas.put(getKey(sagaId, step), Boolean.TRUE);
+    }
+
+    private String getKey(UUID sagaId, String step) {
+        return sagaId + ":" + step;
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.tracing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class Span implements AutoCloseable {
+
+    @Getter(AccessLevel.NONE)
+    private final Tracer tracer;
+    private final String name;
+    private final TraceContext traceContext;
+    private final String parentSpanId;
+    @Getter(AccessLevel.PACKAGE)
+    private final TraceContext previousTraceContext;
+    private final long startEpochNanos;
+    @Getter(AccessLevel.NONE)
+    private final long startNanoTime;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private long endEpochNanos;
+    private boolean successful;
+
+    Span(Tracer tracer,
+         String name,
+         TraceContext traceContext,
+         String parentSpanId,
+         TraceContext previousTraceContext,
+         long startEpochNanos) {
+        this.tracer = tracer;
+        this.name = name;
+        this.traceContext = traceContext;
+        this.parentSpanId = parentSpanId;
+        this.previousTraceContext = previousTraceContext;
+        this.startEpochNanos = startEpochNanos;
+        this.startNanoTime = System.nanoTime();
+    }
+
+    public Span setAttribute(String key, Object value) {
+        attributes.put(key, String.valueOf(value));
+        return this;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+
+    public String getTraceParent() {
+        return traceContext.toTraceParent();
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    @Override
+    public void close() {
+        endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+        tracer.end(this);
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.tracing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Getter
+@AllArgsConstructor
+public class TraceContext {
+
+    public static final String TRACE_PARENT_HEADER = "traceparent";
+
+    private static final String VERSION = "00";
+    private static final Pattern TRACE_PARENT_PATTERN =
+            Pattern.compile("00-(?!0{32})[0-9a-f]{32}-(?!0{16})[0-9a-f]{16}-[0-9a-f]{2}");
+
+    private final String traceId;
+    private final String spanId;
+    private final boolean sampled;
+
+    public String toTraceParent() {
+        return VERSION + "-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    public static Optional<TraceContext> fromTraceParent(String traceParent) {
+        if (traceParent == null || !TRACE_PARENT_PATTERN.matcher(traceParent).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new TraceContext(traceParent.substring(3, 35), traceParent.substring(36, 52),
+                (Integer.parseInt(traceParent.substring(53, 55), 16) & 1) == 1));
+    }
+}
@@ -0,0 +1,93 @@
+package com.food.ordering.system.tracing;
+
+import com.food.ordering.system.tracing.config.TracingConfigData;
+import com.food.ordering.system.tracing.exporter.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class Tracer {
+
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+    private static final String SPAN_ID_MDC_KEY = "spanId";
+
+    private final ThreadLocal<TraceContext> currentTraceContext = new ThreadLocal<>();
+    private final SpanExporter spanExporter;
+    private final double sampleRatio;
+
+    public Tracer(SpanExporter spanExporter, TracingConfigData tracingConfigData) {
+        this.spanExporter = spanExporter;
+        this.sampleRatio = tracingConfigData.getSampleRatio();
+    }
+
+    public Span startSpan(String name) {
+        return startSpan(name, Optional.ofNullable(currentTraceContext.get()));
+    }
+
+    public Span startSpan(String name, String traceParent) {
+        Optional<TraceContext> parentTraceContext = TraceContext.fromTraceParent(traceParent);
+        return startSpan(name, parentTraceContext.isPresent() ? parentTraceContext :
+                Optional.ofNullable(currentTraceContext.get()));
+    }
+
+    public String getCurrentTraceParent() {
+        TraceContext traceContext = currentTraceContext.get();
+        return traceContext == null ? null : traceContext.toTraceParent();
+    }
+
+    void end(Span span) {
+        activate(span.getPreviousTraceContext());
+        if (span.getTraceContext().isSampled()) {
+            try {
+                spanExporter.export(span);
+            } catch (RuntimeException e) {
+                log.warn("Could not export span: {} of trace: {}", span.getName(),
+                        span.getTraceContext().getTraceId(), e);
+            }
+        }
+    }
+
+    private Span startSpan(String name, Optional<TraceContext> parentTraceContext) {
+        Instant now = Instant.now();
+        TraceContext traceContext = new TraceContext(
+                parentTraceContext.map(TraceContext::getTraceId).orElseGet(() -> randomHex(2)),
+                randomHex(1),
+                parentTraceContext.map(TraceContext::isSampled)
+                        .orElseGet(() -> ThreadLocalRandom.current().nextDouble() < sampleRatio));
+        Span span = new Span(this, name, traceContext, parentTraceContext.map(TraceContext::getSpanId).orElse(null),
+                currentTraceContext.get(), now.getEpochSecond() * 1_000_000_000L + now.getNano());
+        activate(traceContext);
+        return span;
+    }
+
+    private void activate(TraceContext traceContext) {
+        if (traceContext == null) {
+            currentTraceContext.remove();
+            MDC.remove(TRACE_ID_MDC_KEY);
+            MDC.remove(SPAN_ID_MDC_KEY);
+        } else {
+            currentTraceContext.set(traceContext);
+            MDC.put(TRACE_ID_MDC_KEY, traceContext.getTraceId());
+            MDC.put(SPAN_ID_MDC_KEY, traceContext.getSpanId());
+        }
+    }
+
+    private String randomHex(int longs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value == 0L);
+            hex.append(String.format("%016x", value));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.tracing.config;
+
+import com.food.ordering.system.tracing.exception.TracingException;
+import com.food.ordering.system.tracing.exporter.FileSpanExporter;
+import com.food.ordering.system.tracing.exporter.LoggingSpanExporter;
+import com.food.ordering.system.tracing.exporter.NoopSpanExporter;
+import com.food.ordering.system.tracing.exporter.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class TracingConfig {
+
+    private final TracingConfigData tracingConfigData;
+
+    public TracingConfig(TracingConfigData tracingConfigData) {
+        this.tracingConfigData = tracingConfigData;
+    }
+
+    @Bean
+    public SpanExporter spanExporter() {
+        return switch (tracingConfigData.getExporter()) {
+            case "logging" -> new LoggingSpanExporter();
+            case "file" -> new FileSpanExporter(Paths.get(tracingConfigData.getExportFile()));
+            case "none" -> new NoopSpanExporter();
+            default -> throw new TracingException("Unknown span exporter: " + tracingConfigData.getExporter());
+        };
+    }
+}
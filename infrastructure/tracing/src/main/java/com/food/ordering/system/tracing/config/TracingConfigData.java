@@ -0,0 +1,14 @@
+package com.food.ordering.system.tracing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "tracing-config")
+public class TracingConfigData {
+    private String exporter;
+    private String exportFile;
+    private Double sampleRatio;
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.tracing.exception;
+
+public class TracingException extends RuntimeException {
+
+    public TracingException(String message) {
+        super(message);
+    }
+
+    public TracingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
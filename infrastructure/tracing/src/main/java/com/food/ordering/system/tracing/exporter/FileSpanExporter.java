@@ -0,0 +1,56 @@
+package com.food.ordering.system.tracing.exporter;
+
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.exception.TracingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Slf4j
+public class FileSpanExporter implements SpanExporter, DisposableBean {
+
+    private final SpanJsonMapper spanJsonMapper = new SpanJsonMapper();
+    private final Path exportFile;
+    private final BufferedWriter spanWriter;
+
+    public FileSpanExporter(Path exportFile) {
+        this.exportFile = exportFile;
+        try {
+            if (exportFile.getParent() != null) {
+                Files.createDirectories(exportFile.getParent());
+            }
+            this.spanWriter = Files.newBufferedWriter(exportFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Could not open span export file: {}", exportFile, e);
+            throw new TracingException("Could not open span export file: " + exportFile, e);
+        }
+        log.info("Exporting spans to {}", exportFile);
+    }
+
+    @Override
+    public void export(Span span) {
+        String spanJson = spanJsonMapper.spanToJson(span);
+        synchronized (spanWriter) {
+            try {
+                spanWriter.write(spanJson);
+                spanWriter.newLine();
+                spanWriter.flush();
+            } catch (IOException e) {
+                throw new TracingException("Could not write span: " + span.getName() + " to " + exportFile, e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        synchronized (spanWriter) {
+            spanWriter.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.tracing.exporter;
+
+import com.food.ordering.system.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggingSpanExporter implements SpanExporter {
+
+    private final SpanJsonMapper spanJsonMapper = new SpanJsonMapper();
+
+    @Override
+    public void export(Span span) {
+        if (log.isDebugEnabled()) {
+            log.debug(spanJsonMapper.spanToJson(span));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.tracing.exporter;
+
+import com.food.ordering.system.tracing.Span;
+
+public interface SpanExporter {
+
+    void export(Span span);
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.tracing.exporter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.exception.TracingException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class SpanJsonMapper {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    String spanToJson(Span span) {
+        Map<String, Object> spanJson = new LinkedHashMap<>();
+        spanJson.put("traceId", span.getTraceContext().getTraceId());
+        spanJson.put("spanId", span.getTraceContext().getSpanId());
+        spanJson.put("parentSpanId", span.getParentSpanId());
+        spanJson.put("name", span.getName());
+        spanJson.put("startTimeUnixNano", span.getStartEpochNanos());
+        spanJson.put("endTimeUnixNano", span.getEndEpochNanos());
+        spanJson.put("status", span.isSuccessful() ? "OK" : "ERROR");
+        spanJson.put("attributes", span.getAttributes());
+        try {
+            return objectMapper.writeValueAsString(spanJson);
+        } catch (JsonProcessingException e) {
+            throw new TracingException("Could not write span: " + span.getName() + " as json!", e);
+        }
+    }
+}
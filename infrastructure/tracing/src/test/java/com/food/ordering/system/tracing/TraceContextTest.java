@@ -0,0 +1,49 @@
+package com.food.ordering.system.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraceContextTest {
+
+    private final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private final String SPAN_ID = "00f067aa0ba902b7";
+
+    @Test
+    public void testValidTraceParentIsParsed() {
+        TraceContext traceContext = TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + SPAN_ID + "-01")
+                .orElseThrow();
+
+        assertEquals(TRACE_ID, traceContext.getTraceId());
+        assertEquals(SPAN_ID, traceContext.getSpanId());
+        assertTrue(traceContext.isSampled());
+    }
+
+    @Test
+    public void testSampledFlagIsReadFromTraceFlags() {
+        assertFalse(TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + SPAN_ID + "-00").orElseThrow().isSampled());
+        assertTrue(TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + SPAN_ID + "-03").orElseThrow().isSampled());
+        assertFalse(TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + SPAN_ID + "-02").orElseThrow().isSampled());
+    }
+
+    @Test
+    public void testInvalidTraceParentIsIgnored() {
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent(null));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent(""));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent("01-" + TRACE_ID + "-" + SPAN_ID + "-01"));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent("00-" + "0".repeat(32) + "-" + SPAN_ID + "-01"));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + "0".repeat(16) + "-01"));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent("00-" + TRACE_ID.toUpperCase() + "-" + SPAN_ID +
+                "-01"));
+        assertEquals(Optional.empty(), TraceContext.fromTraceParent("00-" + TRACE_ID + "-" + SPAN_ID + "-01-extra"));
+    }
+
+    @Test
+    public void testTraceParentRoundTrip() {
+        String traceParent = "00-" + TRACE_ID + "-" + SPAN_ID + "-00";
+
+        assertEquals(traceParent, TraceContext.fromTraceParent(traceParent).orElseThrow().toTraceParent());
+    }
+}
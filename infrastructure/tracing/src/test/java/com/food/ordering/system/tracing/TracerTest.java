@@ -0,0 +1,84 @@
+package com.food.ordering.system.tracing;
+
+import com.food.ordering.system.tracing.config.TracingConfigData;
+import com.food.ordering.system.tracing.exporter.SpanExporter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TracerTest {
+
+    private final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private final String SPAN_ID = "00f067aa0ba902b7";
+
+    private final SpanExporter spanExporter = mock(SpanExporter.class);
+
+    @Test
+    public void testSpanContinuesIncomingTraceParent() {
+        Tracer tracer = tracer(0.0);
+
+        try (Span span = tracer.startSpan("consume", "00-" + TRACE_ID + "-" + SPAN_ID + "-01")) {
+            assertEquals(TRACE_ID, span.getTraceContext().getTraceId());
+            assertEquals(SPAN_ID, span.getParentSpanId());
+            assertNotEquals(SPAN_ID, span.getTraceContext().getSpanId());
+            assertTrue(span.getTraceContext().isSampled());
+            assertEquals(span.getTraceParent(), tracer.getCurrentTraceParent());
+        }
+
+        verify(spanExporter).export(any(Span.class));
+        assertNull(tracer.getCurrentTraceParent());
+    }
+
+    @Test
+    public void testNestedSpanPropagatesAndRestoresCurrentTraceContext() {
+        Tracer tracer = tracer(1.0);
+
+        try (Span parent = tracer.startSpan("parent")) {
+            try (Span child = tracer.startSpan("child", "invalid")) {
+                assertEquals(parent.getTraceContext().getTraceId(), child.getTraceContext().getTraceId());
+                assertEquals(parent.getTraceContext().getSpanId(), child.getParentSpanId());
+                assertEquals(child.getTraceParent(), tracer.getCurrentTraceParent());
+            }
+            assertEquals(parent.getTraceParent(), tracer.getCurrentTraceParent());
+        }
+
+        verify(spanExporter, times(2)).export(any(Span.class));
+        assertNull(tracer.getCurrentTraceParent());
+    }
+
+    @Test
+    public void testUnsampledTraceIsPropagatedButNotExported() {
+        Tracer tracer = tracer(0.0);
+
+        try (Span root = tracer.startSpan("root")) {
+            assertFalse(root.getTraceContext().isSampled());
+            assertTrue(root.getTraceParent().endsWith("-00"));
+            try (Span child = tracer.startSpan("child", root.getTraceParent())) {
+                assertEquals(root.getTraceContext().getTraceId(), child.getTraceContext().getTraceId());
+                assertFalse(child.getTraceContext().isSampled());
+            }
+        }
+
+        verifyNoInteractions(spanExporter);
+    }
+
+    @Test
+    public void testExportFailureDoesNotBreakSpan() {
+        Tracer tracer = tracer(1.0);
+        doThrow(new IllegalStateException("Exporter is closed")).when(spanExporter).export(any(Span.class));
+
+        try (Span span = tracer.startSpan("root")) {
+            span.setSuccessful(true);
+        }
+
+        assertNull(tracer.getCurrentTraceParent());
+    }
+
+    private Tracer tracer(double sampleRatio) {
+        TracingConfigData tracingConfigData = new TracingConfigData();
+        tracingConfigData.setSampleRatio(sampleRatio);
+        return new Tracer(spanExporter, tracingConfigData);
+    }
+}
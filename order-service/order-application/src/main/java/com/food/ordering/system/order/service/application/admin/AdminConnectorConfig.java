@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.apache.catalina.connector.Connector;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdminConnectorConfig {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public AdminConnectorConfig(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> adminConnectorCustomizer() {
+        return factory -> {
+            if (orderServiceConfigData.getAdminPort() == null) {
+                return;
+            }
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(orderServiceConfigData.getAdminPort());
+            if (orderServiceConfigData.getAdminAddress() != null) {
+                connector.setProperty("address", orderServiceConfigData.getAdminAddress());
+            }
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+}
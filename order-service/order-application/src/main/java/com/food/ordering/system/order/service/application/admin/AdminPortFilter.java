@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class AdminPortFilter extends OncePerRequestFilter {
+
+    public static final String ADMIN_PATH_PREFIX = "/admin";
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public AdminPortFilter(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        boolean adminPath = path.equals(ADMIN_PATH_PREFIX) || path.startsWith(ADMIN_PATH_PREFIX + "/");
+        boolean adminPort = orderServiceConfigData.getAdminPort() != null &&
+                request.getLocalPort() == orderServiceConfigData.getAdminPort();
+        if (adminPath != adminPort) {
+            log.debug("Rejecting request for {} on port {}", path, request.getLocalPort());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.food.ordering.system.order.service.application.admin.AdminPortFilter.ADMIN_PATH_PREFIX;
+
+@Slf4j
+@Component
+public class AdminPortInterceptor implements HandlerInterceptor {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public AdminPortInterceptor(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws IOException {
+        if (!isAdminHandler(handler)) {
+            return true;
+        }
+        if (orderServiceConfigData.getAdminPort() == null ||
+                request.getLocalPort() != orderServiceConfigData.getAdminPort()) {
+            log.warn("Rejecting admin request for {} on port {}", request.getRequestURI(), request.getLocalPort());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isAdminHandler(Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return false;
+        }
+        RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(
+                ((HandlerMethod) handler).getBeanType(), RequestMapping.class);
+        return requestMapping != null && Arrays.stream(requestMapping.path())
+                .anyMatch(path -> path.equals(ADMIN_PATH_PREFIX) || path.startsWith(ADMIN_PATH_PREFIX + "/"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AdminWebMvcConfig implements WebMvcConfigurer {
+
+    private final AdminPortInterceptor adminPortInterceptor;
+
+    public AdminWebMvcConfig(AdminPortInterceptor adminPortInterceptor) {
+        this.adminPortInterceptor = adminPortInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(adminPortInterceptor);
+    }
+}
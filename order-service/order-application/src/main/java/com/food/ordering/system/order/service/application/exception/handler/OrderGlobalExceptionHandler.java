@@ -2,7 +2,9 @@ package com.food.ordering.system.order.service.application.exception.handler;
 
 import com.food.ordering.system.application.handler.ErrorDTO;
 import com.food.ordering.system.application.handler.GlobalExceptionHandler;
+import com.food.ordering.system.order.service.domain.exception.OrderAdmissionException;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIntakeCapacityException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -36,4 +38,26 @@ public class OrderGlobalExceptionHandler extends GlobalExceptionHandler {
                 .message(orderNotFoundException.getMessage())
                 .build();
     }
+
+    @ResponseBody
+    @ExceptionHandler(value = {OrderIntakeCapacityException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorDTO handleException(OrderIntakeCapacityException orderIntakeCapacityException) {
+        log.error(orderIntakeCapacityException.getMessage(), orderIntakeCapacityException);
+        return ErrorDTO.builder()
+                .code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(orderIntakeCapacityException.getMessage())
+                .build();
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {OrderAdmissionException.class})
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorDTO handleException(OrderAdmissionException orderAdmissionException) {
+        log.debug(orderAdmissionException.getMessage());
+        return ErrorDTO.builder()
+                .code(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(orderAdmissionException.getMessage())
+                .build();
+    }
 }
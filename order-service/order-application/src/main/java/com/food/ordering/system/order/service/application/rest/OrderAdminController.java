@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.application.rest;
+
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHittersResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.food.ordering.system.order.service.application.admin.AdminPortFilter.ADMIN_PATH_PREFIX;
+
+@Slf4j
+@RestController
+@RequestMapping(value = ADMIN_PATH_PREFIX + "/orders", produces = "application/vnd.api.v1+json")
+public class OrderAdminController {
+
+    private final OrderApplicationService orderApplicationService;
+
+    public OrderAdminController(OrderApplicationService orderApplicationService) {
+        this.orderApplicationService = orderApplicationService;
+    }
+
+    @GetMapping("/heavy-hitters")
+    public ResponseEntity<HeavyHittersResponse> getHeavyHitters() {
+        HeavyHittersResponse heavyHittersResponse = orderApplicationService.getHeavyHitters();
+        log.info("Returning {} restaurant and {} customer heavy hitters",
+                heavyHittersResponse.getRestaurants().size(), heavyHittersResponse.getCustomers().size());
+        return ResponseEntity.ok(heavyHittersResponse);
+    }
+}
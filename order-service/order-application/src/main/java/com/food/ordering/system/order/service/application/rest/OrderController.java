@@ -1,34 +1,95 @@
 package com.food.ordering.system.order.service.application.rest;
 
+import com.food.ordering.system.order.service.application.stream.OrderTrackingStreamRegistry;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @RestController
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderApplicationService orderApplicationService;
 
-    public OrderController(OrderApplicationService orderApplicationService) {
+    private final OrderTrackingStreamRegistry orderTrackingStreamRegistry;
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    private final Tracer tracer;
+
+    public OrderController(OrderApplicationService orderApplicationService,
+                           OrderTrackingStreamRegistry orderTrackingStreamRegistry,
+                           OrderServiceConfigData orderServiceConfigData,
+                           Tracer tracer) {
         this.orderApplicationService = orderApplicationService;
+        this.orderTrackingStreamRegistry = orderTrackingStreamRegistry;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.tracer = tracer;
     }
 
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand) {
+    public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrder(
+            @RequestBody CreateOrderCommand createOrderCommand,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = TRACE_PARENT_HEADER, required = false) String traceParent) {
+        try (Span span = tracer.startSpan("OrderController.createOrder", traceParent)) {
+            CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrderResponse =
+                    submitOrCreateOrder(createOrderCommand, idempotencyKey);
+            span.setSuccessful(true);
+            return createOrderResponse;
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<CreateOrderResponse>> submitOrCreateOrder(
+            CreateOrderCommand createOrderCommand, String idempotencyKey) {
         log.info("Creating order for customer: {} at restaurant: {}", createOrderCommand.getCustomerId(),
                 createOrderCommand.getRestaurantId());
-        CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
+        if (orderServiceConfigData.getOrderIntakeGroupCommitEnabled()) {
+            return orderApplicationService.submitOrder(createOrderCommand, idempotencyKey).thenApply(createOrderResponse -> {
+                log.info("Order accepted with tracking id: {}", createOrderResponse.getOrderTrackingId());
+                return ResponseEntity.accepted().body(createOrderResponse);
+            });
+        }
+        CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand,
+                idempotencyKey);
         log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
-        return ResponseEntity.ok(createOrderResponse);
+        return CompletableFuture.completedFuture(ResponseEntity.ok(createOrderResponse));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<CreateOrderBatchResponse> createOrders(@RequestBody List<CreateOrderCommand>
+                                                                         createOrderCommands,
+                                                                 @RequestHeader(value = TRACE_PARENT_HEADER,
+                                                                         required = false) String traceParent) {
+        try (Span span = tracer.startSpan("OrderController.createOrders", traceParent)) {
+            log.info("Creating {} orders in batch", createOrderCommands.size());
+            CreateOrderBatchResponse createOrderBatchResponse = orderApplicationService.createOrders(
+                    CreateOrderBatchCommand.builder().orders(createOrderCommands).build());
+            log.info("Order batch processed with {} results", createOrderBatchResponse.getOrders().size());
+            span.setSuccessful(true);
+            return ResponseEntity.ok(createOrderBatchResponse);
+        }
     }
 
     @GetMapping("/{trackingId}")
@@ -38,4 +99,12 @@ public class OrderController {
        log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
        return  ResponseEntity.ok(trackOrderResponse);
     }
+
+    @GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatusByTrackingId(@PathVariable UUID trackingId) {
+        SseEmitter emitter = orderTrackingStreamRegistry.subscribe(trackingId, () ->
+                orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build()));
+        log.info("Streaming order status changes with tracking id: {}", trackingId);
+        return emitter;
+    }
 }
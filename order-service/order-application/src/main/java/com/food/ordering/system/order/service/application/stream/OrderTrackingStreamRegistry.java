@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingMessagePublisher;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OrderTrackingStreamRegistry implements OrderTrackingMessagePublisher {
+
+    private static final String ORDER_STATUS_EVENT_NAME = "order-status";
+
+    private final Map<UUID, Set<OrderTrackingSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final OrderDataMapper orderDataMapper;
+    private final long timeoutMs;
+    private final ExecutorService[] dispatchers;
+
+    public OrderTrackingStreamRegistry(OrderDataMapper orderDataMapper,
+                                       OrderServiceConfigData orderServiceConfigData) {
+        this.orderDataMapper = orderDataMapper;
+        this.timeoutMs = orderServiceConfigData.getTrackingStreamTimeoutMs();
+        this.dispatchers = new ExecutorService[orderServiceConfigData.getTrackingStreamDispatcherThreads()];
+        for (int i = 0; i < dispatchers.length; i++) {
+            String threadName = "order-tracking-stream-" + i;
+            dispatchers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public SseEmitter subscribe(UUID trackingId, Supplier<TrackOrderResponse> currentStatus) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        OrderTrackingSubscription subscription = new OrderTrackingSubscription(emitter);
+        subscriptions.computeIfAbsent(trackingId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        emitter.onCompletion(() -> unsubscribe(trackingId, subscription));
+        emitter.onError(error -> unsubscribe(trackingId, subscription));
+        emitter.onTimeout(emitter::complete);
+        TrackOrderResponse trackOrderResponse;
+        try {
+            trackOrderResponse = currentStatus.get();
+        } catch (RuntimeException e) {
+            unsubscribe(trackingId, subscription);
+            throw e;
+        }
+        dispatcher(trackingId).execute(() -> send(trackingId, subscription, trackOrderResponse));
+        log.info("Order status stream opened for tracking id: {}", trackingId);
+        return emitter;
+    }
+
+    @Override
+    public void publish(OrderTrackingView orderTrackingView) {
+        UUID trackingId = orderTrackingView.getTrackingId();
+        if (!subscriptions.containsKey(trackingId)) {
+            return;
+        }
+        TrackOrderResponse trackOrderResponse = orderDataMapper.orderTrackingViewToTrackOrderResponse(orderTrackingView);
+        dispatcher(trackingId).execute(() -> {
+            Set<OrderTrackingSubscription> trackingSubscriptions = subscriptions.get(trackingId);
+            if (trackingSubscriptions != null) {
+                trackingSubscriptions.forEach(subscription -> send(trackingId, subscription, trackOrderResponse));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Closing order status streams!");
+        for (ExecutorService dispatcher : dispatchers) {
+            dispatcher.shutdownNow();
+        }
+        subscriptions.values().forEach(trackingSubscriptions -> trackingSubscriptions
+                .forEach(subscription -> subscription.getEmitter().complete()));
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void send(UUID trackingId, OrderTrackingSubscription subscription, TrackOrderResponse trackOrderResponse) {
+        OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+        if (trackOrderResponse.getVersion() <= subscription.getLastVersion()) {
+            return;
+        }
+        subscription.setLastVersion(trackOrderResponse.getVersion());
+        if (orderStatus == subscription.getLastOrderStatus()) {
+            return;
+        }
+        try {
+            subscription.getEmitter().send(SseEmitter.event()
+                    .name(ORDER_STATUS_EVENT_NAME)
+                    .data(trackOrderResponse, MediaType.APPLICATION_JSON));
+            subscription.setLastOrderStatus(orderStatus);
+            if (orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED) {
+                subscription.getEmitter().complete();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not send order status: {} for tracking id: {}, closing stream", orderStatus,
+                    trackingId, e);
+            unsubscribe(trackingId, subscription);
+            subscription.getEmitter().completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(UUID trackingId, OrderTrackingSubscription subscription) {
+        subscriptions.computeIfPresent(trackingId, (key, trackingSubscriptions) -> {
+            trackingSubscriptions.remove(subscription);
+            return trackingSubscriptions.isEmpty() ? null : trackingSubscriptions;
+        });
+    }
+
+    private ExecutorService dispatcher(UUID trackingId) {
+        return dispatchers[Math.floorMod(trackingId.hashCode(), dispatchers.length)];
+    }
+}
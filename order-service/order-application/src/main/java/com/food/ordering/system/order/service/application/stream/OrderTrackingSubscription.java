@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Getter
+class OrderTrackingSubscription {
+    private final SseEmitter emitter;
+    @Setter
+    private OrderStatus lastOrderStatus;
+    @Setter
+    private long lastVersion = -1;
+
+    OrderTrackingSubscription(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+}
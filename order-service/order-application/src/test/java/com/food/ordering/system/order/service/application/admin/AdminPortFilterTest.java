@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdminPortFilterTest {
+
+    private final int API_PORT = 8181;
+    private final int ADMIN_PORT = 8191;
+
+    private AdminPortFilter adminPortFilter;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setAdminPort(ADMIN_PORT);
+        adminPortFilter = new AdminPortFilter(orderServiceConfigData);
+    }
+
+    @Test
+    public void testAdminPathIsServedOnAdminPort() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        MockHttpServletResponse response = filter("/admin/orders/heavy-hitters", ADMIN_PORT, filterChain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    public void testAdminPathIsHiddenOnApiPort() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        MockHttpServletResponse response = filter("/admin/orders/heavy-hitters", API_PORT, filterChain);
+
+        assertEquals(404, response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    public void testApiPathIsHiddenOnAdminPort() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        MockHttpServletResponse response = filter("/orders/d215b5f8-0249-4dc5-89a3-51fd148cfb41", ADMIN_PORT,
+                filterChain);
+
+        assertEquals(404, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertEquals(200, filter("/administrators", API_PORT, new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    public void testEncodedAdminPathIsHiddenOnApiPort() throws ServletException, IOException {
+        MockFilterChain semicolonFilterChain = new MockFilterChain();
+        MockFilterChain encodedFilterChain = new MockFilterChain();
+
+        MockHttpServletResponse semicolonResponse = filter("/admin;x=1/orders/heavy-hitters", API_PORT,
+                semicolonFilterChain);
+        MockHttpServletResponse encodedResponse = filter("/%61dmin/orders/heavy-hitters", API_PORT,
+                encodedFilterChain);
+
+        assertEquals(404, semicolonResponse.getStatus());
+        assertNull(semicolonFilterChain.getRequest());
+        assertEquals(404, encodedResponse.getStatus());
+        assertNull(encodedFilterChain.getRequest());
+    }
+
+    private MockHttpServletResponse filter(String path, int localPort, MockFilterChain filterChain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setLocalPort(localPort);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        adminPortFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.application.admin;
+
+import com.food.ordering.system.order.service.application.rest.OrderAdminController;
+import com.food.ordering.system.order.service.application.rest.OrderController;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class AdminPortInterceptorTest {
+
+    private final int API_PORT = 8181;
+    private final int ADMIN_PORT = 8191;
+
+    private AdminPortInterceptor adminPortInterceptor;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setAdminPort(ADMIN_PORT);
+        adminPortInterceptor = new AdminPortInterceptor(orderServiceConfigData);
+    }
+
+    @Test
+    public void testAdminHandlerIsRejectedOffAdminPort() throws Exception {
+        HandlerMethod handlerMethod = handlerMethod(OrderAdminController.class, "getHeavyHitters");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(adminPortInterceptor.preHandle(request("/%61dmin/orders/heavy-hitters", API_PORT), response,
+                handlerMethod));
+        assertEquals(404, response.getStatus());
+        assertTrue(adminPortInterceptor.preHandle(request("/admin/orders/heavy-hitters", ADMIN_PORT),
+                new MockHttpServletResponse(), handlerMethod));
+    }
+
+    @Test
+    public void testApiHandlerIsNotRestricted() throws Exception {
+        HandlerMethod handlerMethod = handlerMethod(OrderController.class, "getOrderByTrackingId");
+
+        assertTrue(adminPortInterceptor.preHandle(request("/orders", API_PORT), new MockHttpServletResponse(),
+                handlerMethod));
+    }
+
+    private HandlerMethod handlerMethod(Class<?> controllerClass, String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(mock(controllerClass), Arrays.stream(controllerClass.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchMethodException(methodName)));
+    }
+
+    private MockHttpServletRequest request(String path, int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
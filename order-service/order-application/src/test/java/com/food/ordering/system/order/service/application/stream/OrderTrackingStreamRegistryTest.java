@@ -0,0 +1,163 @@
+package com.food.ordering.system.order.service.application.stream;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderTrackingStreamRegistryTest {
+
+    private final UUID TRACKING_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    private RecordingSseEmitter emitter;
+    private OrderTrackingStreamRegistry orderTrackingStreamRegistry;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setTrackingStreamTimeoutMs(60000L);
+        orderServiceConfigData.setTrackingStreamDispatcherThreads(1);
+        emitter = new RecordingSseEmitter();
+        orderTrackingStreamRegistry = new OrderTrackingStreamRegistry(new OrderDataMapper(UUID::randomUUID),
+                orderServiceConfigData) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    public void close() {
+        orderTrackingStreamRegistry.close();
+    }
+
+    @Test
+    public void testSubscribeSendsCurrentStatusAndStatusChanges() throws InterruptedException {
+        orderTrackingStreamRegistry.subscribe(TRACKING_ID, () -> trackOrderResponse(OrderStatus.PENDING, 1));
+        orderTrackingStreamRegistry.publish(view(OrderStatus.PENDING, 1));
+        orderTrackingStreamRegistry.publish(view(OrderStatus.PAID, 2));
+        assertEquals(2, emitter.awaitSends(3));
+        assertFalse(emitter.isCompleted());
+    }
+
+    @Test
+    public void testTerminalStatusCompletesStream() throws InterruptedException {
+        orderTrackingStreamRegistry.subscribe(TRACKING_ID, () -> trackOrderResponse(OrderStatus.PAID, 1));
+        orderTrackingStreamRegistry.publish(view(OrderStatus.APPROVED, 2));
+        assertEquals(2, emitter.awaitSends(2));
+        assertTrue(emitter.awaitCompletion());
+        assertNull(emitter.error);
+    }
+
+    @Test
+    public void testSendFailureCompletesStreamWithErrorAndUnsubscribes() throws InterruptedException {
+        emitter.failSends = true;
+        orderTrackingStreamRegistry.subscribe(TRACKING_ID, () -> trackOrderResponse(OrderStatus.PENDING, 1));
+        assertTrue(emitter.awaitCompletion());
+        assertInstanceOf(IOException.class, emitter.error);
+
+        emitter.failSends = false;
+        orderTrackingStreamRegistry.publish(view(OrderStatus.PAID, 2));
+        assertEquals(0, emitter.awaitSends(1));
+    }
+
+    @Test
+    public void testTerminalStatusPublishedBeforeSnapshotIsReadCompletesStream() throws InterruptedException {
+        orderTrackingStreamRegistry.subscribe(TRACKING_ID, () -> {
+            orderTrackingStreamRegistry.publish(view(OrderStatus.APPROVED, 2));
+            return trackOrderResponse(OrderStatus.PAID, 1);
+        });
+
+        assertTrue(emitter.awaitCompletion());
+        assertEquals(1, emitter.awaitSends(2));
+        assertNull(emitter.error);
+    }
+
+    @Test
+    public void testFailedSnapshotReadUnsubscribes() throws InterruptedException {
+        assertThrows(OrderNotFoundException.class, () -> orderTrackingStreamRegistry.subscribe(TRACKING_ID, () -> {
+            throw new OrderNotFoundException("Could not find order with tracking id: " + TRACKING_ID);
+        }));
+
+        orderTrackingStreamRegistry.publish(view(OrderStatus.PAID, 2));
+        assertEquals(0, emitter.awaitSends(1));
+    }
+
+    private TrackOrderResponse trackOrderResponse(OrderStatus orderStatus, long version) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(TRACKING_ID)
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .version(version)
+                .build();
+    }
+
+    private OrderTrackingView view(OrderStatus orderStatus, long version) {
+        return OrderTrackingView.builder()
+                .trackingId(TRACKING_ID)
+                .orderStatus(orderStatus)
+                .failureReasons(List.of())
+                .version(version)
+                .build();
+    }
+
+    private static class RecordingSseEmitter extends SseEmitter {
+
+        private final BlockingQueue<SseEventBuilder> sends = new LinkedBlockingQueue<>();
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private volatile boolean failSends;
+        private volatile Throwable error;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failSends) {
+                throw new IOException("Client disconnected");
+            }
+            sends.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completion.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+            completion.countDown();
+        }
+
+        int awaitSends(int expected) throws InterruptedException {
+            int received = 0;
+            while (received < expected && sends.poll(1, TimeUnit.SECONDS) != null) {
+                received++;
+            }
+            return received;
+        }
+
+        boolean isCompleted() {
+            return completion.getCount() == 0;
+        }
+
+        boolean awaitCompletion() throws InterruptedException {
+            return completion.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
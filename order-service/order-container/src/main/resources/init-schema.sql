@@ -17,10 +17,15 @@ CREATE TABLE "order".orders
     tracking_id uuid NOT NULL,
     price numeric(10,2) NOT NULL,
     order_status order_status NOT NULL,
-    failure_messages character varying COLLATE pg_catalog."default",
+    failure_reasons jsonb,
     CONSTRAINT orders_pkey PRIMARY KEY (id)
 );
 
+CREATE INDEX "orders_in_flight_restaurant_id"
+    ON "order".orders
+    (restaurant_id)
+    WHERE order_status IN ('PENDING', 'PAID', 'CANCELLING');
+
 DROP TABLE IF EXISTS "order".order_items CASCADE;
 
 CREATE TABLE "order".order_items
@@ -76,6 +81,7 @@ CREATE TABLE "order".payment_outbox
     processed_at TIMESTAMP WITH TIME ZONE,
     type character varying COLLATE pg_catalog."default" NOT NULL,
     payload jsonb NOT NULL,
+    trace_parent character varying COLLATE pg_catalog."default",
     outbox_status outbox_status NOT NULL,
     saga_status saga_status NOT NULL,
     order_status order_status NOT NULL,
@@ -87,6 +93,11 @@ CREATE INDEX "payment_outbox_saga_status"
     ON "order".payment_outbox
     (type, outbox_status, saga_status);
 
+CREATE INDEX "payment_outbox_backlog"
+    ON "order".payment_outbox
+    (outbox_status, saga_status, created_at)
+    WHERE outbox_status IN ('STARTED', 'FAILED');
+
 --CREATE UNIQUE INDEX "payment_outbox_saga_id"
 --    ON "order".payment_outbox
 --    (type, saga_id, saga_status);
@@ -101,6 +112,7 @@ CREATE TABLE "order".restaurant_approval_outbox
     processed_at TIMESTAMP WITH TIME ZONE,
     type character varying COLLATE pg_catalog."default" NOT NULL,
     payload jsonb NOT NULL,
+    trace_parent character varying COLLATE pg_catalog."default",
     outbox_status outbox_status NOT NULL,
     saga_status saga_status NOT NULL,
     order_status order_status NOT NULL,
@@ -112,10 +124,32 @@ CREATE INDEX "restaurant_approval_outbox_saga_status"
     ON "order".restaurant_approval_outbox
     (type, outbox_status, saga_status);
 
+CREATE INDEX "restaurant_approval_outbox_backlog"
+    ON "order".restaurant_approval_outbox
+    (outbox_status, saga_status, created_at)
+    WHERE outbox_status IN ('STARTED', 'FAILED');
+
 --CREATE UNIQUE INDEX "restaurant_approval_outbox_saga_id"
 --    ON "order".restaurant_approval_outbox
 --    (type, saga_id, saga_status);
 
+DROP TABLE IF EXISTS "order".order_idempotency_keys CASCADE;
+
+CREATE TABLE "order".order_idempotency_keys
+(
+    customer_id uuid NOT NULL,
+    idempotency_key character varying COLLATE pg_catalog."default" NOT NULL,
+    tracking_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    message character varying COLLATE pg_catalog."default" NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_idempotency_keys_pkey PRIMARY KEY (customer_id, idempotency_key)
+);
+
+CREATE INDEX "order_idempotency_keys_created_at"
+    ON "order".order_idempotency_keys
+    (created_at);
+
 DROP TABLE IF EXISTS "order".customers CASCADE;
 
 CREATE TABLE "order".customers
@@ -113,7 +113,7 @@ public class OrderPaymentSagaTest {
                 .customerId(CUSTOMER_ID.toString())
                 .price(PRICE)
                 .createdAt(Instant.now())
-                .failureMessages(new ArrayList<>())
+                .failureReasons(new ArrayList<>())
                 .build();
     }
 
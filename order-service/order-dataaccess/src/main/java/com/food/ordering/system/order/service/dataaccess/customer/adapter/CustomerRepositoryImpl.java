@@ -7,6 +7,8 @@ import com.food.ordering.system.order.service.domain.ports.output.repository.Cus
 import org.springframework.stereotype.Component;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +29,13 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
     }
 
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        return customerJpaRepository.findAllById(customerIds).stream()
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .toList();
+    }
+
     @Transactional
     @Override
     public Customer save(Customer customer) {
@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntityId;
+import com.food.ordering.system.order.service.dataaccess.idempotency.mapper.OrderIdempotencyDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.idempotency.repository.OrderIdempotencyJpaRepository;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyRecord;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class OrderIdempotencyRepositoryImpl implements OrderIdempotencyRepository {
+
+    private final OrderIdempotencyJpaRepository orderIdempotencyJpaRepository;
+    private final OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper;
+
+    public OrderIdempotencyRepositoryImpl(OrderIdempotencyJpaRepository orderIdempotencyJpaRepository,
+                                          OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper) {
+        this.orderIdempotencyJpaRepository = orderIdempotencyJpaRepository;
+        this.orderIdempotencyDataAccessMapper = orderIdempotencyDataAccessMapper;
+    }
+
+    @Override
+    public OrderIdempotencyRecord save(OrderIdempotencyRecord orderIdempotencyRecord) {
+        return orderIdempotencyDataAccessMapper.orderIdempotencyEntityToOrderIdempotencyRecord(
+                orderIdempotencyJpaRepository.saveAndFlush(orderIdempotencyDataAccessMapper
+                        .orderIdempotencyRecordToOrderIdempotencyEntity(orderIdempotencyRecord)));
+    }
+
+    @Override
+    public boolean saveIfAbsent(OrderIdempotencyRecord orderIdempotencyRecord) {
+        return orderIdempotencyJpaRepository.insertIfAbsent(orderIdempotencyRecord.getCustomerId(),
+                orderIdempotencyRecord.getIdempotencyKey(),
+                orderIdempotencyRecord.getOrderTrackingId(),
+                orderIdempotencyRecord.getOrderStatus().name(),
+                orderIdempotencyRecord.getMessage(),
+                orderIdempotencyRecord.getCreatedAt()) > 0;
+    }
+
+    @Override
+    public Optional<OrderIdempotencyRecord> findByCustomerIdAndIdempotencyKey(UUID customerId,
+                                                                              String idempotencyKey) {
+        return orderIdempotencyJpaRepository.findById(new OrderIdempotencyEntityId(customerId, idempotencyKey))
+                .map(orderIdempotencyDataAccessMapper::orderIdempotencyEntityToOrderIdempotencyRecord);
+    }
+
+    @Override
+    public void deleteByCustomerIdAndIdempotencyKey(UUID customerId, String idempotencyKey) {
+        orderIdempotencyJpaRepository.deleteByCustomerIdAndIdempotencyKey(customerId, idempotencyKey);
+    }
+
+    @Override
+    public int deleteByCreatedAtBefore(ZonedDateTime createdAt) {
+        return orderIdempotencyJpaRepository.deleteByCreatedAtBefore(createdAt);
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(OrderIdempotencyEntityId.class)
+@Table(name = "order_idempotency_keys")
+@Entity
+public class OrderIdempotencyEntity implements Persistable<OrderIdempotencyEntityId> {
+
+    @Id
+    private UUID customerId;
+    @Id
+    private String idempotencyKey;
+    private UUID trackingId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private String message;
+    private ZonedDateTime createdAt;
+
+    @Override
+    public OrderIdempotencyEntityId getId() {
+        return new OrderIdempotencyEntityId(customerId, idempotencyKey);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIdempotencyEntity that = (OrderIdempotencyEntity) o;
+        return customerId.equals(that.customerId) && idempotencyKey.equals(that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, idempotencyKey);
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyEntityId implements Serializable {
+
+    private UUID customerId;
+    private String idempotencyKey;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIdempotencyEntityId that = (OrderIdempotencyEntityId) o;
+        return customerId.equals(that.customerId) && idempotencyKey.equals(that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, idempotencyKey);
+    }
+}
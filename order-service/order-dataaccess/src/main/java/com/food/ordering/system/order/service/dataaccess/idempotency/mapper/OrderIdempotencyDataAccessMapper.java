@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntity;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyRecord;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIdempotencyDataAccessMapper {
+
+    public OrderIdempotencyEntity orderIdempotencyRecordToOrderIdempotencyEntity(OrderIdempotencyRecord
+                                                                                         orderIdempotencyRecord) {
+        return OrderIdempotencyEntity.builder()
+                .customerId(orderIdempotencyRecord.getCustomerId())
+                .idempotencyKey(orderIdempotencyRecord.getIdempotencyKey())
+                .trackingId(orderIdempotencyRecord.getOrderTrackingId())
+                .orderStatus(orderIdempotencyRecord.getOrderStatus())
+                .message(orderIdempotencyRecord.getMessage())
+                .createdAt(orderIdempotencyRecord.getCreatedAt())
+                .build();
+    }
+
+    public OrderIdempotencyRecord orderIdempotencyEntityToOrderIdempotencyRecord(OrderIdempotencyEntity
+                                                                                         orderIdempotencyEntity) {
+        return OrderIdempotencyRecord.builder()
+                .customerId(orderIdempotencyEntity.getCustomerId())
+                .idempotencyKey(orderIdempotencyEntity.getIdempotencyKey())
+                .orderTrackingId(orderIdempotencyEntity.getTrackingId())
+                .orderStatus(orderIdempotencyEntity.getOrderStatus())
+                .message(orderIdempotencyEntity.getMessage())
+                .createdAt(orderIdempotencyEntity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.repository;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntity;
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyEntityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Repository
+public interface OrderIdempotencyJpaRepository extends JpaRepository<OrderIdempotencyEntity, OrderIdempotencyEntityId> {
+
+    @Modifying
+    @Query(value = "insert into order_idempotency_keys " +
+            "(customer_id, idempotency_key, tracking_id, order_status, message, created_at) " +
+            "values (:customerId, :idempotencyKey, :trackingId, cast(:orderStatus as order_status), :message, " +
+            ":createdAt) on conflict (customer_id, idempotency_key) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("trackingId") UUID trackingId,
+                       @Param("orderStatus") String orderStatus,
+                       @Param("message") String message,
+                       @Param("createdAt") ZonedDateTime createdAt);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyEntity e " +
+            "where e.customerId = :customerId and e.idempotencyKey = :idempotencyKey")
+    void deleteByCustomerIdAndIdempotencyKey(@Param("customerId") UUID customerId,
+                                             @Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyEntity e where e.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") ZonedDateTime createdAt);
+}
@@ -1,13 +1,18 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.admission.RestaurantInFlightSagaCount;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -15,11 +20,14 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
     private final OrderDataAccessMapper orderDataAccessMapper;
+    private final EntityManager entityManager;
 
     public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository,
-                               OrderDataAccessMapper orderDataAccessMapper) {
+                               OrderDataAccessMapper orderDataAccessMapper,
+                               EntityManager entityManager) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderDataAccessMapper = orderDataAccessMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -28,6 +36,14 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .save(orderDataAccessMapper.orderToOrderEntity(order)));
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<OrderEntity> orderEntities = orders.stream().map(orderDataAccessMapper::orderToOrderEntity).toList();
+        orderEntities.forEach(entityManager::persist);
+        entityManager.flush();
+        return orderEntities.stream().map(orderDataAccessMapper::orderEntityToOrder).toList();
+    }
+
     @Override
     public Optional<Order> findById(OrderId orderId) {
         return orderJpaRepository.findById(orderId.getValue()).map(orderDataAccessMapper::orderEntityToOrder);
@@ -38,4 +54,9 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public List<RestaurantInFlightSagaCount> countInFlightSagasByRestaurant(List<OrderStatus> orderStatuses) {
+        return orderJpaRepository.countByOrderStatusInGroupByRestaurantId(orderStatuses);
+    }
 }
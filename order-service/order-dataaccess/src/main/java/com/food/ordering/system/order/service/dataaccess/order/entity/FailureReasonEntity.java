@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.dataaccess.order.entity;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailureReasonEntity {
+    private FailureCode code;
+    private List<String> parameters;
+}
@@ -25,7 +25,8 @@ public class OrderEntity {
     private BigDecimal price;
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
-    private String failureMessages;
+    @Column(columnDefinition = "jsonb")
+    private String failureReasons;
 
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private OrderAddressEntity address;
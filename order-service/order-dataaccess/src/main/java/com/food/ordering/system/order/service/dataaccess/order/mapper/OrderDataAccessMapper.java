@@ -1,27 +1,37 @@
 package com.food.ordering.system.order.service.dataaccess.order.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.food.ordering.system.domain.valueobject.*;
+import com.food.ordering.system.order.service.dataaccess.order.entity.FailureReasonEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
-
+@Slf4j
 @Component
 public class OrderDataAccessMapper {
 
+    private final ObjectMapper objectMapper;
+
+    public OrderDataAccessMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     public OrderEntity orderToOrderEntity(Order order) {
         OrderEntity orderEntity = OrderEntity.builder()
                 .id(order.getId().getValue())
@@ -32,8 +42,7 @@ public class OrderDataAccessMapper {
                 .price(order.getPrice().getAmount())
                 .items(orderItemsToOrderItemEntities(order.getItems()))
                 .orderStatus(order.getOrderStatus())
-                .failureMessages(order.getFailureMessages() != null ?
-                        String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+                .failureReasons(failureReasonsToJson(order.getId().getValue().toString(), order.getFailureReasons()))
                 .build();
         orderEntity.getAddress().setOrder(orderEntity);
         orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
@@ -51,12 +60,44 @@ public class OrderDataAccessMapper {
                 .items(orderItemEntitiesToOrderItems(orderEntity.getItems()))
                 .trackingId(new TrackingId(orderEntity.getTrackingId()))
                 .orderStatus(orderEntity.getOrderStatus())
-                .failureMessages(orderEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
-                        new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages()
-                                .split(FAILURE_MESSAGE_DELIMITER))))
+                .failureReasons(jsonToFailureReasons(orderEntity.getId().toString(), orderEntity.getFailureReasons()))
                 .build();
     }
 
+    private String failureReasonsToJson(String orderId, List<FailureReason> failureReasons) {
+        if (failureReasons == null || failureReasons.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(failureReasons.stream()
+                    .map(failureReason -> FailureReasonEntity.builder()
+                            .code(failureReason.getCode())
+                            .parameters(failureReason.getParameters())
+                            .build())
+                    .collect(Collectors.toList()));
+        } catch (JsonProcessingException e) {
+            log.error("Could not write failure reasons for order id: {}", orderId, e);
+            throw new OrderDomainException("Could not write failure reasons for order id: " + orderId, e);
+        }
+    }
+
+    private List<FailureReason> jsonToFailureReasons(String orderId, String failureReasons) {
+        if (failureReasons == null) {
+            return new ArrayList<>();
+        }
+        try {
+            List<FailureReasonEntity> failureReasonEntities = objectMapper.readValue(failureReasons,
+                    new TypeReference<List<FailureReasonEntity>>() {});
+            return failureReasonEntities.stream()
+                    .map(failureReasonEntity -> new FailureReason(failureReasonEntity.getCode(),
+                            failureReasonEntity.getParameters()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (JsonProcessingException e) {
+            log.error("Could not read failure reasons for order id: {}", orderId, e);
+            throw new OrderDomainException("Could not read failure reasons for order id: " + orderId, e);
+        }
+    }
+
     private List<OrderItem> orderItemEntitiesToOrderItems(List<OrderItemEntity> items) {
         return items.stream()
                 .map(orderItemEntity -> OrderItem.builder()
@@ -1,9 +1,14 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.domain.admission.RestaurantInFlightSagaCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +16,10 @@ import java.util.UUID;
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
     Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+    @Query("SELECT new com.food.ordering.system.order.service.domain.admission.RestaurantInFlightSagaCount(" +
+            "e.restaurantId, COUNT(e)) FROM OrderEntity e WHERE e.orderStatus IN :orderStatuses " +
+            "GROUP BY e.restaurantId")
+    List<RestaurantInFlightSagaCount> countByOrderStatusInGroupByRestaurantId(
+            @Param("orderStatuses") List<OrderStatus> orderStatuses);
 }
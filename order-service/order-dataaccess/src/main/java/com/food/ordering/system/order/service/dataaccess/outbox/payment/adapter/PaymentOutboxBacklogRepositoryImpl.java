@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_PAYMENT_OUTBOX;
+
+@Component
+public class PaymentOutboxBacklogRepositoryImpl implements OutboxBacklogRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+
+    public PaymentOutboxBacklogRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository) {
+        this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
+    }
+
+    @Override
+    public String getOutboxName() {
+        return ORDER_PAYMENT_OUTBOX;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxBacklogCount> countByOutboxStatusAndState() {
+        return paymentOutboxJpaRepository.countByOutboxStatusAndState();
+    }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.exception.PaymentOutboxNotFoundException;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
@@ -9,6 +10,7 @@ import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -20,11 +22,14 @@ public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
 
     private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
     private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+    private final EntityManager entityManager;
 
     public PaymentOutboxRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository,
-                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper,
+                                       EntityManager entityManager) {
         this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
         this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -35,6 +40,18 @@ public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
                                 .orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
     }
 
+    @Override
+    public List<OrderPaymentOutboxMessage> saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        List<PaymentOutboxEntity> paymentOutboxEntities = orderPaymentOutboxMessages.stream()
+                .map(paymentOutboxDataAccessMapper::orderPaymentOutboxMessageToOutboxEntity)
+                .toList();
+        paymentOutboxEntities.forEach(entityManager::persist);
+        entityManager.flush();
+        return paymentOutboxEntities.stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .toList();
+    }
+
     @Override
     public Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String sagaType,
                                                                                             OutboxStatus outboxStatus,
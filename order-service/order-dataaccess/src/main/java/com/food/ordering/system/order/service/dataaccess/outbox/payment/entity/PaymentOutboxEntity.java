@@ -26,6 +26,7 @@ public class PaymentOutboxEntity {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    private String traceParent;
     @Enumerated(EnumType.STRING)
     private SagaStatus sagaStatus;
     @Enumerated(EnumType.STRING)
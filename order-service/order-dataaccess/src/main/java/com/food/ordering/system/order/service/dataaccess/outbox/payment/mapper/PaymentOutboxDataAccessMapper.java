@@ -15,6 +15,7 @@ public class PaymentOutboxDataAccessMapper {
                 .createdAt(orderPaymentOutboxMessage.getCreatedAt())
                 .type(orderPaymentOutboxMessage.getType())
                 .payload(orderPaymentOutboxMessage.getPayload())
+                .traceParent(orderPaymentOutboxMessage.getTraceParent())
                 .orderStatus(orderPaymentOutboxMessage.getOrderStatus())
                 .sagaStatus(orderPaymentOutboxMessage.getSagaStatus())
                 .outboxStatus(orderPaymentOutboxMessage.getOutboxStatus())
@@ -30,6 +31,7 @@ public class PaymentOutboxDataAccessMapper {
                 .createdAt(paymentOutboxEntity.getCreatedAt())
                 .type(paymentOutboxEntity.getType())
                 .payload(paymentOutboxEntity.getPayload())
+                .traceParent(paymentOutboxEntity.getTraceParent())
                 .orderStatus(paymentOutboxEntity.getOrderStatus())
                 .sagaStatus(paymentOutboxEntity.getSagaStatus())
                 .outboxStatus(paymentOutboxEntity.getOutboxStatus())
@@ -2,8 +2,10 @@ package com.food.ordering.system.order.service.dataaccess.outbox.payment.reposit
 
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
 import com.food.ordering.system.saga.SagaStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,4 +27,11 @@ public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxE
                                                     OutboxStatus outboxStatus,
                                                     List<SagaStatus> sagaStatus);
 
+    @Query("SELECT new com.food.ordering.system.outbox.metrics.OutboxBacklogCount(" +
+            "e.outboxStatus, e.sagaStatus, COUNT(e), MIN(e.createdAt)) FROM PaymentOutboxEntity e " +
+            "WHERE e.outboxStatus IN (com.food.ordering.system.outbox.OutboxStatus.STARTED, " +
+            "com.food.ordering.system.outbox.OutboxStatus.FAILED) " +
+            "GROUP BY e.outboxStatus, e.sagaStatus")
+    List<OutboxBacklogCount> countByOutboxStatusAndState();
+
 }
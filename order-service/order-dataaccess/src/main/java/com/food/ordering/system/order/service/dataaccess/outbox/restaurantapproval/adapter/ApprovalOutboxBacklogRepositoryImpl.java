@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.repository.ApprovalOutboxJpaRepository;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_RESTAURANT_APPROVAL_OUTBOX;
+
+@Component
+public class ApprovalOutboxBacklogRepositoryImpl implements OutboxBacklogRepository {
+
+    private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+
+    public ApprovalOutboxBacklogRepositoryImpl(ApprovalOutboxJpaRepository approvalOutboxJpaRepository) {
+        this.approvalOutboxJpaRepository = approvalOutboxJpaRepository;
+    }
+
+    @Override
+    public String getOutboxName() {
+        return ORDER_RESTAURANT_APPROVAL_OUTBOX;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxBacklogCount> countByOutboxStatusAndState() {
+        return approvalOutboxJpaRepository.countByOutboxStatusAndState();
+    }
+}
@@ -15,6 +15,7 @@ public class ApprovalOutboxDataAccessMapper {
                 .createdAt(orderApprovalOutboxMessage.getCreatedAt())
                 .type(orderApprovalOutboxMessage.getType())
                 .payload(orderApprovalOutboxMessage.getPayload())
+                .traceParent(orderApprovalOutboxMessage.getTraceParent())
                 .orderStatus(orderApprovalOutboxMessage.getOrderStatus())
                 .sagaStatus(orderApprovalOutboxMessage.getSagaStatus())
                 .outboxStatus(orderApprovalOutboxMessage.getOutboxStatus())
@@ -30,6 +31,7 @@ public class ApprovalOutboxDataAccessMapper {
                 .createdAt(approvalOutboxEntity.getCreatedAt())
                 .type(approvalOutboxEntity.getType())
                 .payload(approvalOutboxEntity.getPayload())
+                .traceParent(approvalOutboxEntity.getTraceParent())
                 .orderStatus(approvalOutboxEntity.getOrderStatus())
                 .sagaStatus(approvalOutboxEntity.getSagaStatus())
                 .outboxStatus(approvalOutboxEntity.getOutboxStatus())
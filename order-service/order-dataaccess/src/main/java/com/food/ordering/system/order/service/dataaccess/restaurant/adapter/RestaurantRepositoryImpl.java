@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
@@ -32,4 +33,22 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                         restaurantProducts);
         return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public List<Restaurant> findRestaurantsInformation(List<Restaurant> restaurants) {
+        List<UUID> restaurantIds = restaurants.stream()
+                .map(restaurant -> restaurant.getId().getValue())
+                .toList();
+        List<UUID> restaurantProducts = restaurants.stream()
+                .flatMap(restaurant -> restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant).stream())
+                .distinct()
+                .toList();
+        return restaurantJpaRepository.findByRestaurantIdInAndProductIdIn(restaurantIds, restaurantProducts)
+                .map(restaurantEntities -> restaurantEntities.stream()
+                        .collect(Collectors.groupingBy(RestaurantEntity::getRestaurantId))
+                        .values().stream()
+                        .map(restaurantDataAccessMapper::restaurantEntityToRestaurant)
+                        .toList())
+                .orElse(List.of());
+    }
 }
@@ -1,14 +1,26 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.admission.OrderAdmission;
+import com.food.ordering.system.order.service.domain.admission.OrderAdmissionController;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHittersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.heavyhitter.OrderHeavyHitterTracker;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyHelper;
+import com.food.ordering.system.order.service.domain.intake.OrderGroupCommitIntake;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Validated
 @Service
@@ -16,21 +28,124 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
 
+    private final OrderCreateBatchCommandHandler orderCreateBatchCommandHandler;
+
     private final OrderTrackCommandHandler orderTrackCommandHandler;
 
+    private final OrderGroupCommitIntake orderGroupCommitIntake;
+
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+
+    private final OrderHeavyHitterTracker orderHeavyHitterTracker;
+
+    private final OrderAdmissionController orderAdmissionController;
+
     public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler,
-                                       OrderTrackCommandHandler orderTrackCommandHandler) {
+                                       OrderCreateBatchCommandHandler orderCreateBatchCommandHandler,
+                                       OrderTrackCommandHandler orderTrackCommandHandler,
+                                       OrderGroupCommitIntake orderGroupCommitIntake,
+                                       OrderIdempotencyHelper orderIdempotencyHelper,
+                                       OrderHeavyHitterTracker orderHeavyHitterTracker,
+                                       OrderAdmissionController orderAdmissionController) {
         this.orderCreateCommandHandler = orderCreateCommandHandler;
+        this.orderCreateBatchCommandHandler = orderCreateBatchCommandHandler;
         this.orderTrackCommandHandler = orderTrackCommandHandler;
+        this.orderGroupCommitIntake = orderGroupCommitIntake;
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
+        this.orderHeavyHitterTracker = orderHeavyHitterTracker;
+        this.orderAdmissionController = orderAdmissionController;
     }
 
     @Override
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        return orderCreateCommandHandler.createOrder(createOrderCommand);
+        return admitAndCreateOrder(createOrderCommand, null);
+    }
+
+    @Override
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(createOrderCommand);
+        }
+        Optional<CreateOrderResponse> createOrderResponse = orderIdempotencyHelper
+                .findCreateOrderResponse(createOrderCommand.getCustomerId(), idempotencyKey);
+        if (createOrderResponse.isPresent()) {
+            log.info("Returning stored response for idempotency key: {}", idempotencyKey);
+            return createOrderResponse.get();
+        }
+        try {
+            return admitAndCreateOrder(createOrderCommand, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Order with idempotency key: {} is already being created", idempotencyKey);
+            return orderIdempotencyHelper.findCreateOrderResponse(createOrderCommand.getCustomerId(), idempotencyKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CreateOrderResponse> submitOrder(CreateOrderCommand createOrderCommand) {
+        return admitAndSubmitOrder(createOrderCommand, null);
+    }
+
+    @Override
+    public CompletableFuture<CreateOrderResponse> submitOrder(CreateOrderCommand createOrderCommand,
+                                                              String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return submitOrder(createOrderCommand);
+        }
+        Optional<CreateOrderResponse> createOrderResponse = orderIdempotencyHelper
+                .findCreateOrderResponse(createOrderCommand.getCustomerId(), idempotencyKey);
+        if (createOrderResponse.isPresent()) {
+            log.info("Returning stored response for idempotency key: {}", idempotencyKey);
+            return CompletableFuture.completedFuture(createOrderResponse.get());
+        }
+        return admitAndSubmitOrder(createOrderCommand, idempotencyKey);
+    }
+
+    @Override
+    public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+        return orderCreateBatchCommandHandler.createOrders(createOrderBatchCommand);
     }
 
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public HeavyHittersResponse getHeavyHitters() {
+        return orderHeavyHitterTracker.getHeavyHitters();
+    }
+
+    private CreateOrderResponse admitAndCreateOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        OrderAdmission orderAdmission = orderAdmissionController.admit(createOrderCommand);
+        CreateOrderResponse createOrderResponse;
+        try {
+            createOrderResponse = orderCreateCommandHandler.createOrder(createOrderCommand, idempotencyKey);
+        } catch (RuntimeException e) {
+            orderAdmission.abandon();
+            throw e;
+        }
+        orderAdmission.confirm();
+        return createOrderResponse;
+    }
+
+    private CompletableFuture<CreateOrderResponse> admitAndSubmitOrder(CreateOrderCommand createOrderCommand,
+                                                                       String idempotencyKey) {
+        OrderAdmission orderAdmission = orderAdmissionController.admit(createOrderCommand);
+        CompletableFuture<CreateOrderResponse> createOrderResponseFuture;
+        try {
+            createOrderResponseFuture = orderGroupCommitIntake.submit(createOrderCommand, idempotencyKey);
+        } catch (RuntimeException e) {
+            orderAdmission.abandon();
+            throw e;
+        }
+        createOrderResponseFuture.whenComplete((createOrderResponse, e) -> {
+            if (e != null) {
+                orderAdmission.abandon();
+            } else {
+                orderAdmission.confirm();
+            }
+        });
+        return createOrderResponseFuture;
+    }
 }
@@ -1,10 +1,13 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.flightrecorder.event.SagaStepEvent;
+import com.food.ordering.system.order.service.domain.admission.OrderAdmissionController;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.heavyhitter.OrderHeavyHitterTracker;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
@@ -13,6 +16,8 @@ import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.Pa
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,22 +38,45 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
     private final PaymentOutboxHelper paymentOutboxHelper;
     private final ApprovalOutboxHelper approvalOutboxHelper;
     private final OrderDataMapper orderDataMapper;
+    private final Tracer tracer;
+    private final OrderHeavyHitterTracker orderHeavyHitterTracker;
+    private final OrderAdmissionController orderAdmissionController;
 
     public OrderApprovalSaga(OrderDomainService orderDomainService,
                              OrderSagaHelper orderSagaHelper,
                              PaymentOutboxHelper paymentOutboxHelper,
                              ApprovalOutboxHelper approvalOutboxHelper,
-                             OrderDataMapper orderDataMapper) {
+                             OrderDataMapper orderDataMapper,
+                             Tracer tracer,
+                             OrderHeavyHitterTracker orderHeavyHitterTracker,
+                             OrderAdmissionController orderAdmissionController) {
         this.orderDomainService = orderDomainService;
         this.orderSagaHelper = orderSagaHelper;
         this.paymentOutboxHelper = paymentOutboxHelper;
         this.approvalOutboxHelper = approvalOutboxHelper;
         this.orderDataMapper = orderDataMapper;
+        this.tracer = tracer;
+        this.orderHeavyHitterTracker = orderHeavyHitterTracker;
+        this.orderAdmissionController = orderAdmissionController;
     }
 
     @Override
     @Transactional
     public void process(RestaurantApprovalResponse restaurantApprovalResponse) {
+        SagaStepEvent sagaStepEvent = new SagaStepEvent("OrderApprovalSaga", "process",
+                restaurantApprovalResponse.getSagaId());
+        sagaStepEvent.begin();
+        try (Span span = tracer.startSpan("OrderApprovalSaga.process")) {
+            span.setAttribute("sagaId", restaurantApprovalResponse.getSagaId());
+            processApproval(restaurantApprovalResponse);
+            sagaStepEvent.setSuccessful(true);
+            span.setSuccessful(true);
+        } finally {
+            sagaStepEvent.commit();
+        }
+    }
+
+    private void processApproval(RestaurantApprovalResponse restaurantApprovalResponse) {
         Optional<OrderApprovalOutboxMessage> orderApprovalOutboxMessageResponse =
                 approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
                         UUID.fromString(restaurantApprovalResponse.getSagaId()),
@@ -72,12 +100,28 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
         paymentOutboxHelper.save(getUpdatedPaymentOutboxMessage(restaurantApprovalResponse.getSagaId(),
                 order.getOrderStatus(), sagaStatus));
 
+        orderAdmissionController.release(order.getRestaurantId().getValue());
+
         log.info("Order with id: {} is approved", order.getId().getValue());
     }
 
     @Override
     @Transactional
     public void rollback(RestaurantApprovalResponse restaurantApprovalResponse) {
+        SagaStepEvent sagaStepEvent = new SagaStepEvent("OrderApprovalSaga", "rollback",
+                restaurantApprovalResponse.getSagaId());
+        sagaStepEvent.begin();
+        try (Span span = tracer.startSpan("OrderApprovalSaga.rollback")) {
+            span.setAttribute("sagaId", restaurantApprovalResponse.getSagaId());
+            rollbackApproval(restaurantApprovalResponse);
+            sagaStepEvent.setSuccessful(true);
+            span.setSuccessful(true);
+        } finally {
+            sagaStepEvent.commit();
+        }
+    }
+
+    private void rollbackApproval(RestaurantApprovalResponse restaurantApprovalResponse) {
         Optional<OrderApprovalOutboxMessage> orderApprovalOutboxMessageResponse =
                 approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
                         UUID.fromString(restaurantApprovalResponse.getSagaId()),
@@ -105,6 +149,9 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
                 OutboxStatus.STARTED,
                 UUID.fromString(restaurantApprovalResponse.getSagaId()));
 
+        orderHeavyHitterTracker.recordRejection(domainEvent.getOrder().getCustomerId().getValue(),
+                domainEvent.getOrder().getRestaurantId().getValue());
+
         log.info("Order with id: {} is cancelling", domainEvent.getOrder().getId().getValue());
     }
 
@@ -148,7 +195,7 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
         log.info("Cancelling order with id: {}", restaurantApprovalResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
         OrderCancelledEvent domainEvent = orderDomainService.cancelOrderPayment(order,
-                restaurantApprovalResponse.getFailureMessages());
+                restaurantApprovalResponse.getFailureReasons());
         orderSagaHelper.saveOrder(order);
         return domainEvent;
     }
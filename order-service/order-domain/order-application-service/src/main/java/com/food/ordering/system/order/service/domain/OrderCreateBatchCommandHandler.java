@@ -0,0 +1,201 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.order.service.domain.admission.OrderAdmission;
+import com.food.ordering.system.order.service.domain.admission.OrderAdmissionController;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderAdmissionException;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyHelper;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyKey;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OrderCreateBatchCommandHandler {
+
+    private final OrderCreateHelper orderCreateHelper;
+    private final OrderDataMapper orderDataMapper;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+    private final IdGenerator idGenerator;
+    private final Tracer tracer;
+    private final OrderAdmissionController orderAdmissionController;
+
+    public OrderCreateBatchCommandHandler(OrderCreateHelper orderCreateHelper,
+                                          OrderDataMapper orderDataMapper,
+                                          PaymentOutboxHelper paymentOutboxHelper,
+                                          OrderSagaHelper orderSagaHelper,
+                                          OrderServiceConfigData orderServiceConfigData,
+                                          OrderIdempotencyHelper orderIdempotencyHelper,
+                                          IdGenerator idGenerator,
+                                          Tracer tracer,
+                                          OrderAdmissionController orderAdmissionController) {
+        this.orderCreateHelper = orderCreateHelper;
+        this.orderDataMapper = orderDataMapper;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
+        this.idGenerator = idGenerator;
+        this.tracer = tracer;
+        this.orderAdmissionController = orderAdmissionController;
+    }
+
+    @Transactional
+    public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand) {
+        return createOrders(createOrderBatchCommand,
+                Collections.nCopies(createOrderBatchCommand.getOrders().size(), null),
+                Collections.nCopies(createOrderBatchCommand.getOrders().size(), tracer.getCurrentTraceParent()),
+                true);
+    }
+
+    @Transactional
+    public CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand,
+                                                 List<String> idempotencyKeys,
+                                                 List<String> traceParents) {
+        return createOrders(createOrderBatchCommand, idempotencyKeys, traceParents, false);
+    }
+
+    private CreateOrderBatchResponse createOrders(CreateOrderBatchCommand createOrderBatchCommand,
+                                                  List<String> idempotencyKeys,
+                                                  List<String> traceParents,
+                                                  boolean admissionRequired) {
+        List<CreateOrderCommand> createOrderCommands = createOrderBatchCommand.getOrders();
+        if (createOrderCommands.size() > orderServiceConfigData.getOrderBatchMaxSize()) {
+            log.warn("Order batch with {} orders exceeds the maximum batch size: {}", createOrderCommands.size(),
+                    orderServiceConfigData.getOrderBatchMaxSize());
+            throw new OrderDomainException("Order batch size: " + createOrderCommands.size() +
+                    " exceeds the maximum batch size: " + orderServiceConfigData.getOrderBatchMaxSize() + "!");
+        }
+
+        Set<UUID> customerIds = orderCreateHelper.findCustomerIds(createOrderCommands);
+        Map<UUID, Restaurant> restaurants = orderCreateHelper.findRestaurants(createOrderCommands);
+
+        List<CreateOrderBatchItemResponse> orderResponses = new ArrayList<>(createOrderCommands.size());
+        List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(createOrderCommands.size());
+        List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages = new ArrayList<>(createOrderCommands.size());
+        Map<OrderIdempotencyKey, Integer> idempotencyKeyIndexes = new HashMap<>();
+        for (int index = 0; index < createOrderCommands.size(); index++) {
+            CreateOrderCommand createOrderCommand = createOrderCommands.get(index);
+            String idempotencyKey = idempotencyKeys.get(index);
+            if (idempotencyKey != null) {
+                Integer firstIndex = idempotencyKeyIndexes.putIfAbsent(
+                        new OrderIdempotencyKey(createOrderCommand.getCustomerId(), idempotencyKey), index);
+                if (firstIndex != null) {
+                    log.info("Order at index: {} of the batch repeats idempotency key: {} of index: {}", index,
+                            idempotencyKey, firstIndex);
+                    orderResponses.add(copyOrderResponse(index, orderResponses.get(firstIndex)));
+                    continue;
+                }
+                Optional<CreateOrderResponse> storedOrderResponse = orderIdempotencyHelper
+                        .findCreateOrderResponse(createOrderCommand.getCustomerId(), idempotencyKey);
+                if (storedOrderResponse.isPresent()) {
+                    orderResponses.add(orderDataMapper.createOrderResponseToCreateOrderBatchItemResponse(index,
+                            storedOrderResponse.get()));
+                    continue;
+                }
+            }
+            OrderAdmission orderAdmission = null;
+            try (Span span = tracer.startSpan("OrderCreateBatchCommandHandler.createOrder", traceParents.get(index))) {
+                if (admissionRequired) {
+                    orderAdmission = orderAdmissionController.admit(createOrderCommand);
+                }
+                OrderCreatedEvent orderCreatedEvent =
+                        orderCreateHelper.initiateOrder(createOrderCommand, customerIds, restaurants);
+                if (idempotencyKey != null && !orderIdempotencyHelper.saveCreateOrderResponseIfAbsent(
+                        createOrderCommand.getCustomerId(), idempotencyKey, orderDataMapper
+                                .orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
+                                        "Order created successfully"))) {
+                    if (orderAdmission != null) {
+                        orderAdmission.abandon();
+                    }
+                    orderResponses.add(storedOrderResponse(index, createOrderCommand.getCustomerId(),
+                            idempotencyKey));
+                    span.setSuccessful(true);
+                    continue;
+                }
+                orderCreatedEvents.add(orderCreatedEvent);
+                orderPaymentOutboxMessages.add(createPaymentOutboxMessage(orderCreatedEvent));
+                orderResponses.add(orderDataMapper.orderToCreateOrderBatchItemResponse(index,
+                        orderCreatedEvent.getOrder(), "Order created successfully"));
+                span.setSuccessful(true);
+            } catch (OrderAdmissionException e) {
+                orderResponses.add(orderDataMapper.rejectedOrderToCreateOrderBatchItemResponse(index,
+                        e.getMessage()));
+            } catch (OrderDomainException e) {
+                if (orderAdmission != null) {
+                    orderAdmission.abandon();
+                }
+                log.warn("Order at index: {} of the batch is rejected: {}", index, e.getMessage());
+                orderResponses.add(orderDataMapper.rejectedOrderToCreateOrderBatchItemResponse(index,
+                        e.getMessage()));
+            }
+        }
+
+        if (!orderCreatedEvents.isEmpty()) {
+            orderCreateHelper.saveOrders(orderCreatedEvents.stream().map(OrderCreatedEvent::getOrder).toList());
+            paymentOutboxHelper.saveAll(orderPaymentOutboxMessages);
+        }
+
+        log.info("{} of {} orders in the batch are created", orderCreatedEvents.size(), createOrderCommands.size());
+
+        return CreateOrderBatchResponse.builder().orders(orderResponses).build();
+    }
+
+    private CreateOrderBatchItemResponse storedOrderResponse(int index, UUID customerId, String idempotencyKey) {
+        return orderIdempotencyHelper.findCreateOrderResponse(customerId, idempotencyKey)
+                .map(createOrderResponse -> orderDataMapper.createOrderResponseToCreateOrderBatchItemResponse(index,
+                        createOrderResponse))
+                .orElseGet(() -> orderDataMapper.rejectedOrderToCreateOrderBatchItemResponse(index,
+                        "Order with idempotency key: " + idempotencyKey + " is already being created!"));
+    }
+
+    private CreateOrderBatchItemResponse copyOrderResponse(int index,
+                                                           CreateOrderBatchItemResponse createOrderBatchItemResponse) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(createOrderBatchItemResponse.isCreated())
+                .orderTrackingId(createOrderBatchItemResponse.getOrderTrackingId())
+                .orderStatus(createOrderBatchItemResponse.getOrderStatus())
+                .message(createOrderBatchItemResponse.getMessage())
+                .build();
+    }
+
+    private OrderPaymentOutboxMessage createPaymentOutboxMessage(OrderCreatedEvent orderCreatedEvent) {
+        Order order = orderCreatedEvent.getOrder();
+        return paymentOutboxHelper.createPaymentOutboxMessage(orderDataMapper
+                        .orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent),
+                order.getOrderStatus(),
+                orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus()),
+                OutboxStatus.STARTED,
+                idGenerator.generateId());
+    }
+}
@@ -1,8 +1,10 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyHelper;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.outbox.OutboxStatus;
@@ -10,8 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
-
 @Slf4j
 @Component
 public class OrderCreateCommandHandler {
@@ -20,19 +20,25 @@ public class OrderCreateCommandHandler {
     private final OrderDataMapper orderDataMapper;
     private final PaymentOutboxHelper paymentOutboxHelper;
     private final OrderSagaHelper orderSagaHelper;
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+    private final IdGenerator idGenerator;
 
     public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
                                      OrderDataMapper orderDataMapper,
                                      PaymentOutboxHelper paymentOutboxHelper,
-                                     OrderSagaHelper orderSagaHelper) {
+                                     OrderSagaHelper orderSagaHelper,
+                                     OrderIdempotencyHelper orderIdempotencyHelper,
+                                     IdGenerator idGenerator) {
         this.orderCreateHelper = orderCreateHelper;
         this.orderDataMapper = orderDataMapper;
         this.paymentOutboxHelper = paymentOutboxHelper;
         this.orderSagaHelper = orderSagaHelper;
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
-    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
         OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
         log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
         CreateOrderResponse createOrderResponse = orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
@@ -43,7 +49,12 @@ public class OrderCreateCommandHandler {
                 orderCreatedEvent.getOrder().getOrderStatus(),
                 orderSagaHelper.orderStatusToSagaStatus(orderCreatedEvent.getOrder().getOrderStatus()),
                 OutboxStatus.STARTED,
-                UUID.randomUUID());
+                idGenerator.generateId());
+
+        if (idempotencyKey != null) {
+            orderIdempotencyHelper.saveCreateOrderResponse(createOrderCommand.getCustomerId(), idempotencyKey,
+                    createOrderResponse);
+        }
 
         log.info("Returning CreateOrderResponse with order id: {}", orderCreatedEvent.getOrder().getId());
 
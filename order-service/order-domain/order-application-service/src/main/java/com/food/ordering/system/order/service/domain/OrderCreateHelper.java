@@ -6,16 +6,23 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.heavyhitter.OrderHeavyHitterTracker;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingProjection;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -31,27 +38,101 @@ public class OrderCreateHelper {
 
     private final OrderDataMapper orderDataMapper;
 
+    private final OrderTrackingProjection orderTrackingProjection;
+
+    private final OrderHeavyHitterTracker orderHeavyHitterTracker;
+
     public OrderCreateHelper(OrderDomainService orderDomainService,
                              OrderRepository orderRepository,
                              CustomerRepository customerRepository,
                              RestaurantRepository restaurantRepository,
-                             OrderDataMapper orderDataMapper) {
+                             OrderDataMapper orderDataMapper,
+                             OrderTrackingProjection orderTrackingProjection,
+                             OrderHeavyHitterTracker orderHeavyHitterTracker) {
         this.orderDomainService = orderDomainService;
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.restaurantRepository = restaurantRepository;
         this.orderDataMapper = orderDataMapper;
+        this.orderTrackingProjection = orderTrackingProjection;
+        this.orderHeavyHitterTracker = orderHeavyHitterTracker;
     }
 
     @Transactional
     public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
-        checkCustomer(createOrderCommand.getCustomerId());
-        Restaurant restaurant = checkRestaurant(createOrderCommand);
+        orderHeavyHitterTracker.recordOrder(createOrderCommand);
+        try {
+            checkCustomer(createOrderCommand.getCustomerId());
+            Restaurant restaurant = checkRestaurant(createOrderCommand);
+            Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+            OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
+            saveOrder(order);
+            log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+            return orderCreatedEvent;
+        } catch (OrderDomainException e) {
+            orderHeavyHitterTracker.recordRejection(createOrderCommand.getCustomerId(),
+                    createOrderCommand.getRestaurantId());
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Set<UUID> findCustomerIds(List<CreateOrderCommand> createOrderCommands) {
+        Set<UUID> customerIds = createOrderCommands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .collect(Collectors.toSet());
+        return customerRepository.findCustomers(customerIds).stream()
+                .map(customer -> customer.getId().getValue())
+                .collect(Collectors.toSet());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        return restaurantRepository.findRestaurantsInformation(
+                        orderDataMapper.createOrderCommandsToRestaurants(createOrderCommands)).stream()
+                .collect(Collectors.toMap(restaurant -> restaurant.getId().getValue(), Function.identity()));
+    }
+
+    public OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand,
+                                           Set<UUID> customerIds,
+                                           Map<UUID, Restaurant> restaurants) {
+        orderHeavyHitterTracker.recordOrder(createOrderCommand);
+        try {
+            return validateAndInitiateOrder(createOrderCommand, customerIds, restaurants);
+        } catch (OrderDomainException e) {
+            orderHeavyHitterTracker.recordRejection(createOrderCommand.getCustomerId(),
+                    createOrderCommand.getRestaurantId());
+            throw e;
+        }
+    }
+
+    private OrderCreatedEvent validateAndInitiateOrder(CreateOrderCommand createOrderCommand,
+                                                       Set<UUID> customerIds,
+                                                       Map<UUID, Restaurant> restaurants) {
+        if (!customerIds.contains(createOrderCommand.getCustomerId())) {
+            log.warn("Could not find customer with customer id: {}", createOrderCommand.getCustomerId());
+            throw new OrderDomainException("Could not find customer with customer id: " +
+                    createOrderCommand.getCustomerId());
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant == null) {
+            log.warn("Could not find restaurant with restaurant id: {}", createOrderCommand.getRestaurantId());
+            throw new OrderDomainException("Could not find restaurant with restaurant id: " +
+                    createOrderCommand.getRestaurantId());
+        }
         Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-        saveOrder(order);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-        return orderCreatedEvent;
+        return orderDomainService.validateAndInitiateOrder(order, restaurant);
+    }
+
+    @Transactional
+    public void saveOrders(List<Order> orders) {
+        List<Order> orderResults = orderRepository.saveAll(orders);
+        if (orderResults == null || orderResults.size() != orders.size()) {
+            log.error("Could not save {} orders!", orders.size());
+            throw new OrderDomainException("Could not save " + orders.size() + " orders!");
+        }
+        orders.forEach(orderTrackingProjection::update);
+        log.info("{} orders are saved", orderResults.size());
     }
 
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
@@ -79,6 +160,7 @@ public class OrderCreateHelper {
             log.error("Could not save order!");
             throw new OrderDomainException("Could not save order!");
         }
+        orderTrackingProjection.update(order);
         log.info("Order is saved with id: {}", orderResult.getId().getValue());
         return orderResult;
     }
@@ -3,11 +3,14 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.flightrecorder.event.SagaStepEvent;
+import com.food.ordering.system.order.service.domain.admission.OrderAdmissionController;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.heavyhitter.OrderHeavyHitterTracker;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
@@ -17,6 +20,8 @@ import com.food.ordering.system.order.service.domain.ports.output.repository.Ord
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,24 +43,47 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
     private final ApprovalOutboxHelper approvalOutboxHelper;
     private final OrderSagaHelper orderSagaHelper;
     private final OrderDataMapper orderDataMapper;
+    private final Tracer tracer;
+    private final OrderHeavyHitterTracker orderHeavyHitterTracker;
+    private final OrderAdmissionController orderAdmissionController;
 
     public OrderPaymentSaga(OrderDomainService orderDomainService,
                             OrderRepository orderRepository,
                             PaymentOutboxHelper paymentOutboxHelper,
                             ApprovalOutboxHelper approvalOutboxHelper,
                             OrderSagaHelper orderSagaHelper,
-                            OrderDataMapper orderDataMapper) {
+                            OrderDataMapper orderDataMapper,
+                            Tracer tracer,
+                            OrderHeavyHitterTracker orderHeavyHitterTracker,
+                            OrderAdmissionController orderAdmissionController) {
         this.orderDomainService = orderDomainService;
         this.orderRepository = orderRepository;
         this.paymentOutboxHelper = paymentOutboxHelper;
         this.approvalOutboxHelper = approvalOutboxHelper;
         this.orderSagaHelper = orderSagaHelper;
         this.orderDataMapper = orderDataMapper;
+        this.tracer = tracer;
+        this.orderHeavyHitterTracker = orderHeavyHitterTracker;
+        this.orderAdmissionController = orderAdmissionController;
     }
 
     @Override
     @Transactional
     public void process(PaymentResponse paymentResponse) {
+        SagaStepEvent sagaStepEvent = new SagaStepEvent("OrderPaymentSaga", "process",
+                paymentResponse.getSagaId());
+        sagaStepEvent.begin();
+        try (Span span = tracer.startSpan("OrderPaymentSaga.process")) {
+            span.setAttribute("sagaId", paymentResponse.getSagaId());
+            processPayment(paymentResponse);
+            sagaStepEvent.setSuccessful(true);
+            span.setSuccessful(true);
+        } finally {
+            sagaStepEvent.commit();
+        }
+    }
+
+    private void processPayment(PaymentResponse paymentResponse) {
         Optional<OrderPaymentOutboxMessage> orderPaymentOutboxMessageResponse =
                 paymentOutboxHelper.getPaymentOutboxMessageBySagaIdAndSagaStatus(
                         UUID.fromString(paymentResponse.getSagaId()),
@@ -88,7 +116,20 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
     @Override
     @Transactional
     public void rollback(PaymentResponse paymentResponse) {
+        SagaStepEvent sagaStepEvent = new SagaStepEvent("OrderPaymentSaga", "rollback",
+                paymentResponse.getSagaId());
+        sagaStepEvent.begin();
+        try (Span span = tracer.startSpan("OrderPaymentSaga.rollback")) {
+            span.setAttribute("sagaId", paymentResponse.getSagaId());
+            rollbackPayment(paymentResponse);
+            sagaStepEvent.setSuccessful(true);
+            span.setSuccessful(true);
+        } finally {
+            sagaStepEvent.commit();
+        }
+    }
 
+    private void rollbackPayment(PaymentResponse paymentResponse) {
         Optional<OrderPaymentOutboxMessage> orderPaymentOutboxMessageResponse =
                 paymentOutboxHelper.getPaymentOutboxMessageBySagaIdAndSagaStatus(
                         UUID.fromString(paymentResponse.getSagaId()),
@@ -113,6 +154,13 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
                     order.getOrderStatus(), sagaStatus));
         }
 
+        if (paymentResponse.getPaymentStatus() == PaymentStatus.FAILED) {
+            orderHeavyHitterTracker.recordRejection(order.getCustomerId().getValue(),
+                    order.getRestaurantId().getValue());
+        }
+
+        orderAdmissionController.release(order.getRestaurantId().getValue());
+
         log.info("Order with id: {} is cancelled", order.getId().getValue());
     }
 
@@ -141,7 +189,7 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
         log.info("Completing payment for order with id: {}", paymentResponse.getOrderId());
         Order order = findOrder(paymentResponse.getOrderId());
         OrderPaidEvent domainEvent = orderDomainService.payOrder(order);
-        orderRepository.save(order);
+        orderSagaHelper.saveOrder(order);
         return domainEvent;
     }
 
@@ -156,8 +204,8 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
     private Order rollbackPaymentForOrder(PaymentResponse paymentResponse) {
         log.info("Cancelling order with id: {}", paymentResponse.getOrderId());
         Order order = findOrder(paymentResponse.getOrderId());
-        orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
-        orderRepository.save(order);
+        orderDomainService.cancelOrder(order, paymentResponse.getFailureReasons());
+        orderSagaHelper.saveOrder(order);
         return order;
     }
 
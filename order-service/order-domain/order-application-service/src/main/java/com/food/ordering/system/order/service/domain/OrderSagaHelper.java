@@ -5,6 +5,7 @@ import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingProjection;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -17,9 +18,12 @@ import java.util.UUID;
 public class OrderSagaHelper {
 
     private final OrderRepository orderRepository;
+    private final OrderTrackingProjection orderTrackingProjection;
 
-    public OrderSagaHelper(OrderRepository orderRepository) {
+    public OrderSagaHelper(OrderRepository orderRepository,
+                           OrderTrackingProjection orderTrackingProjection) {
         this.orderRepository = orderRepository;
+        this.orderTrackingProjection = orderTrackingProjection;
     }
 
     Order findOrder(String orderId) {
@@ -33,6 +37,7 @@ public class OrderSagaHelper {
 
     void saveOrder(Order order) {
         orderRepository.save(order);
+        orderTrackingProjection.update(order);
     }
 
     SagaStatus orderStatusToSagaStatus(OrderStatus orderStatus) {
@@ -7,8 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
-import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
-
 @Slf4j
 @Validated
 @Service
@@ -31,6 +29,6 @@ public class PaymentResponseMessageListenerImpl implements PaymentResponseMessag
         orderPaymentSaga.rollback(paymentResponse);
         log.info("Order is roll backed for order id: {} with failure messages: {}",
                 paymentResponse.getOrderId(),
-                String.join(FAILURE_MESSAGE_DELIMITER, paymentResponse.getFailureMessages()));
+                paymentResponse.getFailureReasons());
     }
 }
@@ -7,8 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
-import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
-
 @Slf4j
 @Validated
 @Service
@@ -31,6 +29,6 @@ public class RestaurantApprovalResponseMessageListenerImpl implements Restaurant
           orderApprovalSaga.rollback(restaurantApprovalResponse);
           log.info("Order Approval Saga rollback operation is completed for order id: {} with failure messages: {}",
                   restaurantApprovalResponse.getOrderId(),
-                  String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponse.getFailureMessages()));
+                  restaurantApprovalResponse.getFailureReasons());
     }
 }
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class OrderAdmission {
+
+    private final OrderAdmissionController orderAdmissionController;
+    private final UUID restaurantId;
+    private final AtomicBoolean settled;
+
+    OrderAdmission(OrderAdmissionController orderAdmissionController, UUID restaurantId, boolean settled) {
+        this.orderAdmissionController = orderAdmissionController;
+        this.restaurantId = restaurantId;
+        this.settled = new AtomicBoolean(settled);
+    }
+
+    public void confirm() {
+        if (settled.compareAndSet(false, true)) {
+            orderAdmissionController.confirm(restaurantId);
+        }
+    }
+
+    public void abandon() {
+        if (settled.compareAndSet(false, true)) {
+            orderAdmissionController.abandon(restaurantId);
+        }
+    }
+}
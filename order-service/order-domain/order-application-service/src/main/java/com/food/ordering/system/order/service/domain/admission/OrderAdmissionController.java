@@ -0,0 +1,203 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.exception.OrderAdmissionException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderAdmissionController {
+
+    private static final List<OrderStatus> IN_FLIGHT_ORDER_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.PAID, OrderStatus.CANCELLING);
+
+    private static final SampledLogger REJECTED_LOG = SampledLogger.of(log, "order.admission.rejected");
+
+    private final OrderRepository orderRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final TokenBucket globalTokenBucket;
+    private final Map<UUID, TokenBucket> restaurantTokenBuckets = new ConcurrentHashMap<>();
+    private final Map<UUID, InFlightSagas> restaurantInFlightSagas = new ConcurrentHashMap<>();
+    private final AtomicLong globalInFlightSagas = new AtomicLong();
+    private final AtomicLong globalPersistedSagas = new AtomicLong();
+
+    public OrderAdmissionController(OrderRepository orderRepository,
+                                    OrderServiceConfigData orderServiceConfigData) {
+        this.orderRepository = orderRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.globalTokenBucket = new TokenBucket(orderServiceConfigData.getOrderAdmissionGlobalBurst(),
+                orderServiceConfigData.getOrderAdmissionGlobalOrdersPerSecond(), System.nanoTime());
+    }
+
+    public OrderAdmission admit(CreateOrderCommand createOrderCommand) {
+        UUID restaurantId = createOrderCommand.getRestaurantId();
+        if (!orderServiceConfigData.getOrderAdmissionEnabled()) {
+            return new OrderAdmission(this, restaurantId, true);
+        }
+        if (globalInFlightSagas.incrementAndGet() > orderServiceConfigData.getOrderAdmissionGlobalMaxInFlight()) {
+            adjust(globalInFlightSagas, -1);
+            reject(restaurantId, "Too many orders are in progress, please retry later!");
+        }
+        long now = System.nanoTime();
+        if (!globalTokenBucket.tryAcquire(now)) {
+            adjust(globalInFlightSagas, -1);
+            reject(restaurantId, "Order rate is exceeded, please retry later!");
+        }
+        InFlightSagas restaurantInFlight = updateRestaurantInFlightSagas(restaurantId, 1, 0);
+        if (restaurantInFlight.getTotal() > orderServiceConfigData.getOrderAdmissionRestaurantMaxInFlight()) {
+            globalTokenBucket.refund();
+            abandon(restaurantId);
+            reject(restaurantId, "Restaurant with id: " + restaurantId +
+                    " has too many orders in progress, please retry later!");
+        }
+        if (!restaurantTokenBuckets.computeIfAbsent(restaurantId, this::createRestaurantTokenBucket).tryAcquire(now)) {
+            globalTokenBucket.refund();
+            abandon(restaurantId);
+            reject(restaurantId, "Order rate for restaurant with id: " + restaurantId +
+                    " is exceeded, please retry later!");
+        }
+        OrderAdmission orderAdmission = new OrderAdmission(this, restaurantId, false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        orderAdmission.confirm();
+                    } else {
+                        orderAdmission.abandon();
+                    }
+                }
+            });
+        }
+        return orderAdmission;
+    }
+
+    public void release(UUID restaurantId) {
+        if (!orderServiceConfigData.getOrderAdmissionEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completeSaga(restaurantId);
+                }
+            });
+        } else {
+            completeSaga(restaurantId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void refreshInFlightSagas() {
+        if (!orderServiceConfigData.getOrderAdmissionEnabled()) {
+            return;
+        }
+        Map<UUID, Long> persistedBefore = new HashMap<>();
+        restaurantInFlightSagas.forEach((restaurantId, inFlight) ->
+                persistedBefore.put(restaurantId, inFlight.getPersisted()));
+        long globalPersistedBefore = globalPersistedSagas.get();
+        Map<UUID, Long> inFlightSagas = orderRepository.countInFlightSagasByRestaurant(IN_FLIGHT_ORDER_STATUSES)
+                .stream()
+                .collect(Collectors.toMap(RestaurantInFlightSagaCount::getRestaurantId,
+                        RestaurantInFlightSagaCount::getCount));
+        Set<UUID> restaurantIds = new HashSet<>(persistedBefore.keySet());
+        restaurantIds.addAll(inFlightSagas.keySet());
+        restaurantIds.forEach(restaurantId -> updateRestaurantInFlightSagas(restaurantId, 0,
+                inFlightSagas.getOrDefault(restaurantId, 0L) - persistedBefore.getOrDefault(restaurantId, 0L)));
+        long globalDelta = inFlightSagas.values().stream().mapToLong(Long::longValue).sum() - globalPersistedBefore;
+        adjust(globalPersistedSagas, globalDelta);
+        adjust(globalInFlightSagas, globalDelta);
+        long now = System.nanoTime();
+        restaurantTokenBuckets.values().removeIf(tokenBucket -> tokenBucket.isFull(now));
+        log.debug("In flight sagas refreshed, total: {} across {} restaurants", globalInFlightSagas.get(),
+                restaurantInFlightSagas.size());
+    }
+
+    void confirm(UUID restaurantId) {
+        updateRestaurantInFlightSagas(restaurantId, -1, 1);
+        adjust(globalPersistedSagas, 1);
+    }
+
+    void abandon(UUID restaurantId) {
+        updateRestaurantInFlightSagas(restaurantId, -1, 0);
+        adjust(globalInFlightSagas, -1);
+    }
+
+    long getGlobalInFlightSagas() {
+        return globalInFlightSagas.get();
+    }
+
+    long getRestaurantInFlightSagas(UUID restaurantId) {
+        InFlightSagas inFlightSagas = restaurantInFlightSagas.get(restaurantId);
+        return inFlightSagas == null ? 0 : inFlightSagas.getTotal();
+    }
+
+    int getTrackedRestaurantCount() {
+        return restaurantInFlightSagas.size();
+    }
+
+    int getRestaurantTokenBucketCount() {
+        return restaurantTokenBuckets.size();
+    }
+
+    private void completeSaga(UUID restaurantId) {
+        updateRestaurantInFlightSagas(restaurantId, 0, -1);
+        adjust(globalPersistedSagas, -1);
+        adjust(globalInFlightSagas, -1);
+    }
+
+    private InFlightSagas updateRestaurantInFlightSagas(UUID restaurantId, long pendingDelta, long persistedDelta) {
+        InFlightSagas inFlightSagas = restaurantInFlightSagas.compute(restaurantId, (key, current) -> {
+            long pending = Math.max(0, (current == null ? 0 : current.getPending()) + pendingDelta);
+            long persisted = Math.max(0, (current == null ? 0 : current.getPersisted()) + persistedDelta);
+            return pending == 0 && persisted == 0 ? null : new InFlightSagas(pending, persisted);
+        });
+        return inFlightSagas == null ? new InFlightSagas(0, 0) : inFlightSagas;
+    }
+
+    private void adjust(AtomicLong counter, long delta) {
+        counter.updateAndGet(count -> Math.max(0, count + delta));
+    }
+
+    private TokenBucket createRestaurantTokenBucket(UUID restaurantId) {
+        return new TokenBucket(orderServiceConfigData.getOrderAdmissionRestaurantBurst(),
+                orderServiceConfigData.getOrderAdmissionRestaurantOrdersPerSecond(), System.nanoTime());
+    }
+
+    private void reject(UUID restaurantId, String message) {
+        REJECTED_LOG.warn("Order for restaurant: {} is rejected by admission control", restaurantId);
+        throw new OrderAdmissionException(message);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class InFlightSagas {
+        private final long pending;
+        private final long persisted;
+
+        private long getTotal() {
+            return pending + persisted;
+        }
+    }
+}
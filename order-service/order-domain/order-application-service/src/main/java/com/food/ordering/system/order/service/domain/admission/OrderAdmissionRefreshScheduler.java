@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderAdmissionRefreshScheduler {
+
+    private final OrderAdmissionController orderAdmissionController;
+
+    public OrderAdmissionRefreshScheduler(OrderAdmissionController orderAdmissionController) {
+        this.orderAdmissionController = orderAdmissionController;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.order-admission-refresh-fixed-rate}")
+    public void refreshInFlightSagas() {
+        orderAdmissionController.refreshInFlightSagas();
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class RestaurantInFlightSagaCount {
+    private final UUID restaurantId;
+    private final long count;
+
+    public RestaurantInFlightSagaCount(UUID restaurantId, Long count) {
+        this.restaurantId = restaurantId;
+        this.count = count;
+    }
+}
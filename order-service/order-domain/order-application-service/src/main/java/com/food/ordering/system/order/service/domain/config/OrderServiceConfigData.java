@@ -12,4 +12,32 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private String customerTopicName;
+    private Integer trackingProjectionMaxSize;
+    private Long trackingStreamTimeoutMs;
+    private Integer trackingStreamDispatcherThreads;
+    private Integer orderBatchMaxSize;
+    private Boolean orderIntakeGroupCommitEnabled;
+    private Integer orderIntakeQueueCapacity;
+    private Integer orderIntakeBatchSize;
+    private Long orderIntakeLingerMs;
+    private Integer idempotencyCacheMaxSize;
+    private Long idempotencyKeyTtlMinutes;
+    private Long idempotencyCleanerFixedRate;
+    private Integer heavyHitterTopK;
+    private Integer heavyHitterWindowBuckets;
+    private Long heavyHitterBucketSeconds;
+    private Integer heavyHitterSketchWidth;
+    private Integer heavyHitterSketchDepth;
+    private Integer heavyHitterStripes;
+    private Integer adminPort;
+    private String adminAddress;
+    private Boolean orderAdmissionEnabled;
+    private Long orderAdmissionGlobalMaxInFlight;
+    private Long orderAdmissionRestaurantMaxInFlight;
+    private Long orderAdmissionGlobalOrdersPerSecond;
+    private Long orderAdmissionGlobalBurst;
+    private Long orderAdmissionRestaurantOrdersPerSecond;
+    private Long orderAdmissionRestaurantBurst;
+    private Long orderAdmissionRefreshFixedRate;
 }
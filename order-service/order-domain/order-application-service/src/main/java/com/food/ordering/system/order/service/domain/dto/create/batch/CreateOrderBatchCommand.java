@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.create.batch;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchCommand {
+    @Valid
+    @NotEmpty
+    private final List<CreateOrderCommand> orders;
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.dto.create.batch;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchItemResponse {
+    private final int index;
+    private final boolean created;
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    @NotNull
+    private final String message;
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.dto.create.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderBatchResponse {
+    @NotNull
+    private final List<CreateOrderBatchItemResponse> orders;
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.heavyhitter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class HeavyHitterResponse {
+    @NotNull
+    private final UUID id;
+    private final long orderCount;
+    private final long rejectionCount;
+    private final double rejectionRate;
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.heavyhitter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class HeavyHittersResponse {
+    private final long windowSeconds;
+    @NotNull
+    private final List<HeavyHitterResponse> restaurants;
+    @NotNull
+    private final List<HeavyHitterResponse> customers;
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.dto.message;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,5 +22,5 @@ public class PaymentResponse {
     private BigDecimal price;
     private Instant createdAt;
     private PaymentStatus paymentStatus;
-    private List<String> failureMessages;
+    private List<FailureReason> failureReasons;
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.dto.message;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,5 +19,5 @@ public class RestaurantApprovalResponse {
     private String restaurantId;
     private Instant createdAt;
     private OrderApprovalStatus orderApprovalStatus;
-    private List<String> failureMessages;
+    private List<FailureReason> failureReasons;
 }
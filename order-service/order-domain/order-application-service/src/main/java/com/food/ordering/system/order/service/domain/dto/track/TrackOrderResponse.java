@@ -18,4 +18,5 @@ public class TrackOrderResponse {
     @NotNull
     private final OrderStatus orderStatus;
     private final List<String> failureMessages;
+    private final long version;
 }
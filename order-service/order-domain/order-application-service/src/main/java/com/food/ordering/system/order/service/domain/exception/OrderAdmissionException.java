@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+import com.food.ordering.system.domain.exception.DomainException;
+
+public class OrderAdmissionException extends DomainException {
+
+    public OrderAdmissionException(String message) {
+        super(message);
+    }
+}
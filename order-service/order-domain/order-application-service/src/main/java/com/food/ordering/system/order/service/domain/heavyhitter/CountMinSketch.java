@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain.heavyhitter;
+
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+class CountMinSketch {
+
+    private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new OrderDomainException("Count-min sketch width and depth must be positive, width: " + width +
+                    ", depth: " + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    void add(UUID key) {
+        for (int row = 0; row < depth; row++) {
+            counters[index(row, key)]++;
+        }
+    }
+
+    long estimate(UUID key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(row, key)]);
+        }
+        return estimate;
+    }
+
+    void subtract(CountMinSketch countMinSketch) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] -= countMinSketch.counters[i];
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0L);
+    }
+
+    private int index(int row, UUID key) {
+        long hash = key.getMostSignificantBits() * 31 + key.getLeastSignificantBits();
+        hash ^= SEED_MULTIPLIER * (row + 1);
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return row * width + (int) Math.floorMod(hash, (long) width);
+    }
+}
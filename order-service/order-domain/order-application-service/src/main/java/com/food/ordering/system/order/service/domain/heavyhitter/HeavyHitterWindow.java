@@ -0,0 +1,168 @@
+package com.food.ordering.system.order.service.domain.heavyhitter;
+
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHitterResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+class HeavyHitterWindow {
+
+    private static final Comparator<TopOrder> TOP_ORDER_COMPARATOR = Comparator.comparingLong(TopOrder::getCount)
+            .thenComparing(TopOrder::getKey);
+
+    private final Stripe[] stripes;
+    private final int topK;
+
+    HeavyHitterWindow(int stripeCount, int bucketCount, long bucketMillis, int sketchWidth, int sketchDepth,
+                      int topK, long nowMillis) {
+        this.stripes = new Stripe[stripeCount];
+        int stripeSketchWidth = Math.max(1, (sketchWidth + stripeCount - 1) / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(bucketCount, bucketMillis, stripeSketchWidth, sketchDepth, topK, nowMillis);
+        }
+        this.topK = topK;
+    }
+
+    void recordOrder(UUID key, long nowMillis) {
+        stripeFor(key).recordOrder(key, nowMillis);
+    }
+
+    void recordRejection(UUID key, long nowMillis) {
+        stripeFor(key).recordRejection(key, nowMillis);
+    }
+
+    List<HeavyHitterResponse> getHeavyHitters(long nowMillis) {
+        List<HeavyHitterResponse> heavyHitters = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            heavyHitters.addAll(stripe.getHeavyHitters(nowMillis));
+        }
+        return heavyHitters.stream()
+                .sorted(Comparator.comparingLong(HeavyHitterResponse::getOrderCount).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    private Stripe stripeFor(UUID key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    private static final class Stripe {
+
+        private final CountMinSketch[] orderBuckets;
+        private final CountMinSketch[] rejectionBuckets;
+        private final CountMinSketch orders;
+        private final CountMinSketch rejections;
+        private final Map<UUID, TopOrder> topOrdersByKey;
+        private final TreeSet<TopOrder> topOrders = new TreeSet<>(TOP_ORDER_COMPARATOR);
+        private final int topK;
+        private final long bucketMillis;
+        private long currentBucket;
+
+        private Stripe(int bucketCount, long bucketMillis, int sketchWidth, int sketchDepth, int topK,
+                       long nowMillis) {
+            this.orderBuckets = new CountMinSketch[bucketCount];
+            this.rejectionBuckets = new CountMinSketch[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                orderBuckets[i] = new CountMinSketch(sketchWidth, sketchDepth);
+                rejectionBuckets[i] = new CountMinSketch(sketchWidth, sketchDepth);
+            }
+            this.orders = new CountMinSketch(sketchWidth, sketchDepth);
+            this.rejections = new CountMinSketch(sketchWidth, sketchDepth);
+            this.topOrdersByKey = new HashMap<>(topK * 2);
+            this.topK = topK;
+            this.bucketMillis = bucketMillis;
+            this.currentBucket = nowMillis / bucketMillis;
+        }
+
+        private synchronized void recordOrder(UUID key, long nowMillis) {
+            advance(nowMillis);
+            orderBuckets[slot(currentBucket)].add(key);
+            orders.add(key);
+            offer(key, orders.estimate(key));
+        }
+
+        private synchronized void recordRejection(UUID key, long nowMillis) {
+            advance(nowMillis);
+            rejectionBuckets[slot(currentBucket)].add(key);
+            rejections.add(key);
+        }
+
+        private synchronized List<HeavyHitterResponse> getHeavyHitters(long nowMillis) {
+            advance(nowMillis);
+            return topOrders.descendingSet().stream()
+                    .map(topOrder -> {
+                        long rejectionCount = Math.min(rejections.estimate(topOrder.getKey()), topOrder.getCount());
+                        return HeavyHitterResponse.builder()
+                                .id(topOrder.getKey())
+                                .orderCount(topOrder.getCount())
+                                .rejectionCount(rejectionCount)
+                                .rejectionRate((double) rejectionCount / topOrder.getCount())
+                                .build();
+                    })
+                    .toList();
+        }
+
+        private void advance(long nowMillis) {
+            long bucket = nowMillis / bucketMillis;
+            if (bucket <= currentBucket) {
+                return;
+            }
+            long expiredBuckets = Math.min(bucket - currentBucket, orderBuckets.length);
+            for (long i = 1; i <= expiredBuckets; i++) {
+                int slot = slot(currentBucket + i);
+                orders.subtract(orderBuckets[slot]);
+                orderBuckets[slot].clear();
+                rejections.subtract(rejectionBuckets[slot]);
+                rejectionBuckets[slot].clear();
+            }
+            currentBucket = bucket;
+            List<UUID> keys = new ArrayList<>(topOrdersByKey.keySet());
+            topOrders.clear();
+            topOrdersByKey.clear();
+            keys.forEach(key -> {
+                long count = orders.estimate(key);
+                if (count > 0) {
+                    put(key, count);
+                }
+            });
+        }
+
+        private void offer(UUID key, long count) {
+            TopOrder topOrder = topOrdersByKey.remove(key);
+            if (topOrder != null) {
+                topOrders.remove(topOrder);
+            } else if (topOrders.size() >= topK) {
+                if (count <= topOrders.first().getCount()) {
+                    return;
+                }
+                topOrdersByKey.remove(topOrders.pollFirst().getKey());
+            }
+            put(key, count);
+        }
+
+        private void put(UUID key, long count) {
+            TopOrder topOrder = new TopOrder(key, count);
+            topOrders.add(topOrder);
+            topOrdersByKey.put(key, topOrder);
+        }
+
+        private int slot(long bucket) {
+            return (int) (bucket % orderBuckets.length);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class TopOrder {
+        private final UUID key;
+        private final long count;
+    }
+}
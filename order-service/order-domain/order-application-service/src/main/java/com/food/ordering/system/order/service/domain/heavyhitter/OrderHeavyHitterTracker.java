@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.domain.heavyhitter;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHittersResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class OrderHeavyHitterTracker {
+
+    private final HeavyHitterWindow restaurantWindow;
+    private final HeavyHitterWindow customerWindow;
+    private final long windowSeconds;
+
+    public OrderHeavyHitterTracker(OrderServiceConfigData orderServiceConfigData) {
+        int bucketCount = orderServiceConfigData.getHeavyHitterWindowBuckets();
+        long bucketMillis = orderServiceConfigData.getHeavyHitterBucketSeconds() * 1000;
+        int sketchWidth = orderServiceConfigData.getHeavyHitterSketchWidth();
+        int sketchDepth = orderServiceConfigData.getHeavyHitterSketchDepth();
+        int topK = orderServiceConfigData.getHeavyHitterTopK();
+        int stripeCount = orderServiceConfigData.getHeavyHitterStripes();
+        long now = System.currentTimeMillis();
+        this.restaurantWindow = new HeavyHitterWindow(stripeCount, bucketCount, bucketMillis, sketchWidth, sketchDepth,
+                topK, now);
+        this.customerWindow = new HeavyHitterWindow(stripeCount, bucketCount, bucketMillis, sketchWidth, sketchDepth,
+                topK, now);
+        this.windowSeconds = bucketCount * orderServiceConfigData.getHeavyHitterBucketSeconds();
+    }
+
+    public void recordOrder(CreateOrderCommand createOrderCommand) {
+        long now = System.currentTimeMillis();
+        restaurantWindow.recordOrder(createOrderCommand.getRestaurantId(), now);
+        customerWindow.recordOrder(createOrderCommand.getCustomerId(), now);
+    }
+
+    public void recordRejection(UUID customerId, UUID restaurantId) {
+        long now = System.currentTimeMillis();
+        restaurantWindow.recordRejection(restaurantId, now);
+        customerWindow.recordRejection(customerId, now);
+    }
+
+    public HeavyHittersResponse getHeavyHitters() {
+        long now = System.currentTimeMillis();
+        return HeavyHittersResponse.builder()
+                .windowSeconds(windowSeconds)
+                .restaurants(restaurantWindow.getHeavyHitters(now))
+                .customers(customerWindow.getHeavyHitters(now))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.domain.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OrderIdempotencyCleanerScheduler {
+
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+
+    public OrderIdempotencyCleanerScheduler(OrderIdempotencyHelper orderIdempotencyHelper) {
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
+    }
+
+    @Scheduled(fixedDelayString = "${order-service.idempotency-cleaner-fixed-rate}",
+            initialDelayString = "${order-service.idempotency-cleaner-fixed-rate}")
+    public void deleteExpiredRecords() {
+        int deleted = orderIdempotencyHelper.deleteExpiredRecords();
+        if (deleted > 0) {
+            log.info("{} expired idempotency keys deleted!", deleted);
+        }
+    }
+}
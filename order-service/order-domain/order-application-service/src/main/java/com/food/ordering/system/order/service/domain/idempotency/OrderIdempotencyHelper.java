@@ -0,0 +1,127 @@
+package com.food.ordering.system.order.service.domain.idempotency;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class OrderIdempotencyHelper {
+
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Map<OrderIdempotencyKey, OrderIdempotencyRecord> records;
+
+    public OrderIdempotencyHelper(OrderIdempotencyRepository orderIdempotencyRepository,
+                                  OrderDataMapper orderDataMapper,
+                                  OrderServiceConfigData orderServiceConfigData) {
+        this.orderIdempotencyRepository = orderIdempotencyRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.records = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OrderIdempotencyKey, OrderIdempotencyRecord> eldest) {
+                return size() > orderServiceConfigData.getIdempotencyCacheMaxSize();
+            }
+        });
+    }
+
+    @Transactional
+    public Optional<CreateOrderResponse> findCreateOrderResponse(UUID customerId, String idempotencyKey) {
+        OrderIdempotencyKey orderIdempotencyKey = new OrderIdempotencyKey(customerId, idempotencyKey);
+        OrderIdempotencyRecord orderIdempotencyRecord = records.get(orderIdempotencyKey);
+        if (orderIdempotencyRecord == null) {
+            Optional<OrderIdempotencyRecord> orderIdempotencyRecordResponse =
+                    orderIdempotencyRepository.findByCustomerIdAndIdempotencyKey(customerId, idempotencyKey);
+            if (orderIdempotencyRecordResponse.isEmpty()) {
+                return Optional.empty();
+            }
+            orderIdempotencyRecord = orderIdempotencyRecordResponse.get();
+        }
+        if (isExpired(orderIdempotencyRecord)) {
+            log.info("Idempotency key: {} of customer: {} is expired and will be released", idempotencyKey,
+                    customerId);
+            records.remove(orderIdempotencyKey);
+            orderIdempotencyRepository.deleteByCustomerIdAndIdempotencyKey(customerId, idempotencyKey);
+            return Optional.empty();
+        }
+        records.put(orderIdempotencyKey, orderIdempotencyRecord);
+        return Optional.of(orderDataMapper.orderIdempotencyRecordToCreateOrderResponse(orderIdempotencyRecord));
+    }
+
+    @Transactional
+    public void saveCreateOrderResponse(UUID customerId, String idempotencyKey,
+                                        CreateOrderResponse createOrderResponse) {
+        OrderIdempotencyKey orderIdempotencyKey = new OrderIdempotencyKey(customerId, idempotencyKey);
+        OrderIdempotencyRecord orderIdempotencyRecord = orderIdempotencyRepository.save(orderDataMapper
+                .createOrderResponseToOrderIdempotencyRecord(orderIdempotencyKey, createOrderResponse,
+                        ZonedDateTime.now(ZoneId.of(UTC))));
+        cacheAfterCommit(orderIdempotencyKey, orderIdempotencyRecord);
+        log.info("Idempotency key: {} of customer: {} is saved for order with tracking id: {}", idempotencyKey,
+                customerId, createOrderResponse.getOrderTrackingId());
+    }
+
+    @Transactional
+    public boolean saveCreateOrderResponseIfAbsent(UUID customerId, String idempotencyKey,
+                                                   CreateOrderResponse createOrderResponse) {
+        OrderIdempotencyKey orderIdempotencyKey = new OrderIdempotencyKey(customerId, idempotencyKey);
+        OrderIdempotencyRecord orderIdempotencyRecord = orderDataMapper.createOrderResponseToOrderIdempotencyRecord(
+                orderIdempotencyKey, createOrderResponse, ZonedDateTime.now(ZoneId.of(UTC)));
+        if (!orderIdempotencyRepository.saveIfAbsent(orderIdempotencyRecord)) {
+            log.info("Idempotency key: {} of customer: {} is already saved by another request", idempotencyKey,
+                    customerId);
+            return false;
+        }
+        cacheAfterCommit(orderIdempotencyKey, orderIdempotencyRecord);
+        log.info("Idempotency key: {} of customer: {} is saved for order with tracking id: {}", idempotencyKey,
+                customerId, createOrderResponse.getOrderTrackingId());
+        return true;
+    }
+
+    @Transactional
+    public int deleteExpiredRecords() {
+        synchronized (records) {
+            records.values().removeIf(this::isExpired);
+        }
+        return orderIdempotencyRepository.deleteByCreatedAtBefore(expiryThreshold());
+    }
+
+    private void cacheAfterCommit(OrderIdempotencyKey orderIdempotencyKey,
+                                  OrderIdempotencyRecord orderIdempotencyRecord) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    records.put(orderIdempotencyKey, orderIdempotencyRecord);
+                }
+            });
+        } else {
+            records.put(orderIdempotencyKey, orderIdempotencyRecord);
+        }
+    }
+
+    private boolean isExpired(OrderIdempotencyRecord orderIdempotencyRecord) {
+        return orderIdempotencyRecord.getCreatedAt().isBefore(expiryThreshold());
+    }
+
+    private ZonedDateTime expiryThreshold() {
+        return ZonedDateTime.now(ZoneId.of(UTC)).minusMinutes(orderServiceConfigData.getIdempotencyKeyTtlMinutes());
+    }
+}
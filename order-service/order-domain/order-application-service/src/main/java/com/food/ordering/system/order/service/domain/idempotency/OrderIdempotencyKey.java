@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.domain.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class OrderIdempotencyKey {
+    private final UUID customerId;
+    private final String idempotencyKey;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIdempotencyKey that = (OrderIdempotencyKey) o;
+        return customerId.equals(that.customerId) && idempotencyKey.equals(that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, idempotencyKey);
+    }
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.idempotency;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderIdempotencyRecord {
+    private final UUID customerId;
+    private final String idempotencyKey;
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    private final String message;
+    private final ZonedDateTime createdAt;
+}
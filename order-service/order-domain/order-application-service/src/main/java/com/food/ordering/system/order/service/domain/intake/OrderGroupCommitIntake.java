@@ -0,0 +1,200 @@
+package com.food.ordering.system.order.service.domain.intake;
+
+import com.food.ordering.system.order.service.domain.OrderCreateBatchCommandHandler;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIntakeCapacityException;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyKey;
+import com.food.ordering.system.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class OrderGroupCommitIntake {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final OrderCreateBatchCommandHandler orderCreateBatchCommandHandler;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Tracer tracer;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final ConcurrentMap<OrderIdempotencyKey, CompletableFuture<CreateOrderResponse>> inFlightOrders =
+            new ConcurrentHashMap<>();
+    private final Thread committer;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    public OrderGroupCommitIntake(OrderCreateBatchCommandHandler orderCreateBatchCommandHandler,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  Tracer tracer) {
+        this.orderCreateBatchCommandHandler = orderCreateBatchCommandHandler;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.tracer = tracer;
+        this.pendingOrders = new ArrayBlockingQueue<>(orderServiceConfigData.getOrderIntakeQueueCapacity());
+        this.committer = new Thread(this::commitLoop, "order-intake-committer");
+        this.committer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (orderServiceConfigData.getOrderIntakeGroupCommitEnabled()) {
+            if (orderServiceConfigData.getOrderIntakeBatchSize() > orderServiceConfigData.getOrderBatchMaxSize()) {
+                throw new OrderDomainException("Order intake batch size: " +
+                        orderServiceConfigData.getOrderIntakeBatchSize() + " exceeds the maximum batch size: " +
+                        orderServiceConfigData.getOrderBatchMaxSize() + "!");
+            }
+            running = true;
+            committer.start();
+            log.info("Order intake group commit started with batch size: {} and linger: {} ms",
+                    orderServiceConfigData.getOrderIntakeBatchSize(), orderServiceConfigData.getOrderIntakeLingerMs());
+        }
+    }
+
+    public CompletableFuture<CreateOrderResponse> submit(CreateOrderCommand createOrderCommand,
+                                                         String idempotencyKey) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new OrderIntakeCapacityException("Order intake group commit is not running!");
+            }
+            if (idempotencyKey == null) {
+                return enqueue(createOrderCommand, null);
+            }
+            OrderIdempotencyKey orderIdempotencyKey =
+                    new OrderIdempotencyKey(createOrderCommand.getCustomerId(), idempotencyKey);
+            CompletableFuture<CreateOrderResponse> createOrderResponseFuture = inFlightOrders.computeIfAbsent(
+                    orderIdempotencyKey, key -> enqueue(createOrderCommand, idempotencyKey));
+            createOrderResponseFuture.whenComplete((createOrderResponse, e) ->
+                    inFlightOrders.remove(orderIdempotencyKey, createOrderResponseFuture));
+            return createOrderResponseFuture;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    private CompletableFuture<CreateOrderResponse> enqueue(CreateOrderCommand createOrderCommand,
+                                                           String idempotencyKey) {
+        CompletableFuture<CreateOrderResponse> createOrderResponseFuture = new CompletableFuture<>();
+        if (!pendingOrders.offer(new PendingOrder(createOrderCommand, idempotencyKey, tracer.getCurrentTraceParent(),
+                createOrderResponseFuture))) {
+            log.warn("Order intake queue is full, rejecting order for customer: {}",
+                    createOrderCommand.getCustomerId());
+            throw new OrderIntakeCapacityException("Order intake queue is full, please retry later!");
+        }
+        return createOrderResponseFuture;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (markStopped()) {
+            committer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        failPendingOrders();
+    }
+
+    private boolean markStopped() {
+        lifecycleLock.writeLock().lock();
+        try {
+            boolean wasRunning = running;
+            running = false;
+            return wasRunning;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    private void failPendingOrders() {
+        List<PendingOrder> remainingOrders = new ArrayList<>();
+        pendingOrders.drainTo(remainingOrders);
+        remainingOrders.forEach(pendingOrder -> pendingOrder.getCreateOrderResponseFuture()
+                .completeExceptionally(new OrderIntakeCapacityException("Order intake is shutting down!")));
+    }
+
+    private void commitLoop() {
+        List<PendingOrder> batch = new ArrayList<>(orderServiceConfigData.getOrderIntakeBatchSize());
+        while (running) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markStopped();
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+        failPendingOrders();
+    }
+
+    private void collectBatch(List<PendingOrder> batch) throws InterruptedException {
+        PendingOrder first = pendingOrders.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        int batchSize = orderServiceConfigData.getOrderIntakeBatchSize();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getOrderIntakeLingerMs());
+        while (batch.size() < batchSize) {
+            pendingOrders.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingOrder next = pendingOrders.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<CreateOrderCommand> createOrderCommands = batch.stream().map(PendingOrder::getCreateOrderCommand).toList();
+        List<String> idempotencyKeys = batch.stream().map(PendingOrder::getIdempotencyKey).toList();
+        List<String> traceParents = batch.stream().map(PendingOrder::getTraceParent).toList();
+        List<CreateOrderBatchItemResponse> orderResponses;
+        try {
+            orderResponses = orderCreateBatchCommandHandler.createOrders(CreateOrderBatchCommand.builder()
+                    .orders(createOrderCommands)
+                    .build(), idempotencyKeys, traceParents).getOrders();
+        } catch (RuntimeException e) {
+            log.error("Could not commit order intake batch of {} orders", batch.size(), e);
+            batch.forEach(pendingOrder -> pendingOrder.getCreateOrderResponseFuture().completeExceptionally(e));
+            return;
+        }
+        log.debug("Committed order intake batch of {} orders", batch.size());
+        for (CreateOrderBatchItemResponse orderResponse : orderResponses) {
+            CompletableFuture<CreateOrderResponse> createOrderResponseFuture =
+                    batch.get(orderResponse.getIndex()).getCreateOrderResponseFuture();
+            if (orderResponse.isCreated()) {
+                createOrderResponseFuture.complete(CreateOrderResponse.builder()
+                        .orderTrackingId(orderResponse.getOrderTrackingId())
+                        .orderStatus(orderResponse.getOrderStatus())
+                        .message(orderResponse.getMessage())
+                        .build());
+            } else {
+                createOrderResponseFuture.completeExceptionally(new OrderDomainException(orderResponse.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.intake;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+@Getter
+@AllArgsConstructor
+class PendingOrder {
+    private final CreateOrderCommand createOrderCommand;
+    private final String idempotencyKey;
+    private final String traceParent;
+    private final CompletableFuture<CreateOrderResponse> createOrderResponseFuture;
+}
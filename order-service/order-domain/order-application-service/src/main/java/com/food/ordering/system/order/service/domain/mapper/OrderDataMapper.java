@@ -1,21 +1,27 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchItemResponse;
 import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.*;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyKey;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyRecord;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingView;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -23,6 +29,12 @@ import java.util.stream.Collectors;
 @Component
 public class OrderDataMapper {
 
+    private final IdGenerator idGenerator;
+
+    public OrderDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand) {
         return Restaurant.builder()
                 .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
@@ -32,6 +44,40 @@ public class OrderDataMapper {
                 .build();
     }
     
+    public List<Restaurant> createOrderCommandsToRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        return createOrderCommands.stream()
+                .collect(Collectors.groupingBy(CreateOrderCommand::getRestaurantId,
+                        Collectors.flatMapping(createOrderCommand -> createOrderCommand.getItems().stream()
+                                .map(com.food.ordering.system.order.service.domain.dto.create.OrderItem::getProductId),
+                                Collectors.toSet())))
+                .entrySet().stream()
+                .map(restaurantProducts -> Restaurant.builder()
+                        .restaurantId(new RestaurantId(restaurantProducts.getKey()))
+                        .products(restaurantProducts.getValue().stream()
+                                .map(productId -> new Product(new ProductId(productId)))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public CreateOrderBatchItemResponse orderToCreateOrderBatchItemResponse(int index, Order order, String message) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(true)
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .message(message)
+                .build();
+    }
+
+    public CreateOrderBatchItemResponse rejectedOrderToCreateOrderBatchItemResponse(int index, String message) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(false)
+                .message(message)
+                .build();
+    }
+
     public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
         return Order.builder()
                 .customerId(new CustomerId(createOrderCommand.getCustomerId()))
@@ -50,11 +96,55 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public CreateOrderResponse orderIdempotencyRecordToCreateOrderResponse(OrderIdempotencyRecord
+                                                                               orderIdempotencyRecord) {
+        return CreateOrderResponse.builder()
+                .orderTrackingId(orderIdempotencyRecord.getOrderTrackingId())
+                .orderStatus(orderIdempotencyRecord.getOrderStatus())
+                .message(orderIdempotencyRecord.getMessage())
+                .build();
+    }
+
+    public CreateOrderBatchItemResponse createOrderResponseToCreateOrderBatchItemResponse(int index,
+                                                                                          CreateOrderResponse
+                                                                                                  createOrderResponse) {
+        return CreateOrderBatchItemResponse.builder()
+                .index(index)
+                .created(true)
+                .orderTrackingId(createOrderResponse.getOrderTrackingId())
+                .orderStatus(createOrderResponse.getOrderStatus())
+                .message(createOrderResponse.getMessage())
+                .build();
+    }
+
+    public OrderIdempotencyRecord createOrderResponseToOrderIdempotencyRecord(OrderIdempotencyKey
+                                                                                     orderIdempotencyKey,
+                                                                             CreateOrderResponse createOrderResponse,
+                                                                             ZonedDateTime createdAt) {
+        return OrderIdempotencyRecord.builder()
+                .customerId(orderIdempotencyKey.getCustomerId())
+                .idempotencyKey(orderIdempotencyKey.getIdempotencyKey())
+                .orderTrackingId(createOrderResponse.getOrderTrackingId())
+                .orderStatus(createOrderResponse.getOrderStatus())
+                .message(createOrderResponse.getMessage())
+                .createdAt(createdAt)
+                .build();
+    }
+
     public TrackOrderResponse orderToTrackOrderResponse(Order order) {
         return TrackOrderResponse.builder()
                 .orderTrackingId(order.getTrackingId().getValue())
                 .orderStatus(order.getOrderStatus())
-                .failureMessages(order.getFailureMessages())
+                .failureMessages(failureReasonsToFailureMessages(order.getFailureReasons()))
+                .build();
+    }
+
+    public TrackOrderResponse orderTrackingViewToTrackOrderResponse(OrderTrackingView orderTrackingView) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderTrackingView.getTrackingId())
+                .orderStatus(orderTrackingView.getOrderStatus())
+                .failureMessages(failureReasonsToFailureMessages(orderTrackingView.getFailureReasons()))
+                .version(orderTrackingView.getVersion())
                 .build();
     }
 
@@ -113,9 +203,15 @@ public class OrderDataMapper {
                                 .build()).collect(Collectors.toList());
     }
 
+    private List<String> failureReasonsToFailureMessages(List<FailureReason> failureReasons) {
+        return failureReasons == null ? null : failureReasons.stream()
+                .map(FailureReason::getMessage)
+                .collect(Collectors.toList());
+    }
+
     private StreetAddress orderAddressToStreetAddress(OrderAddress orderAddress) {
         return new StreetAddress(
-                UUID.randomUUID(),
+                idGenerator.generateId(),
                 orderAddress.getStreet(),
                 orderAddress.getPostalCode(),
                 orderAddress.getCity()
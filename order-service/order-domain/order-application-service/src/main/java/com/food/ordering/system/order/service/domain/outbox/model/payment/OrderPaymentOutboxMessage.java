@@ -20,6 +20,7 @@ public class OrderPaymentOutboxMessage {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    private String traceParent;
     private SagaStatus sagaStatus;
     private OrderStatus orderStatus;
     private OutboxStatus outboxStatus;
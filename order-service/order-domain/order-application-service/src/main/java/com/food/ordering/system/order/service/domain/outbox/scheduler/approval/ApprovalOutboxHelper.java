@@ -2,13 +2,16 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,18 +20,28 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_RESTAURANT_APPROVAL_OUTBOX;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 
 @Slf4j
 @Component
 public class ApprovalOutboxHelper {
 
+    private static final SampledLogger SAVED_LOG = SampledLogger.of(log, ORDER_RESTAURANT_APPROVAL_OUTBOX + ".saved");
+
     private final ApprovalOutboxRepository approvalOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final Tracer tracer;
 
-    public ApprovalOutboxHelper(ApprovalOutboxRepository approvalOutboxRepository, ObjectMapper objectMapper) {
+    public ApprovalOutboxHelper(ApprovalOutboxRepository approvalOutboxRepository,
+                                ObjectMapper objectMapper,
+                                IdGenerator idGenerator,
+                                Tracer tracer) {
         this.approvalOutboxRepository = approvalOutboxRepository;
         this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.tracer = tracer;
     }
 
     @Transactional(readOnly = true)
@@ -55,7 +68,7 @@ public class ApprovalOutboxHelper {
             throw new OrderDomainException("Could not save OrderApprovalOutboxMessage with outbox id: " +
                     orderApprovalOutboxMessage.getId());
         }
-        log.info("OrderApprovalOutboxMessage saved with outbox id: {}", orderApprovalOutboxMessage.getId());
+        SAVED_LOG.info("OrderApprovalOutboxMessage saved with outbox id: {}", orderApprovalOutboxMessage.getId());
     }
 
     @Transactional
@@ -65,11 +78,12 @@ public class ApprovalOutboxHelper {
                                           OutboxStatus outboxStatus,
                                           UUID sagaId) {
         save(OrderApprovalOutboxMessage.builder()
-                .id(UUID.randomUUID())
+                .id(idGenerator.generateId())
                 .sagaId(sagaId)
                 .createdAt(orderApprovalEventPayload.getCreatedAt())
                 .type(ORDER_SAGA_NAME)
                 .payload(createPayload(orderApprovalEventPayload))
+                .traceParent(tracer.getCurrentTraceParent())
                 .orderStatus(orderStatus)
                 .sagaStatus(sagaStatus)
                 .outboxStatus(outboxStatus)
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.outbox.OutboxScheduler;
@@ -13,6 +14,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+
 @Slf4j
 @Component
 public class RestaurantApprovalOutboxCleanerScheduler implements OutboxScheduler {
@@ -26,25 +29,31 @@ public class RestaurantApprovalOutboxCleanerScheduler implements OutboxScheduler
     @Override
     @Scheduled(cron = "@midnight")
     public void processOutboxMessage() {
-        Optional<List<OrderApprovalOutboxMessage>> outboxMessagesResponse =
-                approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("RestaurantApprovalOutboxCleanerScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderApprovalOutboxMessage>> outboxMessagesResponse =
+                    approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
+                            OutboxStatus.COMPLETED,
+                            SagaStatus.SUCCEEDED,
+                            SagaStatus.FAILED,
+                            SagaStatus.COMPENSATED);
+            if (outboxMessagesResponse.isPresent()) {
+                List<OrderApprovalOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.info("Received {} OrderApprovalOutboxMessage for clean-up!", outboxMessages.size());
+                log.debug("The payloads of OrderApprovalOutboxMessage for clean-up: {}",
+                        lazy(() -> outboxMessages.stream().map(OrderApprovalOutboxMessage::getPayload)
+                                .collect(Collectors.joining("\n"))));
+                approvalOutboxHelper.deleteApprovalOutboxMessageByOutboxStatusAndSagaStatus(
                         OutboxStatus.COMPLETED,
                         SagaStatus.SUCCEEDED,
                         SagaStatus.FAILED,
                         SagaStatus.COMPENSATED);
-        if (outboxMessagesResponse.isPresent()) {
-            List<OrderApprovalOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-            log.info("Received {} OrderApprovalOutboxMessage for clean-up. The payloads: {}",
-                    outboxMessages.size(),
-                    outboxMessages.stream().map(OrderApprovalOutboxMessage::getPayload)
-                            .collect(Collectors.joining("\n")));
-            approvalOutboxHelper.deleteApprovalOutboxMessageByOutboxStatusAndSagaStatus(
-                    OutboxStatus.COMPLETED,
-                    SagaStatus.SUCCEEDED,
-                    SagaStatus.FAILED,
-                    SagaStatus.COMPENSATED);
-            log.info("{} OrderApprovalOutboxMessage deleted!", outboxMessages.size());
+                log.info("{} OrderApprovalOutboxMessage deleted!", outboxMessages.size());
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
         }
-
     }
 }
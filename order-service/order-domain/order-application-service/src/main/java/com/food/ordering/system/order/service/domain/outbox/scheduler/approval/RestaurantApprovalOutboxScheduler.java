@@ -1,10 +1,15 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxMetrics;
 import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -14,19 +19,33 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_RESTAURANT_APPROVAL_OUTBOX;
+
 @Slf4j
 @Component
 public class RestaurantApprovalOutboxScheduler implements OutboxScheduler {
 
+    private static final SampledLogger PUBLISHED_LOG =
+            SampledLogger.of(log, ORDER_RESTAURANT_APPROVAL_OUTBOX + ".published");
+    private static final SampledLogger STATUS_UPDATED_LOG =
+            SampledLogger.of(log, ORDER_RESTAURANT_APPROVAL_OUTBOX + ".status-updated");
+
     private final ApprovalOutboxHelper approvalOutboxHelper;
     private final RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final Tracer tracer;
 
     public RestaurantApprovalOutboxScheduler(ApprovalOutboxHelper
                                                      approvalOutboxHelper,
                                              RestaurantApprovalRequestMessagePublisher
-                                                     restaurantApprovalRequestMessagePublisher) {
+                                                     restaurantApprovalRequestMessagePublisher,
+                                             OutboxMetrics outboxMetrics,
+                                             Tracer tracer) {
         this.approvalOutboxHelper = approvalOutboxHelper;
         this.restaurantApprovalRequestMessagePublisher = restaurantApprovalRequestMessagePublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.tracer = tracer;
     }
 
     @Override
@@ -34,26 +53,39 @@ public class RestaurantApprovalOutboxScheduler implements OutboxScheduler {
     @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
             initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
-        Optional<List<OrderApprovalOutboxMessage>> outboxMessagesResponse =
-                approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
-                        OutboxStatus.STARTED,
-                        SagaStatus.PROCESSING);
-        if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
-            List<OrderApprovalOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-            log.info("Received {} OrderApprovalOutboxMessage with ids: {}, sending to message bus!",
-                    outboxMessages.size(),
-                    outboxMessages.stream().map(outboxMessage ->
-                            outboxMessage.getId().toString()).collect(Collectors.joining(",")));
-            outboxMessages.forEach(outboxMessage ->
-                    restaurantApprovalRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus));
-            log.info("{} OrderApprovalOutboxMessage sent to message bus!", outboxMessages.size());
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("RestaurantApprovalOutboxScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderApprovalOutboxMessage>> outboxMessagesResponse =
+                    approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
+                            OutboxStatus.STARTED,
+                            SagaStatus.PROCESSING);
+            if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
+                List<OrderApprovalOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.debug("Received {} OrderApprovalOutboxMessage with ids: {}, sending to message bus!",
+                        outboxMessages.size(),
+                        lazy(() -> outboxMessages.stream().map(outboxMessage ->
+                                outboxMessage.getId().toString()).collect(Collectors.joining(","))));
+                outboxMessages.forEach(outboxMessage -> {
+                    try (Span span = tracer.startSpan("RestaurantApprovalOutboxScheduler.publish", outboxMessage.getTraceParent())) {
+                        restaurantApprovalRequestMessagePublisher.publish(outboxMessage, outboxSchedulerEvent.track(
+                                outboxMetrics.track(ORDER_RESTAURANT_APPROVAL_OUTBOX, this::updateOutboxStatus)));
+                        span.setSuccessful(true);
+                    }
+                });
+                outboxMetrics.recordPublished(ORDER_RESTAURANT_APPROVAL_OUTBOX, outboxMessages.size());
+                PUBLISHED_LOG.info("{} OrderApprovalOutboxMessage sent to message bus!", outboxMessages.size());
 
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
         }
     }
 
     private void updateOutboxStatus(OrderApprovalOutboxMessage orderApprovalOutboxMessage, OutboxStatus outboxStatus) {
         orderApprovalOutboxMessage.setOutboxStatus(outboxStatus);
         approvalOutboxHelper.save(orderApprovalOutboxMessage);
-        log.info("OrderApprovalOutboxMessage is updated with outbox status: {}", outboxStatus.name());
+        STATUS_UPDATED_LOG.info("OrderApprovalOutboxMessage is updated with outbox status: {}", outboxStatus.name());
     }
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
@@ -12,6 +13,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+
 @Slf4j
 @Component
 public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
@@ -25,26 +28,32 @@ public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
     @Override
     @Scheduled(cron = "@midnight")
     public void processOutboxMessage() {
-        Optional<List<OrderPaymentOutboxMessage>> outboxMessagesResponse =
-                paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("PaymentOutboxCleanerScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderPaymentOutboxMessage>> outboxMessagesResponse =
+                    paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
+                            OutboxStatus.COMPLETED,
+                            SagaStatus.SUCCEEDED,
+                            SagaStatus.FAILED,
+                            SagaStatus.COMPENSATED);
+
+            if (outboxMessagesResponse.isPresent()) {
+                List<OrderPaymentOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.info("Received {} OrderPaymentOutboxMessage for clean-up!", outboxMessages.size());
+                log.debug("The payloads of OrderPaymentOutboxMessage for clean-up: {}",
+                        lazy(() -> outboxMessages.stream().map(OrderPaymentOutboxMessage::getPayload)
+                                .collect(Collectors.joining("\n"))));
+                paymentOutboxHelper.deletePaymentOutboxMessageByOutboxStatusAndSagaStatus(
                         OutboxStatus.COMPLETED,
                         SagaStatus.SUCCEEDED,
                         SagaStatus.FAILED,
                         SagaStatus.COMPENSATED);
-
-        if (outboxMessagesResponse.isPresent()) {
-            List<OrderPaymentOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-            log.info("Received {} OrderPaymentOutboxMessage for clean-up. The payloads: {}",
-                    outboxMessages.size(),
-                    outboxMessages.stream().map(OrderPaymentOutboxMessage::getPayload)
-                            .collect(Collectors.joining("\n")));
-            paymentOutboxHelper.deletePaymentOutboxMessageByOutboxStatusAndSagaStatus(
-                    OutboxStatus.COMPLETED,
-                    SagaStatus.SUCCEEDED,
-                    SagaStatus.FAILED,
-                    SagaStatus.COMPENSATED);
-            log.info("{} OrderPaymentOutboxMessage deleted!", outboxMessages.size());
+                log.info("{} OrderPaymentOutboxMessage deleted!", outboxMessages.size());
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
         }
-
     }
 }
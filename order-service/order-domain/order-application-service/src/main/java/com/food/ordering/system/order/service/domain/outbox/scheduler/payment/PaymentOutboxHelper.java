@@ -2,13 +2,16 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,19 +20,28 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_PAYMENT_OUTBOX;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 
 @Slf4j
 @Component
 public class PaymentOutboxHelper {
 
+    private static final SampledLogger SAVED_LOG = SampledLogger.of(log, ORDER_PAYMENT_OUTBOX + ".saved");
+
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final Tracer tracer;
 
     public PaymentOutboxHelper(PaymentOutboxRepository paymentOutboxRepository,
-                               ObjectMapper objectMapper) {
+                               ObjectMapper objectMapper,
+                               IdGenerator idGenerator,
+                               Tracer tracer) {
         this.paymentOutboxRepository = paymentOutboxRepository;
         this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.tracer = tracer;
     }
 
     @Transactional(readOnly = true)
@@ -54,7 +66,18 @@ public class PaymentOutboxHelper {
            throw new OrderDomainException("Could not save OrderPaymentOutboxMessage with outbox id: " +
                    orderPaymentOutboxMessage.getId());
        }
-       log.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
+       SAVED_LOG.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
+    }
+
+    @Transactional
+    public void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        List<OrderPaymentOutboxMessage> response = paymentOutboxRepository.saveAll(orderPaymentOutboxMessages);
+        if (response == null || response.size() != orderPaymentOutboxMessages.size()) {
+            log.error("Could not save {} OrderPaymentOutboxMessage!", orderPaymentOutboxMessages.size());
+            throw new OrderDomainException("Could not save " + orderPaymentOutboxMessages.size() +
+                    " OrderPaymentOutboxMessage!");
+        }
+        log.info("{} OrderPaymentOutboxMessage saved", response.size());
     }
 
     @Transactional
@@ -63,16 +86,25 @@ public class PaymentOutboxHelper {
                                          SagaStatus sagaStatus,
                                          OutboxStatus outboxStatus,
                                          UUID sagaId) {
-        save(OrderPaymentOutboxMessage.builder()
-                .id(UUID.randomUUID())
+        save(createPaymentOutboxMessage(paymentEventPayload, orderStatus, sagaStatus, outboxStatus, sagaId));
+    }
+
+    public OrderPaymentOutboxMessage createPaymentOutboxMessage(OrderPaymentEventPayload paymentEventPayload,
+                                                                OrderStatus orderStatus,
+                                                                SagaStatus sagaStatus,
+                                                                OutboxStatus outboxStatus,
+                                                                UUID sagaId) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(idGenerator.generateId())
                 .sagaId(sagaId)
                 .createdAt(paymentEventPayload.getCreatedAt())
                 .type(ORDER_SAGA_NAME)
                 .payload(createPayload(paymentEventPayload))
+                .traceParent(tracer.getCurrentTraceParent())
                 .orderStatus(orderStatus)
                 .sagaStatus(sagaStatus)
                 .outboxStatus(outboxStatus)
-                .build());
+                .build();
     }
 
     @Transactional
@@ -1,10 +1,15 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxMetrics;
 import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -14,17 +19,30 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.ORDER_PAYMENT_OUTBOX;
+
 @Slf4j
 @Component
 public class PaymentOutboxScheduler implements OutboxScheduler {
 
+    private static final SampledLogger PUBLISHED_LOG = SampledLogger.of(log, ORDER_PAYMENT_OUTBOX + ".published");
+    private static final SampledLogger STATUS_UPDATED_LOG =
+            SampledLogger.of(log, ORDER_PAYMENT_OUTBOX + ".status-updated");
+
     private final PaymentOutboxHelper paymentOutboxHelper;
     private final PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final Tracer tracer;
 
     public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
-                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher) {
+                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher,
+                                  OutboxMetrics outboxMetrics,
+                                  Tracer tracer) {
         this.paymentOutboxHelper = paymentOutboxHelper;
         this.paymentRequestMessagePublisher = paymentRequestMessagePublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.tracer = tracer;
     }
 
 
@@ -34,28 +52,40 @@ public class PaymentOutboxScheduler implements OutboxScheduler {
     @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
                 initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
-       Optional<List<OrderPaymentOutboxMessage>> outboxMessagesResponse =
-               paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
-                       OutboxStatus.STARTED,
-                       SagaStatus.STARTED,
-                       SagaStatus.COMPENSATING);
-
-       if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
-           List<OrderPaymentOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-           log.info("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
-                   outboxMessages.size(),
-                   outboxMessages.stream().map(outboxMessage ->
-                           outboxMessage.getId().toString()).collect(Collectors.joining(",")));
-           outboxMessages.forEach(outboxMessage ->
-                   paymentRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus));
-           log.info("{} OrderPaymentOutboxMessage sent to message bus!", outboxMessages.size());
-       }
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("PaymentOutboxScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderPaymentOutboxMessage>> outboxMessagesResponse =
+                    paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
+                            OutboxStatus.STARTED,
+                            SagaStatus.STARTED,
+                            SagaStatus.COMPENSATING);
 
+            if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
+                List<OrderPaymentOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.debug("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
+                        outboxMessages.size(),
+                        lazy(() -> outboxMessages.stream().map(outboxMessage ->
+                                outboxMessage.getId().toString()).collect(Collectors.joining(","))));
+                outboxMessages.forEach(outboxMessage -> {
+                    try (Span span = tracer.startSpan("PaymentOutboxScheduler.publish", outboxMessage.getTraceParent())) {
+                        paymentRequestMessagePublisher.publish(outboxMessage, outboxSchedulerEvent.track(
+                                outboxMetrics.track(ORDER_PAYMENT_OUTBOX, this::updateOutboxStatus)));
+                        span.setSuccessful(true);
+                    }
+                });
+                outboxMetrics.recordPublished(ORDER_PAYMENT_OUTBOX, outboxMessages.size());
+                PUBLISHED_LOG.info("{} OrderPaymentOutboxMessage sent to message bus!", outboxMessages.size());
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
+        }
     }
 
     private void updateOutboxStatus(OrderPaymentOutboxMessage orderPaymentOutboxMessage, OutboxStatus outboxStatus) {
         orderPaymentOutboxMessage.setOutboxStatus(outboxStatus);
         paymentOutboxHelper.save(orderPaymentOutboxMessage);
-        log.info("OrderPaymentOutboxMessage is updated with outbox status: {}", outboxStatus.name());
+        STATUS_UPDATED_LOG.info("OrderPaymentOutboxMessage is updated with outbox status: {}", outboxStatus.name());
     }
 }
@@ -2,14 +2,29 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHittersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+    CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand, String idempotencyKey);
+
+    CompletableFuture<CreateOrderResponse> submitOrder(@Valid CreateOrderCommand createOrderCommand);
+
+    CompletableFuture<CreateOrderResponse> submitOrder(@Valid CreateOrderCommand createOrderCommand,
+                                                       String idempotencyKey);
+
+    CreateOrderBatchResponse createOrders(@Valid CreateOrderBatchCommand createOrderBatchCommand);
+
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+    HeavyHittersResponse getHeavyHitters();
 }
@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking;
+
+import com.food.ordering.system.order.service.domain.track.OrderTrackingView;
+
+public interface OrderTrackingMessagePublisher {
+
+    void publish(OrderTrackingView orderTrackingView);
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyRecord;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderIdempotencyRepository {
+
+    OrderIdempotencyRecord save(OrderIdempotencyRecord orderIdempotencyRecord);
+
+    boolean saveIfAbsent(OrderIdempotencyRecord orderIdempotencyRecord);
+
+    Optional<OrderIdempotencyRecord> findByCustomerIdAndIdempotencyKey(UUID customerId, String idempotencyKey);
+
+    void deleteByCustomerIdAndIdempotencyKey(UUID customerId, String idempotencyKey);
+
+    int deleteByCreatedAtBefore(ZonedDateTime createdAt);
+}
@@ -1,16 +1,23 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.admission.RestaurantInFlightSagaCount;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
     Optional<Order> findById(OrderId orderId);
 
     Optional<Order> findByTrackingId(TrackingId trackingId);
+
+    List<RestaurantInFlightSagaCount> countInFlightSagasByRestaurant(List<OrderStatus> orderStatuses);
 }
@@ -12,6 +12,8 @@ public interface PaymentOutboxRepository {
 
     OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
 
+    List<OrderPaymentOutboxMessage> saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
     Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
                                                                                      OutboxStatus outboxStatus,
                                                                                      SagaStatus... sagaStatus);
@@ -0,0 +1,118 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderTrackingMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class OrderTrackingProjection {
+
+    private final Map<UUID, OrderTrackingView> views = new ConcurrentHashMap<>();
+    private final Queue<UUID> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final OrderRepository orderRepository;
+    private final ObjectProvider<OrderTrackingMessagePublisher> orderTrackingMessagePublishers;
+    private final int maxSize;
+
+    public OrderTrackingProjection(OrderRepository orderRepository,
+                                   ObjectProvider<OrderTrackingMessagePublisher> orderTrackingMessagePublishers,
+                                   OrderServiceConfigData orderServiceConfigData) {
+        this.orderRepository = orderRepository;
+        this.orderTrackingMessagePublishers = orderTrackingMessagePublishers;
+        this.maxSize = orderServiceConfigData.getTrackingProjectionMaxSize();
+    }
+
+    public Optional<OrderTrackingView> findByTrackingId(UUID trackingId) {
+        return Optional.ofNullable(views.get(trackingId));
+    }
+
+    public void update(Order order) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(apply(order));
+                }
+            });
+        } else {
+            publish(apply(order));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderTrackingView> loadByTrackingId(TrackingId trackingId) {
+        log.info("Order tracking view is not found in memory for tracking id: {}, loading from repository",
+                trackingId.getValue());
+        return orderRepository.findByTrackingId(trackingId).map(this::applyIfAbsent);
+    }
+
+    private OrderTrackingView applyIfAbsent(Order order) {
+        UUID trackingId = order.getTrackingId().getValue();
+        OrderTrackingView loaded = toView(order, versions.incrementAndGet());
+        OrderTrackingView current = views.putIfAbsent(trackingId, loaded);
+        if (current != null) {
+            return current;
+        }
+        insertionOrder.add(trackingId);
+        evictIfNecessary();
+        return loaded;
+    }
+
+    private OrderTrackingView apply(Order order) {
+        UUID trackingId = order.getTrackingId().getValue();
+        OrderTrackingView view = views.compute(trackingId, (key, current) -> {
+            if (current == null) {
+                insertionOrder.add(key);
+            }
+            return toView(order, versions.incrementAndGet());
+        });
+        evictIfNecessary();
+        log.debug("Order tracking view updated for tracking id: {} with status: {}", trackingId,
+                view.getOrderStatus());
+        return view;
+    }
+
+    private OrderTrackingView toView(Order order, long version) {
+        List<FailureReason> failureReasons = order.getFailureReasons() == null ? List.of() :
+                List.copyOf(order.getFailureReasons());
+        return OrderTrackingView.builder()
+                .trackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .failureReasons(failureReasons)
+                .version(version)
+                .build();
+    }
+
+    private void publish(OrderTrackingView view) {
+        orderTrackingMessagePublishers.forEach(publisher -> publisher.publish(view));
+    }
+
+    private void evictIfNecessary() {
+        while (views.size() > maxSize) {
+            UUID eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            views.remove(eldest);
+        }
+    }
+}
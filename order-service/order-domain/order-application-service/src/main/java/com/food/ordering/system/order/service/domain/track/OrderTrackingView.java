@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderTrackingView {
+    private final UUID trackingId;
+    private final OrderStatus orderStatus;
+    private final List<FailureReason> failureReasons;
+    private final long version;
+}
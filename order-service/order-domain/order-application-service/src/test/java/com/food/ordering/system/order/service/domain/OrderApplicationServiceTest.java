@@ -7,16 +7,24 @@ import com.food.ordering.system.order.service.domain.dto.create.CreateOrderComma
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchCommand;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchItemResponse;
+import com.food.ordering.system.order.service.domain.dto.create.batch.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.idempotency.OrderIdempotencyRecord;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
@@ -30,13 +38,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -46,6 +61,9 @@ public class OrderApplicationServiceTest {
     @Autowired
     private OrderApplicationService orderApplicationService;
 
+    @Autowired
+    private OrderCreateBatchCommandHandler orderCreateBatchCommandHandler;
+
     @Autowired
     private OrderDataMapper orderDataMapper;
 
@@ -61,13 +79,18 @@ public class OrderApplicationServiceTest {
     @Autowired
     private PaymentOutboxRepository paymentOutboxRepository;
 
+    @Autowired
+    private OrderIdempotencyRepository orderIdempotencyRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private CreateOrderCommand createOrderCommand;
     private CreateOrderCommand createOrderCommandWrongPrice;
     private CreateOrderCommand createOrderCommandWrongProductPrice;
+    private Restaurant activeRestaurantResponse;
     private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID OTHER_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb42");
     private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
     private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
     private final UUID ORDER_ID = UUID.fromString("15a497c1-0f4b-4eff-b9f4-c402c8c07afb");
@@ -147,7 +170,7 @@ public class OrderApplicationServiceTest {
 
         Customer customer = new Customer(new CustomerId(CUSTOMER_ID));
 
-        Restaurant restaurantResponse = Restaurant.builder()
+        activeRestaurantResponse = Restaurant.builder()
                 .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
                 .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1", new Money(new BigDecimal("50.00"))),
                         new Product(new ProductId(PRODUCT_ID), "product-2", new Money(new BigDecimal("50.00")))))
@@ -158,10 +181,18 @@ public class OrderApplicationServiceTest {
         order.setId(new OrderId(ORDER_ID));
 
         when(customerRepository.findCustomer(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        when(customerRepository.findCustomer(OTHER_CUSTOMER_ID))
+                .thenReturn(Optional.of(new Customer(new CustomerId(OTHER_CUSTOMER_ID))));
         when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
-                .thenReturn(Optional.of(restaurantResponse));
+                .thenReturn(Optional.of(activeRestaurantResponse));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
         when(paymentOutboxRepository.save(any(OrderPaymentOutboxMessage.class))).thenReturn(getOrderPaymentOutboxMessage());
+        when(customerRepository.findCustomers(any())).thenReturn(List.of(customer));
+        when(restaurantRepository.findRestaurantsInformation(any())).thenReturn(List.of(activeRestaurantResponse));
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentOutboxRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderIdempotencyRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderIdempotencyRepository.saveIfAbsent(any())).thenReturn(true);
     }
 
     @Test
@@ -172,6 +203,122 @@ public class OrderApplicationServiceTest {
        assertNotNull(createOrderResponse.getOrderTrackingId());
     }
 
+    @Test
+    public void testCreateOrders() {
+       CreateOrderBatchResponse createOrderBatchResponse = orderApplicationService.createOrders(
+               CreateOrderBatchCommand.builder()
+                       .orders(List.of(createOrderCommand, createOrderCommandWrongPrice))
+                       .build());
+       assertEquals(2, createOrderBatchResponse.getOrders().size());
+       assertTrue(createOrderBatchResponse.getOrders().get(0).isCreated());
+       assertEquals(OrderStatus.PENDING, createOrderBatchResponse.getOrders().get(0).getOrderStatus());
+       assertNotNull(createOrderBatchResponse.getOrders().get(0).getOrderTrackingId());
+       assertFalse(createOrderBatchResponse.getOrders().get(1).isCreated());
+       assertEquals("Total price: 250.00 is not equal to Order items total: 200.00!",
+               createOrderBatchResponse.getOrders().get(1).getMessage());
+    }
+
+    @Test
+    public void testSubmitOrder() throws Exception {
+       CompletableFuture<CreateOrderResponse> createOrderResponse = orderApplicationService.submitOrder(createOrderCommand);
+       CompletableFuture<CreateOrderResponse> createOrderResponseWrongPrice =
+               orderApplicationService.submitOrder(createOrderCommandWrongPrice);
+       assertEquals(OrderStatus.PENDING, createOrderResponse.get(5, TimeUnit.SECONDS).getOrderStatus());
+       assertNotNull(createOrderResponse.get().getOrderTrackingId());
+       ExecutionException executionException = assertThrows(ExecutionException.class,
+               () -> createOrderResponseWrongPrice.get(5, TimeUnit.SECONDS));
+       assertInstanceOf(OrderDomainException.class, executionException.getCause());
+       assertEquals("Total price: 250.00 is not equal to Order items total: 200.00!",
+               executionException.getCause().getMessage());
+    }
+
+    @Test
+    public void testCreateOrderWithIdempotencyKey() {
+       String idempotencyKey = UUID.randomUUID().toString();
+       CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+       CreateOrderResponse duplicateOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+       assertEquals(createOrderResponse.getOrderTrackingId(), duplicateOrderResponse.getOrderTrackingId());
+       assertEquals(OrderStatus.PENDING, duplicateOrderResponse.getOrderStatus());
+       verify(orderIdempotencyRepository, times(1))
+               .save(argThat(orderIdempotencyRecord -> idempotencyKey.equals(orderIdempotencyRecord.getIdempotencyKey())));
+    }
+
+    @Test
+    public void testCreateOrderWithIdempotencyKeyOfAnotherCustomer() {
+       String idempotencyKey = UUID.randomUUID().toString();
+       CreateOrderCommand otherCustomerOrderCommand = CreateOrderCommand.builder()
+               .customerId(OTHER_CUSTOMER_ID)
+               .restaurantId(createOrderCommand.getRestaurantId())
+               .address(createOrderCommand.getAddress())
+               .price(createOrderCommand.getPrice())
+               .items(createOrderCommand.getItems())
+               .build();
+       CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+       CreateOrderResponse otherCustomerOrderResponse =
+               orderApplicationService.createOrder(otherCustomerOrderCommand, idempotencyKey);
+       assertNotEquals(createOrderResponse.getOrderTrackingId(), otherCustomerOrderResponse.getOrderTrackingId());
+       verify(orderIdempotencyRepository, times(2))
+               .save(argThat(orderIdempotencyRecord -> idempotencyKey.equals(orderIdempotencyRecord.getIdempotencyKey())));
+    }
+
+    @Test
+    public void testCreateOrdersWithDuplicateIdempotencyKeys() {
+       String idempotencyKey = UUID.randomUUID().toString();
+       CreateOrderBatchResponse createOrderBatchResponse = orderCreateBatchCommandHandler.createOrders(
+               CreateOrderBatchCommand.builder().orders(List.of(createOrderCommand, createOrderCommand)).build(),
+               List.of(idempotencyKey, idempotencyKey), Arrays.asList(null, null));
+       List<CreateOrderBatchItemResponse> orderResponses = createOrderBatchResponse.getOrders();
+       assertTrue(orderResponses.get(0).isCreated());
+       assertTrue(orderResponses.get(1).isCreated());
+       assertEquals(1, orderResponses.get(1).getIndex());
+       assertEquals(orderResponses.get(0).getOrderTrackingId(), orderResponses.get(1).getOrderTrackingId());
+       verify(orderIdempotencyRepository, times(1)).saveIfAbsent(
+               argThat(orderIdempotencyRecord -> idempotencyKey.equals(orderIdempotencyRecord.getIdempotencyKey())));
+    }
+
+    @Test
+    public void testCreateOrdersWithConflictingIdempotencyKey() {
+       String idempotencyKey = UUID.randomUUID().toString();
+       UUID storedTrackingId = UUID.randomUUID();
+       when(orderIdempotencyRepository.saveIfAbsent(
+               argThat(orderIdempotencyRecord -> orderIdempotencyRecord != null &&
+                       idempotencyKey.equals(orderIdempotencyRecord.getIdempotencyKey())))).thenReturn(false);
+       when(orderIdempotencyRepository.findByCustomerIdAndIdempotencyKey(CUSTOMER_ID, idempotencyKey))
+               .thenReturn(Optional.empty(), Optional.of(OrderIdempotencyRecord.builder()
+                       .customerId(CUSTOMER_ID)
+                       .idempotencyKey(idempotencyKey)
+                       .orderTrackingId(storedTrackingId)
+                       .orderStatus(OrderStatus.PENDING)
+                       .message("Order created successfully")
+                       .createdAt(ZonedDateTime.now())
+                       .build()));
+       CreateOrderBatchResponse createOrderBatchResponse = orderCreateBatchCommandHandler.createOrders(
+               CreateOrderBatchCommand.builder().orders(List.of(createOrderCommand, createOrderCommand)).build(),
+               Arrays.asList(idempotencyKey, null), Arrays.asList(null, null));
+       List<CreateOrderBatchItemResponse> orderResponses = createOrderBatchResponse.getOrders();
+       assertTrue(orderResponses.get(0).isCreated());
+       assertEquals(storedTrackingId, orderResponses.get(0).getOrderTrackingId());
+       assertTrue(orderResponses.get(1).isCreated());
+       assertNotEquals(storedTrackingId, orderResponses.get(1).getOrderTrackingId());
+    }
+
+    @Test
+    public void testTrackOrderFromProjection() {
+       CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
+       TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder()
+               .orderTrackingId(createOrderResponse.getOrderTrackingId())
+               .build());
+       assertEquals(OrderStatus.PENDING, trackOrderResponse.getOrderStatus());
+       assertEquals(createOrderResponse.getOrderTrackingId(), trackOrderResponse.getOrderTrackingId());
+    }
+
+    @Test
+    public void testTrackOrderNotFound() {
+       assertThrows(OrderNotFoundException.class, () -> orderApplicationService.trackOrder(TrackOrderQuery.builder()
+               .orderTrackingId(UUID.randomUUID())
+               .build()));
+    }
+
     @Test
     public void testCreateOrderWithWrongTotalPrice() {
        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
@@ -198,6 +345,8 @@ public class OrderApplicationServiceTest {
                .thenReturn(Optional.of(restaurantResponse));
        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
                () -> orderApplicationService.createOrder(createOrderCommand));
+       when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
+               .thenReturn(Optional.of(activeRestaurantResponse));
        assertEquals("Restaurant with id " + RESTAURANT_ID + " is currently not active!", orderDomainException.getMessage());
     }
 
@@ -0,0 +1,145 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.exception.OrderAdmissionException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OrderAdmissionControllerTest {
+
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID OTHER_RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb46");
+    private final UUID UNKNOWN_RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+
+    @Test
+    public void testApprovedOrderReleasesInFlightSaga() {
+        OrderAdmissionController orderAdmissionController = createController(10, 10, 10);
+
+        inTransaction(true, () -> orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID)));
+        assertEquals(1, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(1, orderAdmissionController.getRestaurantInFlightSagas(RESTAURANT_ID));
+
+        inTransaction(true, () -> orderAdmissionController.release(RESTAURANT_ID));
+        assertEquals(0, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(0, orderAdmissionController.getRestaurantInFlightSagas(RESTAURANT_ID));
+        assertEquals(0, orderAdmissionController.getTrackedRestaurantCount());
+    }
+
+    @Test
+    public void testCancelledOrderReleasesInFlightSagaOnlyAfterCommit() {
+        OrderAdmissionController orderAdmissionController = createController(10, 10, 10);
+        inTransaction(true, () -> orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID)));
+
+        inTransaction(false, () -> orderAdmissionController.release(RESTAURANT_ID));
+        assertEquals(1, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(1, orderAdmissionController.getRestaurantInFlightSagas(RESTAURANT_ID));
+
+        inTransaction(true, () -> orderAdmissionController.release(RESTAURANT_ID));
+        assertEquals(0, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(0, orderAdmissionController.getTrackedRestaurantCount());
+    }
+
+    @Test
+    public void testRolledBackAdmissionIsAbandoned() {
+        OrderAdmissionController orderAdmissionController = createController(10, 10, 10);
+
+        inTransaction(false, () -> orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID)));
+
+        assertEquals(0, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(0, orderAdmissionController.getTrackedRestaurantCount());
+    }
+
+    @Test
+    public void testRejectedOrderDoesNotSpendTokensOrTrackRestaurant() {
+        OrderAdmissionController orderAdmissionController = createController(2, 1, 2);
+        orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID)).confirm();
+
+        assertThrows(OrderAdmissionException.class,
+                () -> orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID)));
+        orderAdmissionController.admit(createOrderCommand(OTHER_RESTAURANT_ID)).confirm();
+        assertEquals(2, orderAdmissionController.getGlobalInFlightSagas());
+
+        assertThrows(OrderAdmissionException.class,
+                () -> orderAdmissionController.admit(createOrderCommand(UNKNOWN_RESTAURANT_ID)));
+        assertEquals(0, orderAdmissionController.getRestaurantInFlightSagas(UNKNOWN_RESTAURANT_ID));
+        assertEquals(2, orderAdmissionController.getTrackedRestaurantCount());
+        assertEquals(2, orderAdmissionController.getRestaurantTokenBucketCount());
+    }
+
+    @Test
+    public void testRefreshReconcilesPersistedSagasAndKeepsPendingAdmissions() {
+        OrderAdmissionController orderAdmissionController = createController(10, 10, 10);
+        OrderAdmission pendingOrderAdmission = orderAdmissionController.admit(createOrderCommand(RESTAURANT_ID));
+        orderAdmissionController.admit(createOrderCommand(OTHER_RESTAURANT_ID)).confirm();
+        when(orderRepository.countInFlightSagasByRestaurant(any())).thenReturn(List.of(
+                new RestaurantInFlightSagaCount(OTHER_RESTAURANT_ID, 3L),
+                new RestaurantInFlightSagaCount(UNKNOWN_RESTAURANT_ID, 2L)));
+
+        orderAdmissionController.refreshInFlightSagas();
+
+        assertEquals(1, orderAdmissionController.getRestaurantInFlightSagas(RESTAURANT_ID));
+        assertEquals(3, orderAdmissionController.getRestaurantInFlightSagas(OTHER_RESTAURANT_ID));
+        assertEquals(2, orderAdmissionController.getRestaurantInFlightSagas(UNKNOWN_RESTAURANT_ID));
+        assertEquals(6, orderAdmissionController.getGlobalInFlightSagas());
+
+        pendingOrderAdmission.abandon();
+        pendingOrderAdmission.abandon();
+        when(orderRepository.countInFlightSagasByRestaurant(any())).thenReturn(List.of());
+
+        orderAdmissionController.refreshInFlightSagas();
+
+        assertEquals(0, orderAdmissionController.getGlobalInFlightSagas());
+        assertEquals(0, orderAdmissionController.getTrackedRestaurantCount());
+        assertEquals(0, orderAdmissionController.getRestaurantTokenBucketCount());
+    }
+
+    private OrderAdmissionController createController(long globalMaxInFlight, long restaurantMaxInFlight,
+                                                      long globalBurst) {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderAdmissionEnabled(true);
+        orderServiceConfigData.setOrderAdmissionGlobalMaxInFlight(globalMaxInFlight);
+        orderServiceConfigData.setOrderAdmissionRestaurantMaxInFlight(restaurantMaxInFlight);
+        orderServiceConfigData.setOrderAdmissionGlobalBurst(globalBurst);
+        orderServiceConfigData.setOrderAdmissionGlobalOrdersPerSecond(1L);
+        orderServiceConfigData.setOrderAdmissionRestaurantBurst(10L);
+        orderServiceConfigData.setOrderAdmissionRestaurantOrdersPerSecond(1_000_000_000L);
+        return new OrderAdmissionController(orderRepository, orderServiceConfigData);
+    }
+
+    private CreateOrderCommand createOrderCommand(UUID restaurantId) {
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(restaurantId)
+                .build();
+    }
+
+    private void inTransaction(boolean commit, Runnable runnable) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            runnable.run();
+            for (TransactionSynchronization transactionSynchronization :
+                    TransactionSynchronizationManager.getSynchronizations()) {
+                if (commit) {
+                    transactionSynchronization.afterCommit();
+                }
+                transactionSynchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED :
+                        TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
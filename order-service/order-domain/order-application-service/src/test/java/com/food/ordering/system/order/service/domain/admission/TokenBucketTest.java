@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private final long NOW = 1_000_000_000L;
+    private final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstIsAvailableImmediately() {
+        TokenBucket tokenBucket = new TokenBucket(3, 1, NOW);
+
+        assertTrue(tokenBucket.tryAcquire(NOW));
+        assertTrue(tokenBucket.tryAcquire(NOW));
+        assertTrue(tokenBucket.tryAcquire(NOW));
+        assertFalse(tokenBucket.tryAcquire(NOW));
+    }
+
+    @Test
+    public void testTokensRefillAtRateUpToCapacity() {
+        TokenBucket tokenBucket = new TokenBucket(2, 10, NOW);
+        tokenBucket.tryAcquire(NOW);
+        tokenBucket.tryAcquire(NOW);
+
+        assertFalse(tokenBucket.tryAcquire(NOW + ONE_SECOND / 20));
+        assertTrue(tokenBucket.tryAcquire(NOW + ONE_SECOND / 10 + 1_000));
+        assertFalse(tokenBucket.tryAcquire(NOW + ONE_SECOND / 10 + 1_000));
+
+        assertTrue(tokenBucket.isFull(NOW + 10 * ONE_SECOND));
+        assertTrue(tokenBucket.tryAcquire(NOW + 10 * ONE_SECOND));
+        assertTrue(tokenBucket.tryAcquire(NOW + 10 * ONE_SECOND));
+        assertFalse(tokenBucket.tryAcquire(NOW + 10 * ONE_SECOND));
+    }
+
+    @Test
+    public void testRefundReturnsTokenWithoutExceedingCapacity() {
+        TokenBucket tokenBucket = new TokenBucket(1, 1, NOW);
+        assertTrue(tokenBucket.tryAcquire(NOW));
+        assertFalse(tokenBucket.isFull(NOW));
+
+        tokenBucket.refund();
+        tokenBucket.refund();
+
+        assertTrue(tokenBucket.isFull(NOW));
+        assertTrue(tokenBucket.tryAcquire(NOW));
+        assertFalse(tokenBucket.tryAcquire(NOW));
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.service.domain.heavyhitter;
+
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void testEstimateNeverUndercounts() {
+        CountMinSketch countMinSketch = new CountMinSketch(64, 4);
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            for (int j = 0; j <= i % 7; j++) {
+                countMinSketch.add(key);
+            }
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertTrue(countMinSketch.estimate(keys.get(i)) >= i % 7 + 1);
+        }
+    }
+
+    @Test
+    public void testEstimateIsExactWithoutCollisions() {
+        CountMinSketch countMinSketch = new CountMinSketch(4096, 4);
+        UUID heavyKey = UUID.randomUUID();
+        UUID lightKey = UUID.randomUUID();
+        for (int i = 0; i < 100; i++) {
+            countMinSketch.add(heavyKey);
+        }
+        countMinSketch.add(lightKey);
+
+        assertEquals(100, countMinSketch.estimate(heavyKey));
+        assertEquals(1, countMinSketch.estimate(lightKey));
+        assertEquals(0, countMinSketch.estimate(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testSubtractAndClear() {
+        CountMinSketch total = new CountMinSketch(256, 4);
+        CountMinSketch bucket = new CountMinSketch(256, 4);
+        UUID key = UUID.randomUUID();
+        total.add(key);
+        total.add(key);
+        bucket.add(key);
+
+        total.subtract(bucket);
+        assertEquals(1, total.estimate(key));
+        total.clear();
+        assertEquals(0, total.estimate(key));
+    }
+
+    @Test
+    public void testInvalidDimensionsAreRejected() {
+        assertThrows(OrderDomainException.class, () -> new CountMinSketch(0, 4));
+        assertThrows(OrderDomainException.class, () -> new CountMinSketch(64, 0));
+    }
+}
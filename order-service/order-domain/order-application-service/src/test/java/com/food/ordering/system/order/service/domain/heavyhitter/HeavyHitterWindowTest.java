@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.domain.heavyhitter;
+
+import com.food.ordering.system.order.service.domain.dto.heavyhitter.HeavyHitterResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeavyHitterWindowTest {
+
+    private final long BUCKET_MILLIS = 1000;
+    private final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void testTopKeysAreReportedAcrossStripes() {
+        HeavyHitterWindow heavyHitterWindow = new HeavyHitterWindow(4, 3, BUCKET_MILLIS, 4096, 4, 3, NOW);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        record(heavyHitterWindow, first, 30, NOW);
+        record(heavyHitterWindow, second, 20, NOW);
+        record(heavyHitterWindow, third, 10, NOW);
+        for (int i = 0; i < 50; i++) {
+            heavyHitterWindow.recordOrder(UUID.randomUUID(), NOW);
+        }
+        heavyHitterWindow.recordRejection(second, NOW);
+
+        List<HeavyHitterResponse> heavyHitters = heavyHitterWindow.getHeavyHitters(NOW);
+
+        assertEquals(List.of(first, second, third), heavyHitters.stream().map(HeavyHitterResponse::getId)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(30L, 20L, 10L), heavyHitters.stream().map(HeavyHitterResponse::getOrderCount)
+                .collect(Collectors.toList()));
+        assertEquals(1, heavyHitters.get(1).getRejectionCount());
+        assertEquals(0.05, heavyHitters.get(1).getRejectionRate(), 1e-9);
+    }
+
+    @Test
+    public void testLighterKeyIsEvictedWhenHeavierKeyArrives() {
+        HeavyHitterWindow heavyHitterWindow = new HeavyHitterWindow(1, 3, BUCKET_MILLIS, 4096, 4, 2, NOW);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        record(heavyHitterWindow, first, 5, NOW);
+        record(heavyHitterWindow, second, 2, NOW);
+        record(heavyHitterWindow, third, 3, NOW);
+
+        assertEquals(List.of(first, third), heavyHitterWindow.getHeavyHitters(NOW).stream()
+                .map(HeavyHitterResponse::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testCountsExpireWithTheirBuckets() {
+        HeavyHitterWindow heavyHitterWindow = new HeavyHitterWindow(2, 3, BUCKET_MILLIS, 4096, 4, 10, NOW);
+        UUID expiring = UUID.randomUUID();
+        UUID remaining = UUID.randomUUID();
+        record(heavyHitterWindow, expiring, 5, NOW);
+        record(heavyHitterWindow, remaining, 2, NOW);
+        record(heavyHitterWindow, remaining, 2, NOW + BUCKET_MILLIS);
+
+        List<HeavyHitterResponse> heavyHitters = heavyHitterWindow.getHeavyHitters(NOW + 2 * BUCKET_MILLIS);
+        assertEquals(List.of(expiring, remaining), heavyHitters.stream().map(HeavyHitterResponse::getId)
+                .collect(Collectors.toList()));
+
+        heavyHitters = heavyHitterWindow.getHeavyHitters(NOW + 3 * BUCKET_MILLIS);
+        assertEquals(1, heavyHitters.size());
+        assertEquals(remaining, heavyHitters.get(0).getId());
+        assertEquals(2, heavyHitters.get(0).getOrderCount());
+
+        assertTrue(heavyHitterWindow.getHeavyHitters(NOW + 10 * BUCKET_MILLIS).isEmpty());
+    }
+
+    private void record(HeavyHitterWindow heavyHitterWindow, UUID key, int count, long nowMillis) {
+        for (int i = 0; i < count; i++) {
+            heavyHitterWindow.recordOrder(key, nowMillis);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.entity;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
@@ -19,12 +20,10 @@ public class Order extends AggregateRoot<OrderId> {
 
     private TrackingId trackingId;
     private OrderStatus orderStatus;
-    private List<String> failureMessages;
+    private List<FailureReason> failureReasons;
 
-    public static final String FAILURE_MESSAGE_DELIMITER = ",";
-
-    public void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
+    public void initializeOrder(IdGenerator idGenerator) {
+        setId(new OrderId(idGenerator.generateId()));
         trackingId = new TrackingId(UUID.randomUUID());
         orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
@@ -50,28 +49,28 @@ public class Order extends AggregateRoot<OrderId> {
         orderStatus = OrderStatus.APPROVED;
     }
 
-    public void initCancel(List<String> failureMessages) {
+    public void initCancel(List<FailureReason> failureReasons) {
         if (orderStatus != OrderStatus.PAID) {
             throw new OrderDomainException("Order is not in correct state for initCancel operation!");
         }
         orderStatus = OrderStatus.CANCELLING;
-        updateFailureMessages(failureMessages);
+        updateFailureReasons(failureReasons);
     }
 
-    public void cancel(List<String> failureMessages) {
+    public void cancel(List<FailureReason> failureReasons) {
         if (!(orderStatus == OrderStatus.CANCELLING || orderStatus == OrderStatus.PENDING)) {
             throw new OrderDomainException("Order is not in correct state for cancel operation!");
         }
         orderStatus = OrderStatus.CANCELLED;
-        updateFailureMessages(failureMessages);
+        updateFailureReasons(failureReasons);
     }
 
-    private void updateFailureMessages(List<String> failureMessages) {
-        if (this.failureMessages != null && failureMessages != null) {
-            this.failureMessages.addAll(failureMessages.stream().filter(message -> !message.isEmpty()).toList());
+    private void updateFailureReasons(List<FailureReason> failureReasons) {
+        if (this.failureReasons != null && failureReasons != null) {
+            this.failureReasons.addAll(failureReasons);
         }
-        if (this.failureMessages == null) {
-            this.failureMessages = failureMessages;
+        if (this.failureReasons == null) {
+            this.failureReasons = failureReasons;
         }
     }
 
@@ -122,7 +121,7 @@ public class Order extends AggregateRoot<OrderId> {
         items = builder.items;
         trackingId = builder.trackingId;
         orderStatus = builder.orderStatus;
-        failureMessages = builder.failureMessages;
+        failureReasons = builder.failureReasons;
     }
 
     public static Builder builder() {
@@ -157,8 +156,8 @@ public class Order extends AggregateRoot<OrderId> {
         return orderStatus;
     }
 
-    public List<String> getFailureMessages() {
-        return failureMessages;
+    public List<FailureReason> getFailureReasons() {
+        return failureReasons;
     }
 
     public static final class Builder {
@@ -170,7 +169,7 @@ public class Order extends AggregateRoot<OrderId> {
         private List<OrderItem> items;
         private TrackingId trackingId;
         private OrderStatus orderStatus;
-        private List<String> failureMessages;
+        private List<FailureReason> failureReasons;
 
         private Builder() {
         }
@@ -215,8 +214,8 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
-        public Builder failureMessages(List<String> val) {
-            failureMessages = val;
+        public Builder failureReasons(List<FailureReason> val) {
+            failureReasons = val;
             return this;
         }
 
@@ -0,0 +1,47 @@
+package com.food.ordering.system.order.service.messaging.listener.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageConsumer;
+import com.food.ordering.system.local.messaging.model.CustomerMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Slf4j
+@Component
+public class CustomerLocalListener implements LocalMessageConsumer<CustomerMessage> {
+
+    private final CustomerMessageListener customerMessageListener;
+    private final OrderLocalMessagingDataMapper orderLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public CustomerLocalListener(CustomerMessageListener customerMessageListener,
+                                 OrderLocalMessagingDataMapper orderLocalMessagingDataMapper,
+                                 LocalMessageBus localMessageBus,
+                                 OrderServiceConfigData orderServiceConfigData) {
+        this.customerMessageListener = customerMessageListener;
+        this.orderLocalMessagingDataMapper = orderLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        localMessageBus.subscribe(orderServiceConfigData.getCustomerTopicName(), this);
+    }
+
+    @Override
+    public void receive(List<CustomerMessage> messages, int partition) {
+        log.info("{} number of customer create messages received from partition: {}", messages.size(), partition);
+
+        messages.forEach(customerMessage ->
+                customerMessageListener.customerCreated(orderLocalMessagingDataMapper
+                        .customerMessageToCustomerModel(customerMessage)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.service.messaging.listener.local;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageConsumer;
+import com.food.ordering.system.local.messaging.model.PaymentResponseMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Slf4j
+@Component
+public class PaymentResponseLocalListener implements LocalMessageConsumer<PaymentResponseMessage> {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+    private final OrderLocalMessagingDataMapper orderLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public PaymentResponseLocalListener(PaymentResponseMessageListener paymentResponseMessageListener,
+                                        OrderLocalMessagingDataMapper orderLocalMessagingDataMapper,
+                                        LocalMessageBus localMessageBus,
+                                        OrderServiceConfigData orderServiceConfigData) {
+        this.paymentResponseMessageListener = paymentResponseMessageListener;
+        this.orderLocalMessagingDataMapper = orderLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        localMessageBus.subscribe(orderServiceConfigData.getPaymentResponseTopicName(), this);
+    }
+
+    @Override
+    public void receive(List<PaymentResponseMessage> messages, int partition) {
+        log.info("{} number of payment responses received from partition: {}", messages.size(), partition);
+
+        messages.forEach(paymentResponseMessage -> {
+            try {
+                if (PaymentStatus.COMPLETED == paymentResponseMessage.getPaymentStatus()) {
+                    log.info("Processing successful payment for order id: {}", paymentResponseMessage.getOrderId());
+                    paymentResponseMessageListener.paymentCompleted(orderLocalMessagingDataMapper
+                            .paymentResponseMessageToPaymentResponse(paymentResponseMessage));
+                } else if (PaymentStatus.CANCELLED == paymentResponseMessage.getPaymentStatus() ||
+                        PaymentStatus.FAILED == paymentResponseMessage.getPaymentStatus()) {
+                    log.info("Processing unsuccessful payment for order id: {}", paymentResponseMessage.getOrderId());
+                    paymentResponseMessageListener.paymentCancelled(orderLocalMessagingDataMapper
+                            .paymentResponseMessageToPaymentResponse(paymentResponseMessage));
+                }
+            } catch (OptimisticLockingFailureException e) {
+                log.error("Caught optimistic locking exception in PaymentResponseLocalListener for order id: {}",
+                        paymentResponseMessage.getOrderId());
+            } catch (OrderNotFoundException e) {
+                log.error("No order found for order id: {}", paymentResponseMessage.getOrderId());
+            }
+        });
+    }
+}
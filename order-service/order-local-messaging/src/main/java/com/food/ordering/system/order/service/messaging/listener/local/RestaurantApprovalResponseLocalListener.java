@@ -0,0 +1,72 @@
+package com.food.ordering.system.order.service.messaging.listener.local;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageConsumer;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalResponseMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Slf4j
+@Component
+public class RestaurantApprovalResponseLocalListener
+        implements LocalMessageConsumer<RestaurantApprovalResponseMessage> {
+
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final OrderLocalMessagingDataMapper orderLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public RestaurantApprovalResponseLocalListener(RestaurantApprovalResponseMessageListener
+                                                           restaurantApprovalResponseMessageListener,
+                                                   OrderLocalMessagingDataMapper orderLocalMessagingDataMapper,
+                                                   LocalMessageBus localMessageBus,
+                                                   OrderServiceConfigData orderServiceConfigData) {
+        this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+        this.orderLocalMessagingDataMapper = orderLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        localMessageBus.subscribe(orderServiceConfigData.getRestaurantApprovalResponseTopicName(), this);
+    }
+
+    @Override
+    public void receive(List<RestaurantApprovalResponseMessage> messages, int partition) {
+        log.info("{} number of restaurant approval responses received from partition: {}",
+                messages.size(), partition);
+
+        messages.forEach(restaurantApprovalResponseMessage -> {
+            try {
+                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseMessage.getOrderApprovalStatus()) {
+                    log.info("Processing approved order for order id: {}",
+                            restaurantApprovalResponseMessage.getOrderId());
+                    restaurantApprovalResponseMessageListener.orderApproved(orderLocalMessagingDataMapper
+                            .approvalResponseMessageToApprovalResponse(restaurantApprovalResponseMessage));
+                } else if (OrderApprovalStatus.REJECTED ==
+                        restaurantApprovalResponseMessage.getOrderApprovalStatus()) {
+                    log.info("Processing rejected order for order id: {}, with failure reasons: {}",
+                            restaurantApprovalResponseMessage.getOrderId(),
+                            restaurantApprovalResponseMessage.getFailureReasons());
+                    restaurantApprovalResponseMessageListener.orderRejected(orderLocalMessagingDataMapper
+                            .approvalResponseMessageToApprovalResponse(restaurantApprovalResponseMessage));
+                }
+            } catch (OptimisticLockingFailureException e) {
+                log.error("Caught optimistic locking exception in RestaurantApprovalResponseLocalListener" +
+                        " for order id: {}", restaurantApprovalResponseMessage.getOrderId());
+            } catch (OrderNotFoundException e) {
+                log.error("No order found for order id: {}", restaurantApprovalResponseMessage.getOrderId());
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.food.ordering.system.order.service.messaging.mapper;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
+import com.food.ordering.system.local.messaging.model.CustomerMessage;
+import com.food.ordering.system.local.messaging.model.PaymentRequestMessage;
+import com.food.ordering.system.local.messaging.model.PaymentResponseMessage;
+import com.food.ordering.system.local.messaging.model.ProductMessage;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalRequestMessage;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalResponseMessage;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class OrderLocalMessagingDataMapper {
+
+    private final IdGenerator idGenerator;
+
+    public OrderLocalMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public PaymentResponse paymentResponseMessageToPaymentResponse(PaymentResponseMessage paymentResponseMessage) {
+        return PaymentResponse.builder()
+                .id(paymentResponseMessage.getId())
+                .sagaId(paymentResponseMessage.getSagaId())
+                .paymentId(paymentResponseMessage.getPaymentId())
+                .customerId(paymentResponseMessage.getCustomerId())
+                .orderId(paymentResponseMessage.getOrderId())
+                .price(paymentResponseMessage.getPrice())
+                .createdAt(paymentResponseMessage.getCreatedAt())
+                .paymentStatus(paymentResponseMessage.getPaymentStatus())
+                .failureReasons(paymentResponseMessage.getFailureReasons())
+                .build();
+    }
+
+    public RestaurantApprovalResponse
+    approvalResponseMessageToApprovalResponse(RestaurantApprovalResponseMessage restaurantApprovalResponseMessage) {
+        return RestaurantApprovalResponse.builder()
+                .id(restaurantApprovalResponseMessage.getId())
+                .sagaId(restaurantApprovalResponseMessage.getSagaId())
+                .restaurantId(restaurantApprovalResponseMessage.getRestaurantId())
+                .orderId(restaurantApprovalResponseMessage.getOrderId())
+                .createdAt(restaurantApprovalResponseMessage.getCreatedAt())
+                .orderApprovalStatus(restaurantApprovalResponseMessage.getOrderApprovalStatus())
+                .failureReasons(restaurantApprovalResponseMessage.getFailureReasons())
+                .build();
+    }
+
+    public PaymentRequestMessage orderPaymentEventToPaymentRequestMessage(String sagaId, OrderPaymentEventPayload
+                                                                          orderPaymentEventPayload) {
+        return PaymentRequestMessage.builder()
+                .id(idGenerator.generateId().toString())
+                .sagaId(sagaId)
+                .customerId(orderPaymentEventPayload.getCustomerId())
+                .orderId(orderPaymentEventPayload.getOrderId())
+                .price(orderPaymentEventPayload.getPrice())
+                .createdAt(orderPaymentEventPayload.getCreatedAt().toInstant())
+                .paymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
+                .build();
+    }
+
+    public RestaurantApprovalRequestMessage
+    orderApprovalEventToRestaurantApprovalRequestMessage(String sagaId, OrderApprovalEventPayload
+            orderApprovalEventPayload) {
+        return RestaurantApprovalRequestMessage.builder()
+                .id(idGenerator.generateId().toString())
+                .sagaId(sagaId)
+                .orderId(orderApprovalEventPayload.getOrderId())
+                .restaurantId(orderApprovalEventPayload.getRestaurantId())
+                .restaurantOrderStatus(RestaurantOrderStatus
+                        .valueOf(orderApprovalEventPayload.getRestaurantOrderStatus()))
+                .products(orderApprovalEventPayload.getProducts().stream().map(orderApprovalEventProduct ->
+                        ProductMessage.builder()
+                                .id(orderApprovalEventProduct.getId())
+                                .quantity(orderApprovalEventProduct.getQuantity())
+                                .build()).collect(Collectors.toList()))
+                .price(orderApprovalEventPayload.getPrice())
+                .createdAt(orderApprovalEventPayload.getCreatedAt().toInstant())
+                .build();
+    }
+
+    public CustomerModel customerMessageToCustomerModel(CustomerMessage customerMessage) {
+        return CustomerModel.builder()
+                .id(customerMessage.getId())
+                .username(customerMessage.getUsername())
+                .firstName(customerMessage.getFirstName())
+                .lastName(customerMessage.getLastName())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.messaging.publisher.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalRequestMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderLocalMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderApprovalEventLocalPublisher implements RestaurantApprovalRequestMessagePublisher {
+
+    private final OrderLocalMessagingDataMapper orderLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final LocalMessageHelper localMessageHelper;
+
+    public OrderApprovalEventLocalPublisher(OrderLocalMessagingDataMapper orderLocalMessagingDataMapper,
+                                            LocalMessageBus localMessageBus,
+                                            OrderServiceConfigData orderServiceConfigData,
+                                            LocalMessageHelper localMessageHelper) {
+        this.orderLocalMessagingDataMapper = orderLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.localMessageHelper = localMessageHelper;
+    }
+
+    @Override
+    public void publish(OrderApprovalOutboxMessage orderApprovalOutboxMessage,
+                        BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback) {
+        OrderApprovalEventPayload orderApprovalEventPayload =
+                localMessageHelper.getOrderEventPayload(orderApprovalOutboxMessage.getPayload(),
+                        OrderApprovalEventPayload.class);
+
+        String sagaId = orderApprovalOutboxMessage.getSagaId().toString();
+
+        log.info("Received OrderApprovalOutboxMessage for order id: {} and saga id: {}",
+                orderApprovalEventPayload.getOrderId(),
+                sagaId);
+
+        try {
+            RestaurantApprovalRequestMessage restaurantApprovalRequestMessage = orderLocalMessagingDataMapper
+                    .orderApprovalEventToRestaurantApprovalRequestMessage(sagaId, orderApprovalEventPayload);
+
+            localMessageBus.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(), sagaId,
+                    restaurantApprovalRequestMessage);
+            outboxCallback.accept(orderApprovalOutboxMessage, OutboxStatus.COMPLETED);
+
+            log.info("OrderApprovalEventPayload sent to local message bus for order id: {} and saga id: {}",
+                    orderApprovalEventPayload.getOrderId(), sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderApprovalEventPayload" +
+                            " to local message bus with order id: {} and saga id: {}, error: {}",
+                    orderApprovalEventPayload.getOrderId(), sagaId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.messaging.publisher.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.local.messaging.model.PaymentRequestMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderLocalMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class OrderPaymentEventLocalPublisher implements PaymentRequestMessagePublisher {
+
+    private final OrderLocalMessagingDataMapper orderLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final LocalMessageHelper localMessageHelper;
+
+    public OrderPaymentEventLocalPublisher(OrderLocalMessagingDataMapper orderLocalMessagingDataMapper,
+                                           LocalMessageBus localMessageBus,
+                                           OrderServiceConfigData orderServiceConfigData,
+                                           LocalMessageHelper localMessageHelper) {
+        this.orderLocalMessagingDataMapper = orderLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.localMessageHelper = localMessageHelper;
+    }
+
+    @Override
+    public void publish(OrderPaymentOutboxMessage orderPaymentOutboxMessage,
+                        BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        OrderPaymentEventPayload orderPaymentEventPayload =
+                localMessageHelper.getOrderEventPayload(orderPaymentOutboxMessage.getPayload(),
+                        OrderPaymentEventPayload.class);
+
+        String sagaId = orderPaymentOutboxMessage.getSagaId().toString();
+
+        log.info("Received OrderPaymentOutboxMessage for order id: {} and saga id: {}",
+                orderPaymentEventPayload.getOrderId(),
+                sagaId);
+
+        try {
+            PaymentRequestMessage paymentRequestMessage = orderLocalMessagingDataMapper
+                    .orderPaymentEventToPaymentRequestMessage(sagaId, orderPaymentEventPayload);
+
+            localMessageBus.send(orderServiceConfigData.getPaymentRequestTopicName(), sagaId, paymentRequestMessage);
+            outboxCallback.accept(orderPaymentOutboxMessage, OutboxStatus.COMPLETED);
+
+            log.info("OrderPaymentEventPayload sent to local message bus for order id: {} and saga id: {}",
+                    orderPaymentEventPayload.getOrderId(), sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderPaymentEventPayload" +
+                            " to local message bus with order id: {} and saga id: {}, error: {}",
+                    orderPaymentEventPayload.getOrderId(), sagaId, e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -12,6 +14,10 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.kafka.consumer.KafkaConsumerHeaders.getHeaderAsString;
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @Component
@@ -19,11 +25,14 @@ public class CustomerKafkaListener implements KafkaConsumer<CustomerAvroModel> {
 
     private final CustomerMessageListener customerMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final Tracer tracer;
 
     public CustomerKafkaListener(CustomerMessageListener customerMessageListener,
-                                 OrderMessagingDataMapper orderMessagingDataMapper) {
+                                 OrderMessagingDataMapper orderMessagingDataMapper,
+                                 Tracer tracer) {
         this.customerMessageListener = customerMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.tracer = tracer;
     }
 
     @Override
@@ -31,15 +40,22 @@ public class CustomerKafkaListener implements KafkaConsumer<CustomerAvroModel> {
     public void receive(@Payload List<CustomerAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(value = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
         log.info("{} number of customer create messages received with keys {}, partitions {} and offsets {}",
                 messages.size(),
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(customerAvroModel ->
+        for (int index = 0; index < messages.size(); index++) {
+            try (Span span = tracer.startSpan("CustomerKafkaListener.receive",
+                    getHeaderAsString(headers, index, TRACE_PARENT_HEADER))) {
                 customerMessageListener.customerCreated(orderMessagingDataMapper
-                        .customerAvroModeltoCustomerModel(customerAvroModel)));
+                        .customerAvroModeltoCustomerModel(messages.get(index)));
+                span.setSuccessful(true);
+            }
+        }
     }
 }
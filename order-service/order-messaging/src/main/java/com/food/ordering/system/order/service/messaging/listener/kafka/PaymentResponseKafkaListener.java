@@ -6,6 +6,8 @@ import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -15,6 +17,10 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.kafka.consumer.KafkaConsumerHeaders.getHeaderAsString;
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @Component
@@ -22,11 +28,14 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final Tracer tracer;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        Tracer tracer) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.tracer = tracer;
     }
 
     @Override
@@ -34,15 +43,19 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
     public void receive(@Payload List<PaymentResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(value = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
         log.info("{} number of payment responses received with keys:{}, partitions:{} and offsets: {}",
                 messages.size(),
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(paymentResponseAvroModel -> {
-            try {
+        for (int index = 0; index < messages.size(); index++) {
+            PaymentResponseAvroModel paymentResponseAvroModel = messages.get(index);
+            try (Span span = tracer.startSpan("PaymentResponseKafkaListener.receive",
+                    getHeaderAsString(headers, index, TRACE_PARENT_HEADER))) {
                 if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
                     log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
                     paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper
@@ -53,6 +66,7 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                     paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper
                             .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
                 }
+                span.setSuccessful(true);
             } catch (OptimisticLockingFailureException e) {
                 //NO-OP for optimistic lock. This means another thread finished the work, do not throw error to prevent reading the data from kafka again!
                log.error("Caught optimistic locking exception in PaymentResponseKafkaListener for order id: {}",
@@ -61,6 +75,6 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                 //NO-OP for OrderNotFoundException
                 log.error("No order found for order id: {}", paymentResponseAvroModel.getOrderId());
             }
-        });
+        }
     }
 }
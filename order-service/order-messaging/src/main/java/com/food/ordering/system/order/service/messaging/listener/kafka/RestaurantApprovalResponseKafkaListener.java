@@ -7,6 +7,8 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -16,8 +18,10 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
-import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+import static com.food.ordering.system.kafka.consumer.KafkaConsumerHeaders.getHeaderAsString;
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @Component
@@ -25,12 +29,15 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final Tracer tracer;
 
     public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener
                                                            restaurantApprovalResponseMessageListener,
-                                                   OrderMessagingDataMapper orderMessagingDataMapper) {
+                                                   OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   Tracer tracer) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.tracer = tracer;
     }
 
     @Override
@@ -39,28 +46,32 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
     public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(value = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
         log.info("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
                 messages.size(),
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(restaurantApprovalResponseAvroModel -> {
-            try {
+        for (int index = 0; index < messages.size(); index++) {
+            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel = messages.get(index);
+            try (Span span = tracer.startSpan("RestaurantApprovalResponseKafkaListener.receive",
+                    getHeaderAsString(headers, index, TRACE_PARENT_HEADER))) {
                 if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
                     log.info("Processing approved order for order id: {}",
                             restaurantApprovalResponseAvroModel.getOrderId());
                     restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper
                             .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
                 } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                    log.info("Processing rejected order for order id: {}, with failure messages: {}",
+                    log.info("Processing rejected order for order id: {}, with failure reasons: {}",
                             restaurantApprovalResponseAvroModel.getOrderId(),
-                            String.join(FAILURE_MESSAGE_DELIMITER,
-                                    restaurantApprovalResponseAvroModel.getFailureMessages()));
+                            restaurantApprovalResponseAvroModel.getFailureReasons());
                     restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper
                             .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
                 }
+                span.setSuccessful(true);
             } catch (OptimisticLockingFailureException e) {
                 //NO-OP for optimistic lock. This means another thread finished the work, do not throw error to prevent reading the data from kafka again!
                 log.error("Caught optimistic locking exception in RestaurantApprovalResponseKafkaListener for order id: {}",
@@ -69,7 +80,7 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 //NO-OP for OrderNotFoundException
                 log.error("No order found for order id: {}", restaurantApprovalResponseAvroModel.getOrderId());
             }
-        });
+        }
 
     }
 }
@@ -1,5 +1,8 @@
 package com.food.ordering.system.order.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.kafka.order.avro.model.*;
 import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
@@ -8,12 +11,18 @@ import com.food.ordering.system.order.service.domain.outbox.model.approval.Order
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
 public class OrderMessagingDataMapper {
 
+    private final IdGenerator idGenerator;
+
+    public OrderMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel
                                                                              paymentResponseAvroModel) {
         return PaymentResponse.builder()
@@ -26,7 +35,7 @@ public class OrderMessagingDataMapper {
                 .createdAt(paymentResponseAvroModel.getCreatedAt())
                 .paymentStatus(com.food.ordering.system.domain.valueobject.PaymentStatus.valueOf(
                         paymentResponseAvroModel.getPaymentStatus().name()))
-                .failureMessages(paymentResponseAvroModel.getFailureMessages())
+                .failureReasons(failureReasonAvroModelsToFailureReasons(paymentResponseAvroModel.getFailureReasons()))
                 .build();
     }
 
@@ -41,14 +50,15 @@ public class OrderMessagingDataMapper {
                 .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
                 .orderApprovalStatus(com.food.ordering.system.domain.valueobject.OrderApprovalStatus.valueOf(
                         restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
-                .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
+                .failureReasons(failureReasonAvroModelsToFailureReasons(
+                        restaurantApprovalResponseAvroModel.getFailureReasons()))
                 .build();
     }
 
     public PaymentRequestAvroModel orderPaymentEventToPaymentRequestAvroModel(String sagaId, OrderPaymentEventPayload
                                                                               orderPaymentEventPayload) {
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generateId().toString())
                 .setSagaId(sagaId)
                 .setCustomerId(orderPaymentEventPayload.getCustomerId())
                 .setOrderId(orderPaymentEventPayload.getOrderId())
@@ -62,7 +72,7 @@ public class OrderMessagingDataMapper {
     orderApprovalEventToRestaurantApprovalRequestAvroModel(String sagaId, OrderApprovalEventPayload
             orderApprovalEventPayload) {
         return RestaurantApprovalRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generateId().toString())
                 .setSagaId(sagaId)
                 .setOrderId(orderApprovalEventPayload.getOrderId())
                 .setRestaurantId(orderApprovalEventPayload.getRestaurantId())
@@ -86,4 +96,13 @@ public class OrderMessagingDataMapper {
                 .lastName(customerAvroModel.getLastName())
                 .build();
     }
+
+    private List<FailureReason> failureReasonAvroModelsToFailureReasons(
+            List<com.food.ordering.system.kafka.order.avro.model.FailureReason> failureReasonAvroModels) {
+        return failureReasonAvroModels.stream()
+                .map(failureReasonAvroModel -> new FailureReason(
+                        FailureCode.valueOf(failureReasonAvroModel.getCode().name()),
+                        failureReasonAvroModel.getParameters()))
+                .collect(Collectors.toList());
+    }
 }
@@ -54,7 +54,7 @@ public class OrderApprovalEventKafkaPublisher implements RestaurantApprovalReque
                                     orderApprovalEventPayload);
 
             kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
-                    sagaId,
+                    kafkaMessageHelper.getPartitionKey(sagaId, orderApprovalEventPayload.getRestaurantId()),
                     restaurantApprovalRequestAvroModel,
                     kafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                             restaurantApprovalRequestAvroModel,
@@ -51,7 +51,7 @@ public class OrderPaymentEventKafkaPublisher implements PaymentRequestMessagePub
                     .orderPaymentEventToPaymentRequestAvroModel(sagaId, orderPaymentEventPayload);
 
             kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
-                    sagaId,
+                    kafkaMessageHelper.getPartitionKey(sagaId, orderPaymentEventPayload.getCustomerId()),
                     paymentRequestAvroModel,
                     kafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel,
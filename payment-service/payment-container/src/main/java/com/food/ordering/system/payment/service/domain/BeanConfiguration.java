@@ -1,5 +1,7 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -7,7 +9,12 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public PaymentDomainService paymentDomainService() {
-        return new PaymentDomainServiceImpl();
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
+    }
+
+    @Bean
+    public PaymentDomainService paymentDomainService(IdGenerator idGenerator) {
+        return new PaymentDomainServiceImpl(idGenerator);
     }
 }
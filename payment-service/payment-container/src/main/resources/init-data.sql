@@ -1,17 +1,21 @@
-INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount)
-	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb21', 'd215b5f8-0249-4dc5-89a3-51fd148cfb41', 500.00);
+INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount, version)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb21', 'd215b5f8-0249-4dc5-89a3-51fd148cfb41', 500.00, 0);
 INSERT INTO payment.credit_history(id, customer_id, amount, type)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb23', 'd215b5f8-0249-4dc5-89a3-51fd148cfb41', 100.00, 'CREDIT');
 INSERT INTO payment.credit_history(id, customer_id, amount, type)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb24', 'd215b5f8-0249-4dc5-89a3-51fd148cfb41', 600.00, 'CREDIT');
 INSERT INTO payment.credit_history(id, customer_id, amount, type)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb25', 'd215b5f8-0249-4dc5-89a3-51fd148cfb41', 200.00, 'DEBIT');
+INSERT INTO payment.credit_history_snapshot(customer_id, as_of_sequence_number, total_credit_amount, total_debit_amount)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb41', 0, 0.00, 0.00);
 
 
-INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount)
-	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb22', 'd215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00);
+INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount, version)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb22', 'd215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00, 0);
 INSERT INTO payment.credit_history(id, customer_id, amount, type)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb26', 'd215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00, 'CREDIT');
+INSERT INTO payment.credit_history_snapshot(customer_id, as_of_sequence_number, total_credit_amount, total_debit_amount)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb43', 0, 0.00, 0.00);
 
 
 
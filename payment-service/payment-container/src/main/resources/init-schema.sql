@@ -28,6 +28,7 @@ CREATE TABLE "payment".credit_entry
     id uuid NOT NULL,
     customer_id uuid NOT NULL,
     total_credit_amount numeric(10,2) NOT NULL,
+    version integer NOT NULL,
     CONSTRAINT credit_entry_pkey PRIMARY KEY (id)
 );
 
@@ -43,9 +44,42 @@ CREATE TABLE "payment".credit_history
     customer_id uuid NOT NULL,
     amount numeric(10,2) NOT NULL,
     type transaction_type NOT NULL,
+    sequence_number bigserial NOT NULL,
     CONSTRAINT credit_history_pkey PRIMARY KEY (id)
 );
 
+CREATE INDEX "credit_history_customer_id_sequence_number"
+    ON "payment".credit_history
+    (customer_id, sequence_number);
+
+DROP TABLE IF EXISTS "payment".credit_history_archive CASCADE;
+
+CREATE TABLE "payment".credit_history_archive
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    amount numeric(10,2) NOT NULL,
+    type transaction_type NOT NULL,
+    sequence_number bigint NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT credit_history_archive_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "credit_history_archive_customer_id_sequence_number"
+    ON "payment".credit_history_archive
+    (customer_id, sequence_number);
+
+DROP TABLE IF EXISTS "payment".credit_history_snapshot CASCADE;
+
+CREATE TABLE "payment".credit_history_snapshot
+(
+    customer_id uuid NOT NULL,
+    as_of_sequence_number bigint NOT NULL,
+    total_credit_amount numeric(19,2) NOT NULL,
+    total_debit_amount numeric(19,2) NOT NULL,
+    CONSTRAINT credit_history_snapshot_pkey PRIMARY KEY (customer_id)
+);
+
 DROP TYPE IF EXISTS outbox_status;
 CREATE TYPE outbox_status AS ENUM ('STARTED', 'COMPLETED', 'FAILED');
 
@@ -59,6 +93,7 @@ CREATE TABLE "payment".order_outbox
     processed_at TIMESTAMP WITH TIME ZONE,
     type character varying COLLATE pg_catalog."default" NOT NULL,
     payload jsonb NOT NULL,
+    trace_parent character varying COLLATE pg_catalog."default",
     outbox_status outbox_status NOT NULL,
     payment_status payment_status NOT NULL,
     version integer NOT NULL,
@@ -69,6 +104,17 @@ CREATE INDEX "payment_order_outbox_saga_status"
     ON "payment".order_outbox
     (type, payment_status);
 
-CREATE UNIQUE INDEX "payment_order_outbox_saga_id_payment_status_outbox_status"
+CREATE INDEX "payment_order_outbox_backlog"
+    ON "payment".order_outbox
+    (outbox_status, payment_status, created_at)
+    WHERE outbox_status IN ('STARTED', 'FAILED');
+
+CREATE UNIQUE INDEX "payment_order_outbox_saga_id_payment_result"
+    ON "payment".order_outbox
+    (type, saga_id)
+    WHERE payment_status IN ('COMPLETED', 'FAILED');
+
+CREATE UNIQUE INDEX "payment_order_outbox_saga_id_cancel_result"
     ON "payment".order_outbox
-    (type, saga_id, payment_status, outbox_status);
\ No newline at end of file
+    (type, saga_id)
+    WHERE payment_status = 'CANCELLED';
\ No newline at end of file
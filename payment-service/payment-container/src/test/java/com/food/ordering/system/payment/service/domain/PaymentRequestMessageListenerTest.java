@@ -91,9 +91,9 @@ public class PaymentRequestMessageListenerTest {
 
     private void assertOrderOutbox(String sagaId) {
         Optional<OrderOutboxEntity> orderOutboxEntity = orderOutboxJpaRepository
-                .findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(ORDER_SAGA_NAME,
+                .findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(ORDER_SAGA_NAME,
                         UUID.fromString(sagaId),
-                        PaymentStatus.COMPLETED,
+                        List.of(PaymentStatus.COMPLETED),
                         OutboxStatus.STARTED);
         assertTrue(orderOutboxEntity.isPresent());
         assertEquals(orderOutboxEntity.get().getSagaId().toString(), sagaId);
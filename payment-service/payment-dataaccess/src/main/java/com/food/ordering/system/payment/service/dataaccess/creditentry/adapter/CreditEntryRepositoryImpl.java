@@ -7,7 +7,10 @@ import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class CreditEntryRepositoryImpl implements CreditEntryRepository {
@@ -34,4 +37,30 @@ public class CreditEntryRepositoryImpl implements CreditEntryRepository {
                 .findByCustomerId(customerId.getValue())
                 .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry);
     }
+
+    @Override
+    public List<CreditEntry> saveAll(List<CreditEntry> creditEntries) {
+        return creditEntryJpaRepository.saveAll(creditEntries.stream()
+                        .map(creditEntryDataAccessMapper::creditEntryToCreditEntryEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<CreditEntry>> findByCustomerIdIn(List<CustomerId> customerIds) {
+        return creditEntryJpaRepository.findByCustomerIdIn(customerIds.stream()
+                        .map(CustomerId::getValue)
+                        .collect(Collectors.toList()))
+                .map(creditEntryEntities -> creditEntryEntities.stream()
+                        .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Stream<CreditEntry> streamAllOrderByCustomerId() {
+        return creditEntryJpaRepository.streamAllOrderByCustomerId()
+                .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry);
+    }
 }
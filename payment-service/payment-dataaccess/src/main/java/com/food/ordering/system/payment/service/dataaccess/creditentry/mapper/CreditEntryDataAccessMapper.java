@@ -15,6 +15,7 @@ public class CreditEntryDataAccessMapper {
                 .creditEntryId(new CreditEntryId(creditEntryEntity.getId()))
                 .customerId(new CustomerId(creditEntryEntity.getCustomerId()))
                 .totalCreditAmount(new Money(creditEntryEntity.getTotalCreditAmount()))
+                .version(creditEntryEntity.getVersion())
                 .build();
     }
 
@@ -23,6 +24,7 @@ public class CreditEntryDataAccessMapper {
                 .id(creditEntry.getId().getValue())
                 .customerId(creditEntry.getCustomerId().getValue())
                 .totalCreditAmount(creditEntry.getTotalCreditAmount().getAmount())
+                .version(creditEntry.getVersion())
                 .build();
     }
 
@@ -2,15 +2,28 @@ package com.food.ordering.system.payment.service.dataaccess.creditentry.reposito
 
 import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CreditEntryJpaRepository extends JpaRepository<CreditEntryEntity, UUID> {
 
     Optional<CreditEntryEntity> findByCustomerId(UUID customerId);
 
+    Optional<List<CreditEntryEntity>> findByCustomerIdIn(List<UUID> customerIds);
+
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    @Query("SELECT new com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity(" +
+            "e.id, e.customerId, e.totalCreditAmount, e.version) FROM CreditEntryEntity e ORDER BY e.customerId")
+    Stream<CreditEntryEntity> streamAllOrderByCustomerId();
+
 
 }
@@ -10,7 +10,9 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
@@ -40,4 +42,56 @@ public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
                                 .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
                                 .collect(Collectors.toList()));
     }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerIdAndSequenceNumberGreaterThan(CustomerId customerId,
+                                                                                      long sequenceNumber) {
+        return creditHistoryJpaRepository
+                .findByCustomerIdAndSequenceNumberGreaterThan(customerId.getValue(), sequenceNumber)
+                .map(creditHistoryList ->
+                        creditHistoryList.stream()
+                                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<CreditHistory> saveAll(List<CreditHistory> creditHistories) {
+        return creditHistoryJpaRepository.saveAll(creditHistories.stream()
+                        .map(creditHistoryDataAccessMapper::creditHistoryToCreditHistoryEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerIdInAndSequenceNumberGreaterThan(List<CustomerId> customerIds,
+                                                                                        long sequenceNumber) {
+        return creditHistoryJpaRepository
+                .findByCustomerIdInAndSequenceNumberGreaterThanOrderBySequenceNumber(customerIds.stream()
+                        .map(CustomerId::getValue)
+                        .collect(Collectors.toList()), sequenceNumber)
+                .map(creditHistoryList ->
+                        creditHistoryList.stream()
+                                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<CustomerId> findCustomerIdsToCompact(long minCreditHistoryCount, int limit) {
+        return creditHistoryJpaRepository.findCustomerIdsToCompact(minCreditHistoryCount, limit).stream()
+                .map(customerId -> new CustomerId(UUID.fromString(customerId)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int archiveCompactedCreditHistories(int limit) {
+        return creditHistoryJpaRepository.archiveCompactedCreditHistories(limit);
+    }
+
+    @Override
+    public Stream<CreditHistory> streamAllOrderByCustomerIdAndSequenceNumber() {
+        return creditHistoryJpaRepository.streamAllOrderByCustomerIdAndSequenceNumber()
+                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory);
+    }
 }
@@ -2,6 +2,7 @@ package com.food.ordering.system.payment.service.dataaccess.credithistory.entity
 
 import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
@@ -15,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "credit_history")
 @Entity
-public class CreditHistoryEntity {
+public class CreditHistoryEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -23,6 +24,13 @@ public class CreditHistoryEntity {
     private BigDecimal amount;
     @Enumerated(EnumType.STRING)
     private TransactionType type;
+    @Column(insertable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -16,6 +16,7 @@ public class CreditHistoryDataAccessMapper {
                 .customerId(new CustomerId(creditHistoryEntity.getCustomerId()))
                 .amount(new Money(creditHistoryEntity.getAmount()))
                 .transactionType(creditHistoryEntity.getType())
+                .sequenceNumber(creditHistoryEntity.getSequenceNumber())
                 .build();
     }
 
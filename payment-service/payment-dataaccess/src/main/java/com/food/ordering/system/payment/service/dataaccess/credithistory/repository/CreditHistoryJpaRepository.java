@@ -2,16 +2,50 @@ package com.food.ordering.system.payment.service.dataaccess.credithistory.reposi
 
 import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CreditHistoryJpaRepository extends JpaRepository<CreditHistoryEntity, UUID> {
 
     Optional<List<CreditHistoryEntity>> findByCustomerId(UUID customerId);
 
+    Optional<List<CreditHistoryEntity>> findByCustomerIdAndSequenceNumberGreaterThan(UUID customerId,
+                                                                                     Long sequenceNumber);
+
+    Optional<List<CreditHistoryEntity>> findByCustomerIdInAndSequenceNumberGreaterThanOrderBySequenceNumber(
+            List<UUID> customerIds, Long sequenceNumber);
+
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    @Query("SELECT new com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity(" +
+            "h.id, h.customerId, h.amount, h.type, h.sequenceNumber) FROM CreditHistoryEntity h " +
+            "ORDER BY h.customerId, h.sequenceNumber")
+    Stream<CreditHistoryEntity> streamAllOrderByCustomerIdAndSequenceNumber();
+
+    @Query(value = "SELECT CAST(h.customer_id AS varchar) FROM credit_history h " +
+            "LEFT JOIN credit_history_snapshot s ON s.customer_id = h.customer_id " +
+            "WHERE h.sequence_number > COALESCE(s.as_of_sequence_number, 0) " +
+            "GROUP BY h.customer_id HAVING COUNT(*) >= :minCount LIMIT :limit", nativeQuery = true)
+    List<String> findCustomerIdsToCompact(@Param("minCount") long minCount, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "WITH archived AS (DELETE FROM credit_history WHERE id IN (" +
+            "SELECT h.id FROM credit_history h JOIN credit_history_snapshot s ON s.customer_id = h.customer_id " +
+            "WHERE h.sequence_number <= s.as_of_sequence_number LIMIT :limit) " +
+            "RETURNING id, customer_id, amount, type, sequence_number) " +
+            "INSERT INTO credit_history_archive (id, customer_id, amount, type, sequence_number) " +
+            "SELECT id, customer_id, amount, type, sequence_number FROM archived", nativeQuery = true)
+    int archiveCompactedCreditHistories(@Param("limit") int limit);
+
 
 }
@@ -0,0 +1,74 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.mapper.CreditHistorySnapshotDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.repository.CreditHistorySnapshotJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class CreditHistorySnapshotRepositoryImpl implements CreditHistorySnapshotRepository {
+
+    private final CreditHistorySnapshotJpaRepository creditHistorySnapshotJpaRepository;
+    private final CreditHistorySnapshotDataAccessMapper creditHistorySnapshotDataAccessMapper;
+
+    public CreditHistorySnapshotRepositoryImpl(CreditHistorySnapshotJpaRepository creditHistorySnapshotJpaRepository,
+                                               CreditHistorySnapshotDataAccessMapper
+                                                       creditHistorySnapshotDataAccessMapper) {
+        this.creditHistorySnapshotJpaRepository = creditHistorySnapshotJpaRepository;
+        this.creditHistorySnapshotDataAccessMapper = creditHistorySnapshotDataAccessMapper;
+    }
+
+    @Override
+    public CreditHistorySnapshot save(CreditHistorySnapshot creditHistorySnapshot) {
+        return creditHistorySnapshotDataAccessMapper.creditHistorySnapshotEntityToCreditHistorySnapshot(
+                creditHistorySnapshotJpaRepository.save(creditHistorySnapshotDataAccessMapper
+                        .creditHistorySnapshotToCreditHistorySnapshotEntity(creditHistorySnapshot)));
+    }
+
+    @Override
+    public void saveIfAbsent(CreditHistorySnapshot creditHistorySnapshot) {
+        creditHistorySnapshotJpaRepository.insertIfAbsent(creditHistorySnapshot.getId().getValue(),
+                creditHistorySnapshot.getAsOfSequenceNumber(),
+                creditHistorySnapshot.getTotalCreditAmount().getAmount(),
+                creditHistorySnapshot.getTotalDebitAmount().getAmount());
+    }
+
+    @Override
+    public Optional<CreditHistorySnapshot> findByCustomerId(CustomerId customerId) {
+        return creditHistorySnapshotJpaRepository.findByCustomerId(customerId.getValue())
+                .map(creditHistorySnapshotDataAccessMapper::creditHistorySnapshotEntityToCreditHistorySnapshot);
+    }
+
+    @Override
+    public List<CreditHistorySnapshot> saveAll(List<CreditHistorySnapshot> creditHistorySnapshots) {
+        return creditHistorySnapshotJpaRepository.saveAll(creditHistorySnapshots.stream()
+                        .map(creditHistorySnapshotDataAccessMapper::creditHistorySnapshotToCreditHistorySnapshotEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(creditHistorySnapshotDataAccessMapper::creditHistorySnapshotEntityToCreditHistorySnapshot)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<CreditHistorySnapshot>> findByCustomerIdIn(List<CustomerId> customerIds) {
+        return creditHistorySnapshotJpaRepository.findByCustomerIdInOrderByCustomerId(customerIds.stream()
+                        .map(CustomerId::getValue)
+                        .collect(Collectors.toList()))
+                .map(creditHistorySnapshotEntities -> creditHistorySnapshotEntities.stream()
+                        .map(creditHistorySnapshotDataAccessMapper::creditHistorySnapshotEntityToCreditHistorySnapshot)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Stream<CreditHistorySnapshot> streamAllOrderByCustomerId() {
+        return creditHistorySnapshotJpaRepository.streamAllOrderByCustomerId()
+                .map(creditHistorySnapshotDataAccessMapper::creditHistorySnapshotEntityToCreditHistorySnapshot);
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.entity;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "credit_history_snapshot")
+@Entity
+public class CreditHistorySnapshotEntity {
+
+    @Id
+    private UUID customerId;
+    private Long asOfSequenceNumber;
+    private BigDecimal totalCreditAmount;
+    private BigDecimal totalDebitAmount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreditHistorySnapshotEntity that = (CreditHistorySnapshotEntity) o;
+        return customerId.equals(that.customerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.mapper;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.entity.CreditHistorySnapshotEntity;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CreditHistorySnapshotDataAccessMapper {
+
+    public CreditHistorySnapshot creditHistorySnapshotEntityToCreditHistorySnapshot(CreditHistorySnapshotEntity
+                                                                                            creditHistorySnapshotEntity) {
+        return CreditHistorySnapshot.builder()
+                .customerId(new CustomerId(creditHistorySnapshotEntity.getCustomerId()))
+                .asOfSequenceNumber(creditHistorySnapshotEntity.getAsOfSequenceNumber())
+                .totalCreditAmount(new Money(creditHistorySnapshotEntity.getTotalCreditAmount()))
+                .totalDebitAmount(new Money(creditHistorySnapshotEntity.getTotalDebitAmount()))
+                .build();
+    }
+
+    public CreditHistorySnapshotEntity creditHistorySnapshotToCreditHistorySnapshotEntity(CreditHistorySnapshot
+                                                                                                  creditHistorySnapshot) {
+        return CreditHistorySnapshotEntity.builder()
+                .customerId(creditHistorySnapshot.getId().getValue())
+                .asOfSequenceNumber(creditHistorySnapshot.getAsOfSequenceNumber())
+                .totalCreditAmount(creditHistorySnapshot.getTotalCreditAmount().getAmount())
+                .totalDebitAmount(creditHistorySnapshot.getTotalDebitAmount().getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.entity.CreditHistorySnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface CreditHistorySnapshotJpaRepository extends JpaRepository<CreditHistorySnapshotEntity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CreditHistorySnapshotEntity> findByCustomerId(UUID customerId);
+
+    @Modifying
+    @Query(value = "INSERT INTO credit_history_snapshot " +
+            "(customer_id, as_of_sequence_number, total_credit_amount, total_debit_amount) " +
+            "VALUES (:customerId, :asOfSequenceNumber, :totalCreditAmount, :totalDebitAmount) " +
+            "ON CONFLICT (customer_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId,
+                       @Param("asOfSequenceNumber") long asOfSequenceNumber,
+                       @Param("totalCreditAmount") BigDecimal totalCreditAmount,
+                       @Param("totalDebitAmount") BigDecimal totalDebitAmount);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<List<CreditHistorySnapshotEntity>> findByCustomerIdInOrderByCustomerId(List<UUID> customerIds);
+
+    @QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+    @Query("SELECT new com.food.ordering.system.payment.service.dataaccess.credithistorysnapshot.entity." +
+            "CreditHistorySnapshotEntity(s.customerId, s.asOfSequenceNumber, s.totalCreditAmount, " +
+            "s.totalDebitAmount) FROM CreditHistorySnapshotEntity s ORDER BY s.customerId")
+    Stream<CreditHistorySnapshotEntity> streamAllOrderByCustomerId();
+}
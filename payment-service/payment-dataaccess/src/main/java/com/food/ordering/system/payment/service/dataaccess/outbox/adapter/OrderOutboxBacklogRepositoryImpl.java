@@ -0,0 +1,32 @@
+package com.food.ordering.system.payment.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.payment.service.dataaccess.outbox.repository.OrderOutboxJpaRepository;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.PAYMENT_ORDER_OUTBOX;
+
+@Component
+public class OrderOutboxBacklogRepositoryImpl implements OutboxBacklogRepository {
+
+    private final OrderOutboxJpaRepository orderOutboxJpaRepository;
+
+    public OrderOutboxBacklogRepositoryImpl(OrderOutboxJpaRepository orderOutboxJpaRepository) {
+        this.orderOutboxJpaRepository = orderOutboxJpaRepository;
+    }
+
+    @Override
+    public String getOutboxName() {
+        return PAYMENT_ORDER_OUTBOX;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxBacklogCount> countByOutboxStatusAndState() {
+        return orderOutboxJpaRepository.countByOutboxStatusAndState();
+    }
+}
@@ -45,15 +45,35 @@ public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
     }
 
     @Override
-    public Optional<OrderOutboxMessage> findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(String sagaType,
+    public Optional<OrderOutboxMessage> findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(String sagaType,
                                                                             UUID sagaId,
-                                                                            PaymentStatus paymentStatus,
+                                                                            List<PaymentStatus> paymentStatuses,
                                                                             OutboxStatus outboxStatus) {
-        return orderOutboxJpaRepository.findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(sagaType, sagaId,
-                        paymentStatus, outboxStatus)
+        return orderOutboxJpaRepository.findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(sagaType, sagaId,
+                        paymentStatuses, outboxStatus)
                 .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage);
     }
 
+    @Override
+    public List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        return orderOutboxJpaRepository.saveAll(orderOutboxMessages.stream()
+                        .map(orderOutboxDataAccessMapper::orderOutboxMessageToOutboxEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<OrderOutboxMessage>> findByTypeAndSagaIdInAndOutboxStatus(String sagaType,
+                                                                                   List<UUID> sagaIds,
+                                                                                   OutboxStatus outboxStatus) {
+        return orderOutboxJpaRepository.findByTypeAndSagaIdInAndOutboxStatus(sagaType, sagaIds, outboxStatus)
+                .map(orderOutboxEntities -> orderOutboxEntities.stream()
+                        .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public void deleteByTypeAndOutboxStatus(String sagaType, OutboxStatus outboxStatus) {
         orderOutboxJpaRepository.deleteByTypeAndOutboxStatus(sagaType, outboxStatus);
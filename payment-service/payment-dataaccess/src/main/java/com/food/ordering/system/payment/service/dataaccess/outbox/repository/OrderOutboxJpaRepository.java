@@ -2,8 +2,10 @@ package com.food.ordering.system.payment.service.dataaccess.outbox.repository;
 
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
 import com.food.ordering.system.payment.service.dataaccess.outbox.entity.OrderOutboxEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,11 +17,22 @@ public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntit
 
     Optional<List<OrderOutboxEntity>> findByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
-    Optional<OrderOutboxEntity> findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(String type,
+    Optional<OrderOutboxEntity> findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(String type,
                                                                     UUID sagaId,
-                                                                    PaymentStatus paymentStatus,
+                                                                    List<PaymentStatus> paymentStatuses,
                                                                     OutboxStatus outboxStatus);
 
+    Optional<List<OrderOutboxEntity>> findByTypeAndSagaIdInAndOutboxStatus(String type,
+                                                                          List<UUID> sagaIds,
+                                                                          OutboxStatus outboxStatus);
+
     void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
+    @Query("SELECT new com.food.ordering.system.outbox.metrics.OutboxBacklogCount(" +
+            "e.outboxStatus, e.paymentStatus, COUNT(e), MIN(e.createdAt)) FROM OrderOutboxEntity e " +
+            "WHERE e.outboxStatus IN (com.food.ordering.system.outbox.OutboxStatus.STARTED, " +
+            "com.food.ordering.system.outbox.OutboxStatus.FAILED) " +
+            "GROUP BY e.outboxStatus, e.paymentStatus")
+    List<OutboxBacklogCount> countByOutboxStatusAndState();
+
 }
@@ -6,8 +6,10 @@ import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class PaymentRepositoryImpl implements PaymentRepository {
@@ -33,4 +35,22 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return paymentJpaRepository.findByOrderId(orderId)
                 .map(paymentDataAccessMapper::paymentEntityToPayment);
     }
+
+    @Override
+    public List<Payment> saveAll(List<Payment> payments) {
+        return paymentJpaRepository.saveAll(payments.stream()
+                        .map(paymentDataAccessMapper::paymentToPaymentEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(paymentDataAccessMapper::paymentEntityToPayment)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<Payment>> findByOrderIdIn(List<UUID> orderIds) {
+        return paymentJpaRepository.findByOrderIdIn(orderIds)
+                .map(paymentEntities -> paymentEntities.stream()
+                        .map(paymentDataAccessMapper::paymentEntityToPayment)
+                        .collect(Collectors.toList()));
+    }
 }
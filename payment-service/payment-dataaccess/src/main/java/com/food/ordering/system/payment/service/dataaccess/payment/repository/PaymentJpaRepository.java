@@ -4,6 +4,7 @@ import com.food.ordering.system.payment.service.dataaccess.payment.entity.Paymen
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +13,7 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, UUID>
 
     Optional<PaymentEntity> findByOrderId(UUID orderId);
 
+    Optional<List<PaymentEntity>> findByOrderIdIn(List<UUID> orderIds);
+
 
 }
@@ -1,11 +1,16 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
@@ -16,60 +21,72 @@ import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOut
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class PaymentRequestHelper {
 
+    private static final List<PaymentStatus> PAYMENT_RESULT_STATUSES =
+            List.of(PaymentStatus.COMPLETED, PaymentStatus.FAILED);
+    private static final List<PaymentStatus> CANCEL_RESULT_STATUSES = List.of(PaymentStatus.CANCELLED);
+
     private final PaymentDomainService paymentDomainService;
     private final PaymentDataMapper paymentDataMapper;
     private final PaymentRepository paymentRepository;
     private final CreditEntryRepository creditEntryRepository;
     private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditHistorySnapshotRepository creditHistorySnapshotRepository;
     private final OrderOutboxHelper orderOutboxHelper;
     private final PaymentResponseMessagePublisher paymentResponseMessagePublisher;
+    private final PaymentServiceConfigData paymentServiceConfigData;
 
     public PaymentRequestHelper(PaymentDomainService paymentDomainService,
                                 PaymentDataMapper paymentDataMapper,
                                 PaymentRepository paymentRepository,
                                 CreditEntryRepository creditEntryRepository,
                                 CreditHistoryRepository creditHistoryRepository,
+                                CreditHistorySnapshotRepository creditHistorySnapshotRepository,
                                 OrderOutboxHelper orderOutboxHelper,
-                                PaymentResponseMessagePublisher paymentResponseMessagePublisher) {
+                                PaymentResponseMessagePublisher paymentResponseMessagePublisher,
+                                PaymentServiceConfigData paymentServiceConfigData) {
         this.paymentDomainService = paymentDomainService;
         this.paymentDataMapper = paymentDataMapper;
         this.paymentRepository = paymentRepository;
         this.creditEntryRepository = creditEntryRepository;
         this.creditHistoryRepository = creditHistoryRepository;
+        this.creditHistorySnapshotRepository = creditHistorySnapshotRepository;
         this.orderOutboxHelper = orderOutboxHelper;
         this.paymentResponseMessagePublisher = paymentResponseMessagePublisher;
+        this.paymentServiceConfigData = paymentServiceConfigData;
     }
 
     @Transactional
     public void persistPayment(PaymentRequest paymentRequest) {
-        if (publishIfOutboxMessageProcessedForPayment(paymentRequest, PaymentStatus.COMPLETED)) {
-            log.info("An outbox message with saga id: {} is already saved to database!",
-                    paymentRequest.getSagaId());
-            return;
-        }
-
         log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
         Payment payment = paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
+        CreditHistorySnapshot creditHistorySnapshot = getCreditHistorySnapshot(payment.getCustomerId());
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
-        List<String> failureMessages = new ArrayList<>();
-        PaymentEvent paymentEvent =
-                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditHistories, failureMessages);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId(), creditHistorySnapshot);
+        List<FailureReason> failureReasons = new ArrayList<>();
+        PaymentEvent paymentEvent = paymentDomainService.validateAndInitiatePayment(payment, creditEntry,
+                creditHistorySnapshot, creditHistories, failureReasons);
+        persistDbObjects(payment, creditEntry, creditHistories, failureReasons);
 
         orderOutboxHelper.saveOrderOutboxMessage(paymentDataMapper.paymentEventToOrderEventPayload(paymentEvent),
                 paymentEvent.getPayment().getPaymentStatus(),
@@ -79,12 +96,6 @@ public class PaymentRequestHelper {
 
     @Transactional
     public void persistCancelPayment(PaymentRequest paymentRequest) {
-        if (publishIfOutboxMessageProcessedForPayment(paymentRequest, PaymentStatus.CANCELLED)) {
-            log.info("An outbox message with saga id: {} is already saved to database!",
-                    paymentRequest.getSagaId());
-            return;
-        }
-
         log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
         Optional<Payment> paymentResponse = paymentRepository
                 .findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
@@ -94,12 +105,13 @@ public class PaymentRequestHelper {
                     paymentRequest.getOrderId() + " could not be found!");
         }
         Payment payment = paymentResponse.get();
+        CreditHistorySnapshot creditHistorySnapshot = getCreditHistorySnapshot(payment.getCustomerId());
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
-        List<String> failureMessages = new ArrayList<>();
+        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId(), creditHistorySnapshot);
+        List<FailureReason> failureReasons = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService
-                .validateAndCancelPayment(payment, creditEntry, creditHistories, failureMessages);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+                .validateAndCancelPayment(payment, creditEntry, creditHistories, failureReasons);
+        persistDbObjects(payment, creditEntry, creditHistories, failureReasons);
 
         orderOutboxHelper.saveOrderOutboxMessage(paymentDataMapper.paymentEventToOrderEventPayload(paymentEvent),
                 paymentEvent.getPayment().getPaymentStatus(),
@@ -108,7 +120,7 @@ public class PaymentRequestHelper {
 
     }
 
-    private CreditEntry getCreditEntry(CustomerId customerId) {
+    public CreditEntry getCreditEntry(CustomerId customerId) {
         Optional<CreditEntry> creditEntry = creditEntryRepository.findByCustomerId(customerId);
         if (creditEntry.isEmpty()) {
             log.error("Could not find credit entry for customer: {}", customerId.getValue());
@@ -118,33 +130,61 @@ public class PaymentRequestHelper {
         return creditEntry.get();
     }
 
-    private List<CreditHistory> getCreditHistory(CustomerId customerId) {
-        Optional<List<CreditHistory>> creditHistories = creditHistoryRepository.findByCustomerId(customerId);
+    public CreditHistorySnapshot getCreditHistorySnapshot(CustomerId customerId) {
+        Optional<CreditHistorySnapshot> creditHistorySnapshot =
+                creditHistorySnapshotRepository.findByCustomerId(customerId);
+        if (creditHistorySnapshot.isEmpty()) {
+            log.info("Creating credit history snapshot for customer: {}", customerId.getValue());
+            creditHistorySnapshotRepository.saveIfAbsent(CreditHistorySnapshot.builder()
+                    .customerId(customerId)
+                    .asOfSequenceNumber(0)
+                    .totalCreditAmount(Money.ZERO)
+                    .totalDebitAmount(Money.ZERO)
+                    .build());
+            creditHistorySnapshot = creditHistorySnapshotRepository.findByCustomerId(customerId);
+        }
+        return creditHistorySnapshot.orElseThrow(() -> {
+            log.error("Could not find credit history snapshot for customer: {}", customerId.getValue());
+            return new PaymentApplicationServiceException("Could not find credit history snapshot for customer: " +
+                    customerId.getValue());
+        });
+    }
+
+    public List<CreditHistory> getCreditHistory(CustomerId customerId, CreditHistorySnapshot creditHistorySnapshot) {
+        Optional<List<CreditHistory>> creditHistories = creditHistoryRepository
+                .findByCustomerIdAndSequenceNumberGreaterThan(customerId, creditHistorySnapshot.getAsOfSequenceNumber());
         if (creditHistories.isEmpty()) {
             log.error("Could not find credit history for customer: {}", customerId.getValue());
             throw new PaymentApplicationServiceException("Could not find credit history for customer: " +
                     customerId.getValue());
         }
+        if (creditHistories.get().size() >= paymentServiceConfigData.getCreditHistorySnapshotInterval()) {
+            creditHistorySnapshot.addCreditHistories(creditHistories.get());
+            creditHistorySnapshotRepository.save(creditHistorySnapshot);
+            log.info("Credit history snapshot for customer: {} is moved to sequence number: {}",
+                    customerId.getValue(), creditHistorySnapshot.getAsOfSequenceNumber());
+            return new ArrayList<>();
+        }
         return creditHistories.get();
     }
 
     private void persistDbObjects(Payment payment,
                                   CreditEntry creditEntry,
                                   List<CreditHistory> creditHistories,
-                                  List<String> failureMessages) {
+                                  List<FailureReason> failureReasons) {
         paymentRepository.save(payment);
-        if (failureMessages.isEmpty()) {
+        if (failureReasons.isEmpty()) {
             creditEntryRepository.save(creditEntry);
             creditHistoryRepository.save(creditHistories.get(creditHistories.size() - 1));
         }
     }
 
-    private boolean publishIfOutboxMessageProcessedForPayment(PaymentRequest paymentRequest,
-                                                              PaymentStatus paymentStatus) {
+    public boolean publishIfOutboxMessageProcessedForPayment(PaymentRequest paymentRequest) {
         Optional<OrderOutboxMessage> orderOutboxMessage =
-                orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndPaymentStatus(
+                orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndPaymentStatuses(
                         UUID.fromString(paymentRequest.getSagaId()),
-                        paymentStatus);
+                        PaymentOrderStatus.PENDING == paymentRequest.getPaymentOrderStatus() ?
+                                PAYMENT_RESULT_STATUSES : CANCEL_RESULT_STATUSES);
         if (orderOutboxMessage.isPresent()) {
             paymentResponseMessagePublisher.publish(orderOutboxMessage.get(), orderOutboxHelper::updateOutboxMessage);
             return true;
@@ -152,4 +192,47 @@ public class PaymentRequestHelper {
         return false;
     }
 
+    public void publishOrderOutboxMessages(List<OrderOutboxMessage> orderOutboxMessages) {
+        orderOutboxMessages.forEach(orderOutboxMessage ->
+                paymentResponseMessagePublisher.publish(orderOutboxMessage, orderOutboxHelper::updateOutboxMessage));
+    }
+
+    public List<PaymentRequest> filterProcessedPaymentRequests(List<PaymentRequest> paymentRequests,
+                                                               List<OrderOutboxMessage> processedOrderOutboxMessages) {
+        List<UUID> sagaIds = paymentRequests.stream()
+                .map(paymentRequest -> UUID.fromString(paymentRequest.getSagaId()))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, OrderOutboxMessage> completedOrderOutboxMessages = orderOutboxHelper
+                .getCompletedOrderOutboxMessagesBySagaIds(sagaIds)
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(orderOutboxMessage -> getOutboxKey(orderOutboxMessage.getSagaId(),
+                        CANCEL_RESULT_STATUSES.contains(orderOutboxMessage.getPaymentStatus()) ?
+                                PaymentOrderStatus.CANCELLED : PaymentOrderStatus.PENDING),
+                        Function.identity(), (first, second) -> first));
+
+        Set<String> seenOutboxKeys = new HashSet<>();
+        List<PaymentRequest> newPaymentRequests = new ArrayList<>(paymentRequests.size());
+        for (PaymentRequest paymentRequest : paymentRequests) {
+            String outboxKey = getOutboxKey(UUID.fromString(paymentRequest.getSagaId()),
+                    paymentRequest.getPaymentOrderStatus());
+            OrderOutboxMessage orderOutboxMessage = completedOrderOutboxMessages.get(outboxKey);
+            if (orderOutboxMessage != null) {
+                log.info("An outbox message with saga id: {} is already saved to database!",
+                        paymentRequest.getSagaId());
+                processedOrderOutboxMessages.add(orderOutboxMessage);
+            } else if (seenOutboxKeys.add(outboxKey)) {
+                newPaymentRequests.add(paymentRequest);
+            } else {
+                log.info("Duplicate payment request with saga id: {} is skipped in batch",
+                        paymentRequest.getSagaId());
+            }
+        }
+        return newPaymentRequests;
+    }
+
+    private String getOutboxKey(UUID sagaId, PaymentOrderStatus paymentOrderStatus) {
+        return sagaId + ":" + paymentOrderStatus.name();
+    }
 }
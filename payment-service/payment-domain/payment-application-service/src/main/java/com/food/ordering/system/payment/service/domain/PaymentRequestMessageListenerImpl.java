@@ -1,28 +1,154 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.payment.service.domain.account.CreditAccountBatchProcessor;
+import com.food.ordering.system.payment.service.domain.account.CreditAccountProcessor;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.exception.PaymentNotFoundException;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
+import com.food.ordering.system.saga.RecentSagaCache;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
 @Slf4j
 @Service
 public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageListener {
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final PaymentRequestHelper paymentRequestHelper;
+    private final CreditAccountProcessor creditAccountProcessor;
+    private final CreditAccountBatchProcessor creditAccountBatchProcessor;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final Tracer tracer;
+    private final RecentSagaCache recentSagaCache;
 
-    public PaymentRequestMessageListenerImpl(PaymentRequestHelper paymentRequestHelper) {
+    public PaymentRequestMessageListenerImpl(PaymentRequestHelper paymentRequestHelper,
+                                             CreditAccountProcessor creditAccountProcessor,
+                                             CreditAccountBatchProcessor creditAccountBatchProcessor,
+                                             PaymentServiceConfigData paymentServiceConfigData,
+                                             Tracer tracer) {
         this.paymentRequestHelper = paymentRequestHelper;
+        this.creditAccountProcessor = creditAccountProcessor;
+        this.creditAccountBatchProcessor = creditAccountBatchProcessor;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.tracer = tracer;
+        this.recentSagaCache = new RecentSagaCache(paymentServiceConfigData.getRecentSagaCacheMaxSize());
     }
 
     @Override
     public void completePayment(PaymentRequest paymentRequest) {
-        paymentRequestHelper.persistPayment(paymentRequest);
+        if (creditAccountProcessor.isEnabled()) {
+            await(creditAccountProcessor.completePayment(paymentRequest));
+        } else {
+            persistPayment(paymentRequest, paymentRequestHelper::persistPayment);
+        }
     }
 
     @Override
     public void cancelPayment(PaymentRequest paymentRequest) {
-        paymentRequestHelper.persistCancelPayment(paymentRequest);
+        if (creditAccountProcessor.isEnabled()) {
+            await(creditAccountProcessor.cancelPayment(paymentRequest));
+        } else {
+            persistPayment(paymentRequest, paymentRequestHelper::persistCancelPayment);
+        }
+    }
+
+    @Override
+    public void processPayments(List<PaymentRequest> paymentRequests) {
+        if (paymentServiceConfigData.getPaymentBatchProcessingEnabled()) {
+            try {
+                processPaymentBatch(paymentRequests);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Batch processing failed for {} payment requests, processing them one by one",
+                        paymentRequests.size(), e);
+            }
+        }
+        paymentRequests.forEach(this::processPayment);
+    }
+
+    private void processPaymentBatch(List<PaymentRequest> paymentRequests) {
+        if (creditAccountProcessor.isEnabled()) {
+            await(creditAccountProcessor.processPayments(paymentRequests));
+            return;
+        }
+        List<OrderOutboxMessage> processedOrderOutboxMessages = new ArrayList<>();
+        creditAccountBatchProcessor.processPayments(paymentRequests, processedOrderOutboxMessages);
+        paymentRequestHelper.publishOrderOutboxMessages(processedOrderOutboxMessages);
+    }
+
+    private void processPayment(PaymentRequest paymentRequest) {
+        try (Span span = tracer.startSpan("PaymentRequestMessageListener.processPayment",
+                paymentRequest.getTraceParent())) {
+            if (PaymentOrderStatus.PENDING == paymentRequest.getPaymentOrderStatus()) {
+                log.info("Processing payment for order id: {}", paymentRequest.getOrderId());
+                completePayment(paymentRequest);
+            } else if (PaymentOrderStatus.CANCELLED == paymentRequest.getPaymentOrderStatus()) {
+                log.info("Cancelling payment for order id: {}", paymentRequest.getOrderId());
+                cancelPayment(paymentRequest);
+            }
+            span.setSuccessful(true);
+        } catch (DataAccessException e) {
+            if (!isUniqueViolation(e)) {
+                throw new PaymentApplicationServiceException("Throwing DataAccessException in" +
+                        " PaymentRequestMessageListener: " + e.getMessage(), e);
+            }
+            log.error("Caught unique constraint exception in PaymentRequestMessageListener for order id: {}",
+                    paymentRequest.getOrderId());
+        } catch (PaymentNotFoundException e) {
+            log.error("No payment found for order id: {}", paymentRequest.getOrderId());
+        }
+    }
+
+    private boolean isUniqueViolation(DataAccessException e) {
+        return e.getRootCause() instanceof SQLException &&
+                UNIQUE_VIOLATION_SQL_STATE.equals(((SQLException) e.getRootCause()).getSQLState());
+    }
+
+    private void persistPayment(PaymentRequest paymentRequest,
+                                Consumer<PaymentRequest> paymentPersister) {
+        UUID sagaId = UUID.fromString(paymentRequest.getSagaId());
+        if (recentSagaCache.contains(sagaId, paymentRequest.getPaymentOrderStatus().name())) {
+            log.info("Payment request with saga id: {} is already processed recently!", sagaId);
+            paymentRequestHelper.publishIfOutboxMessageProcessedForPayment(paymentRequest);
+            return;
+        }
+        try {
+            paymentPersister.accept(paymentRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (!paymentRequestHelper.publishIfOutboxMessageProcessedForPayment(paymentRequest)) {
+                throw e;
+            }
+            log.info("An outbox message with saga id: {} is already saved to database!", sagaId);
+        }
+        recentSagaCache.add(sagaId, paymentRequest.getPaymentOrderStatus().name());
+    }
+
+    private void await(CompletableFuture<Void> writeFuture) {
+        try {
+            writeFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
 }
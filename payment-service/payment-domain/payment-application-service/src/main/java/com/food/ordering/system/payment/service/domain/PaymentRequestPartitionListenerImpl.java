@@ -0,0 +1,30 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.account.CreditAccountProcessor;
+import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestPartitionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+public class PaymentRequestPartitionListenerImpl implements PaymentRequestPartitionListener {
+
+    private final CreditAccountProcessor creditAccountProcessor;
+
+    public PaymentRequestPartitionListenerImpl(CreditAccountProcessor creditAccountProcessor) {
+        this.creditAccountProcessor = creditAccountProcessor;
+    }
+
+    @Override
+    public void partitionsAssigned(List<Integer> partitions) {
+        log.info("Payment request partitions assigned: {}", partitions);
+    }
+
+    @Override
+    public void partitionsRevoked(List<Integer> partitions) {
+        log.info("Payment request partitions revoked: {}", partitions);
+        creditAccountProcessor.evictCreditAccounts(partitions);
+    }
+}
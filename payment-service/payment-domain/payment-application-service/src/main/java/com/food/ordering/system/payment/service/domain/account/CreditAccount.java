@@ -0,0 +1,123 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CreditAccount {
+
+    private static final int RECENT_WRITES_MAX_SIZE = 32;
+
+    private final CreditHistorySnapshot creditHistorySnapshot;
+    private final Map<String, CompletableFuture<Void>> recentSagaWrites = recentWrites();
+    private final Map<UUID, Payment> recentPayments = recentWrites();
+    private final Set<CompletableFuture<Void>> pendingWriteFutures = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> partitions = new HashSet<>();
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private CreditEntry creditEntry;
+    private volatile int persistedVersion;
+    private volatile boolean invalid;
+
+    public CreditAccount(CreditEntry creditEntry, CreditHistorySnapshot creditHistorySnapshot) {
+        this.creditEntry = creditEntry;
+        this.creditHistorySnapshot = creditHistorySnapshot;
+        this.persistedVersion = creditEntry.getVersion();
+    }
+
+    public CreditEntry copyCreditEntry() {
+        return copyCreditEntry(creditEntry, creditEntry.getVersion());
+    }
+
+    public CreditHistorySnapshot getCreditHistorySnapshot() {
+        return creditHistorySnapshot;
+    }
+
+    CreditEntry copyWithPersistedVersion(CreditEntry creditEntry) {
+        return copyCreditEntry(creditEntry, persistedVersion);
+    }
+
+    void creditEntryPersisted() {
+        persistedVersion++;
+    }
+
+    void apply(CreditEntry creditEntry, List<CreditHistory> creditHistories) {
+        this.creditEntry = creditEntry;
+        creditHistorySnapshot.addCreditHistories(creditHistories);
+    }
+
+    CompletableFuture<Void> getSagaWrite(String sagaKey) {
+        return recentSagaWrites.get(sagaKey);
+    }
+
+    Payment getPayment(UUID orderId) {
+        return recentPayments.get(orderId);
+    }
+
+    void writeSubmitted(String sagaKey, Payment payment, CompletableFuture<Void> writeFuture) {
+        recentSagaWrites.put(sagaKey, writeFuture);
+        recentPayments.put(payment.getOrderId().getValue(), payment);
+        pendingWrites.incrementAndGet();
+        pendingWriteFutures.add(writeFuture);
+        writeFuture.whenComplete((result, e) -> pendingWriteFutures.remove(writeFuture));
+    }
+
+    CompletableFuture<Void> pendingWritesCompleted() {
+        return CompletableFuture.allOf(pendingWriteFutures.toArray(CompletableFuture[]::new));
+    }
+
+    void addPartition(Integer partition) {
+        if (partition != null) {
+            partitions.add(partition);
+        }
+    }
+
+    boolean isAssignedToAny(Collection<Integer> partitions) {
+        return partitions.stream().anyMatch(this.partitions::contains);
+    }
+
+    void writeCompleted() {
+        pendingWrites.decrementAndGet();
+    }
+
+    boolean hasPendingWrites() {
+        return pendingWrites.get() > 0;
+    }
+
+    void invalidate() {
+        invalid = true;
+    }
+
+    boolean isInvalid() {
+        return invalid;
+    }
+
+    private static CreditEntry copyCreditEntry(CreditEntry creditEntry, int version) {
+        return CreditEntry.builder()
+                .creditEntryId(creditEntry.getId())
+                .customerId(creditEntry.getCustomerId())
+                .totalCreditAmount(creditEntry.getTotalCreditAmount())
+                .version(version)
+                .build();
+    }
+
+    private static <K, V> Map<K, V> recentWrites() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > RECENT_WRITES_MAX_SIZE;
+            }
+        };
+    }
+}
@@ -0,0 +1,240 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentRequestHelper;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.exception.PaymentNotFoundException;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOutboxHelper;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CreditAccountBatchProcessor {
+
+    private final PaymentDomainService paymentDomainService;
+    private final PaymentDataMapper paymentDataMapper;
+    private final PaymentRepository paymentRepository;
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditHistorySnapshotRepository creditHistorySnapshotRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final PaymentRequestHelper paymentRequestHelper;
+    private final CreditAccountWriter creditAccountWriter;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final Tracer tracer;
+
+    public CreditAccountBatchProcessor(PaymentDomainService paymentDomainService,
+                                       PaymentDataMapper paymentDataMapper,
+                                       PaymentRepository paymentRepository,
+                                       CreditEntryRepository creditEntryRepository,
+                                       CreditHistoryRepository creditHistoryRepository,
+                                       CreditHistorySnapshotRepository creditHistorySnapshotRepository,
+                                       OrderOutboxHelper orderOutboxHelper,
+                                       PaymentRequestHelper paymentRequestHelper,
+                                       CreditAccountWriter creditAccountWriter,
+                                       PaymentServiceConfigData paymentServiceConfigData,
+                                       Tracer tracer) {
+        this.paymentDomainService = paymentDomainService;
+        this.paymentDataMapper = paymentDataMapper;
+        this.paymentRepository = paymentRepository;
+        this.creditEntryRepository = creditEntryRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.creditHistorySnapshotRepository = creditHistorySnapshotRepository;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.paymentRequestHelper = paymentRequestHelper;
+        this.creditAccountWriter = creditAccountWriter;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.tracer = tracer;
+    }
+
+    @Transactional
+    public void processPayments(List<PaymentRequest> paymentRequests,
+                                List<OrderOutboxMessage> processedOrderOutboxMessages) {
+        List<PaymentRequest> newPaymentRequests = paymentRequestHelper.filterProcessedPaymentRequests(paymentRequests,
+                processedOrderOutboxMessages);
+        if (newPaymentRequests.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Payment> payments = getPaymentsToCancel(newPaymentRequests);
+        Set<CustomerId> customerIds = new LinkedHashSet<>();
+        for (PaymentRequest paymentRequest : newPaymentRequests) {
+            if (PaymentOrderStatus.PENDING == paymentRequest.getPaymentOrderStatus()) {
+                customerIds.add(new CustomerId(UUID.fromString(paymentRequest.getCustomerId())));
+            } else if (payments.containsKey(UUID.fromString(paymentRequest.getOrderId()))) {
+                customerIds.add(payments.get(UUID.fromString(paymentRequest.getOrderId())).getCustomerId());
+            }
+        }
+        Map<CustomerId, CreditAccount> creditAccounts = loadCreditAccounts(new ArrayList<>(customerIds));
+
+        List<Payment> paymentsToSave = new ArrayList<>(newPaymentRequests.size());
+        Map<CustomerId, CreditEntry> creditEntriesToSave = new LinkedHashMap<>();
+        List<CreditHistory> creditHistoriesToSave = new ArrayList<>();
+        List<OrderOutboxMessage> orderOutboxMessagesToSave = new ArrayList<>(newPaymentRequests.size());
+        for (PaymentRequest paymentRequest : newPaymentRequests) {
+            try (Span span = tracer.startSpan("CreditAccountBatchProcessor.processPayment",
+                    paymentRequest.getTraceParent())) {
+                UUID orderId = UUID.fromString(paymentRequest.getOrderId());
+                boolean isPending = PaymentOrderStatus.PENDING == paymentRequest.getPaymentOrderStatus();
+                Payment payment = isPending ? paymentDataMapper.paymentRequestModelToPayment(paymentRequest) :
+                        payments.get(orderId);
+                if (payment == null) {
+                    log.error("Payment with order id: {} could not be found!", paymentRequest.getOrderId());
+                    throw new PaymentNotFoundException("Payment with order id: " +
+                            paymentRequest.getOrderId() + " could not be found!");
+                }
+                CreditAccount creditAccount = creditAccounts.get(payment.getCustomerId());
+                CreditEntry creditEntry = creditAccount.copyCreditEntry();
+                List<CreditHistory> creditHistories = new ArrayList<>();
+                List<FailureReason> failureReasons = new ArrayList<>();
+                PaymentEvent paymentEvent = isPending ?
+                        paymentDomainService.validateAndInitiatePayment(payment, creditEntry,
+                                creditAccount.getCreditHistorySnapshot(), creditHistories, failureReasons) :
+                        paymentDomainService.validateAndCancelPayment(payment, creditEntry, creditHistories,
+                                failureReasons);
+                if (failureReasons.isEmpty()) {
+                    creditAccount.apply(creditEntry, creditHistories);
+                    creditEntriesToSave.put(payment.getCustomerId(), creditEntry);
+                    creditHistoriesToSave.addAll(creditHistories);
+                }
+                payments.put(orderId, payment);
+                paymentsToSave.add(payment);
+                orderOutboxMessagesToSave.add(orderOutboxHelper.createOrderOutboxMessage(
+                        paymentDataMapper.paymentEventToOrderEventPayload(paymentEvent),
+                        paymentEvent.getPayment().getPaymentStatus(),
+                        OutboxStatus.STARTED,
+                        UUID.fromString(paymentRequest.getSagaId())));
+                span.setSuccessful(true);
+            }
+        }
+
+        if (!paymentsToSave.isEmpty()) {
+            creditAccountWriter.write(paymentsToSave, new ArrayList<>(creditEntriesToSave.values()),
+                    creditHistoriesToSave, orderOutboxMessagesToSave);
+        }
+        log.info("{} payment requests are processed in batch for {} customers", paymentsToSave.size(),
+                creditAccounts.size());
+    }
+
+    private Map<UUID, Payment> getPaymentsToCancel(List<PaymentRequest> paymentRequests) {
+        List<UUID> orderIds = paymentRequests.stream()
+                .filter(paymentRequest -> PaymentOrderStatus.CANCELLED == paymentRequest.getPaymentOrderStatus())
+                .map(paymentRequest -> UUID.fromString(paymentRequest.getOrderId()))
+                .collect(Collectors.toList());
+        Map<UUID, Payment> payments = new HashMap<>();
+        if (!orderIds.isEmpty()) {
+            paymentRepository.findByOrderIdIn(orderIds)
+                    .orElse(Collections.emptyList())
+                    .forEach(payment -> payments.put(payment.getOrderId().getValue(), payment));
+        }
+        return payments;
+    }
+
+    private Map<CustomerId, CreditAccount> loadCreditAccounts(List<CustomerId> customerIds) {
+        Map<CustomerId, CreditAccount> creditAccounts = new HashMap<>();
+        if (customerIds.isEmpty()) {
+            return creditAccounts;
+        }
+        Map<CustomerId, CreditHistorySnapshot> creditHistorySnapshots = getCreditHistorySnapshots(customerIds);
+        Map<CustomerId, CreditEntry> creditEntries = creditEntryRepository.findByCustomerIdIn(customerIds)
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(CreditEntry::getCustomerId, Function.identity()));
+        long minSequenceNumber = creditHistorySnapshots.values().stream()
+                .mapToLong(CreditHistorySnapshot::getAsOfSequenceNumber)
+                .min()
+                .orElse(0L);
+        Map<CustomerId, List<CreditHistory>> creditHistories = creditHistoryRepository
+                .findByCustomerIdInAndSequenceNumberGreaterThan(customerIds, minSequenceNumber)
+                .orElse(Collections.emptyList())
+                .stream()
+                .filter(creditHistory -> creditHistory.getSequenceNumber() >
+                        creditHistorySnapshots.get(creditHistory.getCustomerId()).getAsOfSequenceNumber())
+                .collect(Collectors.groupingBy(CreditHistory::getCustomerId));
+
+        List<CreditHistorySnapshot> creditHistorySnapshotsToSave = new ArrayList<>();
+        for (CustomerId customerId : customerIds) {
+            CreditEntry creditEntry = creditEntries.get(customerId);
+            if (creditEntry == null) {
+                log.error("Could not find credit entry for customer: {}", customerId.getValue());
+                throw new PaymentApplicationServiceException("Could not find credit entry for customer: " +
+                        customerId.getValue());
+            }
+            CreditHistorySnapshot creditHistorySnapshot = creditHistorySnapshots.get(customerId);
+            List<CreditHistory> creditHistoryTail = creditHistories.getOrDefault(customerId,
+                    Collections.emptyList());
+            creditHistorySnapshot.addCreditHistories(creditHistoryTail);
+            if (creditHistoryTail.size() >= paymentServiceConfigData.getCreditHistorySnapshotInterval()) {
+                creditHistorySnapshotsToSave.add(creditHistorySnapshot);
+            }
+            creditAccounts.put(customerId, new CreditAccount(creditEntry, creditHistorySnapshot));
+        }
+        if (!creditHistorySnapshotsToSave.isEmpty()) {
+            creditHistorySnapshotRepository.saveAll(creditHistorySnapshotsToSave);
+            log.info("Credit history snapshots are moved for {} customers", creditHistorySnapshotsToSave.size());
+        }
+        return creditAccounts;
+    }
+
+    private Map<CustomerId, CreditHistorySnapshot> getCreditHistorySnapshots(List<CustomerId> customerIds) {
+        Map<CustomerId, CreditHistorySnapshot> creditHistorySnapshots = creditHistorySnapshotRepository
+                .findByCustomerIdIn(customerIds)
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(CreditHistorySnapshot::getId, Function.identity()));
+        List<CustomerId> missingCustomerIds = customerIds.stream()
+                .filter(customerId -> !creditHistorySnapshots.containsKey(customerId))
+                .sorted(Comparator.comparing(CustomerId::getValue))
+                .collect(Collectors.toList());
+        if (!missingCustomerIds.isEmpty()) {
+            log.info("Creating credit history snapshots for {} customers", missingCustomerIds.size());
+            missingCustomerIds.forEach(customerId -> creditHistorySnapshotRepository.saveIfAbsent(
+                    CreditHistorySnapshot.builder()
+                            .customerId(customerId)
+                            .asOfSequenceNumber(0)
+                            .totalCreditAmount(Money.ZERO)
+                            .totalDebitAmount(Money.ZERO)
+                            .build()));
+            creditHistorySnapshotRepository.findByCustomerIdIn(missingCustomerIds)
+                    .orElse(Collections.emptyList())
+                    .forEach(creditHistorySnapshot ->
+                            creditHistorySnapshots.put(creditHistorySnapshot.getId(), creditHistorySnapshot));
+        }
+        return creditHistorySnapshots;
+    }
+}
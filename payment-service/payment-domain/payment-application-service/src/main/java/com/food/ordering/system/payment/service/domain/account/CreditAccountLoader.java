@@ -0,0 +1,30 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.PaymentRequestHelper;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+public class CreditAccountLoader {
+
+    private final PaymentRequestHelper paymentRequestHelper;
+
+    public CreditAccountLoader(PaymentRequestHelper paymentRequestHelper) {
+        this.paymentRequestHelper = paymentRequestHelper;
+    }
+
+    @Transactional
+    public CreditAccount loadCreditAccount(CustomerId customerId) {
+        CreditHistorySnapshot creditHistorySnapshot = paymentRequestHelper.getCreditHistorySnapshot(customerId);
+        CreditEntry creditEntry = paymentRequestHelper.getCreditEntry(customerId);
+        creditHistorySnapshot.addCreditHistories(paymentRequestHelper.getCreditHistory(customerId,
+                creditHistorySnapshot));
+        log.info("Credit account is loaded for customer: {}", customerId.getValue());
+        return new CreditAccount(creditEntry, creditHistorySnapshot);
+    }
+}
@@ -0,0 +1,72 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+class CreditAccountMailbox {
+
+    private final ExecutorService executor;
+    private final Map<CustomerId, CreditAccount> creditAccounts;
+
+    CreditAccountMailbox(String name, int maxSize) {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.creditAccounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CustomerId, CreditAccount> eldest) {
+                return size() > maxSize && !eldest.getValue().hasPendingWrites();
+            }
+        };
+    }
+
+    void submit(Runnable task) {
+        executor.execute(task);
+    }
+
+    <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    CreditAccount getCreditAccount(CustomerId customerId, Function<CustomerId, CreditAccount> loader) {
+        CreditAccount creditAccount = creditAccounts.get(customerId);
+        if (creditAccount == null || creditAccount.isInvalid()) {
+            creditAccount = loader.apply(customerId);
+            creditAccounts.put(customerId, creditAccount);
+        }
+        return creditAccount;
+    }
+
+    List<CreditAccount> evictCreditAccounts(Collection<Integer> partitions) {
+        List<CreditAccount> evictedCreditAccounts = new ArrayList<>();
+        creditAccounts.values().removeIf(creditAccount -> {
+            if (creditAccount.isAssignedToAny(partitions)) {
+                evictedCreditAccounts.add(creditAccount);
+                return true;
+            }
+            return false;
+        });
+        return evictedCreditAccounts;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    boolean awaitTermination(long timeoutMs) throws InterruptedException {
+        return executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,391 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentRequestHelper;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.exception.PaymentNotFoundException;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOutboxHelper;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class CreditAccountProcessor {
+
+    private static final long IDLE_POLL_MS = 100;
+    private static final long STOP_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+
+    private final PaymentDomainService paymentDomainService;
+    private final PaymentDataMapper paymentDataMapper;
+    private final PaymentRepository paymentRepository;
+    private final PaymentRequestHelper paymentRequestHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final CreditAccountLoader creditAccountLoader;
+    private final CreditAccountWriter creditAccountWriter;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final CreditAccountMailbox[] creditAccountMailboxes;
+    private final BlockingQueue<CreditAccountWrite> creditAccountWrites;
+    private final Thread flusher;
+
+    private volatile boolean running;
+
+    public CreditAccountProcessor(PaymentDomainService paymentDomainService,
+                                  PaymentDataMapper paymentDataMapper,
+                                  PaymentRepository paymentRepository,
+                                  PaymentRequestHelper paymentRequestHelper,
+                                  OrderOutboxHelper orderOutboxHelper,
+                                  CreditAccountLoader creditAccountLoader,
+                                  CreditAccountWriter creditAccountWriter,
+                                  PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentDomainService = paymentDomainService;
+        this.paymentDataMapper = paymentDataMapper;
+        this.paymentRepository = paymentRepository;
+        this.paymentRequestHelper = paymentRequestHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.creditAccountLoader = creditAccountLoader;
+        this.creditAccountWriter = creditAccountWriter;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        int mailboxCount = paymentServiceConfigData.getCreditAccountMailboxThreads();
+        this.creditAccountMailboxes = new CreditAccountMailbox[mailboxCount];
+        for (int i = 0; i < mailboxCount; i++) {
+            creditAccountMailboxes[i] = new CreditAccountMailbox("credit-account-mailbox-" + i,
+                    Math.max(1, paymentServiceConfigData.getCreditAccountCacheMaxSize() / mailboxCount));
+        }
+        this.creditAccountWrites = new ArrayBlockingQueue<>(paymentServiceConfigData.getCreditAccountWriteQueueCapacity());
+        this.flusher = new Thread(this::flushLoop, "credit-account-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (paymentServiceConfigData.getCreditAccountCacheEnabled()) {
+            running = true;
+            flusher.start();
+            log.info("Credit account cache started with {} mailboxes", creditAccountMailboxes.length);
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public CompletableFuture<Void> completePayment(PaymentRequest paymentRequest) {
+        return submit(paymentRequest, true);
+    }
+
+    public CompletableFuture<Void> cancelPayment(PaymentRequest paymentRequest) {
+        return submit(paymentRequest, true);
+    }
+
+    public CompletableFuture<Void> processPayments(List<PaymentRequest> paymentRequests) {
+        List<OrderOutboxMessage> processedOrderOutboxMessages = new ArrayList<>();
+        List<PaymentRequest> newPaymentRequests = paymentRequestHelper.filterProcessedPaymentRequests(paymentRequests,
+                processedOrderOutboxMessages);
+        paymentRequestHelper.publishOrderOutboxMessages(processedOrderOutboxMessages);
+        return CompletableFuture.allOf(newPaymentRequests.stream()
+                .map(paymentRequest -> submit(paymentRequest, false))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    public void evictCreditAccounts(Collection<Integer> partitions) {
+        if (!running) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STOP_TIMEOUT_MS);
+        long evictionDeadline = deadline + TimeUnit.MILLISECONDS.toNanos(STOP_TIMEOUT_MS);
+        List<Future<Integer>> evictions = new ArrayList<>(creditAccountMailboxes.length);
+        for (CreditAccountMailbox creditAccountMailbox : creditAccountMailboxes) {
+            try {
+                evictions.add(creditAccountMailbox.submit(() ->
+                        awaitPendingWrites(creditAccountMailbox.evictCreditAccounts(partitions), deadline)));
+            } catch (RejectedExecutionException e) {
+                log.warn("Credit account mailbox is stopped, skipping eviction for partitions: {}", partitions);
+            }
+        }
+        int evictedCreditAccounts = 0;
+        for (Future<Integer> eviction : evictions) {
+            try {
+                evictedCreditAccounts += eviction.get(remainingNanos(evictionDeadline), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PaymentApplicationServiceException("Interrupted while evicting credit accounts of " +
+                        "partitions: " + partitions, e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new PaymentApplicationServiceException("Could not evict credit accounts of partitions: " +
+                        partitions, e);
+            }
+        }
+        log.info("Evicted {} credit accounts of revoked partitions: {}", evictedCreditAccounts, partitions);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (CreditAccountMailbox creditAccountMailbox : creditAccountMailboxes) {
+            creditAccountMailbox.shutdown();
+        }
+        for (CreditAccountMailbox creditAccountMailbox : creditAccountMailboxes) {
+            creditAccountMailbox.awaitTermination(STOP_TIMEOUT_MS);
+        }
+        if (running) {
+            running = false;
+            flusher.join(STOP_TIMEOUT_MS);
+        }
+        failPendingWrites();
+    }
+
+    private CompletableFuture<Void> submit(PaymentRequest paymentRequest, boolean outboxCheckRequired) {
+        CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        if (!running) {
+            writeFuture.completeExceptionally(new PaymentApplicationServiceException(
+                    "Credit account processor is stopped, payment for order id: " + paymentRequest.getOrderId() +
+                            " is not processed!"));
+            return writeFuture;
+        }
+        CreditAccountMailbox creditAccountMailbox = mailboxFor(UUID.fromString(paymentRequest.getCustomerId()));
+        try {
+            creditAccountMailbox.submit(() -> {
+                try {
+                    processPayment(creditAccountMailbox, paymentRequest, outboxCheckRequired, writeFuture);
+                } catch (Exception e) {
+                    writeFuture.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            writeFuture.completeExceptionally(new PaymentApplicationServiceException(
+                    "Credit account processor is stopped, payment for order id: " + paymentRequest.getOrderId() +
+                            " is not processed!", e));
+        }
+        return writeFuture;
+    }
+
+    private void processPayment(CreditAccountMailbox creditAccountMailbox,
+                                PaymentRequest paymentRequest,
+                                boolean outboxCheckRequired,
+                                CompletableFuture<Void> writeFuture) {
+        boolean isPending = PaymentOrderStatus.PENDING == paymentRequest.getPaymentOrderStatus();
+        PaymentStatus paymentStatus = isPending ? PaymentStatus.COMPLETED : PaymentStatus.CANCELLED;
+        CreditAccount creditAccount = creditAccountMailbox.getCreditAccount(
+                new CustomerId(UUID.fromString(paymentRequest.getCustomerId())), creditAccountLoader::loadCreditAccount);
+        creditAccount.addPartition(paymentRequest.getPartition());
+        String sagaKey = paymentRequest.getSagaId() + ":" + paymentStatus.name();
+        CompletableFuture<Void> sagaWrite = creditAccount.getSagaWrite(sagaKey);
+        if (sagaWrite != null) {
+            log.info("Payment request with saga id: {} is already submitted for writing!", paymentRequest.getSagaId());
+            sagaWrite.whenComplete((result, e) -> {
+                if (e == null) {
+                    writeFuture.complete(null);
+                } else {
+                    writeFuture.completeExceptionally(e);
+                }
+            });
+            return;
+        }
+        if (outboxCheckRequired &&
+                paymentRequestHelper.publishIfOutboxMessageProcessedForPayment(paymentRequest)) {
+            log.info("An outbox message with saga id: {} is already saved to database!", paymentRequest.getSagaId());
+            writeFuture.complete(null);
+            return;
+        }
+        Payment payment = isPending ? paymentDataMapper.paymentRequestModelToPayment(paymentRequest) :
+                getPaymentToCancel(creditAccount, paymentRequest);
+        CreditEntry creditEntry = creditAccount.copyCreditEntry();
+        List<CreditHistory> creditHistories = new ArrayList<>();
+        List<FailureReason> failureReasons = new ArrayList<>();
+        PaymentEvent paymentEvent = isPending ?
+                paymentDomainService.validateAndInitiatePayment(payment, creditEntry,
+                        creditAccount.getCreditHistorySnapshot(), creditHistories, failureReasons) :
+                paymentDomainService.validateAndCancelPayment(payment, creditEntry, creditHistories, failureReasons);
+        submitWrite(creditAccount, sagaKey, paymentEvent, creditEntry, creditHistories, failureReasons,
+                paymentRequest, writeFuture);
+    }
+
+    private Payment getPaymentToCancel(CreditAccount creditAccount, PaymentRequest paymentRequest) {
+        UUID orderId = UUID.fromString(paymentRequest.getOrderId());
+        Payment payment = creditAccount.getPayment(orderId);
+        if (payment != null) {
+            return payment;
+        }
+        return paymentRepository.findByOrderId(orderId).orElseThrow(() -> {
+            log.error("Payment with order id: {} could not be found!", paymentRequest.getOrderId());
+            return new PaymentNotFoundException("Payment with order id: " +
+                    paymentRequest.getOrderId() + " could not be found!");
+        });
+    }
+
+    private void submitWrite(CreditAccount creditAccount,
+                             String sagaKey,
+                             PaymentEvent paymentEvent,
+                             CreditEntry creditEntry,
+                             List<CreditHistory> creditHistories,
+                             List<FailureReason> failureReasons,
+                             PaymentRequest paymentRequest,
+                             CompletableFuture<Void> writeFuture) {
+        boolean succeeded = failureReasons.isEmpty();
+        if (succeeded) {
+            creditAccount.apply(creditEntry, creditHistories);
+        }
+        CreditAccountWrite creditAccountWrite = new CreditAccountWrite(creditAccount,
+                paymentEvent.getPayment(),
+                succeeded ? creditEntry : null,
+                creditHistories,
+                orderOutboxHelper.createOrderOutboxMessage(paymentDataMapper.paymentEventToOrderEventPayload(paymentEvent),
+                        paymentEvent.getPayment().getPaymentStatus(),
+                        OutboxStatus.STARTED,
+                        UUID.fromString(paymentRequest.getSagaId())),
+                writeFuture);
+        creditAccount.writeSubmitted(sagaKey, paymentEvent.getPayment(), writeFuture);
+        try {
+            creditAccountWrites.put(creditAccountWrite);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            creditAccount.writeCompleted();
+            creditAccount.invalidate();
+            throw new PaymentApplicationServiceException("Interrupted while queueing payment for order id: " +
+                    paymentRequest.getOrderId(), e);
+        }
+        if (!running) {
+            failPendingWrites();
+        }
+    }
+
+    private void flushLoop() {
+        List<CreditAccountWrite> batch = new ArrayList<>(paymentServiceConfigData.getCreditAccountFlushBatchSize());
+        while (running || !creditAccountWrites.isEmpty()) {
+            try {
+                CreditAccountWrite first = creditAccountWrites.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                creditAccountWrites.drainTo(batch, paymentServiceConfigData.getCreditAccountFlushBatchSize() - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<CreditAccountWrite> batch) {
+        List<CreditAccountWrite> validWrites = new ArrayList<>(batch.size());
+        for (CreditAccountWrite creditAccountWrite : batch) {
+            if (creditAccountWrite.getCreditAccount().isInvalid()) {
+                failWrite(creditAccountWrite, new PaymentApplicationServiceException(
+                        "Credit account is invalidated for order id: " +
+                                creditAccountWrite.getPayment().getOrderId().getValue()));
+            } else {
+                validWrites.add(creditAccountWrite);
+            }
+        }
+        try {
+            if (!validWrites.isEmpty()) {
+                creditAccountWriter.write(validWrites);
+                validWrites.stream()
+                        .filter(creditAccountWrite -> creditAccountWrite.getCreditEntry() != null)
+                        .map(CreditAccountWrite::getCreditAccount)
+                        .distinct()
+                        .forEach(CreditAccount::creditEntryPersisted);
+            }
+            validWrites.forEach(creditAccountWrite -> creditAccountWrite.getWriteFuture().complete(null));
+        } catch (RuntimeException e) {
+            log.warn("Could not write {} payments in one batch, writing them one by one", validWrites.size(), e);
+            validWrites.forEach(this::flushOne);
+        } finally {
+            batch.forEach(creditAccountWrite -> creditAccountWrite.getCreditAccount().writeCompleted());
+        }
+    }
+
+    private void flushOne(CreditAccountWrite creditAccountWrite) {
+        if (creditAccountWrite.getCreditAccount().isInvalid()) {
+            failWrite(creditAccountWrite, new PaymentApplicationServiceException(
+                    "Credit account is invalidated for order id: " +
+                            creditAccountWrite.getPayment().getOrderId().getValue()));
+            return;
+        }
+        try {
+            creditAccountWriter.write(List.of(creditAccountWrite));
+            if (creditAccountWrite.getCreditEntry() != null) {
+                creditAccountWrite.getCreditAccount().creditEntryPersisted();
+            }
+            creditAccountWrite.getWriteFuture().complete(null);
+        } catch (RuntimeException e) {
+            log.error("Could not write payment for order id: {}, invalidating its credit account",
+                    creditAccountWrite.getPayment().getOrderId().getValue(), e);
+            failWrite(creditAccountWrite, e);
+        }
+    }
+
+    private void failPendingWrites() {
+        List<CreditAccountWrite> pendingWrites = new ArrayList<>();
+        creditAccountWrites.drainTo(pendingWrites);
+        pendingWrites.forEach(creditAccountWrite -> {
+            failWrite(creditAccountWrite, new PaymentApplicationServiceException(
+                    "Credit account processor is stopped before writing payment for order id: " +
+                            creditAccountWrite.getPayment().getOrderId().getValue()));
+            creditAccountWrite.getCreditAccount().writeCompleted();
+        });
+        if (!pendingWrites.isEmpty()) {
+            log.warn("{} pending payment writes are failed on stop", pendingWrites.size());
+        }
+    }
+
+    private void failWrite(CreditAccountWrite creditAccountWrite, RuntimeException e) {
+        creditAccountWrite.getCreditAccount().invalidate();
+        creditAccountWrite.getWriteFuture().completeExceptionally(e);
+    }
+
+    private int awaitPendingWrites(List<CreditAccount> creditAccounts, long deadline) throws InterruptedException {
+        for (CreditAccount creditAccount : creditAccounts) {
+            try {
+                creditAccount.pendingWritesCompleted().get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                log.warn("Pending payment write of an evicted credit account is failed", e.getCause());
+            } catch (TimeoutException e) {
+                log.warn("Pending payment writes of an evicted credit account are not completed in {} ms, " +
+                        "invalidating it", STOP_TIMEOUT_MS);
+                creditAccount.invalidate();
+            }
+        }
+        return creditAccounts.size();
+    }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private CreditAccountMailbox mailboxFor(UUID customerId) {
+        return creditAccountMailboxes[Math.floorMod(customerId.hashCode(), creditAccountMailboxes.length)];
+    }
+}
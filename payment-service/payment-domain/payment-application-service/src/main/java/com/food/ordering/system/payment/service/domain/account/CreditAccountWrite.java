@@ -0,0 +1,22 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Getter
+@AllArgsConstructor
+public class CreditAccountWrite {
+    private final CreditAccount creditAccount;
+    private final Payment payment;
+    private final CreditEntry creditEntry;
+    private final List<CreditHistory> creditHistories;
+    private final OrderOutboxMessage orderOutboxMessage;
+    private final CompletableFuture<Void> writeFuture;
+}
@@ -0,0 +1,85 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOutboxHelper;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CreditAccountWriter {
+
+    private final PaymentRepository paymentRepository;
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditHistorySnapshotRepository creditHistorySnapshotRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    public CreditAccountWriter(PaymentRepository paymentRepository,
+                               CreditEntryRepository creditEntryRepository,
+                               CreditHistoryRepository creditHistoryRepository,
+                               CreditHistorySnapshotRepository creditHistorySnapshotRepository,
+                               OrderOutboxHelper orderOutboxHelper) {
+        this.paymentRepository = paymentRepository;
+        this.creditEntryRepository = creditEntryRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.creditHistorySnapshotRepository = creditHistorySnapshotRepository;
+        this.orderOutboxHelper = orderOutboxHelper;
+    }
+
+    @Transactional
+    public void write(List<CreditAccountWrite> creditAccountWrites) {
+        List<Payment> payments = new ArrayList<>(creditAccountWrites.size());
+        Map<CustomerId, CreditEntry> creditEntries = new LinkedHashMap<>();
+        List<CreditHistory> creditHistories = new ArrayList<>();
+        List<OrderOutboxMessage> orderOutboxMessages = new ArrayList<>(creditAccountWrites.size());
+        for (CreditAccountWrite creditAccountWrite : creditAccountWrites) {
+            payments.add(creditAccountWrite.getPayment());
+            if (creditAccountWrite.getCreditEntry() != null) {
+                creditEntries.put(creditAccountWrite.getCreditEntry().getCustomerId(), creditAccountWrite
+                        .getCreditAccount().copyWithPersistedVersion(creditAccountWrite.getCreditEntry()));
+                creditHistories.addAll(creditAccountWrite.getCreditHistories());
+            }
+            orderOutboxMessages.add(creditAccountWrite.getOrderOutboxMessage());
+        }
+        if (!creditEntries.isEmpty()) {
+            creditHistorySnapshotRepository.findByCustomerIdIn(creditEntries.keySet().stream()
+                    .sorted(Comparator.comparing(CustomerId::getValue))
+                    .collect(Collectors.toList()));
+        }
+        write(payments, new ArrayList<>(creditEntries.values()), creditHistories, orderOutboxMessages);
+    }
+
+    @Transactional
+    public void write(List<Payment> payments,
+                      List<CreditEntry> creditEntries,
+                      List<CreditHistory> creditHistories,
+                      List<OrderOutboxMessage> orderOutboxMessages) {
+        paymentRepository.saveAll(payments);
+        if (!creditEntries.isEmpty()) {
+            creditEntryRepository.saveAll(creditEntries);
+        }
+        if (!creditHistories.isEmpty()) {
+            creditHistoryRepository.saveAll(creditHistories);
+        }
+        orderOutboxHelper.saveOrderOutboxMessages(orderOutboxMessages);
+        log.info("{} payments are written with {} credit entry updates and {} credit histories", payments.size(),
+                creditEntries.size(), creditHistories.size());
+    }
+}
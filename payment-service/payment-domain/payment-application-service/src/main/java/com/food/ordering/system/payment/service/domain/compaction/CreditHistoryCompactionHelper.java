@@ -0,0 +1,65 @@
+package com.food.ordering.system.payment.service.domain.compaction;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.PaymentRequestHelper;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Component
+public class CreditHistoryCompactionHelper {
+
+    private final PaymentRequestHelper paymentRequestHelper;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditHistorySnapshotRepository creditHistorySnapshotRepository;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public CreditHistoryCompactionHelper(PaymentRequestHelper paymentRequestHelper,
+                                         CreditHistoryRepository creditHistoryRepository,
+                                         CreditHistorySnapshotRepository creditHistorySnapshotRepository,
+                                         PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentRequestHelper = paymentRequestHelper;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.creditHistorySnapshotRepository = creditHistorySnapshotRepository;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerId> findCustomerIdsToCompact() {
+        return creditHistoryRepository.findCustomerIdsToCompact(
+                paymentServiceConfigData.getCreditHistorySnapshotInterval(),
+                paymentServiceConfigData.getCreditHistoryCompactionBatchSize());
+    }
+
+    @Transactional
+    public boolean compactCreditHistory(CustomerId customerId) {
+        CreditHistorySnapshot creditHistorySnapshot = paymentRequestHelper.getCreditHistorySnapshot(customerId);
+        List<CreditHistory> creditHistories = creditHistoryRepository
+                .findByCustomerIdAndSequenceNumberGreaterThan(customerId,
+                        creditHistorySnapshot.getAsOfSequenceNumber())
+                .orElse(Collections.emptyList());
+        if (creditHistories.size() < paymentServiceConfigData.getCreditHistorySnapshotInterval()) {
+            return false;
+        }
+        creditHistorySnapshot.addCreditHistories(creditHistories);
+        creditHistorySnapshotRepository.save(creditHistorySnapshot);
+        log.info("Credit history of customer: {} is compacted up to sequence number: {}",
+                customerId.getValue(), creditHistorySnapshot.getAsOfSequenceNumber());
+        return true;
+    }
+
+    @Transactional
+    public int archiveCompactedCreditHistories() {
+        return creditHistoryRepository.archiveCompactedCreditHistories(
+                paymentServiceConfigData.getCreditHistoryCompactionBatchSize());
+    }
+}
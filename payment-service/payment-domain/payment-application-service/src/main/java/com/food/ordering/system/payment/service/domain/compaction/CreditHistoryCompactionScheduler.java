@@ -0,0 +1,40 @@
+package com.food.ordering.system.payment.service.domain.compaction;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class CreditHistoryCompactionScheduler {
+
+    private final CreditHistoryCompactionHelper creditHistoryCompactionHelper;
+
+    public CreditHistoryCompactionScheduler(CreditHistoryCompactionHelper creditHistoryCompactionHelper) {
+        this.creditHistoryCompactionHelper = creditHistoryCompactionHelper;
+    }
+
+    @Scheduled(fixedDelayString = "${payment-service.credit-history-compaction-fixed-delay}",
+            initialDelayString = "${payment-service.credit-history-compaction-fixed-delay}")
+    public void compactCreditHistories() {
+        List<CustomerId> customerIds = creditHistoryCompactionHelper.findCustomerIdsToCompact();
+        int compacted = 0;
+        for (CustomerId customerId : customerIds) {
+            if (creditHistoryCompactionHelper.compactCreditHistory(customerId)) {
+                compacted++;
+            }
+        }
+        int archived = 0;
+        int archivedInBatch;
+        do {
+            archivedInBatch = creditHistoryCompactionHelper.archiveCompactedCreditHistories();
+            archived += archivedInBatch;
+        } while (archivedInBatch > 0);
+        if (compacted > 0 || archived > 0) {
+            log.info("Credit history compacted for {} customers and {} rows archived!", compacted, archived);
+        }
+    }
+}
@@ -10,4 +10,16 @@ import org.springframework.context.annotation.Configuration;
 public class PaymentServiceConfigData {
     private String paymentRequestTopicName;
     private String paymentResponseTopicName;
+    private Integer creditHistorySnapshotInterval;
+    private Boolean creditAccountCacheEnabled;
+    private Integer creditAccountMailboxThreads;
+    private Integer creditAccountCacheMaxSize;
+    private Integer creditAccountWriteQueueCapacity;
+    private Integer creditAccountFlushBatchSize;
+    private Boolean paymentBatchProcessingEnabled;
+    private Integer recentSagaCacheMaxSize;
+    private Integer creditHistoryCompactionBatchSize;
+    private Integer creditReconciliationParallelism;
+    private Integer creditReconciliationChunkSize;
+    private String creditReconciliationReportDirectory;
 }
@@ -19,6 +19,8 @@ public class PaymentRequest {
     private BigDecimal price;
     private Instant createdAt;
     private PaymentOrderStatus paymentOrderStatus;
+    private String traceParent;
+    private Integer partition;
 
     public void setPaymentOrderStatus(PaymentOrderStatus paymentOrderStatus) {
         this.paymentOrderStatus = paymentOrderStatus;
@@ -1,14 +1,17 @@
 package com.food.ordering.system.payment.service.domain.mapper;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.outbox.model.FailureReasonPayload;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -30,7 +33,16 @@ public class PaymentDataMapper {
                 .price(paymentEvent.getPayment().getPrice().getAmount())
                 .createdAt(paymentEvent.getCreatedAt())
                 .paymentStatus(paymentEvent.getPayment().getPaymentStatus().name())
-                .failureMessages(paymentEvent.getFailureMessages())
+                .failureReasons(failureReasonsToFailureReasonPayloads(paymentEvent.getFailureReasons()))
                 .build();
     }
+
+    private List<FailureReasonPayload> failureReasonsToFailureReasonPayloads(List<FailureReason> failureReasons) {
+        return failureReasons.stream()
+                .map(failureReason -> FailureReasonPayload.builder()
+                        .code(failureReason.getCode())
+                        .parameters(failureReason.getParameters())
+                        .build())
+                .toList();
+    }
 }
@@ -0,0 +1,20 @@
+package com.food.ordering.system.payment.service.domain.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FailureReasonPayload {
+    @JsonProperty
+    private FailureCode code;
+
+    @JsonProperty
+    private List<String> parameters;
+}
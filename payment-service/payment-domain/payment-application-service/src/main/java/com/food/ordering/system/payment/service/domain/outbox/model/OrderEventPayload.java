@@ -31,6 +31,9 @@ public class OrderEventPayload {
     @JsonProperty
     private String paymentStatus;
 
+    @JsonProperty
+    private List<FailureReasonPayload> failureReasons;
+
     @JsonProperty
     private List<String> failureMessages;
 }
@@ -19,6 +19,7 @@ public class OrderOutboxMessage {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    private String traceParent;
     private PaymentStatus paymentStatus;
     private OutboxStatus outboxStatus;
     private int version;
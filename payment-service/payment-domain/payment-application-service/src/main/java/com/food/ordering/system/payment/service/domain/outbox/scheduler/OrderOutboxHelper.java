@@ -2,12 +2,15 @@ package com.food.ordering.system.payment.service.domain.outbox.scheduler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,26 +22,44 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.PAYMENT_ORDER_OUTBOX;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 
 @Slf4j
 @Component
 public class OrderOutboxHelper {
 
+    private static final SampledLogger SAVED_LOG = SampledLogger.of(log, PAYMENT_ORDER_OUTBOX + ".saved");
+    private static final SampledLogger STATUS_UPDATED_LOG =
+            SampledLogger.of(log, PAYMENT_ORDER_OUTBOX + ".status-updated");
+
     private final OrderOutboxRepository orderOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final Tracer tracer;
 
-    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository, ObjectMapper objectMapper) {
+    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository,
+                             ObjectMapper objectMapper,
+                             IdGenerator idGenerator,
+                             Tracer tracer) {
         this.orderOutboxRepository = orderOutboxRepository;
         this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.tracer = tracer;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderOutboxMessage> getCompletedOrderOutboxMessageBySagaIdAndPaymentStatuses(UUID sagaId,
+                                                                                                 List<PaymentStatus>
+                                                                                                         paymentStatuses) {
+        return orderOutboxRepository.findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(ORDER_SAGA_NAME, sagaId,
+                paymentStatuses, OutboxStatus.COMPLETED);
     }
 
     @Transactional(readOnly = true)
-    public Optional<OrderOutboxMessage> getCompletedOrderOutboxMessageBySagaIdAndPaymentStatus(UUID sagaId,
-                                                                                               PaymentStatus
-                                                                                                       paymentStatus) {
-        return orderOutboxRepository.findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(ORDER_SAGA_NAME, sagaId,
-                paymentStatus, OutboxStatus.COMPLETED);
+    public Optional<List<OrderOutboxMessage>> getCompletedOrderOutboxMessagesBySagaIds(List<UUID> sagaIds) {
+        return orderOutboxRepository.findByTypeAndSagaIdInAndOutboxStatus(ORDER_SAGA_NAME, sagaIds,
+                OutboxStatus.COMPLETED);
     }
 
     @Transactional(readOnly = true)
@@ -56,23 +77,46 @@ public class OrderOutboxHelper {
                                        PaymentStatus paymentStatus,
                                        OutboxStatus outboxStatus,
                                        UUID sagaId) {
-        save(OrderOutboxMessage.builder()
-                .id(UUID.randomUUID())
+        save(createOrderOutboxMessage(orderEventPayload, paymentStatus, outboxStatus, sagaId));
+    }
+
+    @Transactional
+    public void saveOrderOutboxMessage(OrderOutboxMessage orderOutboxMessage) {
+        save(orderOutboxMessage);
+    }
+
+    @Transactional
+    public void saveOrderOutboxMessages(List<OrderOutboxMessage> orderOutboxMessages) {
+        List<OrderOutboxMessage> response = orderOutboxRepository.saveAll(orderOutboxMessages);
+        if (response.size() != orderOutboxMessages.size()) {
+            log.error("Could not save OrderOutboxMessages!");
+            throw new PaymentDomainException("Could not save OrderOutboxMessages!");
+        }
+        log.info("{} OrderOutboxMessages are saved", orderOutboxMessages.size());
+    }
+
+    public OrderOutboxMessage createOrderOutboxMessage(OrderEventPayload orderEventPayload,
+                                                       PaymentStatus paymentStatus,
+                                                       OutboxStatus outboxStatus,
+                                                       UUID sagaId) {
+        return OrderOutboxMessage.builder()
+                .id(idGenerator.generateId())
                 .sagaId(sagaId)
                 .createdAt(orderEventPayload.getCreatedAt())
                 .processedAt(ZonedDateTime.now(ZoneId.of(UTC)))
                 .type(ORDER_SAGA_NAME)
                 .payload(createPayload(orderEventPayload))
+                .traceParent(tracer.getCurrentTraceParent())
                 .paymentStatus(paymentStatus)
                 .outboxStatus(outboxStatus)
-                .build());
+                .build();
     }
 
     @Transactional
     public void updateOutboxMessage(OrderOutboxMessage orderOutboxMessage, OutboxStatus outboxStatus) {
         orderOutboxMessage.setOutboxStatus(outboxStatus);
         save(orderOutboxMessage);
-        log.info("Order outbox table status is updated as: {}", outboxStatus.name());
+        STATUS_UPDATED_LOG.info("Order outbox table status is updated as: {}", outboxStatus.name());
     }
 
     private String createPayload(OrderEventPayload orderEventPayload) {
@@ -90,6 +134,6 @@ public class OrderOutboxHelper {
             log.error("Could not save OrderOutboxMessage!");
             throw new PaymentDomainException("Could not save OrderOutboxMessage!");
         }
-        log.info("OrderOutboxMessage is saved with id: {}", orderOutboxMessage.getId());
+        SAVED_LOG.info("OrderOutboxMessage is saved with id: {}", orderOutboxMessage.getId());
     }
 }
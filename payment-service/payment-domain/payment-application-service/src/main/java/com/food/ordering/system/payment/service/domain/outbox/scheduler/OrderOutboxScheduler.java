@@ -1,9 +1,14 @@
 package com.food.ordering.system.payment.service.domain.outbox.scheduler;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxMetrics;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -13,17 +18,28 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.food.ordering.system.logging.LazyLogArgument.lazy;
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.PAYMENT_ORDER_OUTBOX;
+
 @Slf4j
 @Component
 public class OrderOutboxScheduler implements OutboxScheduler {
 
+    private static final SampledLogger PUBLISHED_LOG = SampledLogger.of(log, PAYMENT_ORDER_OUTBOX + ".published");
+
     private final OrderOutboxHelper orderOutboxHelper;
     private final PaymentResponseMessagePublisher paymentResponseMessagePublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final Tracer tracer;
 
     public OrderOutboxScheduler(OrderOutboxHelper orderOutboxHelper,
-                                PaymentResponseMessagePublisher paymentResponseMessagePublisher) {
+                                PaymentResponseMessagePublisher paymentResponseMessagePublisher,
+                                OutboxMetrics outboxMetrics,
+                                Tracer tracer) {
         this.orderOutboxHelper = orderOutboxHelper;
         this.paymentResponseMessagePublisher = paymentResponseMessagePublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.tracer = tracer;
     }
 
     @Override
@@ -31,17 +47,29 @@ public class OrderOutboxScheduler implements OutboxScheduler {
     @Scheduled(fixedRateString = "${payment-service.outbox-scheduler-fixed-rate}",
             initialDelayString = "${payment-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
-        Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
-                orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.STARTED);
-        if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
-            List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-            log.info("Received {} OrderOutboxMessage with ids {}, sending to message bus!", outboxMessages.size(),
-                    outboxMessages.stream().map(outboxMessage ->
-                            outboxMessage.getId().toString()).collect(Collectors.joining(",")));
-            outboxMessages.forEach(orderOutboxMessage ->
-                    paymentResponseMessagePublisher.publish(orderOutboxMessage,
-                            orderOutboxHelper::updateOutboxMessage));
-            log.info("{} OrderOutboxMessage sent to message bus!", outboxMessages.size());
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("OrderOutboxScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
+                    orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.STARTED);
+            if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
+                List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.debug("Received {} OrderOutboxMessage with ids {}, sending to message bus!", outboxMessages.size(),
+                        lazy(() -> outboxMessages.stream().map(outboxMessage ->
+                                outboxMessage.getId().toString()).collect(Collectors.joining(","))));
+                outboxMessages.forEach(orderOutboxMessage -> {
+                    try (Span span = tracer.startSpan("OrderOutboxScheduler.publish", orderOutboxMessage.getTraceParent())) {
+                        paymentResponseMessagePublisher.publish(orderOutboxMessage, outboxSchedulerEvent.track(
+                                outboxMetrics.track(PAYMENT_ORDER_OUTBOX, orderOutboxHelper::updateOutboxMessage)));
+                        span.setSuccessful(true);
+                    }
+                });
+                outboxMetrics.recordPublished(PAYMENT_ORDER_OUTBOX, outboxMessages.size());
+                PUBLISHED_LOG.info("{} OrderOutboxMessage sent to message bus!", outboxMessages.size());
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
         }
     }
 
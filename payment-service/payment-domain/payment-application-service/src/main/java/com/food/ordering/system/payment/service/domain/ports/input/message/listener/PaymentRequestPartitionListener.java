@@ -0,0 +1,10 @@
+package com.food.ordering.system.payment.service.domain.ports.input.message.listener;
+
+import java.util.List;
+
+public interface PaymentRequestPartitionListener {
+
+    void partitionsAssigned(List<Integer> partitions);
+
+    void partitionsRevoked(List<Integer> partitions);
+}
@@ -3,11 +3,19 @@ package com.food.ordering.system.payment.service.domain.ports.output.repository;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CreditEntryRepository {
 
     CreditEntry save(CreditEntry creditEntry);
 
     Optional<CreditEntry> findByCustomerId(CustomerId customerId);
+
+    List<CreditEntry> saveAll(List<CreditEntry> creditEntries);
+
+    Optional<List<CreditEntry>> findByCustomerIdIn(List<CustomerId> customerIds);
+
+    Stream<CreditEntry> streamAllOrderByCustomerId();
 }
@@ -5,10 +5,25 @@ import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CreditHistoryRepository {
 
     CreditHistory save(CreditHistory creditHistory);
 
     Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId);
+
+    Optional<List<CreditHistory>> findByCustomerIdAndSequenceNumberGreaterThan(CustomerId customerId,
+                                                                               long sequenceNumber);
+
+    List<CustomerId> findCustomerIdsToCompact(long minCreditHistoryCount, int limit);
+
+    int archiveCompactedCreditHistories(int limit);
+
+    List<CreditHistory> saveAll(List<CreditHistory> creditHistories);
+
+    Optional<List<CreditHistory>> findByCustomerIdInAndSequenceNumberGreaterThan(List<CustomerId> customerIds,
+                                                                                 long sequenceNumber);
+
+    Stream<CreditHistory> streamAllOrderByCustomerIdAndSequenceNumber();
 }
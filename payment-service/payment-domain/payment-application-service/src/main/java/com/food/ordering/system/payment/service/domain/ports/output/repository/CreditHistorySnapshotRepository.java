@@ -0,0 +1,23 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CreditHistorySnapshotRepository {
+
+    CreditHistorySnapshot save(CreditHistorySnapshot creditHistorySnapshot);
+
+    void saveIfAbsent(CreditHistorySnapshot creditHistorySnapshot);
+
+    Optional<CreditHistorySnapshot> findByCustomerId(CustomerId customerId);
+
+    List<CreditHistorySnapshot> saveAll(List<CreditHistorySnapshot> creditHistorySnapshots);
+
+    Optional<List<CreditHistorySnapshot>> findByCustomerIdIn(List<CustomerId> customerIds);
+
+    Stream<CreditHistorySnapshot> streamAllOrderByCustomerId();
+}
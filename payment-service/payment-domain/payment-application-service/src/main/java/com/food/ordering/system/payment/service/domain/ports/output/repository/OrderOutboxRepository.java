@@ -13,9 +13,16 @@ public interface OrderOutboxRepository {
 
     Optional<List<OrderOutboxMessage>> findByTypeAndOutboxStatus(String type, OutboxStatus status);
 
-    Optional<OrderOutboxMessage> findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(String type,
-                                                                                    UUID sagaId,
-                                                                                    PaymentStatus paymentStatus,
-                                                                                    OutboxStatus outboxStatus);
+    Optional<OrderOutboxMessage> findByTypeAndSagaIdAndPaymentStatusInAndOutboxStatus(String type,
+                                                                                      UUID sagaId,
+                                                                                      List<PaymentStatus>
+                                                                                              paymentStatuses,
+                                                                                      OutboxStatus outboxStatus);
+    List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages);
+
+    Optional<List<OrderOutboxMessage>> findByTypeAndSagaIdInAndOutboxStatus(String type,
+                                                                            List<UUID> sagaIds,
+                                                                            OutboxStatus outboxStatus);
+
     void deleteByTypeAndOutboxStatus(String type, OutboxStatus status);
 }
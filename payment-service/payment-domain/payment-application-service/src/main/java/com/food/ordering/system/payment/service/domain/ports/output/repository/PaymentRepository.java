@@ -2,6 +2,7 @@ package com.food.ordering.system.payment.service.domain.ports.output.repository;
 
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +11,8 @@ public interface PaymentRepository {
     Payment save(Payment payment);
 
     Optional<Payment> findByOrderId(UUID orderId);
+
+    List<Payment> saveAll(List<Payment> payments);
+
+    Optional<List<Payment>> findByOrderIdIn(List<UUID> orderIds);
 }
@@ -0,0 +1,211 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+public class CreditReconciliationHelper {
+
+    private static final DateTimeFormatter REPORT_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final PaymentDomainService paymentDomainService;
+    private final CreditEntryRepository creditEntryRepository;
+    private final CreditHistorySnapshotRepository creditHistorySnapshotRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public CreditReconciliationHelper(PaymentDomainService paymentDomainService,
+                                      CreditEntryRepository creditEntryRepository,
+                                      CreditHistorySnapshotRepository creditHistorySnapshotRepository,
+                                      CreditHistoryRepository creditHistoryRepository,
+                                      PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentDomainService = paymentDomainService;
+        this.creditEntryRepository = creditEntryRepository;
+        this.creditHistorySnapshotRepository = creditHistorySnapshotRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public int reconcileCredits() {
+        Path reportPath = Paths.get(paymentServiceConfigData.getCreditReconciliationReportDirectory(),
+                "credit-reconciliation-" + ZonedDateTime.now(ZoneId.of(UTC)).format(REPORT_TIMESTAMP_FORMAT) + ".csv");
+        int parallelism = paymentServiceConfigData.getCreditReconciliationParallelism();
+        int chunkSize = paymentServiceConfigData.getCreditReconciliationChunkSize();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try (Stream<CreditEntry> creditEntries = creditEntryRepository.streamAllOrderByCustomerId();
+             Stream<CreditHistorySnapshot> creditHistorySnapshots =
+                     creditHistorySnapshotRepository.streamAllOrderByCustomerId();
+             Stream<CreditHistory> creditHistories =
+                     creditHistoryRepository.streamAllOrderByCustomerIdAndSequenceNumber();
+             BufferedWriter reportWriter = createReportWriter(reportPath)) {
+            CreditReconciliationCursor cursor = new CreditReconciliationCursor(creditHistorySnapshots.iterator(),
+                    creditHistories.iterator());
+            Deque<ForkJoinTask<List<CreditReconciliationMismatch>>> runningTasks = new ArrayDeque<>();
+            List<CustomerCreditLedger> chunk = new ArrayList<>(chunkSize);
+            int customers = 0;
+            int mismatches = 0;
+            Iterator<CreditEntry> creditEntryIterator = creditEntries.iterator();
+            while (creditEntryIterator.hasNext()) {
+                CreditEntry creditEntry = creditEntryIterator.next();
+                mismatches += writeMismatches(reportWriter, cursor.skipHistoriesBefore(creditEntry.getCustomerId()));
+                chunk.add(cursor.nextLedger(creditEntry));
+                customers++;
+                if (chunk.size() == chunkSize) {
+                    runningTasks.add(forkJoinPool.submit(new CreditReconciliationTask(paymentDomainService, chunk)));
+                    chunk = new ArrayList<>(chunkSize);
+                    if (runningTasks.size() > parallelism) {
+                        mismatches += writeMismatches(reportWriter, runningTasks.poll().join());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                runningTasks.add(forkJoinPool.submit(new CreditReconciliationTask(paymentDomainService, chunk)));
+            }
+            while (!runningTasks.isEmpty()) {
+                mismatches += writeMismatches(reportWriter, runningTasks.poll().join());
+            }
+            mismatches += writeMismatches(reportWriter, cursor.skipHistoriesBefore(null));
+            log.info("Credit reconciliation checked {} customers, {} mismatches are written to {}",
+                    customers, mismatches, reportPath);
+            return mismatches;
+        } catch (IOException e) {
+            log.error("Could not write credit reconciliation report to {}", reportPath, e);
+            throw new PaymentApplicationServiceException("Could not write credit reconciliation report to " +
+                    reportPath, e);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private BufferedWriter createReportWriter(Path reportPath) throws IOException {
+        Files.createDirectories(reportPath.getParent());
+        BufferedWriter reportWriter = Files.newBufferedWriter(reportPath);
+        reportWriter.write("customer_id,total_credit_amount,failure_codes,failure_messages");
+        reportWriter.newLine();
+        return reportWriter;
+    }
+
+    private int writeMismatches(BufferedWriter reportWriter,
+                                List<CreditReconciliationMismatch> mismatches) throws IOException {
+        for (CreditReconciliationMismatch mismatch : mismatches) {
+            reportWriter.write(mismatch.getCustomerId() + "," +
+                    (mismatch.getTotalCreditAmount() == null ? "" : mismatch.getTotalCreditAmount().toPlainString()) +
+                    "," + mismatch.getFailureReasons().stream()
+                    .map(failureReason -> failureReason.getCode().name())
+                    .collect(Collectors.joining(";")) +
+                    "," + csvField(mismatch.getFailureReasons().stream()
+                    .map(FailureReason::getMessage)
+                    .collect(Collectors.joining("; "))));
+            reportWriter.newLine();
+        }
+        return mismatches.size();
+    }
+
+    static String csvField(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static class CreditReconciliationCursor {
+
+        private final Iterator<CreditHistorySnapshot> creditHistorySnapshots;
+        private final Iterator<CreditHistory> creditHistories;
+        private CreditHistorySnapshot nextCreditHistorySnapshot;
+        private CreditHistory nextCreditHistory;
+
+        CreditReconciliationCursor(Iterator<CreditHistorySnapshot> creditHistorySnapshots,
+                                   Iterator<CreditHistory> creditHistories) {
+            this.creditHistorySnapshots = creditHistorySnapshots;
+            this.creditHistories = creditHistories;
+            this.nextCreditHistorySnapshot = creditHistorySnapshots.hasNext() ? creditHistorySnapshots.next() : null;
+            this.nextCreditHistory = creditHistories.hasNext() ? creditHistories.next() : null;
+        }
+
+        List<CreditReconciliationMismatch> skipHistoriesBefore(CustomerId customerId) {
+            List<CreditReconciliationMismatch> mismatches = Collections.emptyList();
+            while (nextCreditHistory != null &&
+                    (customerId == null || compare(nextCreditHistory.getCustomerId(), customerId) < 0)) {
+                UUID orphanCustomerId = nextCreditHistory.getCustomerId().getValue();
+                while (nextCreditHistory != null &&
+                        nextCreditHistory.getCustomerId().getValue().equals(orphanCustomerId)) {
+                    nextCreditHistory = creditHistories.hasNext() ? creditHistories.next() : null;
+                }
+                if (mismatches.isEmpty()) {
+                    mismatches = new ArrayList<>();
+                }
+                mismatches.add(new CreditReconciliationMismatch(orphanCustomerId, null,
+                        List.of(FailureReason.of(FailureCode.CREDIT_ENTRY_NOT_FOUND, orphanCustomerId))));
+            }
+            return mismatches;
+        }
+
+        CustomerCreditLedger nextLedger(CreditEntry creditEntry) {
+            CustomerId customerId = creditEntry.getCustomerId();
+            while (nextCreditHistorySnapshot != null && compare(nextCreditHistorySnapshot.getId(), customerId) < 0) {
+                nextCreditHistorySnapshot = creditHistorySnapshots.hasNext() ? creditHistorySnapshots.next() : null;
+            }
+            CreditHistorySnapshot creditHistorySnapshot;
+            if (nextCreditHistorySnapshot != null && nextCreditHistorySnapshot.getId().equals(customerId)) {
+                creditHistorySnapshot = nextCreditHistorySnapshot;
+                nextCreditHistorySnapshot = creditHistorySnapshots.hasNext() ? creditHistorySnapshots.next() : null;
+            } else {
+                creditHistorySnapshot = CreditHistorySnapshot.builder()
+                        .customerId(customerId)
+                        .asOfSequenceNumber(0)
+                        .totalCreditAmount(Money.ZERO)
+                        .totalDebitAmount(Money.ZERO)
+                        .build();
+            }
+            List<CreditHistory> customerCreditHistories = new ArrayList<>();
+            while (nextCreditHistory != null && nextCreditHistory.getCustomerId().equals(customerId)) {
+                if (nextCreditHistory.getSequenceNumber() > creditHistorySnapshot.getAsOfSequenceNumber()) {
+                    customerCreditHistories.add(nextCreditHistory);
+                }
+                nextCreditHistory = creditHistories.hasNext() ? creditHistories.next() : null;
+            }
+            return new CustomerCreditLedger(creditEntry, creditHistorySnapshot, customerCreditHistories);
+        }
+
+        private int compare(CustomerId first, CustomerId second) {
+            return first.getValue().toString().compareTo(second.getValue().toString());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CreditReconciliationMismatch {
+    private final UUID customerId;
+    private final BigDecimal totalCreditAmount;
+    private final List<FailureReason> failureReasons;
+}
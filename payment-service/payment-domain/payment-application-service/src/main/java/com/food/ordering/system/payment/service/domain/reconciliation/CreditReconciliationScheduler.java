@@ -0,0 +1,27 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CreditReconciliationScheduler {
+
+    private final CreditReconciliationHelper creditReconciliationHelper;
+
+    public CreditReconciliationScheduler(CreditReconciliationHelper creditReconciliationHelper) {
+        this.creditReconciliationHelper = creditReconciliationHelper;
+    }
+
+    @Scheduled(cron = "${payment-service.credit-reconciliation-cron}")
+    public void reconcileCredits() {
+        log.info("Starting credit reconciliation");
+        int mismatches = creditReconciliationHelper.reconcileCredits();
+        if (mismatches > 0) {
+            log.error("Credit reconciliation found {} mismatched customers!", mismatches);
+        } else {
+            log.info("Credit reconciliation found no mismatches");
+        }
+    }
+}
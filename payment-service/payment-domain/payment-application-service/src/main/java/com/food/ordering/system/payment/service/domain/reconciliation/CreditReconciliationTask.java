@@ -0,0 +1,56 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+class CreditReconciliationTask extends RecursiveTask<List<CreditReconciliationMismatch>> {
+
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+
+    private final PaymentDomainService paymentDomainService;
+    private final List<CustomerCreditLedger> customerCreditLedgers;
+
+    CreditReconciliationTask(PaymentDomainService paymentDomainService,
+                             List<CustomerCreditLedger> customerCreditLedgers) {
+        this.paymentDomainService = paymentDomainService;
+        this.customerCreditLedgers = customerCreditLedgers;
+    }
+
+    @Override
+    protected List<CreditReconciliationMismatch> compute() {
+        if (customerCreditLedgers.size() <= SEQUENTIAL_THRESHOLD) {
+            return reconcile();
+        }
+        int middle = customerCreditLedgers.size() / 2;
+        CreditReconciliationTask left = new CreditReconciliationTask(paymentDomainService,
+                customerCreditLedgers.subList(0, middle));
+        CreditReconciliationTask right = new CreditReconciliationTask(paymentDomainService,
+                customerCreditLedgers.subList(middle, customerCreditLedgers.size()));
+        left.fork();
+        List<CreditReconciliationMismatch> mismatches = new ArrayList<>(right.compute());
+        mismatches.addAll(left.join());
+        return mismatches;
+    }
+
+    private List<CreditReconciliationMismatch> reconcile() {
+        List<CreditReconciliationMismatch> mismatches = new ArrayList<>();
+        for (CustomerCreditLedger customerCreditLedger : customerCreditLedgers) {
+            List<FailureReason> failureReasons = new ArrayList<>();
+            paymentDomainService.validateCreditHistory(customerCreditLedger.getCreditEntry(),
+                    customerCreditLedger.getCreditHistorySnapshot(),
+                    customerCreditLedger.getCreditHistories(),
+                    failureReasons);
+            if (!failureReasons.isEmpty()) {
+                mismatches.add(new CreditReconciliationMismatch(
+                        customerCreditLedger.getCreditEntry().getCustomerId().getValue(),
+                        customerCreditLedger.getCreditEntry().getTotalCreditAmount().getAmount(),
+                        failureReasons));
+            }
+        }
+        return mismatches;
+    }
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+class CustomerCreditLedger {
+    private final CreditEntry creditEntry;
+    private final CreditHistorySnapshot creditHistorySnapshot;
+    private final List<CreditHistory> creditHistories;
+}
@@ -0,0 +1,147 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOutboxHelper;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PaymentRequestHelperTest {
+
+    private final CustomerId CUSTOMER_ID = new CustomerId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41"));
+
+    private CreditHistorySnapshotRepository creditHistorySnapshotRepository;
+    private OrderOutboxHelper orderOutboxHelper;
+    private PaymentResponseMessagePublisher paymentResponseMessagePublisher;
+    private PaymentRequestHelper paymentRequestHelper;
+
+    @BeforeEach
+    public void init() {
+        creditHistorySnapshotRepository = mock(CreditHistorySnapshotRepository.class);
+        orderOutboxHelper = mock(OrderOutboxHelper.class);
+        paymentResponseMessagePublisher = mock(PaymentResponseMessagePublisher.class);
+        paymentRequestHelper = new PaymentRequestHelper(mock(PaymentDomainService.class),
+                mock(PaymentDataMapper.class),
+                mock(PaymentRepository.class),
+                mock(CreditEntryRepository.class),
+                mock(CreditHistoryRepository.class),
+                creditHistorySnapshotRepository,
+                orderOutboxHelper,
+                paymentResponseMessagePublisher,
+                new PaymentServiceConfigData());
+    }
+
+    @Test
+    public void testExistingSnapshotIsNotInserted() {
+        CreditHistorySnapshot creditHistorySnapshot = snapshot(3, "100.00");
+        when(creditHistorySnapshotRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(creditHistorySnapshot));
+        assertSame(creditHistorySnapshot, paymentRequestHelper.getCreditHistorySnapshot(CUSTOMER_ID));
+        verify(creditHistorySnapshotRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    public void testMissingSnapshotIsInsertedIfAbsentAndReselected() {
+        CreditHistorySnapshot concurrentlyCreatedSnapshot = snapshot(5, "250.00");
+        when(creditHistorySnapshotRepository.findByCustomerId(CUSTOMER_ID))
+                .thenReturn(Optional.empty(), Optional.of(concurrentlyCreatedSnapshot));
+        assertSame(concurrentlyCreatedSnapshot, paymentRequestHelper.getCreditHistorySnapshot(CUSTOMER_ID));
+        ArgumentCaptor<CreditHistorySnapshot> insertedSnapshot = ArgumentCaptor.forClass(CreditHistorySnapshot.class);
+        verify(creditHistorySnapshotRepository).saveIfAbsent(insertedSnapshot.capture());
+        assertEquals(CUSTOMER_ID, insertedSnapshot.getValue().getId());
+        assertEquals(0, insertedSnapshot.getValue().getAsOfSequenceNumber());
+        assertEquals(Money.ZERO, insertedSnapshot.getValue().getTotalCreditAmount());
+        verify(creditHistorySnapshotRepository, never()).save(any());
+        verify(creditHistorySnapshotRepository, times(2)).findByCustomerId(CUSTOMER_ID);
+    }
+
+    @Test
+    public void testMissingSnapshotAfterInsertFails() {
+        when(creditHistorySnapshotRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.empty());
+        assertThrows(PaymentApplicationServiceException.class,
+                () -> paymentRequestHelper.getCreditHistorySnapshot(CUSTOMER_ID));
+    }
+
+    @Test
+    public void testRedeliveredPaymentRepublishesFailedOutcome() {
+        PaymentRequest paymentRequest = paymentRequest(PaymentOrderStatus.PENDING);
+        OrderOutboxMessage failedOutboxMessage = outboxMessage(paymentRequest, PaymentStatus.FAILED);
+        when(orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndPaymentStatuses(
+                UUID.fromString(paymentRequest.getSagaId()), List.of(PaymentStatus.COMPLETED, PaymentStatus.FAILED)))
+                .thenReturn(Optional.of(failedOutboxMessage));
+        assertTrue(paymentRequestHelper.publishIfOutboxMessageProcessedForPayment(paymentRequest));
+        verify(paymentResponseMessagePublisher).publish(eq(failedOutboxMessage), any());
+    }
+
+    @Test
+    public void testProcessedRequestsAreFilteredByFlowAndNotPublished() {
+        PaymentRequest failedRequest = paymentRequest(PaymentOrderStatus.PENDING);
+        PaymentRequest cancelRequest = PaymentRequest.builder()
+                .sagaId(failedRequest.getSagaId())
+                .paymentOrderStatus(PaymentOrderStatus.CANCELLED)
+                .build();
+        OrderOutboxMessage failedOutboxMessage = outboxMessage(failedRequest, PaymentStatus.FAILED);
+        when(orderOutboxHelper.getCompletedOrderOutboxMessagesBySagaIds(anyList()))
+                .thenReturn(Optional.of(List.of(failedOutboxMessage)));
+        List<OrderOutboxMessage> processedOrderOutboxMessages = new ArrayList<>();
+        List<PaymentRequest> newPaymentRequests = paymentRequestHelper.filterProcessedPaymentRequests(
+                List.of(failedRequest, cancelRequest), processedOrderOutboxMessages);
+        assertEquals(List.of(cancelRequest), newPaymentRequests);
+        assertEquals(List.of(failedOutboxMessage), processedOrderOutboxMessages);
+        verifyNoInteractions(paymentResponseMessagePublisher);
+    }
+
+    private PaymentRequest paymentRequest(PaymentOrderStatus paymentOrderStatus) {
+        return PaymentRequest.builder()
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(CUSTOMER_ID.getValue().toString())
+                .price(new BigDecimal("100.00"))
+                .paymentOrderStatus(paymentOrderStatus)
+                .build();
+    }
+
+    private OrderOutboxMessage outboxMessage(PaymentRequest paymentRequest, PaymentStatus paymentStatus) {
+        return OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.fromString(paymentRequest.getSagaId()))
+                .paymentStatus(paymentStatus)
+                .outboxStatus(OutboxStatus.COMPLETED)
+                .build();
+    }
+
+    private CreditHistorySnapshot snapshot(long asOfSequenceNumber, String totalCreditAmount) {
+        return CreditHistorySnapshot.builder()
+                .customerId(CUSTOMER_ID)
+                .asOfSequenceNumber(asOfSequenceNumber)
+                .totalCreditAmount(new Money(new BigDecimal(totalCreditAmount)))
+                .totalDebitAmount(Money.ZERO)
+                .build();
+    }
+}
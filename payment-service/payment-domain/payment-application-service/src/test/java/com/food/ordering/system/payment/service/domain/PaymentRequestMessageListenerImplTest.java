@@ -0,0 +1,95 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.payment.service.domain.account.CreditAccountBatchProcessor;
+import com.food.ordering.system.payment.service.domain.account.CreditAccountProcessor;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.exception.PaymentNotFoundException;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.tracing.Tracer;
+import com.food.ordering.system.tracing.config.TracingConfigData;
+import com.food.ordering.system.tracing.exporter.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class PaymentRequestMessageListenerImplTest {
+
+    private PaymentRequestHelper paymentRequestHelper;
+    private CreditAccountBatchProcessor creditAccountBatchProcessor;
+    private PaymentRequestMessageListenerImpl paymentRequestMessageListener;
+
+    @BeforeEach
+    public void init() {
+        paymentRequestHelper = mock(PaymentRequestHelper.class);
+        creditAccountBatchProcessor = mock(CreditAccountBatchProcessor.class);
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setPaymentBatchProcessingEnabled(true);
+        paymentServiceConfigData.setRecentSagaCacheMaxSize(100);
+        TracingConfigData tracingConfigData = new TracingConfigData();
+        tracingConfigData.setSampleRatio(1.0);
+        paymentRequestMessageListener = new PaymentRequestMessageListenerImpl(paymentRequestHelper,
+                mock(CreditAccountProcessor.class),
+                creditAccountBatchProcessor,
+                paymentServiceConfigData,
+                new Tracer(mock(SpanExporter.class), tracingConfigData));
+    }
+
+    @Test
+    public void testProcessedOutboxMessagesArePublishedAfterBatchIsCommitted() {
+        OrderOutboxMessage orderOutboxMessage = OrderOutboxMessage.builder().id(UUID.randomUUID()).build();
+        doAnswer(invocation -> {
+            List<OrderOutboxMessage> processedOrderOutboxMessages = invocation.getArgument(1);
+            processedOrderOutboxMessages.add(orderOutboxMessage);
+            return null;
+        }).when(creditAccountBatchProcessor).processPayments(anyList(), anyList());
+
+        paymentRequestMessageListener.processPayments(List.of(paymentRequest(PaymentOrderStatus.PENDING)));
+
+        InOrder inOrder = inOrder(creditAccountBatchProcessor, paymentRequestHelper);
+        inOrder.verify(creditAccountBatchProcessor).processPayments(anyList(), anyList());
+        inOrder.verify(paymentRequestHelper).publishOrderOutboxMessages(List.of(orderOutboxMessage));
+        verify(paymentRequestHelper, never()).persistPayment(any());
+    }
+
+    @Test
+    public void testFailedBatchFallsBackToSingleMessages() {
+        PaymentRequest pendingRequest = paymentRequest(PaymentOrderStatus.PENDING);
+        PaymentRequest missingPaymentRequest = paymentRequest(PaymentOrderStatus.CANCELLED);
+        PaymentRequest cancelledRequest = paymentRequest(PaymentOrderStatus.CANCELLED);
+        doThrow(new PaymentNotFoundException("Payment could not be found!"))
+                .when(creditAccountBatchProcessor).processPayments(anyList(), anyList());
+        doThrow(new PaymentNotFoundException("Payment could not be found!"))
+                .when(paymentRequestHelper).persistCancelPayment(missingPaymentRequest);
+
+        paymentRequestMessageListener.processPayments(List.of(pendingRequest, missingPaymentRequest,
+                cancelledRequest));
+
+        verify(paymentRequestHelper).persistPayment(pendingRequest);
+        verify(paymentRequestHelper).persistCancelPayment(missingPaymentRequest);
+        verify(paymentRequestHelper).persistCancelPayment(cancelledRequest);
+        verify(paymentRequestHelper, never()).publishOrderOutboxMessages(anyList());
+    }
+
+    private PaymentRequest paymentRequest(PaymentOrderStatus paymentOrderStatus) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("100.00"))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(paymentOrderStatus)
+                .build();
+    }
+}
@@ -0,0 +1,311 @@
+package com.food.ordering.system.payment.service.domain.account;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.PaymentRequestHelper;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.OrderOutboxHelper;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class CreditAccountProcessorTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID OTHER_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb42");
+    private final UUID THIRD_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb43");
+    private final UUID CREDIT_ENTRY_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb21");
+
+    private PaymentRequestHelper paymentRequestHelper;
+    private OrderOutboxHelper orderOutboxHelper;
+    private CreditAccountWriter creditAccountWriter;
+    private CreditAccountLoader creditAccountLoader;
+    private CreditAccountProcessor creditAccountProcessor;
+    private final List<List<CreditAccountWrite>> writtenBatches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        paymentRequestHelper = mock(PaymentRequestHelper.class);
+        orderOutboxHelper = mock(OrderOutboxHelper.class);
+        creditAccountWriter = mock(CreditAccountWriter.class);
+        creditAccountLoader = mock(CreditAccountLoader.class);
+        when(paymentRequestHelper.filterProcessedPaymentRequests(anyList(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderOutboxHelper.createOrderOutboxMessage(any(), any(), any(), any()))
+                .thenAnswer(invocation -> OrderOutboxMessage.builder()
+                        .id(UUID.randomUUID())
+                        .sagaId(invocation.getArgument(3))
+                        .paymentStatus(invocation.getArgument(1))
+                        .outboxStatus(invocation.getArgument(2))
+                        .build());
+        when(creditAccountLoader.loadCreditAccount(any())).thenAnswer(invocation -> creditAccount(
+                invocation.<CustomerId>getArgument(0)));
+        doAnswer(invocation -> writtenBatches.add(List.copyOf(invocation.getArgument(0))))
+                .when(creditAccountWriter).write(anyList());
+
+        creditAccountProcessor = createCreditAccountProcessor(creditAccountLoader, creditAccountWriter);
+    }
+
+    @AfterEach
+    public void close() throws InterruptedException {
+        creditAccountProcessor.stop();
+    }
+
+    @Test
+    public void testPollBatchIsWrittenOnceAndRedeliveredSagaIsNotAppliedTwice() throws Exception {
+        PaymentRequest paymentRequest = paymentRequest(CUSTOMER_ID);
+        creditAccountProcessor.processPayments(List.of(paymentRequest, paymentRequest, paymentRequest(CUSTOMER_ID)))
+                .get(5, TimeUnit.SECONDS);
+        List<CreditAccountWrite> writes = writtenBatches.stream().flatMap(List::stream).toList();
+        assertEquals(2, writes.size());
+        assertEquals(new Money(new BigDecimal("400.00")), writes.get(0).getCreditEntry().getTotalCreditAmount());
+        assertEquals(new Money(new BigDecimal("300.00")), writes.get(1).getCreditEntry().getTotalCreditAmount());
+        verify(paymentRequestHelper, times(1)).filterProcessedPaymentRequests(anyList(), anyList());
+        verify(paymentRequestHelper, never()).publishIfOutboxMessageProcessedForPayment(any());
+        verify(creditAccountLoader, times(1)).loadCreditAccount(new CustomerId(CUSTOMER_ID));
+    }
+
+    @Test
+    public void testFailedWriteIsIsolatedPerEntry() throws Exception {
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<CreditAccountWrite> writes = invocation.getArgument(0);
+            if (containsCustomer(writes, THIRD_CUSTOMER_ID)) {
+                flushReleased.await(5, TimeUnit.SECONDS);
+            }
+            if (containsCustomer(writes, OTHER_CUSTOMER_ID)) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            writtenBatches.add(List.copyOf(writes));
+            return null;
+        }).when(creditAccountWriter).write(anyList());
+
+        CompletableFuture<Void> blockingWrite = creditAccountProcessor.completePayment(paymentRequest(THIRD_CUSTOMER_ID));
+        verify(creditAccountWriter, timeout(2000)).write(anyList());
+        CompletableFuture<Void> write = creditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID));
+        CompletableFuture<Void> failingWrite = creditAccountProcessor.completePayment(paymentRequest(OTHER_CUSTOMER_ID));
+        verify(orderOutboxHelper, timeout(2000).times(3)).createOrderOutboxMessage(any(), any(), any(), any());
+        flushReleased.countDown();
+
+        blockingWrite.get(5, TimeUnit.SECONDS);
+        write.get(5, TimeUnit.SECONDS);
+        ExecutionException executionException = assertThrows(ExecutionException.class,
+                () -> failingWrite.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DataIntegrityViolationException.class, executionException.getCause());
+        verify(creditAccountWriter, times(4)).write(anyList());
+        assertTrue(writtenBatches.stream().anyMatch(writes -> writes.size() == 1 &&
+                containsCustomer(writes, CUSTOMER_ID)));
+    }
+
+    @Test
+    public void testStopFailsPendingWrites() throws Exception {
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushReleased.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(creditAccountWriter).write(anyList());
+
+        CompletableFuture<Void> flushingWrite = creditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID));
+        verify(creditAccountWriter, timeout(2000)).write(anyList());
+        CompletableFuture<Void> pendingWrite = creditAccountProcessor.completePayment(paymentRequest(OTHER_CUSTOMER_ID));
+        verify(orderOutboxHelper, timeout(2000).times(2)).createOrderOutboxMessage(any(), any(), any(), any());
+
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(() -> {
+            try {
+                creditAccountProcessor.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExecutionException executionException = assertThrows(ExecutionException.class,
+                () -> pendingWrite.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(PaymentApplicationServiceException.class, executionException.getCause());
+        flushReleased.countDown();
+        flushingWrite.get(5, TimeUnit.SECONDS);
+        stopped.get(5, TimeUnit.SECONDS);
+
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> creditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID)).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(PaymentApplicationServiceException.class, rejected.getCause());
+    }
+
+    @Test
+    public void testRevokeEvictsOnlyAccountsOfRevokedPartitionsAfterPendingWrites() throws Exception {
+        CountDownLatch flushReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushReleased.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(creditAccountWriter).write(anyList());
+
+        creditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, 0));
+        creditAccountProcessor.completePayment(paymentRequest(OTHER_CUSTOMER_ID, 1));
+        verify(orderOutboxHelper, timeout(2000).times(2)).createOrderOutboxMessage(any(), any(), any(), any());
+
+        CompletableFuture<Void> evicted = CompletableFuture.runAsync(() ->
+                creditAccountProcessor.evictCreditAccounts(List.of(0)));
+        assertThrows(TimeoutException.class, () -> evicted.get(300, TimeUnit.MILLISECONDS));
+        flushReleased.countDown();
+        evicted.get(5, TimeUnit.SECONDS);
+
+        creditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, 0)).get(5, TimeUnit.SECONDS);
+        creditAccountProcessor.completePayment(paymentRequest(OTHER_CUSTOMER_ID, 1)).get(5, TimeUnit.SECONDS);
+        verify(creditAccountLoader, times(2)).loadCreditAccount(new CustomerId(CUSTOMER_ID));
+        verify(creditAccountLoader, times(1)).loadCreditAccount(new CustomerId(OTHER_CUSTOMER_ID));
+    }
+
+    @Test
+    public void testStaleCreditAccountOfAnotherProcessorIsInvalidatedAndReloaded() throws Exception {
+        AtomicReference<CreditEntry> persistedCreditEntry = new AtomicReference<>(creditEntry(CUSTOMER_ID,
+                new Money(new BigDecimal("500.00")), 0));
+        CreditEntryRepository creditEntryRepository = mock(CreditEntryRepository.class);
+        when(creditEntryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CreditEntry> creditEntries = invocation.getArgument(0);
+            for (CreditEntry creditEntry : creditEntries) {
+                CreditEntry current = persistedCreditEntry.get();
+                if (creditEntry.getVersion() != current.getVersion()) {
+                    throw new OptimisticLockingFailureException("Credit entry " + creditEntry.getId().getValue() +
+                            " is updated by another transaction");
+                }
+                persistedCreditEntry.set(creditEntry(CUSTOMER_ID, creditEntry.getTotalCreditAmount(),
+                        current.getVersion() + 1));
+            }
+            return creditEntries;
+        });
+        CreditAccountWriter sharedCreditAccountWriter = new CreditAccountWriter(mock(PaymentRepository.class),
+                creditEntryRepository,
+                mock(CreditHistoryRepository.class),
+                mock(CreditHistorySnapshotRepository.class),
+                orderOutboxHelper);
+        CreditAccountLoader sharedCreditAccountLoader = mock(CreditAccountLoader.class);
+        when(sharedCreditAccountLoader.loadCreditAccount(any())).thenAnswer(invocation ->
+                creditAccount(persistedCreditEntry.get()));
+        CreditAccountProcessor firstCreditAccountProcessor =
+                createCreditAccountProcessor(sharedCreditAccountLoader, sharedCreditAccountWriter);
+        CreditAccountProcessor secondCreditAccountProcessor =
+                createCreditAccountProcessor(sharedCreditAccountLoader, sharedCreditAccountWriter);
+        try {
+            firstCreditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, "100.00")).get(5, TimeUnit.SECONDS);
+            secondCreditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, "50.00")).get(5, TimeUnit.SECONDS);
+
+            ExecutionException executionException = assertThrows(ExecutionException.class,
+                    () -> firstCreditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, "100.00"))
+                            .get(5, TimeUnit.SECONDS));
+            assertInstanceOf(OptimisticLockingFailureException.class, executionException.getCause());
+            assertEquals(new Money(new BigDecimal("350.00")), persistedCreditEntry.get().getTotalCreditAmount());
+
+            firstCreditAccountProcessor.completePayment(paymentRequest(CUSTOMER_ID, "100.00")).get(5, TimeUnit.SECONDS);
+            assertEquals(new Money(new BigDecimal("250.00")), persistedCreditEntry.get().getTotalCreditAmount());
+            assertEquals(3, persistedCreditEntry.get().getVersion());
+            verify(sharedCreditAccountLoader, times(3)).loadCreditAccount(new CustomerId(CUSTOMER_ID));
+        } finally {
+            firstCreditAccountProcessor.stop();
+            secondCreditAccountProcessor.stop();
+        }
+    }
+
+    private CreditAccountProcessor createCreditAccountProcessor(CreditAccountLoader creditAccountLoader,
+                                                                CreditAccountWriter creditAccountWriter) {
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setCreditAccountCacheEnabled(true);
+        paymentServiceConfigData.setCreditAccountMailboxThreads(1);
+        paymentServiceConfigData.setCreditAccountCacheMaxSize(100);
+        paymentServiceConfigData.setCreditAccountWriteQueueCapacity(100);
+        paymentServiceConfigData.setCreditAccountFlushBatchSize(100);
+        CreditAccountProcessor creditAccountProcessor = new CreditAccountProcessor(
+                new PaymentDomainServiceImpl(UUID::randomUUID),
+                new PaymentDataMapper(),
+                mock(PaymentRepository.class),
+                paymentRequestHelper,
+                orderOutboxHelper,
+                creditAccountLoader,
+                creditAccountWriter,
+                paymentServiceConfigData);
+        creditAccountProcessor.start();
+        return creditAccountProcessor;
+    }
+
+    private boolean containsCustomer(List<CreditAccountWrite> writes, UUID customerId) {
+        return writes.stream().anyMatch(write -> write.getPayment().getCustomerId().getValue().equals(customerId));
+    }
+
+    private CreditAccount creditAccount(CustomerId customerId) {
+        return creditAccount(creditEntry(customerId.getValue(), new Money(new BigDecimal("500.00")), 0));
+    }
+
+    private CreditAccount creditAccount(CreditEntry creditEntry) {
+        Money totalCreditAmount = new Money(new BigDecimal("500.00"));
+        return new CreditAccount(creditEntry,
+                CreditHistorySnapshot.builder()
+                        .customerId(creditEntry.getCustomerId())
+                        .asOfSequenceNumber(0)
+                        .totalCreditAmount(totalCreditAmount)
+                        .totalDebitAmount(totalCreditAmount.subtract(creditEntry.getTotalCreditAmount()))
+                        .build());
+    }
+
+    private CreditEntry creditEntry(UUID customerId, Money totalCreditAmount, int version) {
+        return CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(CREDIT_ENTRY_ID))
+                .customerId(new CustomerId(customerId))
+                .totalCreditAmount(totalCreditAmount)
+                .version(version)
+                .build();
+    }
+
+    private PaymentRequest paymentRequest(UUID customerId) {
+        return paymentRequest(customerId, null, "100.00");
+    }
+
+    private PaymentRequest paymentRequest(UUID customerId, Integer partition) {
+        return paymentRequest(customerId, partition, "100.00");
+    }
+
+    private PaymentRequest paymentRequest(UUID customerId, String price) {
+        return paymentRequest(customerId, null, price);
+    }
+
+    private PaymentRequest paymentRequest(UUID customerId, Integer partition, String price) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(customerId.toString())
+                .price(new BigDecimal(price))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .partition(partition)
+                .build();
+    }
+}
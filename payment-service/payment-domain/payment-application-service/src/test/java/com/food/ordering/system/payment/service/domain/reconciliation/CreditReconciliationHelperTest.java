@@ -0,0 +1,98 @@
+package com.food.ordering.system.payment.service.domain.reconciliation;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistorySnapshotRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CreditReconciliationHelperTest {
+
+    private final CustomerId MISMATCHED_CUSTOMER_ID =
+            new CustomerId(UUID.fromString("11111111-0249-4dc5-89a3-51fd148cfb41"));
+    private final CustomerId BALANCED_CUSTOMER_ID =
+            new CustomerId(UUID.fromString("22222222-0249-4dc5-89a3-51fd148cfb41"));
+
+    @TempDir
+    Path reportDirectory;
+
+    @Test
+    public void testKnownMismatchIsReported() throws IOException {
+        CreditEntryRepository creditEntryRepository = mock(CreditEntryRepository.class);
+        CreditHistorySnapshotRepository creditHistorySnapshotRepository = mock(CreditHistorySnapshotRepository.class);
+        CreditHistoryRepository creditHistoryRepository = mock(CreditHistoryRepository.class);
+        when(creditEntryRepository.streamAllOrderByCustomerId()).thenReturn(Stream.of(
+                creditEntry(MISMATCHED_CUSTOMER_ID, "500.00"),
+                creditEntry(BALANCED_CUSTOMER_ID, "300.00")));
+        when(creditHistorySnapshotRepository.streamAllOrderByCustomerId()).thenReturn(Stream.of(
+                CreditHistorySnapshot.builder()
+                        .customerId(MISMATCHED_CUSTOMER_ID)
+                        .asOfSequenceNumber(1)
+                        .totalCreditAmount(new Money(new BigDecimal("400.00")))
+                        .totalDebitAmount(Money.ZERO)
+                        .build()));
+        when(creditHistoryRepository.streamAllOrderByCustomerIdAndSequenceNumber()).thenReturn(Stream.of(
+                CreditHistory.builder()
+                        .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                        .customerId(BALANCED_CUSTOMER_ID)
+                        .amount(new Money(new BigDecimal("300.00")))
+                        .transactionType(TransactionType.CREDIT)
+                        .sequenceNumber(1L)
+                        .build()));
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setCreditReconciliationParallelism(2);
+        paymentServiceConfigData.setCreditReconciliationChunkSize(1);
+        paymentServiceConfigData.setCreditReconciliationReportDirectory(reportDirectory.toString());
+        CreditReconciliationHelper creditReconciliationHelper = new CreditReconciliationHelper(
+                new PaymentDomainServiceImpl(UUID::randomUUID), creditEntryRepository,
+                creditHistorySnapshotRepository, creditHistoryRepository, paymentServiceConfigData);
+
+        assertEquals(1, creditReconciliationHelper.reconcileCredits());
+
+        Path report;
+        try (Stream<Path> reports = Files.list(reportDirectory)) {
+            report = reports.findFirst().orElseThrow();
+        }
+        assertEquals(List.of("customer_id,total_credit_amount,failure_codes,failure_messages",
+                        MISMATCHED_CUSTOMER_ID.getValue() + ",500.00,CREDIT_HISTORY_MISMATCH,\"" +
+                                FailureReason.of(FailureCode.CREDIT_HISTORY_MISMATCH,
+                                        MISMATCHED_CUSTOMER_ID.getValue()).getMessage() + "\""),
+                Files.readAllLines(report));
+    }
+
+    @Test
+    public void testCsvFieldIsEscaped() {
+        assertEquals("\"say \"\"hi\"\", then\nleave\"", CreditReconciliationHelper.csvField("say \"hi\", then\nleave"));
+    }
+
+    private CreditEntry creditEntry(CustomerId customerId, String totalCreditAmount) {
+        return CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                .customerId(customerId)
+                .totalCreditAmount(new Money(new BigDecimal(totalCreditAmount)))
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 
@@ -11,11 +13,17 @@ public interface PaymentDomainService {
 
     PaymentEvent validateAndInitiatePayment(Payment payment,
                                             CreditEntry creditEntry,
+                                            CreditHistorySnapshot creditHistorySnapshot,
                                             List<CreditHistory> creditHistories,
-                                            List<String> failureMessages);
+                                            List<FailureReason> failureReasons);
 
     PaymentEvent validateAndCancelPayment(Payment payment,
                                           CreditEntry creditEntry,
                                           List<CreditHistory> creditHistories,
-                                          List<String> failureMessages);
+                                          List<FailureReason> failureReasons);
+
+    void validateCreditHistory(CreditEntry creditEntry,
+                               CreditHistorySnapshot creditHistorySnapshot,
+                               List<CreditHistory> creditHistories,
+                               List<FailureReason> failureReasons);
 }
@@ -1,9 +1,13 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistorySnapshot;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -16,33 +20,39 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
 
 @Slf4j
 public class PaymentDomainServiceImpl implements PaymentDomainService {
 
+    private final IdGenerator idGenerator;
+
+    public PaymentDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public PaymentEvent validateAndInitiatePayment(Payment payment,
                                                    CreditEntry creditEntry,
+                                                   CreditHistorySnapshot creditHistorySnapshot,
                                                    List<CreditHistory> creditHistories,
-                                                   List<String> failureMessages) {
-        payment.validatePayment(failureMessages);
-        payment.initializePayment();
-        validateCreditEntry(payment, creditEntry, failureMessages);
+                                                   List<FailureReason> failureReasons) {
+        payment.validatePayment(failureReasons);
+        payment.initializePayment(idGenerator);
+        validateCreditEntry(payment, creditEntry, failureReasons);
         subtractCreditEntry(payment, creditEntry);
         updateCreditHistory(payment, creditHistories, TransactionType.DEBIT);
-        validateCreditHistory(creditEntry, creditHistories, failureMessages);
+        validateCreditHistory(creditEntry, creditHistorySnapshot, creditHistories, failureReasons);
 
-        if (failureMessages.isEmpty()) {
+        if (failureReasons.isEmpty()) {
             log.info("Payment is initiated for order id: {}", payment.getOrderId().getValue());
             payment.updateStatus(PaymentStatus.COMPLETED);
             return new PaymentCompletedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)));
         } else {
             log.info("Payment initiation is failed for order id: {}", payment.getOrderId().getValue());
             payment.updateStatus(PaymentStatus.FAILED);
-            return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), failureMessages);
+            return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), failureReasons);
         }
     }
 
@@ -50,28 +60,27 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     public PaymentEvent validateAndCancelPayment(Payment payment,
                                                  CreditEntry creditEntry,
                                                  List<CreditHistory> creditHistories,
-                                                 List<String> failureMessages) {
-        payment.validatePayment(failureMessages);
+                                                 List<FailureReason> failureReasons) {
+        payment.validatePayment(failureReasons);
         addCreditEntry(payment, creditEntry);
         updateCreditHistory(payment, creditHistories, TransactionType.CREDIT);
 
-       if (failureMessages.isEmpty()) {
+       if (failureReasons.isEmpty()) {
            log.info("Payment is cancelled for order id: {}", payment.getOrderId().getValue());
            payment.updateStatus(PaymentStatus.CANCELLED);
            return new PaymentCancelledEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)));
        } else {
            log.info("Payment cancellation is failed for order id: {}", payment.getOrderId().getValue());
            payment.updateStatus(PaymentStatus.FAILED);
-           return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), failureMessages);
+           return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), failureReasons);
        }
     }
 
-    private void validateCreditEntry(Payment payment, CreditEntry creditEntry, List<String> failureMessages) {
+    private void validateCreditEntry(Payment payment, CreditEntry creditEntry, List<FailureReason> failureReasons) {
         if (payment.getPrice().isGreaterThan(creditEntry.getTotalCreditAmount())) {
             log.error("Customer with id: {} doesn't have enough credit for payment!",
                     payment.getCustomerId().getValue());
-            failureMessages.add("Customer with id=" + payment.getCustomerId().getValue()
-                    + " doesn't have enough credit for payment!");
+            failureReasons.add(FailureReason.of(FailureCode.INSUFFICIENT_CREDIT, payment.getCustomerId().getValue()));
         }
     }
 
@@ -83,32 +92,35 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
                                      List<CreditHistory> creditHistories,
                                      TransactionType transactionType) {
         creditHistories.add(CreditHistory.builder()
-                .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                .creditHistoryId(new CreditHistoryId(idGenerator.generateId()))
                 .customerId(payment.getCustomerId())
                 .amount(payment.getPrice())
                 .transactionType(transactionType)
                 .build());
     }
 
-
-    private void validateCreditHistory(CreditEntry creditEntry,
-                                       List<CreditHistory> creditHistories,
-                                       List<String> failureMessages) {
-            Money totalCreditHistory = getTotalHistoryAmount(creditHistories, TransactionType.CREDIT);
-            Money totalDebitHistory = getTotalHistoryAmount(creditHistories, TransactionType.DEBIT);
+    @Override
+    public void validateCreditHistory(CreditEntry creditEntry,
+                                      CreditHistorySnapshot creditHistorySnapshot,
+                                      List<CreditHistory> creditHistories,
+                                      List<FailureReason> failureReasons) {
+            Money totalCreditHistory = creditHistorySnapshot.getTotalCreditAmount()
+                    .add(getTotalHistoryAmount(creditHistories, TransactionType.CREDIT));
+            Money totalDebitHistory = creditHistorySnapshot.getTotalDebitAmount()
+                    .add(getTotalHistoryAmount(creditHistories, TransactionType.DEBIT));
 
             if (totalDebitHistory.isGreaterThan(totalCreditHistory)) {
                 log.error("Customer with id: {} doesn't have enough credit according to credit history",
                         creditEntry.getCustomerId().getValue());
-                failureMessages.add("Customer with id=" + creditEntry.getCustomerId().getValue() +
-                        " doesn't have enough credit according to credit history!");
+                failureReasons.add(FailureReason.of(FailureCode.INSUFFICIENT_CREDIT_HISTORY,
+                        creditEntry.getCustomerId().getValue()));
             }
 
             if (!creditEntry.getTotalCreditAmount().equals(totalCreditHistory.subtract(totalDebitHistory))) {
                 log.error("Credit history total is not equal to current credit for customer id: {}!",
                         creditEntry.getCustomerId().getValue());
-                failureMessages.add("Credit history total is not equal to current credit for customer id: " +
-                        creditEntry.getCustomerId().getValue() + "!");
+                failureReasons.add(FailureReason.of(FailureCode.CREDIT_HISTORY_MISMATCH,
+                        creditEntry.getCustomerId().getValue()));
             }
     }
 
@@ -11,12 +11,14 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
     private final CustomerId customerId;
     private final Money amount;
     private final TransactionType transactionType;
+    private final Long sequenceNumber;
 
     private CreditHistory(Builder builder) {
         setId(builder.creditHistoryId);
         customerId = builder.customerId;
         amount = builder.amount;
         transactionType = builder.transactionType;
+        sequenceNumber = builder.sequenceNumber;
     }
 
     public static Builder builder() {
@@ -36,11 +38,16 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
         return transactionType;
     }
 
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
     public static final class Builder {
         private CreditHistoryId creditHistoryId;
         private CustomerId customerId;
         private Money amount;
         private TransactionType transactionType;
+        private Long sequenceNumber;
 
         private Builder() {
         }
@@ -65,6 +72,11 @@ public class CreditHistory extends BaseEntity<CreditHistoryId> {
             return this;
         }
 
+        public Builder sequenceNumber(Long val) {
+            sequenceNumber = val;
+            return this;
+        }
+
         public CreditHistory build() {
             return new CreditHistory(this);
         }
@@ -0,0 +1,86 @@
+package com.food.ordering.system.payment.service.domain.entity;
+
+import com.food.ordering.system.domain.entity.BaseEntity;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+import java.util.List;
+
+public class CreditHistorySnapshot extends BaseEntity<CustomerId> {
+
+    private long asOfSequenceNumber;
+    private Money totalCreditAmount;
+    private Money totalDebitAmount;
+
+    public void addCreditHistories(List<CreditHistory> creditHistories) {
+        for (CreditHistory creditHistory : creditHistories) {
+            if (creditHistory.getTransactionType() == TransactionType.CREDIT) {
+                totalCreditAmount = totalCreditAmount.add(creditHistory.getAmount());
+            } else {
+                totalDebitAmount = totalDebitAmount.add(creditHistory.getAmount());
+            }
+            if (creditHistory.getSequenceNumber() != null) {
+                asOfSequenceNumber = Math.max(asOfSequenceNumber, creditHistory.getSequenceNumber());
+            }
+        }
+    }
+
+    private CreditHistorySnapshot(Builder builder) {
+        setId(builder.customerId);
+        asOfSequenceNumber = builder.asOfSequenceNumber;
+        totalCreditAmount = builder.totalCreditAmount;
+        totalDebitAmount = builder.totalDebitAmount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+
+    public long getAsOfSequenceNumber() {
+        return asOfSequenceNumber;
+    }
+
+    public Money getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public Money getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public static final class Builder {
+        private CustomerId customerId;
+        private long asOfSequenceNumber;
+        private Money totalCreditAmount;
+        private Money totalDebitAmount;
+
+        private Builder() {
+        }
+
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        public Builder asOfSequenceNumber(long val) {
+            asOfSequenceNumber = val;
+            return this;
+        }
+
+        public Builder totalCreditAmount(Money val) {
+            totalCreditAmount = val;
+            return this;
+        }
+
+        public Builder totalDebitAmount(Money val) {
+            totalDebitAmount = val;
+            return this;
+        }
+
+        public CreditHistorySnapshot build() {
+            return new CreditHistorySnapshot(this);
+        }
+    }
+}
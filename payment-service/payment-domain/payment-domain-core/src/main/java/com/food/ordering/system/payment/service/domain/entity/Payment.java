@@ -1,7 +1,10 @@
 package com.food.ordering.system.payment.service.domain.entity;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
@@ -10,7 +13,6 @@ import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 public class Payment extends AggregateRoot<PaymentId> {
 
@@ -21,14 +23,14 @@ public class Payment extends AggregateRoot<PaymentId> {
     private PaymentStatus paymentStatus;
     private ZonedDateTime createdAt;
 
-    public void initializePayment() {
-        setId(new PaymentId(UUID.randomUUID()));
+    public void initializePayment(IdGenerator idGenerator) {
+        setId(new PaymentId(idGenerator.generateId()));
         createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
     }
 
-    public void validatePayment(List<String> failureMessages) {
+    public void validatePayment(List<FailureReason> failureReasons) {
         if (price == null || !price.isGreaterThanZero()) {
-            failureMessages.add("Total price must be greater than zero!");
+            failureReasons.add(FailureReason.of(FailureCode.PAYMENT_PRICE_NOT_POSITIVE));
         }
     }
 
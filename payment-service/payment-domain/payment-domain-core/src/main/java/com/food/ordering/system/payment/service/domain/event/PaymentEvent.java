@@ -1,6 +1,7 @@
 package com.food.ordering.system.payment.service.domain.event;
 
 import com.food.ordering.system.domain.event.DomainEvent;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 import java.time.ZonedDateTime;
@@ -10,12 +11,12 @@ public abstract class PaymentEvent implements DomainEvent<Payment> {
 
     private final Payment payment;
     private final ZonedDateTime createdAt;
-    private final List<String> failureMessages;
+    private final List<FailureReason> failureReasons;
 
-    public PaymentEvent(Payment payment, ZonedDateTime createdAt, List<String> failureMessages) {
+    public PaymentEvent(Payment payment, ZonedDateTime createdAt, List<FailureReason> failureReasons) {
         this.payment = payment;
         this.createdAt = createdAt;
-        this.failureMessages = failureMessages;
+        this.failureReasons = failureReasons;
     }
 
     public Payment getPayment() {
@@ -26,7 +27,7 @@ public abstract class PaymentEvent implements DomainEvent<Payment> {
         return createdAt;
     }
 
-    public List<String> getFailureMessages() {
-        return failureMessages;
+    public List<FailureReason> getFailureReasons() {
+        return failureReasons;
     }
 }
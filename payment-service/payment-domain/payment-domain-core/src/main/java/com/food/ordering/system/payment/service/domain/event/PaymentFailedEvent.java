@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.domain.event;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 import java.time.ZonedDateTime;
@@ -9,8 +10,8 @@ public class PaymentFailedEvent extends PaymentEvent {
 
     public PaymentFailedEvent(Payment payment,
                               ZonedDateTime createdAt,
-                              List<String> failureMessages) {
-        super(payment, createdAt, failureMessages);
+                              List<FailureReason> failureReasons) {
+        super(payment, createdAt, failureReasons);
     }
 
 }
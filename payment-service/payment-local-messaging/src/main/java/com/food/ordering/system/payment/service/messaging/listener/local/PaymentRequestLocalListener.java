@@ -0,0 +1,48 @@
+package com.food.ordering.system.payment.service.messaging.listener.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageConsumer;
+import com.food.ordering.system.local.messaging.model.PaymentRequestMessage;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PaymentRequestLocalListener implements LocalMessageConsumer<PaymentRequestMessage> {
+
+    private final PaymentRequestMessageListener paymentRequestMessageListener;
+    private final PaymentLocalMessagingDataMapper paymentLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public PaymentRequestLocalListener(PaymentRequestMessageListener paymentRequestMessageListener,
+                                       PaymentLocalMessagingDataMapper paymentLocalMessagingDataMapper,
+                                       LocalMessageBus localMessageBus,
+                                       PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentRequestMessageListener = paymentRequestMessageListener;
+        this.paymentLocalMessagingDataMapper = paymentLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        localMessageBus.subscribe(paymentServiceConfigData.getPaymentRequestTopicName(), this);
+    }
+
+    @Override
+    public void receive(List<PaymentRequestMessage> messages, int partition) {
+        log.info("{} number of payment requests received from partition: {}", messages.size(), partition);
+
+        paymentRequestMessageListener.processPayments(messages.stream()
+                .map(paymentLocalMessagingDataMapper::paymentRequestMessageToPaymentRequest)
+                .collect(Collectors.toList()));
+    }
+}
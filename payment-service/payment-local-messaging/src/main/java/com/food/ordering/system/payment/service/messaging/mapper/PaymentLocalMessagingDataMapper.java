@@ -0,0 +1,62 @@
+package com.food.ordering.system.payment.service.messaging.mapper;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.local.messaging.model.PaymentRequestMessage;
+import com.food.ordering.system.local.messaging.model.PaymentResponseMessage;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.outbox.model.FailureReasonPayload;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class PaymentLocalMessagingDataMapper {
+
+    private final IdGenerator idGenerator;
+
+    public PaymentLocalMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public PaymentRequest paymentRequestMessageToPaymentRequest(PaymentRequestMessage paymentRequestMessage) {
+        return PaymentRequest.builder()
+                .id(paymentRequestMessage.getId())
+                .sagaId(paymentRequestMessage.getSagaId())
+                .customerId(paymentRequestMessage.getCustomerId())
+                .orderId(paymentRequestMessage.getOrderId())
+                .price(paymentRequestMessage.getPrice())
+                .createdAt(paymentRequestMessage.getCreatedAt())
+                .paymentOrderStatus(paymentRequestMessage.getPaymentOrderStatus())
+                .build();
+    }
+
+    public PaymentResponseMessage orderEventPayloadToPaymentResponseMessage(String sagaId,
+                                                                            OrderEventPayload orderEventPayload) {
+        return PaymentResponseMessage.builder()
+                .id(idGenerator.generateId().toString())
+                .sagaId(sagaId)
+                .paymentId(orderEventPayload.getPaymentId())
+                .customerId(orderEventPayload.getCustomerId())
+                .orderId(orderEventPayload.getOrderId())
+                .price(orderEventPayload.getPrice())
+                .createdAt(orderEventPayload.getCreatedAt().toInstant())
+                .paymentStatus(PaymentStatus.valueOf(orderEventPayload.getPaymentStatus()))
+                .failureReasons(failureReasonPayloadsToFailureReasons(orderEventPayload.getFailureReasons()))
+                .build();
+    }
+
+    private List<FailureReason> failureReasonPayloadsToFailureReasons(List<FailureReasonPayload> failureReasonPayloads) {
+        if (failureReasonPayloads == null) {
+            return Collections.emptyList();
+        }
+        return failureReasonPayloads.stream()
+                .map(failureReasonPayload -> new FailureReason(failureReasonPayload.getCode(),
+                        failureReasonPayload.getParameters()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.payment.service.messaging.publisher.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.local.messaging.model.PaymentResponseMessage;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class PaymentEventLocalPublisher implements PaymentResponseMessagePublisher {
+
+    private final PaymentLocalMessagingDataMapper paymentLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final LocalMessageHelper localMessageHelper;
+
+    public PaymentEventLocalPublisher(PaymentLocalMessagingDataMapper paymentLocalMessagingDataMapper,
+                                      LocalMessageBus localMessageBus,
+                                      PaymentServiceConfigData paymentServiceConfigData,
+                                      LocalMessageHelper localMessageHelper) {
+        this.paymentLocalMessagingDataMapper = paymentLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.localMessageHelper = localMessageHelper;
+    }
+
+    @Override
+    public void publish(OrderOutboxMessage orderOutboxMessage,
+                        BiConsumer<OrderOutboxMessage, OutboxStatus> outboxCallback) {
+        OrderEventPayload orderEventPayload =
+                localMessageHelper.getOrderEventPayload(orderOutboxMessage.getPayload(), OrderEventPayload.class);
+
+        String sagaId = orderOutboxMessage.getSagaId().toString();
+
+        log.info("Received OrderOutboxMessage for order id: {} and saga id: {}",
+                orderEventPayload.getOrderId(),
+                sagaId);
+
+        try {
+            PaymentResponseMessage paymentResponseMessage = paymentLocalMessagingDataMapper
+                    .orderEventPayloadToPaymentResponseMessage(sagaId, orderEventPayload);
+
+            localMessageBus.send(paymentServiceConfigData.getPaymentResponseTopicName(), sagaId,
+                    paymentResponseMessage);
+            outboxCallback.accept(orderOutboxMessage, OutboxStatus.COMPLETED);
+
+            log.info("PaymentResponseMessage sent to local message bus for order id: {} and saga id: {}",
+                    paymentResponseMessage.getOrderId(), sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending PaymentResponseMessage" +
+                            " to local message bus with order id: {} and saga id: {}, error: {}",
+                    orderEventPayload.getOrderId(), sagaId, e.getMessage());
+        }
+    }
+}
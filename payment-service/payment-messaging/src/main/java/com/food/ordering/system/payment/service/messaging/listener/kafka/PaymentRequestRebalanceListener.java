@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.messaging.listener.kafka;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestPartitionListener;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class PaymentRequestRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final PaymentRequestPartitionListener paymentRequestPartitionListener;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public PaymentRequestRebalanceListener(PaymentRequestPartitionListener paymentRequestPartitionListener,
+                                           PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentRequestPartitionListener = paymentRequestPartitionListener;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        List<Integer> paymentRequestPartitions = getPaymentRequestPartitions(partitions);
+        if (!paymentRequestPartitions.isEmpty()) {
+            paymentRequestPartitionListener.partitionsAssigned(paymentRequestPartitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        List<Integer> paymentRequestPartitions = getPaymentRequestPartitions(partitions);
+        if (!paymentRequestPartitions.isEmpty()) {
+            paymentRequestPartitionListener.partitionsRevoked(paymentRequestPartitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        onPartitionsRevokedAfterCommit(consumer, partitions);
+    }
+
+    private List<Integer> getPaymentRequestPartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .filter(topicPartition -> paymentServiceConfigData.getPaymentRequestTopicName()
+                        .equals(topicPartition.topic()))
+                .map(TopicPartition::partition)
+                .collect(Collectors.toList());
+    }
+}
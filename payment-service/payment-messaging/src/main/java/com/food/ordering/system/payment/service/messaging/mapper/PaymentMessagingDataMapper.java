@@ -1,19 +1,33 @@
 package com.food.ordering.system.payment.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.FailureCode;
+import com.food.ordering.system.kafka.order.avro.model.FailureReason;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.outbox.model.FailureReasonPayload;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class PaymentMessagingDataMapper {
 
-    public PaymentRequest paymentRequestAvroModelToPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel) {
+    private final IdGenerator idGenerator;
+
+    public PaymentMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public PaymentRequest paymentRequestAvroModelToPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel,
+                                                                  Integer partition,
+                                                                  String traceParent) {
         return PaymentRequest.builder()
                 .id(paymentRequestAvroModel.getId())
                 .sagaId(paymentRequestAvroModel.getSagaId())
@@ -22,13 +36,15 @@ public class PaymentMessagingDataMapper {
                 .price(paymentRequestAvroModel.getPrice())
                 .createdAt(paymentRequestAvroModel.getCreatedAt())
                 .paymentOrderStatus(PaymentOrderStatus.valueOf(paymentRequestAvroModel.getPaymentOrderStatus().name()))
+                .traceParent(traceParent)
+                .partition(partition)
                 .build();
     }
 
     public PaymentResponseAvroModel orderEventPayloadToPaymentResponseAvroModel(String sagaId,
                                                                                 OrderEventPayload orderEventPayload) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generateId().toString())
                 .setSagaId(sagaId)
                 .setPaymentId(orderEventPayload.getPaymentId())
                 .setCustomerId(orderEventPayload.getCustomerId())
@@ -36,7 +52,31 @@ public class PaymentMessagingDataMapper {
                 .setPrice(orderEventPayload.getPrice())
                 .setCreatedAt(orderEventPayload.getCreatedAt().toInstant())//??
                 .setPaymentStatus(PaymentStatus.valueOf(orderEventPayload.getPaymentStatus()))
-                .setFailureMessages(orderEventPayload.getFailureMessages())
+                .setFailureMessages(orderEventPayloadToFailureMessages(orderEventPayload))
+                .setFailureReasons(failureReasonPayloadsToFailureReasons(orderEventPayload.getFailureReasons()))
                 .build();
     }
+
+    private List<String> orderEventPayloadToFailureMessages(OrderEventPayload orderEventPayload) {
+        if (orderEventPayload.getFailureReasons() == null) {
+            return orderEventPayload.getFailureMessages() == null ? Collections.emptyList() :
+                    orderEventPayload.getFailureMessages();
+        }
+        return orderEventPayload.getFailureReasons().stream()
+                .map(failureReasonPayload -> new com.food.ordering.system.domain.valueobject.FailureReason(
+                        failureReasonPayload.getCode(), failureReasonPayload.getParameters()).getMessage())
+                .collect(Collectors.toList());
+    }
+
+    private List<FailureReason> failureReasonPayloadsToFailureReasons(List<FailureReasonPayload> failureReasonPayloads) {
+        if (failureReasonPayloads == null) {
+            return Collections.emptyList();
+        }
+        return failureReasonPayloads.stream()
+                .map(failureReasonPayload -> FailureReason.newBuilder()
+                        .setCode(FailureCode.valueOf(failureReasonPayload.getCode().name()))
+                        .setParameters(failureReasonPayload.getParameters())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
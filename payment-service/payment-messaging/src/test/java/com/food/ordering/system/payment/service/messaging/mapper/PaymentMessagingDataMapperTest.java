@@ -0,0 +1,97 @@
+package com.food.ordering.system.payment.service.messaging.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
+import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaymentMessagingDataMapperTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final String SAGA_ID = "15a497c1-0f4b-4eff-b9f4-c402c8c07afa";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final PaymentDataMapper paymentDataMapper = new PaymentDataMapper();
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper =
+            new PaymentMessagingDataMapper(UUID::randomUUID);
+
+    @Test
+    public void testFailureReasonsRoundTripFromDomainThroughPayloadToAvro() throws Exception {
+        List<FailureReason> failureReasons = List.of(FailureReason.of(FailureCode.INSUFFICIENT_CREDIT, CUSTOMER_ID),
+                FailureReason.of(FailureCode.PAYMENT_PRICE_NOT_POSITIVE));
+        Payment payment = Payment.builder()
+                .paymentId(new PaymentId(UUID.randomUUID()))
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .price(new Money(new BigDecimal("100.00")))
+                .paymentStatus(PaymentStatus.FAILED)
+                .build();
+        String payload = objectMapper.writeValueAsString(paymentDataMapper.paymentEventToOrderEventPayload(
+                new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)), failureReasons)));
+
+        PaymentResponseAvroModel paymentResponseAvroModel = PaymentResponseAvroModel.fromByteBuffer(
+                paymentMessagingDataMapper.orderEventPayloadToPaymentResponseAvroModel(SAGA_ID,
+                        objectMapper.readValue(payload, OrderEventPayload.class)).toByteBuffer());
+
+        assertEquals(failureReasons, paymentResponseAvroModel.getFailureReasons().stream()
+                .map(failureReason -> new FailureReason(FailureCode.valueOf(failureReason.getCode().name()),
+                        failureReason.getParameters()))
+                .collect(Collectors.toList()));
+        assertEquals(failureReasons.stream().map(FailureReason::getMessage).collect(Collectors.toList()),
+                paymentResponseAvroModel.getFailureMessages());
+    }
+
+    @Test
+    public void testPayloadWithoutFailureReasonsKeepsItsFailureMessages() throws Exception {
+        String legacyPayload = "{\"paymentId\":\"" + UUID.randomUUID() + "\",\"customerId\":\"" + CUSTOMER_ID +
+                "\",\"orderId\":\"" + UUID.randomUUID() + "\",\"price\":100.00," +
+                "\"createdAt\":\"2022-05-01T10:15:30Z\",\"paymentStatus\":\"FAILED\"," +
+                "\"failureMessages\":[\"Total price must be greater than zero!\"]}";
+
+        PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper
+                .orderEventPayloadToPaymentResponseAvroModel(SAGA_ID,
+                        objectMapper.readValue(legacyPayload, OrderEventPayload.class));
+
+        assertTrue(paymentResponseAvroModel.getFailureReasons().isEmpty());
+        assertEquals(List.of("Total price must be greater than zero!"), paymentResponseAvroModel.getFailureMessages());
+    }
+
+    @Test
+    public void testPaymentResponseSchemaIsCompatibleWithPreviousSchema() {
+        Schema schema = PaymentResponseAvroModel.getClassSchema();
+        Schema previousSchema = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), false,
+                schema.getFields().stream()
+                        .filter(field -> !"failureReasons".equals(field.name()))
+                        .map(field -> "failureMessages".equals(field.name()) ?
+                                new Schema.Field(field.name(), field.schema()) :
+                                new Schema.Field(field, field.schema()))
+                        .collect(Collectors.toList()));
+
+        assertEquals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE,
+                SchemaCompatibility.checkReaderWriterCompatibility(schema, previousSchema).getType());
+        assertEquals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE,
+                SchemaCompatibility.checkReaderWriterCompatibility(previousSchema, schema).getType());
+    }
+}
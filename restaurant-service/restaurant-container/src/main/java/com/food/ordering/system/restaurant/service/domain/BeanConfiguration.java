@@ -1,5 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.UuidV7Generator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -7,8 +9,13 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public RestaurantDomainService restaurantDomainService() {
-        return new RestaurantDomainServiceImpl();
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
+    }
+
+    @Bean
+    public RestaurantDomainService restaurantDomainService(IdGenerator idGenerator) {
+        return new RestaurantDomainServiceImpl(idGenerator);
     }
 
 }
@@ -77,6 +77,7 @@ CREATE TABLE restaurant.order_outbox
     processed_at TIMESTAMP WITH TIME ZONE,
     type character varying COLLATE pg_catalog."default" NOT NULL,
     payload jsonb NOT NULL,
+    trace_parent character varying COLLATE pg_catalog."default",
     outbox_status outbox_status NOT NULL,
     approval_status approval_status NOT NULL,
     version integer NOT NULL,
@@ -87,9 +88,14 @@ CREATE INDEX "restaurant_order_outbox_saga_status"
     ON "restaurant".order_outbox
     (type, approval_status);
 
+CREATE INDEX "restaurant_order_outbox_backlog"
+    ON "restaurant".order_outbox
+    (outbox_status, approval_status, created_at)
+    WHERE outbox_status IN ('STARTED', 'FAILED');
+
 CREATE UNIQUE INDEX "restaurant_order_outbox_saga_id"
     ON "restaurant".order_outbox
-    (type, saga_id, approval_status, outbox_status);
+    (type, saga_id);
 
 DROP MATERIALIZED VIEW IF EXISTS restaurant.order_restaurant_m_view;
 
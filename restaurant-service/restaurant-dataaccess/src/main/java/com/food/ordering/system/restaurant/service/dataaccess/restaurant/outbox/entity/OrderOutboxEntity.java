@@ -25,6 +25,7 @@ public class OrderOutboxEntity {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    private String traceParent;
     @Enumerated(EnumType.STRING)
     private OutboxStatus outboxStatus;
     @Enumerated(EnumType.STRING)
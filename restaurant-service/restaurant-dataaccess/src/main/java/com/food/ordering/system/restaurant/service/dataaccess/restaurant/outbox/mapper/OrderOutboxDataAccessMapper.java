@@ -14,6 +14,7 @@ public class OrderOutboxDataAccessMapper {
                 .createdAt(orderOutboxMessage.getCreatedAt())
                 .type(orderOutboxMessage.getType())
                 .payload(orderOutboxMessage.getPayload())
+                .traceParent(orderOutboxMessage.getTraceParent())
                 .outboxStatus(orderOutboxMessage.getOutboxStatus())
                 .approvalStatus(orderOutboxMessage.getApprovalStatus())
                 .version(orderOutboxMessage.getVersion())
@@ -27,6 +28,7 @@ public class OrderOutboxDataAccessMapper {
                 .createdAt(paymentOutboxEntity.getCreatedAt())
                 .type(paymentOutboxEntity.getType())
                 .payload(paymentOutboxEntity.getPayload())
+                .traceParent(paymentOutboxEntity.getTraceParent())
                 .outboxStatus(paymentOutboxEntity.getOutboxStatus())
                 .approvalStatus(paymentOutboxEntity.getApprovalStatus())
                 .version(paymentOutboxEntity.getVersion())
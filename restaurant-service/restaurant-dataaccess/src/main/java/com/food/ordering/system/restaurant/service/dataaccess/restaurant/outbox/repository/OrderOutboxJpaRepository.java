@@ -1,8 +1,10 @@
 package com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.repository;
 
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.metrics.OutboxBacklogCount;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.entity.OrderOutboxEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,11 @@ public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntit
 
     void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
+    @Query("SELECT new com.food.ordering.system.outbox.metrics.OutboxBacklogCount(" +
+            "e.outboxStatus, e.approvalStatus, COUNT(e), MIN(e.createdAt)) FROM OrderOutboxEntity e " +
+            "WHERE e.outboxStatus IN (com.food.ordering.system.outbox.OutboxStatus.STARTED, " +
+            "com.food.ordering.system.outbox.OutboxStatus.FAILED) " +
+            "GROUP BY e.outboxStatus, e.approvalStatus")
+    List<OutboxBacklogCount> countByOutboxStatusAndState();
+
 }
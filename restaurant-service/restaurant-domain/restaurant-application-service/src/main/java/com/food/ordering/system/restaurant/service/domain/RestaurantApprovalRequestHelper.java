@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
@@ -51,19 +52,13 @@ public class RestaurantApprovalRequestHelper {
 
     @Transactional
     public void persistOrderApproval(RestaurantApprovalRequest restaurantApprovalRequest) {
-        if (publishIfOutboxMessageProcessed(restaurantApprovalRequest)) {
-            log.info("An outbox message with saga id: {} already saved to database!",
-                    restaurantApprovalRequest.getSagaId());
-            return;
-        }
-
         log.info("Processing restaurant approval for order id: {}", restaurantApprovalRequest.getOrderId());
-        List<String> failureMessages = new ArrayList<>();
+        List<FailureReason> failureReasons = new ArrayList<>();
         Restaurant restaurant = findRestaurant(restaurantApprovalRequest);
         OrderApprovalEvent orderApprovalEvent =
                 restaurantDomainService.validateOrder(
                         restaurant,
-                        failureMessages);
+                        failureReasons);
         orderApprovalRepository.save(restaurant.getOrderApproval());
 
         orderOutboxHelper
@@ -97,7 +92,7 @@ public class RestaurantApprovalRequestHelper {
         return restaurant;
     }
 
-    private boolean publishIfOutboxMessageProcessed(RestaurantApprovalRequest restaurantApprovalRequest) {
+    public boolean publishIfOutboxMessageProcessed(RestaurantApprovalRequest restaurantApprovalRequest) {
         Optional<OrderOutboxMessage> orderOutboxMessage =
                 orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndOutboxStatus(UUID
                         .fromString(restaurantApprovalRequest.getSagaId()), OutboxStatus.COMPLETED);
@@ -1,23 +1,45 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
+import com.food.ordering.system.saga.RecentSagaCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Slf4j
 @Service
 public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantApprovalRequestMessageListener {
 
     private final RestaurantApprovalRequestHelper restaurantApprovalRequestHelper;
+    private final RecentSagaCache recentSagaCache;
 
     public RestaurantApprovalRequestMessageListenerImpl(RestaurantApprovalRequestHelper
-                                                                restaurantApprovalRequestHelper) {
+                                                                restaurantApprovalRequestHelper,
+                                                        RestaurantServiceConfigData restaurantServiceConfigData) {
         this.restaurantApprovalRequestHelper = restaurantApprovalRequestHelper;
+        this.recentSagaCache = new RecentSagaCache(restaurantServiceConfigData.getRecentSagaCacheMaxSize());
     }
 
     @Override
     public void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest) {
-        restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest);
+        UUID sagaId = UUID.fromString(restaurantApprovalRequest.getSagaId());
+        if (recentSagaCache.contains(sagaId, restaurantApprovalRequest.getRestaurantOrderStatus().name())) {
+            log.info("Restaurant approval request with saga id: {} is already processed recently!", sagaId);
+            restaurantApprovalRequestHelper.publishIfOutboxMessageProcessed(restaurantApprovalRequest);
+            return;
+        }
+        try {
+            restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (!restaurantApprovalRequestHelper.publishIfOutboxMessageProcessed(restaurantApprovalRequest)) {
+                throw e;
+            }
+            log.info("An outbox message with saga id: {} already saved to database!", sagaId);
+        }
+        recentSagaCache.add(sagaId, restaurantApprovalRequest.getRestaurantOrderStatus().name());
     }
 }
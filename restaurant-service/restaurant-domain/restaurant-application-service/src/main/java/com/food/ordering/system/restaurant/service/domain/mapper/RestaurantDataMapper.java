@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.domain.mapper;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
@@ -9,9 +10,11 @@ import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.FailureReasonPayload;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -42,7 +45,16 @@ public class RestaurantDataMapper {
                 .restaurantId(orderApprovalEvent.getRestaurantId().getValue().toString())
                 .orderApprovalStatus(orderApprovalEvent.getOrderApproval().getApprovalStatus().name())
                 .createdAt(orderApprovalEvent.getCreatedAt())
-                .failureMessages(orderApprovalEvent.getFailureMessages())
+                .failureReasons(failureReasonsToFailureReasonPayloads(orderApprovalEvent.getFailureReasons()))
                 .build();
     }
+
+    private List<FailureReasonPayload> failureReasonsToFailureReasonPayloads(List<FailureReason> failureReasons) {
+        return failureReasons.stream()
+                .map(failureReason -> FailureReasonPayload.builder()
+                        .code(failureReason.getCode())
+                        .parameters(failureReason.getParameters())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -26,7 +26,8 @@ public class OrderEventPayload {
     private String orderApprovalStatus;
 
     @JsonProperty
-    private List<String> failureMessages;
-
+    private List<FailureReasonPayload> failureReasons;
 
+    @JsonProperty
+    private List<String> failureMessages;
 }
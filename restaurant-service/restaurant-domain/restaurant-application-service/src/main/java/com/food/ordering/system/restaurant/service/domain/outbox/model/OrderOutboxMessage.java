@@ -19,6 +19,7 @@ public class OrderOutboxMessage {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    private String traceParent;
     private OutboxStatus outboxStatus;
     private OrderApprovalStatus approvalStatus;
     private int version;
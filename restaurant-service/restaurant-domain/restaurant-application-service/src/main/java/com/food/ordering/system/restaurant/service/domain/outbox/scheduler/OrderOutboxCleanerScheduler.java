@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
 
+import com.food.ordering.system.flightrecorder.event.OutboxSchedulerEvent;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
@@ -25,13 +26,20 @@ public class OrderOutboxCleanerScheduler implements OutboxScheduler {
     @Scheduled(cron = "@midnight")
     @Override
     public void processOutboxMessage() {
-        Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
-                orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.COMPLETED);
-        if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
-            List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
-            log.info("Received {} OrderOutboxMessage for clean-up!", outboxMessages.size());
-            orderOutboxHelper.deleteOrderOutboxMessageByOutboxStatus(OutboxStatus.COMPLETED);
-            log.info("Deleted {} OrderOutboxMessage!", outboxMessages.size());
+        OutboxSchedulerEvent outboxSchedulerEvent = new OutboxSchedulerEvent("OrderOutboxCleanerScheduler");
+        outboxSchedulerEvent.begin();
+        try {
+            Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
+                    orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.COMPLETED);
+            if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
+                List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
+                outboxSchedulerEvent.setClaimed(outboxMessages.size());
+                log.info("Received {} OrderOutboxMessage for clean-up!", outboxMessages.size());
+                orderOutboxHelper.deleteOrderOutboxMessageByOutboxStatus(OutboxStatus.COMPLETED);
+                log.info("Deleted {} OrderOutboxMessage!", outboxMessages.size());
+            }
+        } finally {
+            outboxSchedulerEvent.commit();
         }
     }
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantDomainException;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,19 +22,30 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static com.food.ordering.system.outbox.metrics.OutboxMetricsConstants.RESTAURANT_ORDER_OUTBOX;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 
 @Slf4j
 @Component
 public class OrderOutboxHelper {
 
+    private static final SampledLogger SAVED_LOG = SampledLogger.of(log, RESTAURANT_ORDER_OUTBOX + ".saved");
+    private static final SampledLogger STATUS_UPDATED_LOG =
+            SampledLogger.of(log, RESTAURANT_ORDER_OUTBOX + ".status-updated");
+
     private final OrderOutboxRepository orderOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final Tracer tracer;
 
     public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository,
-                             ObjectMapper objectMapper) {
+                             ObjectMapper objectMapper,
+                             IdGenerator idGenerator,
+                             Tracer tracer) {
         this.orderOutboxRepository = orderOutboxRepository;
         this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.tracer = tracer;
     }
 
     @Transactional(readOnly = true)
@@ -57,12 +71,13 @@ public class OrderOutboxHelper {
                                        OutboxStatus outboxStatus,
                                        UUID sagaId) {
         save(OrderOutboxMessage.builder()
-                .id(UUID.randomUUID())
+                .id(idGenerator.generateId())
                 .sagaId(sagaId)
                 .createdAt(orderEventPayload.getCreatedAt())
                 .processedAt(ZonedDateTime.now(ZoneId.of(UTC)))
                 .type(ORDER_SAGA_NAME)
                 .payload(createPayload(orderEventPayload))
+                .traceParent(tracer.getCurrentTraceParent())
                 .approvalStatus(approvalStatus)
                 .outboxStatus(outboxStatus)
                 .build());
@@ -72,7 +87,7 @@ public class OrderOutboxHelper {
     public void updateOutboxStatus(OrderOutboxMessage orderPaymentOutboxMessage, OutboxStatus outboxStatus) {
         orderPaymentOutboxMessage.setOutboxStatus(outboxStatus);
         save(orderPaymentOutboxMessage);
-        log.info("Order outbox table status is updated as: {}", outboxStatus.name());
+        STATUS_UPDATED_LOG.info("Order outbox table status is updated as: {}", outboxStatus.name());
     }
 
     private void save(OrderOutboxMessage orderPaymentOutboxMessage) {
@@ -80,7 +95,7 @@ public class OrderOutboxHelper {
         if (response == null) {
             throw new RestaurantDomainException("Could not save OrderOutboxMessage!");
         }
-        log.info("OrderOutboxMessage saved with id: {}", orderPaymentOutboxMessage.getId());
+        SAVED_LOG.info("OrderOutboxMessage saved with id: {}", orderPaymentOutboxMessage.getId());
     }
 
     private String createPayload(OrderEventPayload orderEventPayload) {
@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
 
@@ -7,5 +8,5 @@ import java.util.List;
 
 public interface RestaurantDomainService {
 
-    OrderApprovalEvent validateOrder(Restaurant restaurant, List<String> failureMessages);
+    OrderApprovalEvent validateOrder(Restaurant restaurant, List<FailureReason> failureReasons);
 }
@@ -1,5 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
@@ -16,24 +18,30 @@ import static com.food.ordering.system.domain.DomainConstants.UTC;
 @Slf4j
 public class RestaurantDomainServiceImpl implements RestaurantDomainService {
 
+    private final IdGenerator idGenerator;
+
+    public RestaurantDomainServiceImpl(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
-    public OrderApprovalEvent validateOrder(Restaurant restaurant, List<String> failureMessages) {
-        restaurant.validateOrder(failureMessages);
+    public OrderApprovalEvent validateOrder(Restaurant restaurant, List<FailureReason> failureReasons) {
+        restaurant.validateOrder(failureReasons);
         log.info("Validating order with id: {}", restaurant.getOrderDetail().getId().getValue());
 
-        if (failureMessages.isEmpty()) {
+        if (failureReasons.isEmpty()) {
             log.info("Order is approved for order id: {}", restaurant.getOrderDetail().getId().getValue());
-            restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED);
+            restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED, idGenerator);
             return new OrderApprovedEvent(restaurant.getOrderApproval(),
                     restaurant.getId(),
-                    failureMessages,
+                    failureReasons,
                     ZonedDateTime.now(ZoneId.of(UTC)));
         } else {
             log.info("Order is rejected for order id: {}", restaurant.getOrderDetail().getId().getValue());
-            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED);
+            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED, idGenerator);
             return new OrderRejectedEvent(restaurant.getOrderApproval(),
                     restaurant.getId(),
-                    failureMessages,
+                    failureReasons,
                     ZonedDateTime.now(ZoneId.of(UTC)));
         }
     }
@@ -1,6 +1,9 @@
 package com.food.ordering.system.restaurant.service.domain.entity;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
@@ -8,33 +11,31 @@ import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
 import java.util.List;
-import java.util.UUID;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
    private OrderApproval orderApproval;
    private boolean active;
    private final OrderDetail orderDetail;
 
-   public void validateOrder(List<String> failureMessages) {
+   public void validateOrder(List<FailureReason> failureReasons) {
        if (orderDetail.getOrderStatus() != OrderStatus.PAID) {
-           failureMessages.add("Payment is not completed for order: " + orderDetail.getId());
+           failureReasons.add(FailureReason.of(FailureCode.ORDER_NOT_PAID, orderDetail.getId().getValue()));
        }
        Money totalAmount = orderDetail.getProducts().stream().map(product -> {
            if (!product.isAvailable()) {
-               failureMessages.add("Product with id: " + product.getId().getValue()
-                       + " is not available");
+               failureReasons.add(FailureReason.of(FailureCode.PRODUCT_NOT_AVAILABLE, product.getId().getValue()));
            }
            return product.getPrice().multiply(product.getQuantity());
        }).reduce(Money.ZERO, Money::add);
 
        if (!totalAmount.equals(orderDetail.getTotalAmount())) {
-           failureMessages.add("Price total is not correct for order: " + orderDetail.getId());
+           failureReasons.add(FailureReason.of(FailureCode.ORDER_PRICE_NOT_CORRECT, orderDetail.getId().getValue()));
        }
    }
 
-   public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus) {
+   public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus, IdGenerator idGenerator) {
        this.orderApproval = OrderApproval.builder()
-               .orderApprovalId(new OrderApprovalId(UUID.randomUUID()))
+               .orderApprovalId(new OrderApprovalId(idGenerator.generateId()))
                .restaurantId(this.getId())
                .orderId(this.getOrderDetail().getId())
                .approvalStatus(orderApprovalStatus)
@@ -1,6 +1,7 @@
 package com.food.ordering.system.restaurant.service.domain.event;
 
 import com.food.ordering.system.domain.event.DomainEvent;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
@@ -10,16 +11,16 @@ import java.util.List;
 public abstract class OrderApprovalEvent implements DomainEvent<OrderApproval> {
     private final OrderApproval orderApproval;
     private final RestaurantId restaurantId;
-    private final List<String> failureMessages;
+    private final List<FailureReason> failureReasons;
     private final ZonedDateTime createdAt;
 
     public OrderApprovalEvent(OrderApproval orderApproval,
                               RestaurantId restaurantId,
-                              List<String> failureMessages,
+                              List<FailureReason> failureReasons,
                               ZonedDateTime createdAt) {
         this.orderApproval = orderApproval;
         this.restaurantId = restaurantId;
-        this.failureMessages = failureMessages;
+        this.failureReasons = failureReasons;
         this.createdAt = createdAt;
     }
 
@@ -31,8 +32,8 @@ public abstract class OrderApprovalEvent implements DomainEvent<OrderApproval> {
         return restaurantId;
     }
 
-    public List<String> getFailureMessages() {
-        return failureMessages;
+    public List<FailureReason> getFailureReasons() {
+        return failureReasons;
     }
 
     public ZonedDateTime getCreatedAt() {
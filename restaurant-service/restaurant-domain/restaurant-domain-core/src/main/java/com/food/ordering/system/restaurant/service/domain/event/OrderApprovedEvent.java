@@ -1,5 +1,6 @@
 package com.food.ordering.system.restaurant.service.domain.event;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
@@ -10,9 +11,9 @@ public class OrderApprovedEvent extends OrderApprovalEvent {
 
     public OrderApprovedEvent(OrderApproval orderApproval,
                               RestaurantId restaurantId,
-                              List<String> failureMessages,
+                              List<FailureReason> failureReasons,
                               ZonedDateTime createdAt) {
-        super(orderApproval, restaurantId, failureMessages, createdAt);
+        super(orderApproval, restaurantId, failureReasons, createdAt);
     }
 
 }
@@ -0,0 +1,76 @@
+package com.food.ordering.system.restaurant.service.messaging.listener.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageConsumer;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalRequestMessage;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApplicationServiceException;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantNotFoundException;
+import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
+import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.util.PSQLState;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.SQLException;
+import java.util.List;
+
+@Slf4j
+@Component
+public class RestaurantApprovalRequestLocalListener implements LocalMessageConsumer<RestaurantApprovalRequestMessage> {
+
+    private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
+    private final RestaurantLocalMessagingDataMapper restaurantLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+
+    public RestaurantApprovalRequestLocalListener(RestaurantApprovalRequestMessageListener
+                                                          restaurantApprovalRequestMessageListener,
+                                                  RestaurantLocalMessagingDataMapper
+                                                          restaurantLocalMessagingDataMapper,
+                                                  LocalMessageBus localMessageBus,
+                                                  RestaurantServiceConfigData restaurantServiceConfigData) {
+        this.restaurantApprovalRequestMessageListener = restaurantApprovalRequestMessageListener;
+        this.restaurantLocalMessagingDataMapper = restaurantLocalMessagingDataMapper;
+        this.localMessageBus = localMessageBus;
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        localMessageBus.subscribe(restaurantServiceConfigData.getRestaurantApprovalRequestTopicName(), this);
+    }
+
+    @Override
+    public void receive(List<RestaurantApprovalRequestMessage> messages, int partition) {
+        log.info("{} number of orders approval requests received from partition: {}" +
+                        ", sending for restaurant approval",
+                messages.size(),
+                partition);
+
+        messages.forEach(restaurantApprovalRequestMessage -> {
+            try {
+                log.info("Processing order approval for order id: {}", restaurantApprovalRequestMessage.getOrderId());
+                restaurantApprovalRequestMessageListener.approveOrder(restaurantLocalMessagingDataMapper
+                        .restaurantApprovalRequestMessageToRestaurantApproval(restaurantApprovalRequestMessage));
+            } catch (DataAccessException e) {
+                SQLException sqlException = (SQLException) e.getRootCause();
+                if (sqlException != null && sqlException.getSQLState() != null &&
+                        PSQLState.UNIQUE_VIOLATION.getState().equals(sqlException.getSQLState())) {
+                    log.error("Caught unique constraint exception with sql state: {} " +
+                                    "in RestaurantApprovalRequestLocalListener for order id: {}",
+                            sqlException.getSQLState(), restaurantApprovalRequestMessage.getOrderId());
+                } else {
+                    throw new RestaurantApplicationServiceException("Throwing DataAccessException in" +
+                            " RestaurantApprovalRequestLocalListener: " + e.getMessage(), e);
+                }
+            } catch (RestaurantNotFoundException e) {
+                log.error("No restaurant found for restaurant id: {}, and order id: {}",
+                        restaurantApprovalRequestMessage.getRestaurantId(),
+                        restaurantApprovalRequestMessage.getOrderId());
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.food.ordering.system.restaurant.service.messaging.mapper;
+
+import com.food.ordering.system.domain.IdGenerator;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalRequestMessage;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalResponseMessage;
+import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.FailureReasonPayload;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class RestaurantLocalMessagingDataMapper {
+
+    private final IdGenerator idGenerator;
+
+    public RestaurantLocalMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    public RestaurantApprovalRequest
+    restaurantApprovalRequestMessageToRestaurantApproval(RestaurantApprovalRequestMessage
+                                                                 restaurantApprovalRequestMessage) {
+        return RestaurantApprovalRequest.builder()
+                .id(restaurantApprovalRequestMessage.getId())
+                .sagaId(restaurantApprovalRequestMessage.getSagaId())
+                .restaurantId(restaurantApprovalRequestMessage.getRestaurantId())
+                .orderId(restaurantApprovalRequestMessage.getOrderId())
+                .restaurantOrderStatus(restaurantApprovalRequestMessage.getRestaurantOrderStatus())
+                .products(restaurantApprovalRequestMessage.getProducts()
+                        .stream().map(productMessage ->
+                                Product.builder()
+                                        .productId(new ProductId(UUID.fromString(productMessage.getId())))
+                                        .quantity(productMessage.getQuantity())
+                                        .build())
+                        .collect(Collectors.toList()))
+                .price(restaurantApprovalRequestMessage.getPrice())
+                .createdAt(restaurantApprovalRequestMessage.getCreatedAt())
+                .build();
+    }
+
+    public RestaurantApprovalResponseMessage
+    orderEventPayloadToRestaurantApprovalResponseMessage(String sagaId, OrderEventPayload orderEventPayload) {
+        return RestaurantApprovalResponseMessage.builder()
+                .id(idGenerator.generateId().toString())
+                .sagaId(sagaId)
+                .orderId(orderEventPayload.getOrderId())
+                .restaurantId(orderEventPayload.getRestaurantId())
+                .createdAt(orderEventPayload.getCreatedAt().toInstant())
+                .orderApprovalStatus(OrderApprovalStatus.valueOf(orderEventPayload.getOrderApprovalStatus()))
+                .failureReasons(failureReasonPayloadsToFailureReasons(orderEventPayload.getFailureReasons()))
+                .build();
+    }
+
+    private List<FailureReason> failureReasonPayloadsToFailureReasons(List<FailureReasonPayload> failureReasonPayloads) {
+        if (failureReasonPayloads == null) {
+            return Collections.emptyList();
+        }
+        return failureReasonPayloads.stream()
+                .map(failureReasonPayload -> new FailureReason(failureReasonPayload.getCode(),
+                        failureReasonPayload.getParameters()))
+                .collect(Collectors.toList());
+    }
+}
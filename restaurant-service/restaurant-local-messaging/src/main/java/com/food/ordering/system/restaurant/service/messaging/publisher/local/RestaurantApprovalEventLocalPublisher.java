@@ -0,0 +1,66 @@
+package com.food.ordering.system.restaurant.service.messaging.publisher.local;
+
+import com.food.ordering.system.local.messaging.LocalMessageBus;
+import com.food.ordering.system.local.messaging.LocalMessageHelper;
+import com.food.ordering.system.local.messaging.model.RestaurantApprovalResponseMessage;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.RestaurantApprovalResponseMessagePublisher;
+import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantLocalMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class RestaurantApprovalEventLocalPublisher implements RestaurantApprovalResponseMessagePublisher {
+
+    private final RestaurantLocalMessagingDataMapper restaurantLocalMessagingDataMapper;
+    private final LocalMessageBus localMessageBus;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+    private final LocalMessageHelper localMessageHelper;
+
+    public RestaurantApprovalEventLocalPublisher(RestaurantLocalMessagingDataMapper dataMapper,
+                                                 LocalMessageBus localMessageBus,
+                                                 RestaurantServiceConfigData restaurantServiceConfigData,
+                                                 LocalMessageHelper localMessageHelper) {
+        this.restaurantLocalMessagingDataMapper = dataMapper;
+        this.localMessageBus = localMessageBus;
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+        this.localMessageHelper = localMessageHelper;
+    }
+
+    @Override
+    public void publish(OrderOutboxMessage orderOutboxMessage,
+                        BiConsumer<OrderOutboxMessage, OutboxStatus> outboxCallback) {
+        OrderEventPayload orderEventPayload =
+                localMessageHelper.getOrderEventPayload(orderOutboxMessage.getPayload(),
+                        OrderEventPayload.class);
+
+        String sagaId = orderOutboxMessage.getSagaId().toString();
+
+        log.info("Received OrderOutboxMessage for order id: {} and saga id: {}",
+                orderEventPayload.getOrderId(),
+                sagaId);
+        try {
+            RestaurantApprovalResponseMessage restaurantApprovalResponseMessage =
+                    restaurantLocalMessagingDataMapper
+                            .orderEventPayloadToRestaurantApprovalResponseMessage(sagaId, orderEventPayload);
+
+            localMessageBus.send(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
+                    sagaId,
+                    restaurantApprovalResponseMessage);
+            outboxCallback.accept(orderOutboxMessage, OutboxStatus.COMPLETED);
+
+            log.info("RestaurantApprovalResponseMessage sent to local message bus for order id: {} and saga id: {}",
+                    restaurantApprovalResponseMessage.getOrderId(), sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending RestaurantApprovalResponseMessage" +
+                            " to local message bus with order id: {} and saga id: {}, error: {}",
+                    orderEventPayload.getOrderId(), sagaId, e.getMessage());
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.food.ordering.system.restaurant.service.domain.exception.RestaurantAp
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantNotFoundException;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
 import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
+import com.food.ordering.system.tracing.Span;
+import com.food.ordering.system.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.postgresql.util.PSQLState;
 import org.springframework.dao.DataAccessException;
@@ -17,6 +19,10 @@ import org.springframework.stereotype.Component;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.kafka.consumer.KafkaConsumerHeaders.getHeaderAsString;
+import static com.food.ordering.system.tracing.TraceContext.TRACE_PARENT_HEADER;
 
 @Slf4j
 @Component
@@ -24,13 +30,16 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
 
     private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final Tracer tracer;
 
     public RestaurantApprovalRequestKafkaListener(RestaurantApprovalRequestMessageListener
                                                           restaurantApprovalRequestMessageListener,
                                                   RestaurantMessagingDataMapper
-                                                          restaurantMessagingDataMapper) {
+                                                          restaurantMessagingDataMapper,
+                                                          Tracer tracer) {
         this.restaurantApprovalRequestMessageListener = restaurantApprovalRequestMessageListener;
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.tracer = tracer;
     }
 
     @Override
@@ -39,7 +48,9 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
     public void receive(@Payload List<RestaurantApprovalRequestAvroModel> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(value = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
         log.info("{} number of orders approval requests received with keys {}, partitions {} and offsets {}" +
                         ", sending for restaurant approval",
                 messages.size(),
@@ -47,11 +58,14 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(restaurantApprovalRequestAvroModel -> {
-            try {
+        for (int index = 0; index < messages.size(); index++) {
+            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = messages.get(index);
+            try (Span span = tracer.startSpan("RestaurantApprovalRequestKafkaListener.receive",
+                    getHeaderAsString(headers, index, TRACE_PARENT_HEADER))) {
                 log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
                 restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
                         restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
+                span.setSuccessful(true);
             } catch (DataAccessException e) {
                 SQLException sqlException = (SQLException) e.getRootCause();
                 if (sqlException != null && sqlException.getSQLState() != null &&
@@ -70,7 +84,7 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
                         restaurantApprovalRequestAvroModel.getRestaurantId(),
                         restaurantApprovalRequestAvroModel.getOrderId());
             }
-        });
+        }
     }
 
 }
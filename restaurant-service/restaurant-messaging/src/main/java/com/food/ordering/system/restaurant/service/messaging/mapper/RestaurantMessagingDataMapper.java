@@ -1,7 +1,10 @@
 package com.food.ordering.system.restaurant.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.FailureCode;
+import com.food.ordering.system.kafka.order.avro.model.FailureReason;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
@@ -9,15 +12,24 @@ import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApproval
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
 import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.FailureReasonPayload;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class RestaurantMessagingDataMapper {
 
+    private final IdGenerator idGenerator;
+
+    public RestaurantMessagingDataMapper(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     public RestaurantApprovalRequest
     restaurantApprovalRequestAvroModelToRestaurantApproval(RestaurantApprovalRequestAvroModel
                                                                    restaurantApprovalRequestAvroModel) {
@@ -43,13 +55,37 @@ public class RestaurantMessagingDataMapper {
     public RestaurantApprovalResponseAvroModel
     orderEventPayloadToRestaurantApprovalResponseAvroModel(String sagaId, OrderEventPayload orderEventPayload) {
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generateId().toString())
                 .setSagaId(sagaId)
                 .setOrderId(orderEventPayload.getOrderId())
                 .setRestaurantId(orderEventPayload.getRestaurantId())
                 .setCreatedAt(orderEventPayload.getCreatedAt().toInstant())
                 .setOrderApprovalStatus(OrderApprovalStatus.valueOf(orderEventPayload.getOrderApprovalStatus()))
-                .setFailureMessages(orderEventPayload.getFailureMessages())
+                .setFailureMessages(orderEventPayloadToFailureMessages(orderEventPayload))
+                .setFailureReasons(failureReasonPayloadsToFailureReasons(orderEventPayload.getFailureReasons()))
                 .build();
     }
+
+    private List<String> orderEventPayloadToFailureMessages(OrderEventPayload orderEventPayload) {
+        if (orderEventPayload.getFailureReasons() == null) {
+            return orderEventPayload.getFailureMessages() == null ? Collections.emptyList() :
+                    orderEventPayload.getFailureMessages();
+        }
+        return orderEventPayload.getFailureReasons().stream()
+                .map(failureReasonPayload -> new com.food.ordering.system.domain.valueobject.FailureReason(
+                        failureReasonPayload.getCode(), failureReasonPayload.getParameters()).getMessage())
+                .collect(Collectors.toList());
+    }
+
+    private List<FailureReason> failureReasonPayloadsToFailureReasons(List<FailureReasonPayload> failureReasonPayloads) {
+        if (failureReasonPayloads == null) {
+            return Collections.emptyList();
+        }
+        return failureReasonPayloads.stream()
+                .map(failureReasonPayload -> FailureReason.newBuilder()
+                        .setCode(FailureCode.valueOf(failureReasonPayload.getCode().name()))
+                        .setParameters(failureReasonPayload.getParameters())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }